@@ -0,0 +1,99 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to populate the sections touched by all {@link FeedbackResponse} entities which were saved before
+ * the sections were stored in a single multi-valued property.
+ *
+ * <p>Section-filtered queries of responses only match responses which have the property, so this script has to be run
+ * right after the version which adds the property is deployed. Saving the responses again populates the property;
+ * their last update time stamps are kept.
+ */
+public class DataMigrationForFeedbackResponseSections extends DataMigrationBaseScript<Key<FeedbackResponse>> {
+
+    /**
+     * Number of responses to save per batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private List<FeedbackResponse> responsesToSave = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackResponseSections().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<FeedbackResponse>> getEntities() {
+        return ofy().load().type(FeedbackResponse.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackResponse> responseKey) {
+        FeedbackResponse response = ofy().load().key(responseKey).now();
+        return response != null && response.getSectionsTouched() == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<FeedbackResponse> responseKey) {
+        println("Sections to be populated for response " + responseKey.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<FeedbackResponse> responseKey) {
+        FeedbackResponse response = ofy().load().key(responseKey).now();
+        response.keepUpdateTimestamp = true;
+        responsesToSave.add(response);
+
+        if (responsesToSave.size() == BATCH_SIZE) {
+            saveAndClearResponses();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        saveAndClearResponses();
+    }
+
+    private void saveAndClearResponses() {
+        if (responsesToSave.isEmpty()) {
+            return;
+        }
+
+        println("Batch saving " + responsesToSave.size() + " responses...");
+        ofy().save().entities(responsesToSave).now();
+        // the responses are no longer needed, so they are dropped from the session cache to save memory
+        ofy().clear();
+        responsesToSave.clear();
+    }
+
+}
@@ -0,0 +1,83 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to move the respondents still recorded in {@link FeedbackSession} entities
+ * into {@link teammates.storage.entity.FeedbackSessionRespondent} entities.
+ *
+ * <p>Respondents are read from both places by the storage layer, so this script can be run
+ * at any time after the version which adds {@link teammates.storage.entity.FeedbackSessionRespondent} is deployed.
+ * The respondents are moved through {@link FeedbackSessionsDb#moveLegacyRespondents}, so no respondent is lost
+ * if the script is stopped halfway, and the cached copy of the session is invalidated.
+ */
+public class DataMigrationForFeedbackSessionRespondents extends DataMigrationBaseScript<Key<FeedbackSession>> {
+
+    private final FeedbackSessionsDb feedbackSessionsDb = new FeedbackSessionsDb();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionRespondents().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<FeedbackSession>> getEntities() {
+        return ofy().load().type(FeedbackSession.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackSession> sessionKey) {
+        FeedbackSession session = ofy().load().key(sessionKey).now();
+        return session != null
+                && !(session.getRespondingInstructorList().isEmpty() && session.getRespondingStudentList().isEmpty());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<FeedbackSession> sessionKey) {
+        FeedbackSession session = ofy().load().key(sessionKey).now();
+        println("Respondents to be moved for session " + sessionKey.getName() + ": "
+                + session.getRespondingInstructorList().size() + " instructor(s), "
+                + session.getRespondingStudentList().size() + " student(s)");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<FeedbackSession> sessionKey) throws Exception {
+        FeedbackSession session = ofy().load().key(sessionKey).now();
+        feedbackSessionsDb.moveLegacyRespondents(FeedbackSessionAttributes.valueOf(session));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+
+}
@@ -0,0 +1,155 @@
+package teammates.client.scripts.scalabilitytests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import teammates.client.scripts.util.Stopwatch;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResponseVisibilityEvaluator;
+import teammates.common.datatransfer.ResponseVisibilityTable;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.logic.core.FeedbackResponsesLogic;
+
+/**
+ * Compares the time taken to find the name visibilities of the responses of a large session
+ * by evaluating the question settings for every response, against using a {@link ResponseVisibilityEvaluator}.
+ *
+ * <p>The session is generated in memory, so this can be run without a server.
+ */
+public final class ResponseVisibilityEvaluatorBenchmark {
+
+    private static final String COURSE_ID = "RVEBenchmark.course";
+    private static final String SESSION_NAME = "RVEBenchmark session";
+
+    private static final int NUM_STUDENTS = 1000;
+    private static final int TEAM_SIZE = 5;
+    private static final int NUM_QUESTIONS = 10;
+    private static final int NUM_RESPONSES_PER_QUESTION = 5000;
+    private static final int NUM_RUNS = 5;
+
+    private ResponseVisibilityEvaluatorBenchmark() {
+        // script; not meant to be instantiated
+    }
+
+    public static void main(String[] args) {
+        List<StudentAttributes> students = createStudents();
+        InstructorAttributes instructor = InstructorAttributes
+                .builder(null, COURSE_ID, "Instructor", "instructor@rvebenchmark.tmt")
+                .build();
+        CourseRoster roster = new CourseRoster(students, Arrays.asList(instructor));
+        List<FeedbackQuestionAttributes> questions = createQuestions();
+        List<FeedbackResponseAttributes> responses = createResponses(questions, students);
+
+        System.out.println("Session with " + responses.size() + " responses to " + questions.size()
+                + " questions from " + students.size() + " students");
+
+        String[][] viewers = {
+                {instructor.email, UserRole.INSTRUCTOR.name()},
+                {students.get(0).email, UserRole.STUDENT.name()},
+        };
+        for (String[] viewer : viewers) {
+            String userEmail = viewer[0];
+            UserRole role = UserRole.valueOf(viewer[1]);
+            for (int run = 1; run <= NUM_RUNS; run++) {
+                double perResponseSeconds = timePerResponseEvaluation(questions, responses, userEmail, role, roster);
+                double compiledSeconds = timeCompiledEvaluation(questions, responses, userEmail, role, roster);
+                System.out.println(String.format("%s, run %d: per-response %.3fs, compiled %.3fs",
+                        role, run, perResponseSeconds, compiledSeconds));
+            }
+        }
+    }
+
+    private static double timePerResponseEvaluation(List<FeedbackQuestionAttributes> questions,
+            List<FeedbackResponseAttributes> responses, String userEmail, UserRole role, CourseRoster roster) {
+        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+        ResponseVisibilityTable table = new ResponseVisibilityTable();
+
+        Stopwatch stopwatch = new Stopwatch();
+        stopwatch.start();
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questions.get(Integer.parseInt(response.feedbackQuestionId));
+            table.put(response.getId(),
+                    frLogic.isNameVisibleToUser(question, response, userEmail, role, true, roster),
+                    frLogic.isNameVisibleToUser(question, response, userEmail, role, false, roster));
+        }
+        return stopwatch.getTimeElapsedInSeconds();
+    }
+
+    private static double timeCompiledEvaluation(List<FeedbackQuestionAttributes> questions,
+            List<FeedbackResponseAttributes> responses, String userEmail, UserRole role, CourseRoster roster) {
+        ResponseVisibilityTable table = new ResponseVisibilityTable();
+
+        Stopwatch stopwatch = new Stopwatch();
+        stopwatch.start();
+        ResponseVisibilityEvaluator evaluator = new ResponseVisibilityEvaluator(userEmail, role, null, null, roster);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questions.get(Integer.parseInt(response.feedbackQuestionId));
+            evaluator.addToTable(table, question, response);
+        }
+        return stopwatch.getTimeElapsedInSeconds();
+    }
+
+    private static List<StudentAttributes> createStudents() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < NUM_STUDENTS; i++) {
+            students.add(StudentAttributes.builder(COURSE_ID, "Student " + i, "student" + i + "@rvebenchmark.tmt")
+                    .withTeam("Team " + i / TEAM_SIZE)
+                    .withSection("Section " + i / 100)
+                    .build());
+        }
+        return students;
+    }
+
+    private static List<FeedbackQuestionAttributes> createQuestions() {
+        List<FeedbackParticipantType> showNameTo = Arrays.asList(
+                FeedbackParticipantType.RECEIVER, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.INSTRUCTORS);
+
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (int i = 0; i < NUM_QUESTIONS; i++) {
+            FeedbackParticipantType recipientType =
+                    i % 2 == 0 ? FeedbackParticipantType.STUDENTS : FeedbackParticipantType.TEAMS;
+            questions.add(FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withCourseId(COURSE_ID)
+                    .withQuestionNumber(i + 1)
+                    .withQuestionType(FeedbackQuestionType.TEXT)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(recipientType)
+                    .withShowResponseTo(new ArrayList<>(showNameTo))
+                    .withShowGiverNameTo(new ArrayList<>(showNameTo))
+                    .withShowRecipientNameTo(new ArrayList<>(showNameTo))
+                    .withFeedbackQuestionId(String.valueOf(i))
+                    .build());
+        }
+        return questions;
+    }
+
+    private static List<FeedbackResponseAttributes> createResponses(List<FeedbackQuestionAttributes> questions,
+            List<StudentAttributes> students) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            for (int i = 0; i < NUM_RESPONSES_PER_QUESTION; i++) {
+                StudentAttributes giver = students.get(i % students.size());
+                StudentAttributes recipient = students.get((i * 7 + 3) % students.size());
+                String recipientIdentifier = question.recipientType == FeedbackParticipantType.TEAMS
+                        ? recipient.team
+                        : recipient.email;
+                FeedbackResponseAttributes response = new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID,
+                        question.getId(), FeedbackQuestionType.TEXT, giver.email, giver.section,
+                        recipientIdentifier, recipient.section, null);
+                response.setId(question.getId() + "%" + giver.email + "%" + recipientIdentifier);
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+}
@@ -0,0 +1,153 @@
+package teammates.client.scripts.scalabilitytests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.client.scripts.util.Stopwatch;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantIndex;
+import teammates.common.datatransfer.ResponseVisibilityTable;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.test.driver.LegacyResultsBundleComparators;
+
+/**
+ * Compares the time taken to sort the responses of a large session by giver > recipient > question
+ * with the comparator the results bundle used before, which looks up the names and questions of the responses
+ * on every comparison (see {@link LegacyResultsBundleComparators}),
+ * against the sort keys used by {@link FeedbackSessionResultsBundle#getActualResponsesSortedByGqr}.
+ *
+ * <p>The session is generated in memory, so this can be run without a server.
+ */
+public final class ResultsBundleSortBenchmark {
+
+    private static final String COURSE_ID = "RBSBenchmark.course";
+    private static final String SESSION_NAME = "RBSBenchmark session";
+
+    private static final int NUM_STUDENTS = 1000;
+    private static final int TEAM_SIZE = 5;
+    private static final int NUM_QUESTIONS = 4;
+    private static final int NUM_RESPONSES_PER_QUESTION = 5000;
+    private static final int NUM_RUNS = 10;
+
+    private ResultsBundleSortBenchmark() {
+        // script; not meant to be instantiated
+    }
+
+    public static void main(String[] args) {
+        List<StudentAttributes> students = createStudents();
+        InstructorAttributes instructor = InstructorAttributes
+                .builder(null, COURSE_ID, "Instructor", "instructor@rbsbenchmark.tmt")
+                .build();
+        CourseRoster roster = new CourseRoster(students, Arrays.asList(instructor));
+        Map<String, FeedbackQuestionAttributes> questions = createQuestions();
+
+        System.out.println("Session with " + NUM_QUESTIONS * NUM_RESPONSES_PER_QUESTION + " responses to "
+                + NUM_QUESTIONS + " questions from " + students.size() + " students");
+
+        for (int run = 1; run <= NUM_RUNS; run++) {
+            // a new bundle for each sort, as the bundle keeps the sort keys it has computed
+            double perComparisonSeconds = timePerComparisonSort(createBundle(students, questions, roster));
+            double sortKeySeconds = timeSortKeySort(createBundle(students, questions, roster));
+
+            System.out.println(String.format("run %d: per-comparison lookups %.3fs, sort keys %.3fs",
+                    run, perComparisonSeconds, sortKeySeconds));
+        }
+    }
+
+    private static double timePerComparisonSort(FeedbackSessionResultsBundle bundle) {
+        Comparator<FeedbackResponseAttributes> compareByGiverRecipientQuestion =
+                new LegacyResultsBundleComparators(bundle).getCompareByGiverRecipientQuestion();
+
+        Stopwatch stopwatch = new Stopwatch();
+        stopwatch.start();
+        for (FeedbackQuestionAttributes question : bundle.questions.values()) {
+            bundle.getActualUnsortedResponses(question).sort(compareByGiverRecipientQuestion);
+        }
+        return stopwatch.getTimeElapsedInSeconds();
+    }
+
+    private static double timeSortKeySort(FeedbackSessionResultsBundle bundle) {
+        Stopwatch stopwatch = new Stopwatch();
+        stopwatch.start();
+        for (FeedbackQuestionAttributes question : bundle.questions.values()) {
+            bundle.getActualResponsesSortedByGqr(question);
+        }
+        return stopwatch.getTimeElapsedInSeconds();
+    }
+
+    private static FeedbackSessionResultsBundle createBundle(List<StudentAttributes> students,
+            Map<String, FeedbackQuestionAttributes> questions, CourseRoster roster) {
+        ParticipantIndex participants = new ParticipantIndex();
+        for (StudentAttributes student : students) {
+            participants.add(student.email, student.name, student.lastName, student.team);
+        }
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
+        for (FeedbackQuestionAttributes question : questions.values()) {
+            for (int i = 0; i < NUM_RESPONSES_PER_QUESTION; i++) {
+                StudentAttributes giver = students.get(i % students.size());
+                StudentAttributes recipient = students.get((i * 7 + 3) % students.size());
+                FeedbackResponseAttributes response = new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID,
+                        question.getId(), FeedbackQuestionType.TEXT, giver.email, giver.section,
+                        recipient.email, recipient.section, new Text("Answer " + i % 10));
+                response.setId(question.getId() + "%" + giver.email + "%" + recipient.email);
+                responses.add(response);
+                // hide the giver of every tenth response
+                visibilityTable.put(response.getId(), i % 10 != 0, true);
+            }
+        }
+
+        FeedbackSessionAttributes session = FeedbackSessionAttributes
+                .builder(SESSION_NAME, COURSE_ID, "instructor@rbsbenchmark.tmt")
+                .build();
+        return new FeedbackSessionResultsBundle(session, responses, questions, participants, new HashMap<>(),
+                visibilityTable, null, roster, new HashMap<>());
+    }
+
+    private static List<StudentAttributes> createStudents() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < NUM_STUDENTS; i++) {
+            students.add(StudentAttributes.builder(COURSE_ID, "Student " + i, "student" + i + "@rbsbenchmark.tmt")
+                    .withLastName(String.valueOf(i))
+                    .withTeam("Team " + i / TEAM_SIZE)
+                    .withSection("Section " + i / 100)
+                    .build());
+        }
+        return students;
+    }
+
+    private static Map<String, FeedbackQuestionAttributes> createQuestions() {
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (int i = 0; i < NUM_QUESTIONS; i++) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withCourseId(COURSE_ID)
+                    .withQuestionNumber(i + 1)
+                    .withQuestionType(FeedbackQuestionType.TEXT)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.STUDENTS)
+                    .withShowResponseTo(new ArrayList<>())
+                    .withShowGiverNameTo(new ArrayList<>())
+                    .withShowRecipientNameTo(new ArrayList<>())
+                    .withFeedbackQuestionId(String.valueOf(i))
+                    .build();
+            questions.put(question.getId(), question);
+        }
+        return questions;
+    }
+
+}
@@ -0,0 +1,38 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+
+/**
+ * Represents one page of the results of a query, together with the cursor from which the next page can be read.
+ *
+ * @param <A> the attributes class of the results
+ */
+public class AttributesPage<A extends EntityAttributes<?>> {
+
+    private final List<A> attributes;
+    private final String nextCursor;
+
+    public AttributesPage(List<A> attributes, String nextCursor) {
+        this.attributes = attributes;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<A> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the web-safe cursor pointing at the end of this page, or null if this is the last page.
+     * The page after a full page may turn out to be empty.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+}
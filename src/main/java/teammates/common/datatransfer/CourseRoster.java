@@ -1,12 +1,16 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
@@ -18,6 +22,11 @@ public class CourseRoster {
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
 
+    // Key is the team name, value is the students in the team; built when the teams are first needed
+    private Map<String, List<StudentAttributes>> studentListByTeam;
+    // Key is the team name, value is the section of the team; built together with studentListByTeam
+    private Map<String, String> sectionByTeam;
+
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
@@ -64,6 +73,41 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns the students in the team, or an empty list if there is no such team in the course.
+     */
+    public List<StudentAttributes> getTeamMembers(String teamName) {
+        List<StudentAttributes> teamMembers = getStudentListByTeam().get(teamName);
+        return teamMembers == null ? Collections.emptyList() : Collections.unmodifiableList(teamMembers);
+    }
+
+    /**
+     * Returns the names of the teams in the course, i.e. the teams with at least one student.
+     */
+    public Set<String> getTeamNames() {
+        return Collections.unmodifiableSet(getStudentListByTeam().keySet());
+    }
+
+    /**
+     * Returns the section of the team, or {@link Const#DEFAULT_SECTION} if there is no such team in the course.
+     */
+    public String getSectionForTeam(String teamName) {
+        getStudentListByTeam();
+        return sectionByTeam.getOrDefault(teamName, Const.DEFAULT_SECTION);
+    }
+
+    private Map<String, List<StudentAttributes>> getStudentListByTeam() {
+        if (studentListByTeam == null) {
+            studentListByTeam = new LinkedHashMap<>();
+            sectionByTeam = new HashMap<>();
+            for (StudentAttributes student : studentListByEmail.values()) {
+                studentListByTeam.computeIfAbsent(student.team, team -> new ArrayList<>()).add(student);
+                sectionByTeam.putIfAbsent(student.team, student.section);
+            }
+        }
+        return studentListByTeam;
+    }
+
     private void populateStudentListByEmail(List<StudentAttributes> students) {
 
         if (students == null) {
@@ -0,0 +1,145 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Represents the sections and teams of a course, grouped from the students of the course in a single pass.
+ *
+ * <p>The structure is meant to be built once per version of the course roster and shared by its readers.
+ * Every call returns new bundles, but the students in them are shared and must not be modified.
+ */
+public class CourseStructure {
+
+    // Sections sorted by name, each with its teams sorted by name and their students sorted by name
+    private final List<SectionDetailsBundle> sections = new ArrayList<>();
+    // Teams sorted by name regardless of section, each with its students sorted by name
+    private final List<TeamDetailsBundle> teams = new ArrayList<>();
+    // Key is the team name, value is the section of the first student in the team
+    private final Map<String, String> sectionByTeam = new HashMap<>();
+    // Names of the sections other than the default section, sorted
+    private final List<String> sectionNames = new ArrayList<>();
+
+    private int numberOfStudents;
+    private int numberOfUnregisteredStudents;
+    private int numberOfTeamsInSections;
+
+    public CourseStructure(List<StudentAttributes> students) {
+        List<StudentAttributes> sortedStudents = new ArrayList<>(students);
+        StudentAttributes.sortBySectionName(sortedStudents);
+
+        Map<String, TeamDetailsBundle> teamsByName = new TreeMap<>();
+        SectionDetailsBundle section = null;
+        TeamDetailsBundle teamInSection = null;
+
+        for (StudentAttributes student : sortedStudents) {
+            numberOfStudents++;
+            if (!student.isRegistered()) {
+                numberOfUnregisteredStudents++;
+            }
+
+            if (section == null || !student.section.equals(section.name)) {
+                section = createSection(student.section);
+                teamInSection = null;
+            }
+            if (teamInSection == null || !student.team.equals(teamInSection.name)) {
+                teamInSection = createTeam(student.team);
+                section.teams.add(teamInSection);
+                numberOfTeamsInSections++;
+            }
+            teamInSection.students.add(student);
+
+            teamsByName.computeIfAbsent(student.team, CourseStructure::createTeam).students.add(student);
+            sectionByTeam.putIfAbsent(student.team, student.section);
+        }
+
+        for (TeamDetailsBundle team : teamsByName.values()) {
+            // students of a team split over several sections are only grouped by section so far
+            StudentAttributes.sortByTeamName(team.students);
+            teams.add(team);
+        }
+    }
+
+    private SectionDetailsBundle createSection(String sectionName) {
+        SectionDetailsBundle section = new SectionDetailsBundle();
+        section.name = sectionName;
+        sections.add(section);
+        if (!Const.DEFAULT_SECTION.equals(sectionName)) {
+            sectionNames.add(sectionName);
+        }
+        return section;
+    }
+
+    private static TeamDetailsBundle createTeam(String teamName) {
+        TeamDetailsBundle team = new TeamDetailsBundle();
+        team.name = teamName;
+        return team;
+    }
+
+    /**
+     * Returns the sections of the course sorted by name, with their teams and students also sorted by name.
+     */
+    public List<SectionDetailsBundle> getSections() {
+        List<SectionDetailsBundle> sectionsCopy = new ArrayList<>();
+        for (SectionDetailsBundle section : sections) {
+            SectionDetailsBundle sectionCopy = new SectionDetailsBundle();
+            sectionCopy.name = section.name;
+            for (TeamDetailsBundle team : section.teams) {
+                sectionCopy.teams.add(copyTeam(team));
+            }
+            sectionsCopy.add(sectionCopy);
+        }
+        return sectionsCopy;
+    }
+
+    /**
+     * Returns the teams of the course sorted by name, with their students also sorted by name.
+     * A team with students in several sections is returned once.
+     */
+    public List<TeamDetailsBundle> getTeams() {
+        List<TeamDetailsBundle> teamsCopy = new ArrayList<>();
+        for (TeamDetailsBundle team : teams) {
+            teamsCopy.add(copyTeam(team));
+        }
+        return teamsCopy;
+    }
+
+    /**
+     * Returns the names of the sections of the course other than {@link Const#DEFAULT_SECTION}, sorted.
+     */
+    public List<String> getSectionNames() {
+        return new ArrayList<>(sectionNames);
+    }
+
+    /**
+     * Returns the section of the team, or {@link Const#DEFAULT_SECTION} if there is no such team in the course.
+     */
+    public String getSectionForTeam(String teamName) {
+        return sectionByTeam.getOrDefault(teamName, Const.DEFAULT_SECTION);
+    }
+
+    /**
+     * Returns the statistics of the course. A team with students in several sections is counted once per section.
+     */
+    public CourseStats getStats() {
+        CourseStats stats = new CourseStats();
+        stats.sectionsTotal = sectionNames.size();
+        stats.teamsTotal = numberOfTeamsInSections;
+        stats.studentsTotal = numberOfStudents;
+        stats.unregisteredTotal = numberOfUnregisteredStudents;
+        return stats;
+    }
+
+    private static TeamDetailsBundle copyTeam(TeamDetailsBundle team) {
+        TeamDetailsBundle teamCopy = createTeam(team.name);
+        teamCopy.students.addAll(team.students);
+        return teamCopy;
+    }
+
+}
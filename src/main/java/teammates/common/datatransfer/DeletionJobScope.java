@@ -0,0 +1,54 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents what a deletion job deletes, and the stages in which it is deleted.
+ *
+ * <p>The entities which others refer to are deleted after the entities referring to them, and the entity
+ * identifying the scope is deleted last. A job which is stopped part way thus leaves nothing unreachable behind,
+ * and nothing can be created again under the same name while the job is running.
+ */
+public enum DeletionJobScope {
+
+    /** The course and everything in it. */
+    COURSE(DeletionJobStage.FEEDBACK_RESPONSE_COMMENTS, DeletionJobStage.FEEDBACK_RESPONSES,
+            DeletionJobStage.FEEDBACK_QUESTIONS, DeletionJobStage.FEEDBACK_SESSION_RESPONDENTS,
+            DeletionJobStage.FEEDBACK_SESSIONS, DeletionJobStage.STUDENTS, DeletionJobStage.INSTRUCTORS,
+            DeletionJobStage.COURSE),
+
+    /** The feedback session and everything in it. */
+    FEEDBACK_SESSION(DeletionJobStage.FEEDBACK_RESPONSE_COMMENTS, DeletionJobStage.FEEDBACK_RESPONSES,
+            DeletionJobStage.FEEDBACK_QUESTIONS, DeletionJobStage.FEEDBACK_SESSION_RESPONDENTS,
+            DeletionJobStage.FEEDBACK_SESSIONS),
+
+    /**
+     * All the students of the course, together with the responses given by or to them or their teams
+     * and the comments on those responses.
+     */
+    STUDENTS_IN_COURSE(DeletionJobStage.STUDENTS, DeletionJobStage.FEEDBACK_SESSION_RESPONDENTS);
+
+    private final List<DeletionJobStage> stages;
+
+    DeletionJobScope(DeletionJobStage... stages) {
+        this.stages = Collections.unmodifiableList(Arrays.asList(stages));
+    }
+
+    /**
+     * Returns the stages of a job in this scope, in the order in which they are done.
+     */
+    public List<DeletionJobStage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Returns the stage done after the given stage, or null if the given stage is the last one.
+     */
+    public DeletionJobStage getNextStage(DeletionJobStage stage) {
+        int index = stages.indexOf(stage);
+        return index + 1 < stages.size() ? stages.get(index + 1) : null;
+    }
+
+}
@@ -0,0 +1,29 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the kind of entities deleted in one stage of a deletion job.
+ *
+ * @see DeletionJobScope
+ */
+public enum DeletionJobStage {
+
+    FEEDBACK_RESPONSE_COMMENTS,
+
+    FEEDBACK_RESPONSES,
+
+    FEEDBACK_QUESTIONS,
+
+    FEEDBACK_SESSION_RESPONDENTS,
+
+    FEEDBACK_SESSIONS,
+
+    /** The students, together with their search documents and the statistics of the course. */
+    STUDENTS,
+
+    /** The instructors, together with their search documents. */
+    INSTRUCTORS,
+
+    /** The course, together with its enrollment jobs. */
+    COURSE
+
+}
@@ -0,0 +1,17 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the status of a deletion job.
+ */
+public enum DeletionJobStatus {
+
+    /** Some entities of the job may not have been deleted yet. */
+    IN_PROGRESS,
+
+    /** All the entities of the job have been deleted. */
+    COMPLETED,
+
+    /** The job was stopped by an error before all its entities were deleted. */
+    FAILED
+
+}
@@ -0,0 +1,33 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the result of deleting one page of the entities matched by a query,
+ * together with the cursor from which the next page can be deleted.
+ */
+public class DeletionPage {
+
+    private final int numberOfEntitiesDeleted;
+    private final String nextCursor;
+
+    public DeletionPage(int numberOfEntitiesDeleted, String nextCursor) {
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+        this.nextCursor = nextCursor;
+    }
+
+    public int getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    /**
+     * Returns the web-safe cursor pointing at the end of this page, or null if this is the last page.
+     * The page after a full page may turn out to be empty.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+
+}
@@ -0,0 +1,17 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents the status of an enrollment job.
+ */
+public enum EnrollmentJobStatus {
+
+    /** Some students of the job have not been enrolled yet. */
+    IN_PROGRESS,
+
+    /** All the students of the job have been enrolled. */
+    COMPLETED,
+
+    /** The job was stopped by an error before all the students were enrolled. */
+    FAILED
+
+}
@@ -5,11 +5,13 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jsoup.Jsoup;
@@ -34,6 +36,10 @@ import teammates.common.util.StringHelper;
  * <br> Contains:
  * <br> * The basic {@link FeedbackSessionAttributes}
  * <br> * {@link List} of viewable responses as {@link FeedbackResponseAttributes} objects.
+ *
+ * <p>The grouped and sorted views of the responses (e.g. {@link #getResponsesSortedByGiver(boolean)})
+ * are built once and returned again on later calls, so the bundle must not be modified after a view is obtained,
+ * and the views returned must not be modified.
  */
 public class FeedbackSessionResultsBundle {
 
@@ -42,13 +48,14 @@ public class FeedbackSessionResultsBundle {
     public FeedbackSessionAttributes feedbackSession;
     public List<FeedbackResponseAttributes> responses;
     public Map<String, FeedbackQuestionAttributes> questions;
+    // map views of the ParticipantIndex the bundle is created with
     public Map<String, String> emailNameTable;
     public Map<String, String> emailLastNameTable;
     public Map<String, String> emailTeamNameTable;
     public Map<String, String> instructorEmailNameTable;
     public Map<String, Set<String>> rosterTeamNameMembersTable;
     public Map<String, Set<String>> rosterSectionTeamNameTable;
-    public Map<String, boolean[]> visibilityTable;
+    public ResponseVisibilityTable visibilityTable;
     public FeedbackSessionResponseStatus responseStatus;
     public CourseRoster roster;
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
@@ -77,82 +84,52 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Set<String>> sectionTeamNameTable;
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverSection =
-            Comparator.comparing(fra -> fra.giverSection);
+    // Views of the responses (e.g. responses grouped by giver) are built when first requested and then reused.
+    // Key is the name of the view, including its variant (e.g. whether it is sorted by team)
+    private final Map<String, Object> memoizedViews = new HashMap<>();
+    // Key is the comparator the responses are sorted with; the views sorted in the same order share the list
+    private final Map<Comparator<ResponseSortKey>, List<FeedbackResponseAttributes>> sortedResponsesByOrder =
+            new IdentityHashMap<>();
+    private final Map<FeedbackResponseAttributes, ResponseSortKey> sortKeyByResponse = new IdentityHashMap<>();
+    private final Map<String, ParticipantSortNames> sortNamesByParticipant = new HashMap<>();
+    // Key is the question ID, value is the position of the question when the questions are sorted
+    private Map<String, Integer> questionOrderById;
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientSection =
-            Comparator.comparing(fra -> fra.recipientSection);
+    // The comparators below compare the sort keys of the responses (see ResponseSortKey),
+    // in which the names, teams and question order are looked up once per response instead of once per comparison.
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverName =
-            (fra1, fra2) ->
-                    compareByNames(emailNameTable.get(fra1.giver), emailNameTable.get(fra2.giver),
-                            isGiverVisible(fra1), isGiverVisible(fra2));
+    private Comparator<ResponseSortKey> compareByGiverSection = Comparator.comparing(key -> key.giverSection);
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientName =
-            (fra1, fra2) ->
-                    compareByNames(emailNameTable.get(fra1.recipient), emailNameTable.get(fra2.recipient),
-                            isRecipientVisible(fra1), isRecipientVisible(fra2));
+    private Comparator<ResponseSortKey> compareByRecipientSection = Comparator.comparing(key -> key.recipientSection);
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverEmail =
-            (fra1, fra2) -> compareByNames(fra1.giver, fra2.giver, isGiverVisible(fra1), isGiverVisible(fra2));
+    private Comparator<ResponseSortKey> compareByGiverName = Comparator.comparing(key -> key.giver.getName());
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientEmail =
-            (fra1, fra2) ->
-                    compareByNames(fra1.recipient, fra2.recipient, isRecipientVisible(fra1), isRecipientVisible(fra2));
+    private Comparator<ResponseSortKey> compareByRecipientName = Comparator.comparing(key -> key.recipient.getName());
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverDisplayName =
-            (fra1, fra2) ->
-                    compareByNames(getNameForEmail(fra1.giver), getNameForEmail(fra2.giver),
-                            isGiverVisible(fra1), isGiverVisible(fra2));
+    private Comparator<ResponseSortKey> compareByGiverEmail = Comparator.comparing(key -> key.giver.getEmail());
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientDisplayName =
-            (fra1, fra2) ->
-                    compareByNames(getNameForEmail(fra1.recipient), getNameForEmail(fra2.recipient),
-                            isRecipientVisible(fra1), isRecipientVisible(fra2));
+    private Comparator<ResponseSortKey> compareByRecipientEmail = Comparator.comparing(key -> key.recipient.getEmail());
 
-    private Comparator<FeedbackResponseAttributes> compareByQuestionNumber = (r1, r2) -> {
-        FeedbackQuestionAttributes q1 = questions.get(r1.feedbackQuestionId);
-        FeedbackQuestionAttributes q2 = questions.get(r2.feedbackQuestionId);
-        if (q1 == null || q2 == null) {
-            return 0;
-        }
-        return q1.compareTo(q2);
-    };
-
-    private Comparator<FeedbackResponseAttributes> compareByGiverTeam = (o1, o2) -> {
-
-        boolean isGiverVisible1 = isGiverVisible(o1);
-        boolean isGiverVisible2 = isGiverVisible(o2);
+    private Comparator<ResponseSortKey> compareByGiverDisplayName =
+            Comparator.comparing(key -> key.giver.getDisplayName());
 
-        String t1 = getTeamNameForEmail(o1.giver).isEmpty() ? getNameForEmail(o1.giver)
-                : getTeamNameForEmail(o1.giver);
-        String t2 = getTeamNameForEmail(o2.giver).isEmpty() ? getNameForEmail(o2.giver)
-                : getTeamNameForEmail(o2.giver);
-        return compareByNames(t1, t2, isGiverVisible1, isGiverVisible2);
-    };
+    private Comparator<ResponseSortKey> compareByRecipientDisplayName =
+            Comparator.comparing(key -> key.recipient.getDisplayName());
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientTeam = (o1, o2) -> {
+    private Comparator<ResponseSortKey> compareByQuestionNumber =
+            (key1, key2) -> Integer.compare(key1.questionOrder, key2.questionOrder);
 
-        boolean isRecipientVisible1 = isRecipientVisible(o1);
-        boolean isRecipientVisible2 = isRecipientVisible(o2);
+    private Comparator<ResponseSortKey> compareByGiverTeam = Comparator.comparing(key -> key.giver.getTeam());
 
-        String t1 = getTeamNameForEmail(o1.recipient).isEmpty() ? getNameForEmail(o1.recipient)
-                : getTeamNameForEmail(o1.recipient);
-        String t2 = getTeamNameForEmail(o2.recipient).isEmpty() ? getNameForEmail(o2.recipient)
-                : getTeamNameForEmail(o2.recipient);
-        return compareByNames(t1, t2, isRecipientVisible1, isRecipientVisible2);
+    private Comparator<ResponseSortKey> compareByRecipientTeam = Comparator.comparing(key -> key.recipient.getTeam());
 
-    };
+    private Comparator<ResponseSortKey> compareByResponseString = Comparator.comparing(ResponseSortKey::getResponseString);
 
-    private Comparator<FeedbackResponseAttributes> compareByResponseString =
-            Comparator.comparing(fra -> fra.getResponseDetails().getAnswerString());
-
-    private Comparator<FeedbackResponseAttributes> compareByFeedbackResponseAttributeId =
-            Comparator.comparing(fra -> fra.getId());
+    private Comparator<ResponseSortKey> compareByFeedbackResponseAttributeId = Comparator.comparing(key -> key.id);
 
     // Sorts by giverName > recipientName > qnNumber
     // General questions and team questions at the bottom.
-    public Comparator<FeedbackResponseAttributes> compareByGiverRecipientQuestion = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByGiverRecipientQuestion = compareByGiverSection
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
@@ -160,13 +137,13 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverName > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByGiverRecipient = compareByGiverName
+    private Comparator<ResponseSortKey> compareByGiverRecipient = compareByGiverName
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByResponseString)
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by teamName > giverName > recipientName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByTeamGiverRecipientQuestion = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByTeamGiverRecipientQuestion = compareByGiverSection
             .thenComparing(compareByGiverTeam)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientName)
@@ -175,7 +152,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > giverName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByRecipientGiverQuestion = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByRecipientGiverQuestion = compareByRecipientSection
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
@@ -183,7 +160,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by teamName > recipientName > giverName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByTeamRecipientGiverQuestion = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByTeamRecipientGiverQuestion = compareByRecipientSection
             .thenComparing(compareByRecipientTeam)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverName)
@@ -192,7 +169,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverName > question > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByGiverQuestionTeamRecipient = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByGiverQuestionTeamRecipient = compareByGiverSection
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByRecipientTeam)
@@ -201,7 +178,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverTeam > giverName > question > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByTeamGiverQuestionTeamRecipient = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByTeamGiverQuestionTeamRecipient = compareByGiverSection
             .thenComparing(compareByGiverTeam)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
@@ -211,7 +188,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > question > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByRecipientQuestionTeamGiver = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByRecipientQuestionTeamGiver = compareByRecipientSection
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByGiverTeam)
@@ -220,7 +197,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientTeam > recipientName > question > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByTeamRecipientQuestionTeamGiver = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByTeamRecipientQuestionTeamGiver = compareByRecipientSection
             .thenComparing(compareByRecipientTeam)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
@@ -230,7 +207,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientTeam > question > recipientName > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByTeamQuestionRecipientTeamGiver = compareByRecipientTeam
+    private Comparator<ResponseSortKey> compareByTeamQuestionRecipientTeamGiver = compareByRecipientTeam
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverTeam)
@@ -239,7 +216,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverTeam > question > giverName > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByTeamQuestionGiverTeamRecipient = compareByGiverTeam
+    private Comparator<ResponseSortKey> compareByTeamQuestionGiverTeamRecipient = compareByGiverTeam
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientTeam)
@@ -248,7 +225,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > recipientEmail > giverName > giverEmail
-    private Comparator<FeedbackResponseAttributes> compareByRecipientNameEmailGiverNameEmail =
+    private Comparator<ResponseSortKey> compareByRecipientNameEmailGiverNameEmail =
             compareByRecipientDisplayName.thenComparing(compareByRecipientEmail)
                     .thenComparing(compareByGiverDisplayName)
                     .thenComparing(compareByGiverEmail)
@@ -257,35 +234,31 @@ public class FeedbackSessionResultsBundle {
 
     public FeedbackSessionResultsBundle(FeedbackSessionAttributes feedbackSession,
                                         Map<String, FeedbackQuestionAttributes> questions, CourseRoster roster) {
-        this(feedbackSession, new ArrayList<FeedbackResponseAttributes>(), questions, new HashMap<String, String>(),
-                new HashMap<String, String>(), new HashMap<String, String>(), new HashMap<String, Set<String>>(),
-                new HashMap<String, boolean[]>(), new FeedbackSessionResponseStatus(), roster,
+        this(feedbackSession, new ArrayList<FeedbackResponseAttributes>(), questions, new ParticipantIndex(),
+                new HashMap<String, Set<String>>(),
+                new ResponseVisibilityTable(), new FeedbackSessionResponseStatus(), roster,
                 new HashMap<String, List<FeedbackResponseCommentAttributes>>());
     }
 
     public FeedbackSessionResultsBundle(FeedbackSessionAttributes feedbackSession,
                                         List<FeedbackResponseAttributes> responses,
                                         Map<String, FeedbackQuestionAttributes> questions,
-                                        Map<String, String> emailNameTable,
-                                        Map<String, String> emailLastNameTable,
-                                        Map<String, String> emailTeamNameTable,
+                                        ParticipantIndex participants,
                                         Map<String, Set<String>> sectionTeamNameTable,
-                                        Map<String, boolean[]> visibilityTable,
+                                        ResponseVisibilityTable visibilityTable,
                                         FeedbackSessionResponseStatus responseStatus,
                                         CourseRoster roster,
                                         Map<String, List<FeedbackResponseCommentAttributes>> responseComments) {
-        this(feedbackSession, responses, questions, emailNameTable, emailLastNameTable,
-                emailTeamNameTable, sectionTeamNameTable, visibilityTable, responseStatus, roster, responseComments, true);
+        this(feedbackSession, responses, questions, participants, sectionTeamNameTable, visibilityTable,
+                responseStatus, roster, responseComments, true);
     }
 
     public FeedbackSessionResultsBundle(FeedbackSessionAttributes feedbackSession,
                                         List<FeedbackResponseAttributes> responses,
                                         Map<String, FeedbackQuestionAttributes> questions,
-                                        Map<String, String> emailNameTable,
-                                        Map<String, String> emailLastNameTable,
-                                        Map<String, String> emailTeamNameTable,
+                                        ParticipantIndex participants,
                                         Map<String, Set<String>> sectionTeamNameTable,
-                                        Map<String, boolean[]> visibilityTable,
+                                        ResponseVisibilityTable visibilityTable,
                                         FeedbackSessionResponseStatus responseStatus,
                                         CourseRoster roster,
                                         Map<String, List<FeedbackResponseCommentAttributes>> responseComments,
@@ -293,9 +266,9 @@ public class FeedbackSessionResultsBundle {
         this.feedbackSession = feedbackSession;
         this.questions = questions;
         this.responses = responses;
-        this.emailNameTable = emailNameTable;
-        this.emailLastNameTable = emailLastNameTable;
-        this.emailTeamNameTable = emailTeamNameTable;
+        this.emailNameTable = participants.getNameTable();
+        this.emailLastNameTable = participants.getLastNameTable();
+        this.emailTeamNameTable = participants.getTeamNameTable();
         this.instructorEmailNameTable = getInstructorEmailNameTableFromRoster(roster);
         this.sectionTeamNameTable = sectionTeamNameTable;
         this.visibilityTable = visibilityTable;
@@ -380,10 +353,10 @@ public class FeedbackSessionResultsBundle {
 
         boolean isVisible;
         if (isGiver) {
-            isVisible = visibilityTable.get(responseId)[Const.VISIBILITY_TABLE_GIVER];
+            isVisible = visibilityTable.isGiverNameVisible(responseId);
             participantType = question.giverType;
         } else {
-            isVisible = visibilityTable.get(responseId)[Const.VISIBILITY_TABLE_RECIPIENT];
+            isVisible = visibilityTable.isRecipientNameVisible(responseId);
             participantType = question.recipientType;
         }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
@@ -1196,25 +1169,7 @@ public class FeedbackSessionResultsBundle {
             return null;
         }
 
-        Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> sortedMap = new LinkedHashMap<>();
-        List<FeedbackQuestionAttributes> sortedQuestions = new ArrayList<>(questions.values());
-        // sorts the questions by its natural ordering, which is by question number
-        sortedQuestions.sort(null);
-        for (FeedbackQuestionAttributes question : sortedQuestions) {
-            sortedMap.put(question, new ArrayList<FeedbackResponseAttributes>());
-        }
-
-        for (FeedbackResponseAttributes response : responses) {
-            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
-            List<FeedbackResponseAttributes> responsesForQuestion = sortedMap.get(question);
-            responsesForQuestion.add(response);
-        }
-
-        for (List<FeedbackResponseAttributes> responsesForQuestion : sortedMap.values()) {
-            responsesForQuestion.sort(compareByGiverRecipient);
-        }
-
-        return sortedMap;
+        return getMemoizedView("questionResponseMap", () -> buildQuestionResponseMap(compareByGiverRecipient));
     }
 
     public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseMapSortedByRecipient() {
@@ -1222,6 +1177,12 @@ public class FeedbackSessionResultsBundle {
             return null;
         }
 
+        return getMemoizedView("questionResponseMapSortedByRecipient",
+                () -> buildQuestionResponseMap(compareByRecipientNameEmailGiverNameEmail));
+    }
+
+    private Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> buildQuestionResponseMap(
+            Comparator<ResponseSortKey> responseOrder) {
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> sortedMap = new LinkedHashMap<>();
 
         List<FeedbackQuestionAttributes> sortedQuestions = new ArrayList<>(questions.values());
@@ -1231,16 +1192,13 @@ public class FeedbackSessionResultsBundle {
             sortedMap.put(question, new ArrayList<FeedbackResponseAttributes>());
         }
 
-        for (FeedbackResponseAttributes response : responses) {
+        // the responses are added in sorted order, so the responses of each question are sorted too
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             List<FeedbackResponseAttributes> responsesForQuestion = sortedMap.get(question);
             responsesForQuestion.add(response);
         }
 
-        for (List<FeedbackResponseAttributes> responsesForQuestion : sortedMap.values()) {
-            responsesForQuestion.sort(compareByRecipientNameEmailGiverNameEmail);
-        }
-
         return sortedMap;
     }
 
@@ -1250,12 +1208,15 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
             getQuestionResponseMapByRecipientTeam() {
+        return getMemoizedView("questionResponseMapByRecipientTeam", this::buildQuestionResponseMapByRecipientTeam);
+    }
+
+    private Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
+            buildQuestionResponseMapByRecipientTeam() {
         LinkedHashMap<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap =
                 new LinkedHashMap<>();
 
-        responses.sort(compareByTeamQuestionRecipientTeamGiver);
-
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(compareByTeamQuestionRecipientTeamGiver)) {
             String recipientTeam = getTeamNameForEmail(response.recipient);
             if (recipientTeam.isEmpty()) {
                 recipientTeam = getNameForEmail(response.recipient);
@@ -1281,12 +1242,15 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
             getQuestionResponseMapByGiverTeam() {
+        return getMemoizedView("questionResponseMapByGiverTeam", this::buildQuestionResponseMapByGiverTeam);
+    }
+
+    private Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
+            buildQuestionResponseMapByGiverTeam() {
         LinkedHashMap<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap =
                 new LinkedHashMap<>();
 
-        responses.sort(compareByTeamQuestionGiverTeamRecipient);
-
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(compareByTeamQuestionGiverTeamRecipient)) {
             String giverTeam = getTeamNameForEmail(response.giver);
             if (giverTeam.isEmpty()) {
                 giverTeam = getNameForEmail(response.giver);
@@ -1311,15 +1275,17 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
             getResponsesSortedByRecipientQuestionGiver(boolean sortByTeam) {
-        Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
+        return getMemoizedView("responsesSortedByRecipientQuestionGiver" + sortByTeam,
+                () -> buildResponsesSortedByRecipientQuestionGiver(sortByTeam
+                        ? compareByTeamRecipientQuestionTeamGiver
+                        : compareByRecipientQuestionTeamGiver));
+    }
 
-        if (sortByTeam) {
-            responses.sort(compareByTeamRecipientQuestionTeamGiver);
-        } else {
-            responses.sort(compareByRecipientQuestionTeamGiver);
-        }
+    private Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByRecipientQuestionGiver(Comparator<ResponseSortKey> responseOrder) {
+        Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String recipientEmail = response.recipient;
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> responsesForOneRecipient =
                     sortedMap.computeIfAbsent(recipientEmail, key -> new LinkedHashMap<>());
@@ -1349,15 +1315,17 @@ public class FeedbackSessionResultsBundle {
 
     public Map<String, Map<String, List<FeedbackResponseAttributes>>>
             getResponsesSortedByRecipient(boolean sortByTeam) {
-        Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
+        return getMemoizedView("responsesSortedByRecipient" + sortByTeam,
+                () -> buildResponsesSortedByRecipient(sortByTeam
+                        ? compareByTeamRecipientGiverQuestion
+                        : compareByRecipientGiverQuestion));
+    }
 
-        if (sortByTeam) {
-            responses.sort(compareByTeamRecipientGiverQuestion);
-        } else {
-            responses.sort(compareByRecipientGiverQuestion);
-        }
+    private Map<String, Map<String, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByRecipient(Comparator<ResponseSortKey> responseOrder) {
+        Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String recipientName = this.getRecipientNameForResponse(response);
             String recipientTeamName = this.getTeamNameForEmail(response.recipient);
             String recipientNameWithTeam = this.appendTeamNameToName(recipientName, recipientTeamName);
@@ -1390,16 +1358,17 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<String, List<FeedbackResponseAttributes>>>
             getResponsesSortedByRecipientGiverQuestion(boolean sortByTeam) {
+        return getMemoizedView("responsesSortedByRecipientGiverQuestion" + sortByTeam,
+                () -> buildResponsesSortedByRecipientGiverQuestion(sortByTeam
+                        ? compareByTeamRecipientGiverQuestion
+                        : compareByRecipientGiverQuestion));
+    }
 
+    private Map<String, Map<String, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByRecipientGiverQuestion(Comparator<ResponseSortKey> responseOrder) {
         LinkedHashMap<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        if (sortByTeam) {
-            responses.sort(compareByTeamRecipientGiverQuestion);
-        } else {
-            responses.sort(compareByRecipientGiverQuestion);
-        }
-
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String recipientEmail = response.recipient;
 
             Map<String, List<FeedbackResponseAttributes>> responsesToOneRecipient =
@@ -1420,15 +1389,17 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
             getResponsesSortedByGiverQuestionRecipient(boolean sortByTeam) {
-        Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
+        return getMemoizedView("responsesSortedByGiverQuestionRecipient" + sortByTeam,
+                () -> buildResponsesSortedByGiverQuestionRecipient(sortByTeam
+                        ? compareByTeamGiverQuestionTeamRecipient
+                        : compareByGiverQuestionTeamRecipient));
+    }
 
-        if (sortByTeam) {
-            responses.sort(compareByTeamGiverQuestionTeamRecipient);
-        } else {
-            responses.sort(compareByGiverQuestionTeamRecipient);
-        }
+    private Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByGiverQuestionRecipient(Comparator<ResponseSortKey> responseOrder) {
+        Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String giverEmail = response.giver;
 
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> responsesFromOneGiver =
@@ -1459,15 +1430,17 @@ public class FeedbackSessionResultsBundle {
 
     public Map<String, Map<String, List<FeedbackResponseAttributes>>>
             getResponsesSortedByGiver(boolean sortByTeam) {
-        Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
+        return getMemoizedView("responsesSortedByGiver" + sortByTeam,
+                () -> buildResponsesSortedByGiver(sortByTeam
+                        ? compareByTeamGiverRecipientQuestion
+                        : compareByGiverRecipientQuestion));
+    }
 
-        if (sortByTeam) {
-            responses.sort(compareByTeamGiverRecipientQuestion);
-        } else {
-            responses.sort(compareByGiverRecipientQuestion);
-        }
+    private Map<String, Map<String, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByGiver(Comparator<ResponseSortKey> responseOrder) {
+        Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String giverName = this.getGiverNameForResponse(response);
             String giverTeamName = this.getTeamNameForEmail(response.giver);
             String giverNameWithTeam = this.appendTeamNameToName(giverName, giverTeamName);
@@ -1500,15 +1473,17 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Map<String, List<FeedbackResponseAttributes>>>
             getResponsesSortedByGiverRecipientQuestion(boolean sortByTeam) {
-        if (sortByTeam) {
-            responses.sort(compareByTeamGiverRecipientQuestion);
-        } else {
-            responses.sort(compareByGiverRecipientQuestion);
-        }
+        return getMemoizedView("responsesSortedByGiverRecipientQuestion" + sortByTeam,
+                () -> buildResponsesSortedByGiverRecipientQuestion(sortByTeam
+                        ? compareByTeamGiverRecipientQuestion
+                        : compareByGiverRecipientQuestion));
+    }
 
+    private Map<String, Map<String, List<FeedbackResponseAttributes>>>
+            buildResponsesSortedByGiverRecipientQuestion(Comparator<ResponseSortKey> responseOrder) {
         Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
+        for (FeedbackResponseAttributes response : getResponsesSortedBy(responseOrder)) {
             String giverEmail = response.giver;
 
             Map<String, List<FeedbackResponseAttributes>> responsesFromOneGiver =
@@ -1522,6 +1497,67 @@ public class FeedbackSessionResultsBundle {
         return sortedMap;
     }
 
+    /**
+     * Returns the view with the given name, building it with {@code viewBuilder} if it has not been built before.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getMemoizedView(String viewName, Supplier<T> viewBuilder) {
+        Object view = memoizedViews.get(viewName);
+        if (view == null) {
+            view = viewBuilder.get();
+            memoizedViews.put(viewName, view);
+        }
+        return (T) view;
+    }
+
+    /**
+     * Returns a copy of {@link #responses} sorted in the given order.
+     * The views built from the same order share the sorted copy, so the responses are sorted once per order.
+     */
+    private List<FeedbackResponseAttributes> getResponsesSortedBy(Comparator<ResponseSortKey> responseOrder) {
+        return sortedResponsesByOrder.computeIfAbsent(responseOrder, order -> {
+            List<FeedbackResponseAttributes> sortedResponses = new ArrayList<>(responses);
+            sortBy(sortedResponses, order);
+            return sortedResponses;
+        });
+    }
+
+    /**
+     * Sorts the responses in the given order by sorting their sort keys,
+     * so that the details of each response are looked up once rather than once per comparison.
+     */
+    private void sortBy(List<FeedbackResponseAttributes> responsesToSort, Comparator<ResponseSortKey> responseOrder) {
+        List<ResponseSortKey> sortKeys = new ArrayList<>(responsesToSort.size());
+        for (FeedbackResponseAttributes response : responsesToSort) {
+            sortKeys.add(sortKeyByResponse.computeIfAbsent(response, r -> new ResponseSortKey(this, r)));
+        }
+        sortKeys.sort(responseOrder);
+        for (int i = 0; i < sortKeys.size(); i++) {
+            responsesToSort.set(i, sortKeys.get(i).response);
+        }
+    }
+
+    private ParticipantSortNames getSortNames(String identifier, boolean isVisible) {
+        if (!isVisible) {
+            return ParticipantSortNames.HIDDEN;
+        }
+        return sortNamesByParticipant.computeIfAbsent(identifier, id -> new ParticipantSortNames(this, id));
+    }
+
+    private int getQuestionOrder(String questionId) {
+        if (questionOrderById == null) {
+            List<FeedbackQuestionAttributes> sortedQuestions = new ArrayList<>(questions.values());
+            // sorts the questions by its natural ordering, which is by question number
+            sortedQuestions.sort(null);
+            questionOrderById = new HashMap<>();
+            for (FeedbackQuestionAttributes question : sortedQuestions) {
+                questionOrderById.put(question.getId(), questionOrderById.size());
+            }
+        }
+        // a response to an unknown question used to compare as equal in question to any other response
+        return questionOrderById.getOrDefault(questionId, 0);
+    }
+
     public boolean isStudentHasSomethingNewToSee(StudentAttributes student) {
         for (FeedbackResponseAttributes response : responses) {
             // There is a response not written by the student
@@ -1577,42 +1613,6 @@ public class FeedbackSessionResultsBundle {
         return sectionToTeam;
     }
 
-    /**
-     * Compares the values of {@code name1} and {@code name2}.
-     * Anonymous names are ordered later than non-anonymous names.
-     * @param isFirstNameVisible  true if the first name should be visible to the user
-     * @param isSecondNameVisible true if the second name should be visible to the user
-     */
-    private int compareByNames(String name1, String name2,
-                               boolean isFirstNameVisible, boolean isSecondNameVisible) {
-        if (!isFirstNameVisible && !isSecondNameVisible) {
-            return 0;
-        }
-        if (!isFirstNameVisible && isSecondNameVisible) {
-            return 1;
-        } else if (isFirstNameVisible && !isSecondNameVisible) {
-            return -1;
-        }
-
-        // Make class feedback always appear on top, and team responses at bottom.
-        int n1Priority = 0;
-        int n2Priority = 0;
-
-        if (name1.equals(Const.USER_IS_NOBODY)) {
-            n1Priority = -1;
-        } else if (name1.equals(Const.USER_IS_TEAM)) {
-            n1Priority = 1;
-        }
-        if (name2.equals(Const.USER_IS_NOBODY)) {
-            n2Priority = -1;
-        } else if (name2.equals(Const.USER_IS_TEAM)) {
-            n2Priority = 1;
-        }
-
-        int order = Integer.compare(n1Priority, n2Priority);
-        return order == 0 ? name1.compareTo(name2) : order;
-    }
-
     public FeedbackSessionAttributes getFeedbackSession() {
         return feedbackSession;
     }
@@ -1649,7 +1649,7 @@ public class FeedbackSessionResultsBundle {
         return rosterSectionTeamNameTable;
     }
 
-    public Map<String, boolean[]> getVisibilityTable() {
+    public ResponseVisibilityTable getVisibilityTable() {
         return visibilityTable;
     }
 
@@ -1743,7 +1743,7 @@ public class FeedbackSessionResultsBundle {
      */
     public List<FeedbackResponseAttributes> getActualResponsesSortedByGqr(FeedbackQuestionAttributes question) {
         List<FeedbackResponseAttributes> responses = getActualUnsortedResponses(question);
-        responses.sort(compareByGiverRecipientQuestion);
+        sortBy(responses, compareByGiverRecipientQuestion);
         return responses;
     }
 
@@ -1759,4 +1759,139 @@ public class FeedbackSessionResultsBundle {
                             .filter(response -> response.feedbackQuestionId.equals(question.getId()))
                             .collect(Collectors.toList());
     }
+
+    /**
+     * The details of a response by which the responses are sorted, looked up once per response.
+     */
+    private static final class ResponseSortKey {
+
+        final FeedbackResponseAttributes response;
+        final String giverSection;
+        final String recipientSection;
+        final ParticipantSortNames giver;
+        final ParticipantSortNames recipient;
+        final int questionOrder;
+        final String id;
+        // only needed for responses with the same giver, recipient and question, so it is looked up when needed
+        private String responseString;
+
+        ResponseSortKey(FeedbackSessionResultsBundle bundle, FeedbackResponseAttributes response) {
+            this.response = response;
+            this.giverSection = response.giverSection;
+            this.recipientSection = response.recipientSection;
+            this.giver = bundle.getSortNames(response.giver, bundle.isGiverVisible(response));
+            this.recipient = bundle.getSortNames(response.recipient, bundle.isRecipientVisible(response));
+            this.questionOrder = bundle.getQuestionOrder(response.feedbackQuestionId);
+            this.id = response.getId();
+        }
+
+        String getResponseString() {
+            if (responseString == null) {
+                responseString = response.getResponseDetails().getAnswerString();
+            }
+            return responseString;
+        }
+
+    }
+
+    /**
+     * The names of a giver or recipient as they are compared when sorting the responses.
+     * They are shared by all the responses of the giver or recipient in which it is visible to the user,
+     * and each of them is looked up the first time a comparator needs it.
+     */
+    private static final class ParticipantSortNames {
+
+        static final ParticipantSortNames HIDDEN = new ParticipantSortNames();
+
+        private final FeedbackSessionResultsBundle bundle;
+        private final String identifier;
+        private SortName name;
+        private SortName email;
+        private SortName displayName;
+        private SortName team;
+
+        ParticipantSortNames(FeedbackSessionResultsBundle bundle, String identifier) {
+            this.bundle = bundle;
+            this.identifier = identifier;
+        }
+
+        private ParticipantSortNames() {
+            this.bundle = null;
+            this.identifier = null;
+            this.name = SortName.HIDDEN;
+            this.email = SortName.HIDDEN;
+            this.displayName = SortName.HIDDEN;
+            this.team = SortName.HIDDEN;
+        }
+
+        SortName getName() {
+            if (name == null) {
+                name = new SortName(bundle.emailNameTable.get(identifier));
+            }
+            return name;
+        }
+
+        SortName getEmail() {
+            if (email == null) {
+                email = new SortName(identifier);
+            }
+            return email;
+        }
+
+        SortName getDisplayName() {
+            if (displayName == null) {
+                displayName = new SortName(bundle.getNameForEmail(identifier));
+            }
+            return displayName;
+        }
+
+        SortName getTeam() {
+            if (team == null) {
+                String teamName = bundle.getTeamNameForEmail(identifier);
+                team = new SortName(teamName.isEmpty() ? bundle.getNameForEmail(identifier) : teamName);
+            }
+            return team;
+        }
+
+    }
+
+    /**
+     * A giver or recipient name, email or team as it is compared when sorting the responses.
+     * Names hidden from the user are ordered after the visible ones and are not compared with each other.
+     * Among the visible names, class feedback is ordered first and team responses last.
+     */
+    private static final class SortName implements Comparable<SortName> {
+
+        private static final int NOBODY = 0;
+        private static final int NAMED = 1;
+        private static final int TEAM = 2;
+        private static final int HIDDEN_RANK = 3;
+
+        static final SortName HIDDEN = new SortName(null, HIDDEN_RANK);
+
+        private final String name;
+        private final int rank;
+
+        SortName(String name) {
+            // a participant missing from the name table has no name; it is compared as an empty one
+            this(name == null ? "" : name,
+                    Const.USER_IS_NOBODY.equals(name) ? NOBODY : Const.USER_IS_TEAM.equals(name) ? TEAM : NAMED);
+        }
+
+        private SortName(String name, int rank) {
+            this.name = name;
+            this.rank = rank;
+        }
+
+        @Override
+        public int compareTo(SortName other) {
+            int order = Integer.compare(rank, other.rank);
+            if (order == 0 && rank != HIDDEN_RANK) {
+                order = name.compareTo(other.name);
+            }
+            return order;
+        }
+
+    }
+
 }
@@ -0,0 +1,211 @@
+package teammates.common.datatransfer;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Indexes the participants (i.e. students' emails, instructors' emails, team names or {@code %GENERAL%})
+ * of the responses in a results bundle.
+ *
+ * <p>Each participant identifier is interned to an int ID the first time it is added,
+ * and its name, last name and team name are stored in arrays at that ID,
+ * so that the details of a participant are looked up only once however many responses refer to it.
+ *
+ * <p>{@link #getNameTable()}, {@link #getLastNameTable()} and {@link #getTeamNameTable()} give
+ * identifier-to-detail map views of the index. A view contains the identifiers for which the detail is set.
+ */
+public class ParticipantIndex {
+
+    private static final int NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int TEAM_NAME = 2;
+    private static final int NUM_DETAILS = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> idByIdentifier = new HashMap<>();
+    private String[] identifiers = new String[INITIAL_CAPACITY];
+    private final String[][] details = new String[NUM_DETAILS][INITIAL_CAPACITY];
+    private final int[] numSetByDetail = new int[NUM_DETAILS];
+    private int size;
+
+    /**
+     * Adds the participant with the given details if it is not already in the index.
+     *
+     * @return the ID of the participant
+     */
+    public int add(String identifier, String name, String lastName, String teamName) {
+        Integer id = idByIdentifier.get(identifier);
+        if (id != null) {
+            return id;
+        }
+        int newId = intern(identifier);
+        setDetail(newId, NAME, name);
+        setDetail(newId, LAST_NAME, lastName);
+        setDetail(newId, TEAM_NAME, teamName);
+        return newId;
+    }
+
+    public boolean contains(String identifier) {
+        return idByIdentifier.containsKey(identifier);
+    }
+
+    /**
+     * Returns the ID of the participant, or -1 if the participant is not in the index.
+     */
+    public int getId(String identifier) {
+        Integer id = idByIdentifier.get(identifier);
+        return id == null ? -1 : id;
+    }
+
+    public String getIdentifier(int id) {
+        return identifiers[id];
+    }
+
+    public String getName(int id) {
+        return details[NAME][id];
+    }
+
+    public String getLastName(int id) {
+        return details[LAST_NAME][id];
+    }
+
+    public String getTeamName(int id) {
+        return details[TEAM_NAME][id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Map<String, String> getNameTable() {
+        return new DetailTable(NAME);
+    }
+
+    public Map<String, String> getLastNameTable() {
+        return new DetailTable(LAST_NAME);
+    }
+
+    public Map<String, String> getTeamNameTable() {
+        return new DetailTable(TEAM_NAME);
+    }
+
+    private int intern(String identifier) {
+        if (size == identifiers.length) {
+            int newCapacity = size * 2;
+            identifiers = Arrays.copyOf(identifiers, newCapacity);
+            for (int detail = 0; detail < NUM_DETAILS; detail++) {
+                details[detail] = Arrays.copyOf(details[detail], newCapacity);
+            }
+        }
+        identifiers[size] = identifier;
+        idByIdentifier.put(identifier, size);
+        return size++;
+    }
+
+    private String setDetail(int id, int detail, String value) {
+        String oldValue = details[detail][id];
+        details[detail][id] = value;
+        if (oldValue == null && value != null) {
+            numSetByDetail[detail]++;
+        } else if (oldValue != null && value == null) {
+            numSetByDetail[detail]--;
+        }
+        return oldValue;
+    }
+
+    /**
+     * A map view of one detail of the participants in the index.
+     * Putting a detail of a participant not in the index adds the participant.
+     */
+    private class DetailTable extends AbstractMap<String, String> {
+
+        private final int detail;
+
+        DetailTable(int detail) {
+            this.detail = detail;
+        }
+
+        @Override
+        public String get(Object identifier) {
+            Integer id = idByIdentifier.get(identifier);
+            return id == null ? null : details[detail][id];
+        }
+
+        @Override
+        public boolean containsKey(Object identifier) {
+            return get(identifier) != null;
+        }
+
+        @Override
+        public String put(String identifier, String value) {
+            Integer id = idByIdentifier.get(identifier);
+            return setDetail(id == null ? intern(identifier) : id, detail, value);
+        }
+
+        @Override
+        public int size() {
+            return numSetByDetail[detail];
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new DetailIterator(detail);
+                }
+
+                @Override
+                public int size() {
+                    return numSetByDetail[detail];
+                }
+            };
+        }
+
+    }
+
+    /**
+     * Iterates over the participants for which a detail is set, in the order they were added.
+     */
+    private class DetailIterator implements Iterator<Map.Entry<String, String>> {
+
+        private final int detail;
+        private int nextId;
+
+        DetailIterator(int detail) {
+            this.detail = detail;
+            skipUnset();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextId < size;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, String> entry =
+                    new AbstractMap.SimpleImmutableEntry<>(identifiers[nextId], details[detail][nextId]);
+            nextId++;
+            skipUnset();
+            return entry;
+        }
+
+        private void skipUnset() {
+            while (nextId < size && details[detail][nextId] == null) {
+                nextId++;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,292 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Decides which responses, and which giver and recipient names, are visible to one user.
+ *
+ * <p>The visibility settings of each question are compiled into a bitmask the first time the question is seen,
+ * with the facts which depend only on the user (e.g. whether the user is an instructor of the course) folded in.
+ * Each response is then evaluated with a few bit tests and comparisons against the team of the user,
+ * instead of walking the visibility lists of its question.
+ *
+ * <p>The name visibilities are the same as those given by {@code FeedbackResponsesLogic#isNameVisibleToUser},
+ * which evaluates the question settings for every response.
+ * As the policies are cached, the visibility settings of a question must not be changed while the evaluator is in use.
+ */
+public class ResponseVisibilityEvaluator {
+
+    // visibility of the response
+    private static final int RESPONSE_TO_INSTRUCTORS = 1;
+    private static final int RESPONSE_TO_RECEIVER = 1 << 1;
+    private static final int RESPONSE_TO_STUDENTS = 1 << 2;
+    private static final int RESPONSE_TO_OWN_TEAM_MEMBERS = 1 << 3;
+    private static final int RESPONSE_TO_RECEIVER_TEAM_MEMBERS = 1 << 4;
+
+    // giver and recipient types of the question
+    private static final int GIVER_IS_TEAMS = 1 << 5;
+    private static final int RECIPIENT_IS_TEAMS = 1 << 6;
+    private static final int RECIPIENT_IS_TEAM = 1 << 7;
+    private static final int RECIPIENT_IS_NONE = 1 << 8;
+
+    // visibility of a name, shifted by GIVER_NAME_SHIFT or RECIPIENT_NAME_SHIFT
+    private static final int NAME_TO_USER = 1;
+    private static final int NAME_TO_OWN_TEAM_MEMBERS = 1 << 1;
+    private static final int NAME_TO_RECEIVER = 1 << 2;
+    private static final int NAME_TO_RECEIVER_TEAM_MEMBERS = 1 << 3;
+    private static final int NAME_TO_INVALID_TYPE = 1 << 4;
+    private static final int GIVER_NAME_SHIFT = 9;
+    private static final int RECIPIENT_NAME_SHIFT = 14;
+
+    private final String userEmail;
+    private final boolean isInstructorRole;
+    private final boolean isStudentRole;
+    private final boolean isInstructorInRoster;
+    private final boolean isStudentInRoster;
+    private final CourseRoster roster;
+
+    /** Team of the user in the roster, used for name visibility. */
+    private final String userTeam;
+
+    /** Team of the student viewing the results, used for response visibility; null if team rules do not apply. */
+    private final String studentTeam;
+
+    private final InstructorAttributes instructor;
+
+    private final Map<FeedbackQuestionAttributes, Integer> policyByQuestion = new IdentityHashMap<>();
+    private FeedbackQuestionAttributes lastQuestion;
+    private int lastPolicy;
+    private final Map<String, Map<String, Boolean>> sectionPrivilegeBySession = new HashMap<>();
+
+    /**
+     * Creates an evaluator for the given user.
+     *
+     * @param student the student viewing the results, if the rules for the team of the student are to be applied
+     * @param instructor the instructor viewing the results, if the section privileges of the instructor are to be
+     *                   applied
+     */
+    public ResponseVisibilityEvaluator(String userEmail, UserRole role, StudentAttributes student,
+                                       InstructorAttributes instructor, CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.isInstructorRole = role == UserRole.INSTRUCTOR;
+        this.isStudentRole = role == UserRole.STUDENT;
+        this.isInstructorInRoster = roster.getInstructorForEmail(userEmail) != null;
+        this.isStudentInRoster = roster.isStudentInCourse(userEmail);
+        this.roster = roster;
+
+        StudentAttributes userInRoster = roster.getStudentForEmail(userEmail);
+        this.userTeam = userInRoster == null ? null : userInRoster.team;
+        this.studentTeam = isStudentRole && student != null ? student.team : null;
+        this.instructor = instructor;
+    }
+
+    /**
+     * Returns true if the response is visible to the user.
+     */
+    public boolean isResponseVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response) {
+        int policy = getPolicy(question);
+
+        boolean isVisible = isInstructorRole && has(policy, RESPONSE_TO_INSTRUCTORS)
+                || has(policy, RESPONSE_TO_RECEIVER) && response.recipient.equals(userEmail)
+                || response.giver.equals(userEmail)
+                || isStudentRole && has(policy, RESPONSE_TO_STUDENTS);
+
+        if (!isVisible && studentTeam != null) {
+            isVisible = has(policy, RECIPIENT_IS_TEAMS) && has(policy, RESPONSE_TO_RECEIVER)
+                            && response.recipient.equals(studentTeam)
+                    || has(policy, GIVER_IS_TEAMS | RESPONSE_TO_OWN_TEAM_MEMBERS)
+                            && isInTeam(response.giver, studentTeam)
+                    || has(policy, RESPONSE_TO_RECEIVER_TEAM_MEMBERS)
+                            && isInTeam(response.recipient, studentTeam);
+        }
+
+        if (isVisible && instructor != null) {
+            // If instructors are not restricted to view the giver's section,
+            // they are allowed to view responses to GENERAL, subject to visibility options
+            isVisible = isSectionAllowedForInstructor(response.giverSection, response.feedbackSessionName)
+                    && (has(policy, RECIPIENT_IS_NONE)
+                            || isSectionAllowedForInstructor(response.recipientSection, response.feedbackSessionName));
+        }
+        return isVisible;
+    }
+
+    /**
+     * Returns true if the giver name (if {@code isGiverName}) or the recipient name of the response
+     * is visible to the user.
+     */
+    public boolean isNameVisible(FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+                                 boolean isGiverName) {
+        if (question == null) {
+            return false;
+        }
+        int policy = getPolicy(question);
+        return isGiverOrInGivingTeam(policy, response)
+                || isNameVisible(policy, isGiverName ? GIVER_NAME_SHIFT : RECIPIENT_NAME_SHIFT, response);
+    }
+
+    /**
+     * Records the giver and recipient name visibilities of the response in the table.
+     */
+    public void addToTable(ResponseVisibilityTable table, FeedbackQuestionAttributes question,
+                           FeedbackResponseAttributes response) {
+        if (question == null) {
+            table.put(response.getId(), false, false);
+            return;
+        }
+        int policy = getPolicy(question);
+        if (isGiverOrInGivingTeam(policy, response)) {
+            table.put(response.getId(), true, true);
+        } else {
+            table.put(response.getId(), isNameVisible(policy, GIVER_NAME_SHIFT, response),
+                    isNameVisible(policy, RECIPIENT_NAME_SHIFT, response));
+        }
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    // PMD.CompareObjectsWithEquals is suppressed as the policies are cached by question identity
+    private int getPolicy(FeedbackQuestionAttributes question) {
+        // responses are usually evaluated question by question
+        if (question != lastQuestion) {
+            lastPolicy = policyByQuestion.computeIfAbsent(question, this::compile);
+            lastQuestion = question;
+        }
+        return lastPolicy;
+    }
+
+    /**
+     * Returns true if the user is the giver of the response, or a member of the giving team.
+     * Such users can see both names of the response.
+     */
+    private boolean isGiverOrInGivingTeam(int policy, FeedbackResponseAttributes response) {
+        return has(policy, GIVER_IS_TEAMS)
+                ? isInTeam(response.giver, userTeam)
+                : response.giver.equals(userEmail);
+    }
+
+    private boolean isNameVisible(int policy, int nameShift, FeedbackResponseAttributes response) {
+        int namePolicy = policy >> nameShift;
+        if (has(namePolicy, NAME_TO_USER)
+                || has(namePolicy, NAME_TO_OWN_TEAM_MEMBERS) && isInTeam(response.giver, userTeam)) {
+            return true;
+        }
+        if (has(namePolicy, NAME_TO_RECEIVER | NAME_TO_RECEIVER_TEAM_MEMBERS) && has(policy, RECIPIENT_IS_TEAM)) {
+            // the recipient is a team name
+            if (userTeam != null && userTeam.equals(response.recipient)) {
+                return true;
+            }
+        } else if (has(namePolicy, NAME_TO_RECEIVER) && response.recipient.equals(userEmail)
+                || has(namePolicy, NAME_TO_RECEIVER_TEAM_MEMBERS) && isInTeam(response.recipient, userTeam)) {
+            return true;
+        }
+
+        if (has(namePolicy, NAME_TO_INVALID_TYPE)) {
+            Assumption.fail("Invalid FeedbackParticipantType for showNameTo in "
+                            + "ResponseVisibilityEvaluator.isNameVisible()");
+        }
+        return false;
+    }
+
+    private int compile(FeedbackQuestionAttributes question) {
+        int policy = 0;
+        for (FeedbackParticipantType type : question.showResponsesTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                policy |= RESPONSE_TO_INSTRUCTORS;
+                break;
+            case RECEIVER:
+                policy |= RESPONSE_TO_RECEIVER;
+                break;
+            case STUDENTS:
+                policy |= RESPONSE_TO_STUDENTS;
+                break;
+            case OWN_TEAM_MEMBERS:
+                policy |= RESPONSE_TO_OWN_TEAM_MEMBERS;
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                policy |= RESPONSE_TO_RECEIVER_TEAM_MEMBERS;
+                break;
+            default:
+                break;
+            }
+        }
+
+        if (question.giverType == FeedbackParticipantType.TEAMS) {
+            policy |= GIVER_IS_TEAMS;
+        }
+        if (question.recipientType == FeedbackParticipantType.TEAMS) {
+            policy |= RECIPIENT_IS_TEAMS;
+        }
+        if (question.recipientType.isTeam()) {
+            policy |= RECIPIENT_IS_TEAM;
+        }
+        if (question.recipientType == FeedbackParticipantType.NONE) {
+            policy |= RECIPIENT_IS_NONE;
+        }
+
+        policy |= compileNamePolicy(question.showGiverNameTo) << GIVER_NAME_SHIFT;
+        policy |= compileNamePolicy(question.showRecipientNameTo) << RECIPIENT_NAME_SHIFT;
+        return policy;
+    }
+
+    private int compileNamePolicy(List<FeedbackParticipantType> showNameTo) {
+        int namePolicy = 0;
+        for (FeedbackParticipantType type : showNameTo) {
+            switch (type) {
+            case INSTRUCTORS:
+                if (isInstructorInRoster && isInstructorRole) {
+                    namePolicy |= NAME_TO_USER;
+                }
+                break;
+            case OWN_TEAM_MEMBERS:
+            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+                namePolicy |= NAME_TO_OWN_TEAM_MEMBERS;
+                break;
+            case RECEIVER:
+                namePolicy |= NAME_TO_RECEIVER;
+                break;
+            case RECEIVER_TEAM_MEMBERS:
+                namePolicy |= NAME_TO_RECEIVER_TEAM_MEMBERS;
+                break;
+            case STUDENTS:
+                if (isStudentInRoster) {
+                    namePolicy |= NAME_TO_USER;
+                }
+                break;
+            default:
+                // the types after an invalid type are never reached by the per-response evaluation
+                return namePolicy | NAME_TO_INVALID_TYPE;
+            }
+        }
+        return namePolicy;
+    }
+
+    private boolean isInTeam(String email, String team) {
+        if (team == null) {
+            return false;
+        }
+        StudentAttributes student = roster.getStudentForEmail(email);
+        return student != null && team.equals(student.team);
+    }
+
+    private boolean isSectionAllowedForInstructor(String section, String feedbackSessionName) {
+        return sectionPrivilegeBySession
+                .computeIfAbsent(feedbackSessionName, name -> new HashMap<>())
+                .computeIfAbsent(section, s -> instructor.isAllowedForPrivilege(
+                        s, feedbackSessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
+    private static boolean has(int policy, int flags) {
+        return (policy & flags) != 0;
+    }
+
+}
@@ -0,0 +1,67 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records whether the giver and recipient names of each response are visible to the user viewing the results.
+ *
+ * <p>The two visibilities of a response are kept as bits of a single shared {@link Byte},
+ * so no object is allocated per response.
+ */
+public class ResponseVisibilityTable {
+
+    private static final byte GIVER_NAME_VISIBLE = 1;
+    private static final byte RECIPIENT_NAME_VISIBLE = 2;
+
+    private final Map<String, Byte> visibilityByResponseId = new HashMap<>();
+
+    /**
+     * Records the visibilities of the response with the given ID, replacing any previously recorded.
+     */
+    public void put(String responseId, boolean isGiverNameVisible, boolean isRecipientNameVisible) {
+        byte visibility = 0;
+        if (isGiverNameVisible) {
+            visibility |= GIVER_NAME_VISIBLE;
+        }
+        if (isRecipientNameVisible) {
+            visibility |= RECIPIENT_NAME_VISIBLE;
+        }
+        visibilityByResponseId.put(responseId, visibility);
+    }
+
+    /**
+     * Returns true if the giver name of the response is visible.
+     * Responses which are not recorded are treated as having neither name visible.
+     */
+    public boolean isGiverNameVisible(String responseId) {
+        return (getVisibility(responseId) & GIVER_NAME_VISIBLE) != 0;
+    }
+
+    /**
+     * Returns true if the recipient name of the response is visible.
+     * Responses which are not recorded are treated as having neither name visible.
+     */
+    public boolean isRecipientNameVisible(String responseId) {
+        return (getVisibility(responseId) & RECIPIENT_NAME_VISIBLE) != 0;
+    }
+
+    public boolean contains(String responseId) {
+        return visibilityByResponseId.containsKey(responseId);
+    }
+
+    public Set<String> getResponseIds() {
+        return visibilityByResponseId.keySet();
+    }
+
+    public int size() {
+        return visibilityByResponseId.size();
+    }
+
+    private byte getVisibility(String responseId) {
+        Byte visibility = visibilityByResponseId.get(responseId);
+        return visibility == null ? 0 : visibility;
+    }
+
+}
@@ -0,0 +1,135 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Tells whether the students and instructors of a course have fully completed a feedback session,
+ * i.e. have given each of the questions they are to answer as many responses as the question needs.
+ *
+ * <p>The index is built from the questions of the session, one pass over its responses and the course roster,
+ * so the completion of every user is answered without querying the responses of each user to each question.
+ * A user is fully completed by the same rules as
+ * {@link teammates.logic.core.FeedbackSessionsLogic#isFeedbackSessionFullyCompletedByStudent}.
+ */
+public class SessionCompletionIndex {
+
+    private final FeedbackSessionAttributes session;
+    private final List<FeedbackQuestionAttributes> questions;
+    private final CourseRoster roster;
+    private final int numberOfStudents;
+    private final int numberOfInstructors;
+
+    // Key is the question ID, value is a map of giver to the number of responses given
+    private final Map<String, Map<String, Integer>> numberOfResponsesByQuestion = new HashMap<>();
+    // Key is the team name, value is the number of students in the team
+    private final Map<String, Integer> teamSizes = new HashMap<>();
+
+    public SessionCompletionIndex(FeedbackSessionAttributes session, List<FeedbackQuestionAttributes> questions,
+                                  Iterable<FeedbackResponseAttributes> responses, CourseRoster roster) {
+        this.session = session;
+        this.questions = questions;
+        this.roster = roster;
+
+        for (FeedbackQuestionAttributes question : questions) {
+            numberOfResponsesByQuestion.put(question.getId(), new HashMap<>());
+        }
+        for (FeedbackResponseAttributes response : responses) {
+            Map<String, Integer> numberOfResponsesByGiver = numberOfResponsesByQuestion.get(response.feedbackQuestionId);
+            if (numberOfResponsesByGiver != null) {
+                numberOfResponsesByGiver.merge(response.giver, 1, Integer::sum);
+            }
+        }
+        List<StudentAttributes> students = roster.getStudents();
+        for (StudentAttributes student : students) {
+            teamSizes.merge(student.team, 1, Integer::sum);
+        }
+        this.numberOfStudents = students.size();
+        this.numberOfInstructors = roster.getInstructors().size();
+    }
+
+    /**
+     * Returns true if the student has fully completed the questions for students in the session.
+     */
+    public boolean isFullyCompletedByStudent(String studentEmail) {
+        for (FeedbackQuestionAttributes question : questions) {
+            if ((question.giverType == FeedbackParticipantType.STUDENTS
+                    || question.giverType == FeedbackParticipantType.TEAMS)
+                    && !isQuestionFullyAnswered(question, studentEmail)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the instructor has fully completed the questions for the instructor in the session,
+     * which include the questions for the creator of the session if the instructor is the creator.
+     */
+    public boolean isFullyCompletedByInstructor(String instructorEmail) {
+        boolean isCreator = session.getCreatorEmail().equals(instructorEmail);
+        boolean isInstructor = isCreator || roster.getInstructorForEmail(instructorEmail) != null;
+        for (FeedbackQuestionAttributes question : questions) {
+            boolean isForInstructor = question.giverType == FeedbackParticipantType.INSTRUCTORS && isInstructor
+                    || question.giverType == FeedbackParticipantType.SELF && isCreator;
+            if (isForInstructor && !isQuestionFullyAnswered(question, instructorEmail)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isQuestionFullyAnswered(FeedbackQuestionAttributes question, String giver) {
+        int numberOfResponsesGiven = numberOfResponsesByQuestion.get(question.getId()).getOrDefault(giver, 0);
+        int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+
+        if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+            numberOfResponsesNeeded = getNumberOfPossibleRecipients(question, giver);
+        }
+
+        return numberOfResponsesGiven >= numberOfResponsesNeeded;
+    }
+
+    /**
+     * Returns the number of recipients the giver can give responses to for the question, counted from the roster
+     * by the same rules as {@link teammates.logic.core.FeedbackQuestionsLogic#getRecipientsForQuestion}.
+     */
+    private int getNumberOfPossibleRecipients(FeedbackQuestionAttributes question, String giver) {
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
+        boolean isStudentGiver = studentGiver != null;
+        boolean isInstructorGiver = roster.getInstructorForEmail(giver) != null;
+        String giverTeam = giver;
+        if (isStudentGiver) {
+            giverTeam = studentGiver.team;
+        } else if (isInstructorGiver) {
+            giverTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
+        }
+
+        switch (question.recipientType) {
+        case SELF:
+        case OWN_TEAM:
+        case NONE:
+            return 1;
+        case STUDENTS:
+            return numberOfStudents - (isStudentGiver ? 1 : 0);
+        case INSTRUCTORS:
+            return numberOfInstructors - (isInstructorGiver ? 1 : 0);
+        case TEAMS:
+            return teamSizes.size() - (teamSizes.containsKey(giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS:
+            return teamSizes.getOrDefault(giverTeam, 0) - (roster.isStudentInTeam(giver, giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return teamSizes.getOrDefault(giverTeam, 0);
+        default:
+            return 0;
+        }
+    }
+
+}
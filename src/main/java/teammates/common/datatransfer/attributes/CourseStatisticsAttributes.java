@@ -0,0 +1,175 @@
+package teammates.common.datatransfer.attributes;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.CourseStatistics;
+
+/**
+ * The data transfer object for {@link CourseStatistics} entities.
+ *
+ * <p>The number of students in each team of each section is kept, so that the numbers of teams and sections
+ * can be updated when a single student is added or removed.
+ */
+public class CourseStatisticsAttributes extends EntityAttributes<CourseStatistics> {
+
+    private static final Type TEAM_SIZES_BY_SECTION_TYPE = new TypeToken<TreeMap<String, TreeMap<String, Integer>>>(){}
+            .getType();
+
+    private String courseId;
+    private int numberOfStudents;
+    private int numberOfUnregisteredStudents;
+    // Key is the section name, value is the number of students in each team of the section, keyed by team name
+    private Map<String, Map<String, Integer>> teamSizesBySection;
+    private Instant updatedAt;
+
+    /**
+     * Creates the statistics of the course with the given students.
+     */
+    public CourseStatisticsAttributes(String courseId, Collection<StudentAttributes> students) {
+        this.courseId = courseId;
+        this.teamSizesBySection = new TreeMap<>();
+        for (StudentAttributes student : students) {
+            addStudent(student);
+        }
+    }
+
+    private CourseStatisticsAttributes(CourseStatistics statistics) {
+        this.courseId = statistics.getCourseId();
+        this.numberOfStudents = statistics.getNumberOfStudents();
+        this.numberOfUnregisteredStudents = statistics.getNumberOfUnregisteredStudents();
+        String teamSizes = statistics.getTeamSizesBySection();
+        this.teamSizesBySection = teamSizes == null
+                ? new TreeMap<>()
+                : JsonUtils.fromJson(teamSizes, TEAM_SIZES_BY_SECTION_TYPE);
+        this.updatedAt = statistics.getUpdatedAt();
+    }
+
+    public static CourseStatisticsAttributes valueOf(CourseStatistics statistics) {
+        return new CourseStatisticsAttributes(statistics);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfUnregisteredStudents() {
+        return numberOfUnregisteredStudents;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Counts the student in the statistics.
+     */
+    public void addStudent(StudentAttributes student) {
+        numberOfStudents++;
+        if (!student.isRegistered()) {
+            numberOfUnregisteredStudents++;
+        }
+        teamSizesBySection.computeIfAbsent(student.section, section -> new TreeMap<>())
+                .merge(student.team, 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting the student in the statistics.
+     * The counts never go below zero, so that statistics which have drifted stay usable until they are repaired.
+     */
+    public void removeStudent(StudentAttributes student) {
+        numberOfStudents = Math.max(0, numberOfStudents - 1);
+        if (!student.isRegistered()) {
+            numberOfUnregisteredStudents = Math.max(0, numberOfUnregisteredStudents - 1);
+        }
+
+        Map<String, Integer> teamSizes = teamSizesBySection.get(student.section);
+        if (teamSizes == null) {
+            return;
+        }
+        teamSizes.computeIfPresent(student.team, (team, size) -> size > 1 ? size - 1 : null);
+        if (teamSizes.isEmpty()) {
+            teamSizesBySection.remove(student.section);
+        }
+    }
+
+    /**
+     * Returns the statistics in the form shown to users. A team with students in several sections
+     * is counted once per section, and the default section is not counted as a section.
+     */
+    public CourseStats toCourseStats() {
+        CourseStats stats = new CourseStats();
+        for (Map.Entry<String, Map<String, Integer>> section : teamSizesBySection.entrySet()) {
+            if (!Const.DEFAULT_SECTION.equals(section.getKey())) {
+                stats.sectionsTotal++;
+            }
+            stats.teamsTotal += section.getValue().size();
+        }
+        stats.studentsTotal = numberOfStudents;
+        stats.unregisteredTotal = numberOfUnregisteredStudents;
+        return stats;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public CourseStatistics toEntity() {
+        return new CourseStatistics(courseId, numberOfStudents, numberOfUnregisteredStudents,
+                JsonUtils.toJson(teamSizesBySection, TEAM_SIZES_BY_SECTION_TYPE));
+    }
+
+    @Override
+    public String toString() {
+        return "[" + CourseStatisticsAttributes.class.getSimpleName() + "] course: " + courseId
+               + " students: " + numberOfStudents + " unregistered: " + numberOfUnregisteredStudents;
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return courseId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Course Statistics";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, CourseStatisticsAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the section and team names are those of students, which are sanitized when the students are saved
+    }
+
+}
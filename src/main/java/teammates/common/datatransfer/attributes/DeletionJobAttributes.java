@@ -0,0 +1,189 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import teammates.common.datatransfer.DeletionJobScope;
+import teammates.common.datatransfer.DeletionJobStage;
+import teammates.common.datatransfer.DeletionJobStatus;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.DeletionJob;
+
+/**
+ * The data transfer object for {@link DeletionJob} entities.
+ */
+public class DeletionJobAttributes extends EntityAttributes<DeletionJob> {
+
+    private String id;
+    private String courseId;
+    private String feedbackSessionName;
+    private DeletionJobScope scope;
+    private DeletionJobStage stage;
+    private String cursor;
+    private DeletionJobStatus status;
+    private int numberOfEntitiesDeleted;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    /**
+     * Creates a job to delete everything in {@code scope}, starting from the first stage of the scope.
+     *
+     * @param feedbackSessionName the name of the session to delete, or null if the scope is not a single session
+     */
+    public DeletionJobAttributes(DeletionJobScope scope, String courseId, String feedbackSessionName) {
+        this.id = UUID.randomUUID().toString();
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.scope = scope;
+        this.stage = scope.getStages().get(0);
+        this.status = DeletionJobStatus.IN_PROGRESS;
+        this.createdAt = Instant.now();
+        this.updatedAt = createdAt;
+    }
+
+    private DeletionJobAttributes(DeletionJob job) {
+        this.id = job.getId();
+        this.courseId = job.getCourseId();
+        this.feedbackSessionName = job.getFeedbackSessionName();
+        this.scope = job.getScope();
+        this.stage = job.getStage();
+        this.cursor = job.getCursor();
+        this.status = job.getStatus();
+        this.numberOfEntitiesDeleted = job.getNumberOfEntitiesDeleted();
+        this.createdAt = job.getCreatedAt();
+        this.updatedAt = job.getUpdatedAt();
+    }
+
+    public static DeletionJobAttributes valueOf(DeletionJob job) {
+        return new DeletionJobAttributes(job);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public DeletionJobScope getScope() {
+        return scope;
+    }
+
+    public DeletionJobStage getStage() {
+        return stage;
+    }
+
+    public void setStage(DeletionJobStage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Returns the 1-based position of the current stage among the stages of the scope of the job.
+     */
+    public int getStageNumber() {
+        return scope.getStages().indexOf(stage) + 1;
+    }
+
+    public int getNumberOfStages() {
+        return scope.getStages().size();
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public DeletionJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DeletionJobStatus status) {
+        this.status = status;
+    }
+
+    public boolean isInProgress() {
+        return status == DeletionJobStatus.IN_PROGRESS;
+    }
+
+    public boolean isFailed() {
+        return status == DeletionJobStatus.FAILED;
+    }
+
+    public int getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public void setNumberOfEntitiesDeleted(int numberOfEntitiesDeleted) {
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public DeletionJob toEntity() {
+        return new DeletionJob(id, courseId, feedbackSessionName, scope, stage, cursor, status,
+                numberOfEntitiesDeleted, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + DeletionJobAttributes.class.getSimpleName() + "] id: " + id + " course: " + courseId
+               + (feedbackSessionName == null ? "" : " session: " + feedbackSessionName)
+               + " scope: " + scope + " status: " + status + " stage: " + getStageNumber() + "/" + getNumberOfStages()
+               + " " + stage + " deleted: " + numberOfEntitiesDeleted;
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return courseId + "/" + id;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Deletion Job";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, DeletionJobAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the course ID and session name are those of existing entities, which are sanitized when they are saved
+    }
+
+}
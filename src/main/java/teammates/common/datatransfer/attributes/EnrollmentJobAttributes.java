@@ -0,0 +1,225 @@
+package teammates.common.datatransfer.attributes;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.EnrollmentJob;
+
+/**
+ * The data transfer object for {@link EnrollmentJob} entities.
+ */
+public class EnrollmentJobAttributes extends EntityAttributes<EnrollmentJob> {
+
+    private static final Type ENROLLMENT_LIST_TYPE = new TypeToken<List<StudentEnrollDetails>>(){}.getType();
+
+    private String id;
+    private String courseId;
+    private String enrollLines;
+    private EnrollmentJobStatus status;
+    private int numberOfStudents;
+    private int numberOfStudentsProcessed;
+    private int numberOfNewStudents;
+    private int numberOfModifiedStudents;
+    private int numberOfUnmodifiedStudents;
+    private String errorMessage;
+    private List<StudentEnrollDetails> chunkEnrollments;
+    private List<StudentEnrollDetails> enrollmentsToAdjust;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    /**
+     * Creates a job to enroll the {@code numberOfStudents} students in {@code enrollLines} into the course.
+     */
+    public EnrollmentJobAttributes(String courseId, String enrollLines, int numberOfStudents) {
+        this.id = UUID.randomUUID().toString();
+        this.courseId = courseId;
+        this.enrollLines = enrollLines;
+        this.status = EnrollmentJobStatus.IN_PROGRESS;
+        this.numberOfStudents = numberOfStudents;
+        this.enrollmentsToAdjust = new ArrayList<>();
+        this.createdAt = Instant.now();
+        this.updatedAt = createdAt;
+    }
+
+    private EnrollmentJobAttributes(EnrollmentJob job) {
+        this.id = job.getId();
+        this.courseId = job.getCourseId();
+        this.enrollLines = job.getEnrollLines();
+        this.status = job.getStatus();
+        this.numberOfStudents = job.getNumberOfStudents();
+        this.numberOfStudentsProcessed = job.getNumberOfStudentsProcessed();
+        this.numberOfNewStudents = job.getNumberOfNewStudents();
+        this.numberOfModifiedStudents = job.getNumberOfModifiedStudents();
+        this.numberOfUnmodifiedStudents = job.getNumberOfUnmodifiedStudents();
+        this.errorMessage = job.getErrorMessage();
+        this.chunkEnrollments = job.getChunkEnrollments() == null
+                ? null : JsonUtils.fromJson(job.getChunkEnrollments(), ENROLLMENT_LIST_TYPE);
+        this.enrollmentsToAdjust = job.getEnrollmentsToAdjust() == null
+                ? new ArrayList<>() : JsonUtils.fromJson(job.getEnrollmentsToAdjust(), ENROLLMENT_LIST_TYPE);
+        this.createdAt = job.getCreatedAt();
+        this.updatedAt = job.getUpdatedAt();
+    }
+
+    public static EnrollmentJobAttributes valueOf(EnrollmentJob job) {
+        return new EnrollmentJobAttributes(job);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEnrollLines() {
+        return enrollLines;
+    }
+
+    public EnrollmentJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentJobStatus status) {
+        this.status = status;
+    }
+
+    public boolean isInProgress() {
+        return status == EnrollmentJobStatus.IN_PROGRESS;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfStudentsProcessed() {
+        return numberOfStudentsProcessed;
+    }
+
+    public void setNumberOfStudentsProcessed(int numberOfStudentsProcessed) {
+        this.numberOfStudentsProcessed = numberOfStudentsProcessed;
+    }
+
+    public int getNumberOfNewStudents() {
+        return numberOfNewStudents;
+    }
+
+    public void setNumberOfNewStudents(int numberOfNewStudents) {
+        this.numberOfNewStudents = numberOfNewStudents;
+    }
+
+    public int getNumberOfModifiedStudents() {
+        return numberOfModifiedStudents;
+    }
+
+    public void setNumberOfModifiedStudents(int numberOfModifiedStudents) {
+        this.numberOfModifiedStudents = numberOfModifiedStudents;
+    }
+
+    public int getNumberOfUnmodifiedStudents() {
+        return numberOfUnmodifiedStudents;
+    }
+
+    public void setNumberOfUnmodifiedStudents(int numberOfUnmodifiedStudents) {
+        this.numberOfUnmodifiedStudents = numberOfUnmodifiedStudents;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Returns the enrollment details of the chunk being enrolled, or null if no chunk is being enrolled.
+     */
+    public List<StudentEnrollDetails> getChunkEnrollments() {
+        return chunkEnrollments;
+    }
+
+    public void setChunkEnrollments(List<StudentEnrollDetails> chunkEnrollments) {
+        this.chunkEnrollments = chunkEnrollments;
+    }
+
+    /**
+     * Returns the enrollment details of the modified students whose responses are yet to be adjusted.
+     */
+    public List<StudentEnrollDetails> getEnrollmentsToAdjust() {
+        return enrollmentsToAdjust;
+    }
+
+    public void setEnrollmentsToAdjust(List<StudentEnrollDetails> enrollmentsToAdjust) {
+        this.enrollmentsToAdjust = enrollmentsToAdjust;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public EnrollmentJob toEntity() {
+        return new EnrollmentJob(id, courseId, enrollLines, status, numberOfStudents, numberOfStudentsProcessed,
+                numberOfNewStudents, numberOfModifiedStudents, numberOfUnmodifiedStudents, errorMessage,
+                chunkEnrollments == null ? null : JsonUtils.toJson(chunkEnrollments, ENROLLMENT_LIST_TYPE),
+                enrollmentsToAdjust.isEmpty() ? null : JsonUtils.toJson(enrollmentsToAdjust, ENROLLMENT_LIST_TYPE),
+                createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + EnrollmentJobAttributes.class.getSimpleName() + "] id: " + id + " course: " + courseId
+               + " status: " + status + " processed: " + numberOfStudentsProcessed + "/" + numberOfStudents;
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return courseId + "/" + id;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Enrollment Job";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, EnrollmentJobAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the enroll lines are kept as entered, as they are parsed again for each chunk
+    }
+
+}
@@ -41,6 +41,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isOpeningEmailEnabled;
     private boolean isClosingEmailEnabled;
     private boolean isPublishedEmailEnabled;
+    private boolean isBeingDeleted;
     private transient Set<String> respondingInstructorList;
     private transient Set<String> respondingStudentList;
 
@@ -76,6 +77,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withRespondingInstructorList(fs.getRespondingInstructorList())
                 .withRespondingStudentList(fs.getRespondingStudentList())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
+                .withBeingDeleted(fs.isBeingDeleted())
                 .build();
     }
 
@@ -131,14 +133,21 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         return SanitizationHelper.sanitizeForRichText(instructions.getValue());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The respondents are not part of the entity; they are stored as
+     * {@link teammates.storage.entity.FeedbackSessionRespondent} entities.
+     */
     @Override
     public FeedbackSession toEntity() {
-        return new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
+        FeedbackSession fs = new FeedbackSession(feedbackSessionName, courseId, creatorEmail, instructions,
                 createdTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(),
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
-                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
-                respondingInstructorList, respondingStudentList);
+                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled);
+        fs.setBeingDeleted(isBeingDeleted);
+        return fs;
     }
 
     @Override
@@ -356,7 +365,8 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                + ", sentPublishedEmail=" + sentPublishedEmail
                + ", isOpeningEmailEnabled=" + isOpeningEmailEnabled
                + ", isClosingEmailEnabled=" + isClosingEmailEnabled
-               + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled + "]";
+               + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled
+               + ", isBeingDeleted=" + isBeingDeleted + "]";
     }
 
     /**
@@ -555,6 +565,18 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
+    /**
+     * Returns true if the session is waiting to be deleted by a deletion job.
+     * Such a session is hidden from students and no emails are sent about it.
+     */
+    public boolean isBeingDeleted() {
+        return isBeingDeleted;
+    }
+
+    public void setBeingDeleted(boolean isBeingDeleted) {
+        this.isBeingDeleted = isBeingDeleted;
+    }
+
     public Set<String> getRespondingInstructorList() {
         return respondingInstructorList;
     }
@@ -673,6 +695,11 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
+        public Builder withBeingDeleted(boolean beingDeleted) {
+            feedbackSessionAttributes.setBeingDeleted(beingDeleted);
+            return this;
+        }
+
         public Builder withRespondingInstructorList(Set<String> respondingInstructorList) {
             Set<String> respondingList = respondingInstructorList == null
                     ? new HashSet<String>()
@@ -0,0 +1,102 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackSessionRespondent;
+
+/**
+ * The data transfer object for {@link FeedbackSessionRespondent} entities.
+ */
+public class FeedbackSessionRespondentAttributes extends EntityAttributes<FeedbackSessionRespondent> {
+
+    private String feedbackSessionName;
+    private String courseId;
+    private String email;
+    private boolean isInstructor;
+
+    public FeedbackSessionRespondentAttributes(String feedbackSessionName, String courseId, String email,
+                                               boolean isInstructor) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+    }
+
+    public static FeedbackSessionRespondentAttributes valueOf(FeedbackSessionRespondent respondent) {
+        return new FeedbackSessionRespondentAttributes(respondent.getFeedbackSessionName(), respondent.getCourseId(),
+                respondent.getEmail(), respondent.isInstructor());
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    public String getId() {
+        return FeedbackSessionRespondent.makeId(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(validator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+
+        addNonEmptyError(validator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionRespondent toEntity() {
+        return new FeedbackSessionRespondent(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + FeedbackSessionRespondentAttributes.class.getSimpleName() + "] session: " + feedbackSessionName
+               + " course: " + courseId + " email: " + email + " isInstructor: " + isInstructor;
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return feedbackSessionName + "/" + courseId + "/" + email;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Feedback Session Respondent";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, FeedbackSessionRespondentAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no additional sanitization required
+    }
+
+}
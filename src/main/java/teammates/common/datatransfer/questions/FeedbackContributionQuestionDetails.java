@@ -264,7 +264,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         boolean hideRecipient = false;
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.isRecipientNameVisible(response.getId())
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
                 hideRecipient = true;
@@ -354,7 +354,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : actualResponses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.isRecipientNameVisible(response.getId())
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
                 hideRecipient = true;
@@ -602,7 +602,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
         List<String> hiddenRecipients = new ArrayList<>(); // List of recipients to hide
         FeedbackParticipantType type = question.recipientType;
         for (FeedbackResponseAttributes response : responses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
+            if (!bundle.visibilityTable.isRecipientNameVisible(response.getId())
                     && type != FeedbackParticipantType.SELF
                     && type != FeedbackParticipantType.NONE) {
 
@@ -63,6 +63,12 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.localfilestorage.directory" in build.properties file. */
+    public static final String LOCAL_FILE_STORAGE_DIRECTORY;
+
+    /** The value of the "app.entitycache" in build.properties file. */
+    public static final String ENTITY_CACHE;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -86,6 +92,8 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        LOCAL_FILE_STORAGE_DIRECTORY = properties.getProperty("app.localfilestorage.directory");
+        ENTITY_CACHE = properties.getProperty("app.entitycache");
     }
 
     private Config() {
@@ -148,4 +156,16 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    public static boolean isUsingLocalFileStorage() {
+        return LOCAL_FILE_STORAGE_DIRECTORY != null && !LOCAL_FILE_STORAGE_DIRECTORY.isEmpty();
+    }
+
+    public static boolean isUsingMemcacheEntityCache() {
+        return "memcache".equalsIgnoreCase(ENTITY_CACHE);
+    }
+
+    public static boolean isUsingLruEntityCache() {
+        return "lru".equalsIgnoreCase(ENTITY_CACHE);
+    }
+
 }
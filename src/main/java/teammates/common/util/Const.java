@@ -56,7 +56,10 @@ public final class Const {
     public static final String ACTION_RESULT_SYSTEM_ERROR_REPORT = "System Error Report";
 
     public static final int SIZE_LIMIT_PER_ENROLLMENT = 150;
+    // the enroll lines of an enrollment job are stored on the job, which has to stay well under the 1MB entity limit
+    public static final int LENGTH_LIMIT_PER_ENROLLMENT_JOB = 200000;
     public static final int INSTRUCTOR_VIEW_RESPONSE_LIMIT = 8000;
+    public static final int RESPONSE_STREAMING_PAGE_SIZE = 500;
 
     // for course sorting in instructorHomePage
     public static final String SORT_BY_COURSE_ID = "id";
@@ -81,9 +84,6 @@ public final class Const {
     public static final int POINTS_NOT_SURE = -101;
     public static final int POINTS_NOT_SUBMITTED = -999;
 
-    public static final int VISIBILITY_TABLE_GIVER = 0;
-    public static final int VISIBILITY_TABLE_RECIPIENT = 1;
-
     public static final String GENERAL_QUESTION = "%GENERAL%";
     public static final String USER_IS_TEAM = "%TEAM%";
     public static final String USER_IS_NOBODY = "%NOBODY%";
@@ -820,6 +820,10 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_GROUPBYSECTION = "frgroupbysection";
         public static final String FEEDBACK_RESULTS_SHOWSTATS = "frshowstats";
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
+        public static final String FEEDBACK_RESULTS_EXPORT_IN_BACKGROUND = "frexportinbackground";
+        public static final String FEEDBACK_RESULTS_EXPORT_ID = "frexportid";
+        public static final String FEEDBACK_RESULTS_EXPORT_PART_INDEX = "frexportpartindex";
+        public static final String FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS = "frexportnumberofparts";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
 
@@ -888,6 +892,8 @@ public final class Const {
         public static final String SUBMISSION_RESEND_PUBLISHED_EMAIL_USER_LIST = "usersToResendEmail";
 
         public static final String ENROLLMENT_DETAILS = "enrollmentdetails";
+        public static final String ENROLLMENT_JOB_ID = "enrollmentjobid";
+        public static final String DELETION_JOB_ID = "deletionjobid";
 
         public static final String SEARCH_KEY = "searchkey";
         public static final String DISPLAY_ARCHIVE = "displayarchive";
@@ -895,6 +901,8 @@ public final class Const {
         public static final String RESPONDENT_EMAIL = "respondentemail";
         public static final String RESPONDENT_IS_INSTRUCTOR = "respondentisinstructor";
         public static final String RESPONDENT_IS_TO_BE_REMOVED = "respondentistoberemoved";
+        public static final String RESPONDENTS_REPAIR_CURSOR = "respondentsrepaircursor";
+        public static final String COURSE_STATISTICS_REPAIR_CURSOR = "coursestatisticsrepaircursor";
 
         //Parameters for checking persistence of data during Eventual Consistency
         public static final String CHECK_PERSISTENCE_COURSE = "persistencecourse";
@@ -974,6 +982,7 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_STUDENT_LIST_DOWNLOAD = "/page/instructorCourseStudentListDownload";
         public static final String INSTRUCTOR_COURSE_ENROLL_PAGE = "/page/instructorCourseEnrollPage";
         public static final String INSTRUCTOR_COURSE_ENROLL_SAVE = "/page/instructorCourseEnrollSave";
+        public static final String INSTRUCTOR_COURSE_ENROLL_PROGRESS = "/page/instructorCourseEnrollProgress";
         public static final String INSTRUCTOR_COURSE_REMIND = "/page/instructorCourseRemind";
         public static final String INSTRUCTOR_COURSE_INSTRUCTOR_ADD = "/page/instructorCourseInstructorAdd";
         public static final String INSTRUCTOR_COURSE_INSTRUCTOR_EDIT_SAVE = "/page/instructorCourseInstructorEditSave";
@@ -1012,6 +1021,8 @@ public final class Const {
         public static final String INSTRUCTOR_FEEDBACK_EDIT_SAVE = "/page/instructorFeedbackEditSave";
         public static final String INSTRUCTOR_FEEDBACK_RESULTS_PAGE = "/page/instructorFeedbackResultsPage";
         public static final String INSTRUCTOR_FEEDBACK_RESULTS_DOWNLOAD = "/page/instructorFeedbackResultsDownload";
+        public static final String INSTRUCTOR_FEEDBACK_RESULTS_EXPORT_DOWNLOAD =
+                "/page/instructorFeedbackResultsExportDownload";
         public static final String INSTRUCTOR_FEEDBACK_PREVIEW_ASSTUDENT = "/page/instructorFeedbackPreviewAsStudent";
         public static final String INSTRUCTOR_FEEDBACK_PREVIEW_ASINSTRUCTOR = "/page/instructorFeedbackPreviewAsInstructor";
 
@@ -1088,6 +1099,10 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_ENROLLMENT_JOBS_CLEANUP = "/auto/enrollmentJobsCleanup";
+        public static final String AUTOMATED_COURSE_STATISTICS_REPAIR = "/auto/courseStatisticsRepair";
+        public static final String AUTOMATED_FEEDBACK_SESSION_RESPONDENTS_REPAIR =
+                "/auto/feedbackSessionRespondentsRepair";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1100,6 +1115,9 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        /** The header in which the task queue sends the number of times a task has been retried. */
+        public static final String TASK_RETRY_COUNT_HEADER = "X-AppEngine-TaskRetryCount";
+
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_QUEUE_NAME = "admin-prepare-email-address-mode-queue";
         public static final String ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL = "/worker/adminPrepareEmailAddressMode";
 
@@ -1125,6 +1143,13 @@ public final class Const {
         public static final String FEEDBACK_SESSION_REMIND_EMAIL_QUEUE_NAME = "feedback-session-remind-email-queue";
         public static final String FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL = "/worker/feedbackSessionRemindEmail";
 
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_QUEUE_NAME = "feedback-session-results-export-queue";
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_WORKER_URL = "/worker/feedbackSessionResultsExport";
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_DELETION_WORKER_URL =
+                "/worker/feedbackSessionResultsExportDeletion";
+        // must be the same as the task-retry-limit of the queue in queue.xml
+        public static final int FEEDBACK_SESSION_RESULTS_EXPORT_TASK_RETRY_LIMIT = 3;
+
         public static final String FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_QUEUE_NAME =
                 "feedback-session-remind-particular-users-email-queue";
         public static final String FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL =
@@ -1135,6 +1160,21 @@ public final class Const {
         public static final String FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL =
                 "/worker/feedbackSessionUnpublishedEmail";
 
+        public static final String FEEDBACK_SESSION_RESPONDENTS_REPAIR_QUEUE_NAME =
+                "feedback-session-respondents-repair-queue";
+        public static final String FEEDBACK_SESSION_RESPONDENTS_REPAIR_WORKER_URL =
+                "/worker/feedbackSessionRespondentsRepair";
+        // must be the same as the task-retry-limit of the queue in queue.xml
+        public static final int FEEDBACK_SESSION_RESPONDENTS_REPAIR_TASK_RETRY_LIMIT = 3;
+
+        public static final String COURSE_STATISTICS_REPAIR_QUEUE_NAME = "course-statistics-repair-queue";
+        public static final String COURSE_STATISTICS_REPAIR_WORKER_URL = "/worker/courseStatisticsRepair";
+
+        public static final String DELETION_QUEUE_NAME = "deletion-queue";
+        public static final String DELETION_WORKER_URL = "/worker/deletion";
+        // must be the same as the task-retry-limit of the queue in queue.xml
+        public static final int DELETION_TASK_RETRY_LIMIT = 10;
+
         public static final String FEEDBACK_SESSION_UPDATE_RESPONDENT_QUEUE_NAME =
                 "feedback-session-update-respondent-queue";
         public static final String FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL =
@@ -1149,6 +1189,11 @@ public final class Const {
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/studentCourseJoinEmail";
 
+        public static final String STUDENT_ENROLLMENT_QUEUE_NAME = "student-enrollment-queue";
+        public static final String STUDENT_ENROLLMENT_WORKER_URL = "/worker/studentEnrollment";
+        // must be the same as the task-retry-limit of the queue in queue.xml
+        public static final int STUDENT_ENROLLMENT_TASK_RETRY_LIMIT = 3;
+
     }
 
     public static class PublicActionNames {
@@ -1316,8 +1361,9 @@ public final class Const {
         public static final String COURSE_RESTORED = "The course %s has been restored.";
         public static final String COURSE_ALL_RESTORED = "All courses have been restored.";
         public static final String COURSE_DELETED =
-                "The course %s has been permanently deleted.";
-        public static final String COURSE_ALL_DELETED = "All courses have been permanently deleted.";
+                "The course %s is being permanently deleted. It will disappear once all its data has been deleted.";
+        public static final String COURSE_ALL_DELETED = "All courses are being permanently deleted. "
+                + "They will disappear once all their data has been deleted.";
         public static final String COURSE_EMPTY =
                 "You do not seem to have any courses. Use the form above to create a course.";
         public static final String COURSE_EMPTY_IN_INSTRUCTOR_FEEDBACKS =
@@ -1336,6 +1382,12 @@ public final class Const {
         public static final String COURSE_ENROLL_STUDENTS_UNMODIFIED = "%d student(s) updated with no changes:";
         public static final String COURSE_ENROLL_STUDENTS_NOT_IN_LIST = "%d student(s) remain unmodified:";
         public static final String COURSE_ENROLL_STUDENTS_UNKNOWN = "%d student(s) with unknown enrolment status:";
+        public static final String COURSE_ENROLL_IN_BACKGROUND = "You are enrolling %d students. "
+                + "As this is more than can be enrolled at once, the students are being enrolled in the background. "
+                + "You may leave this page; the enrollment will continue.";
+        public static final String COURSE_ENROLL_STUDENTS_BEING_DELETED =
+                "All the students of this course are being removed. "
+                + "Please enroll students again after they have been removed.";
 
         public static final String TEAM_INVALID_SECTION_EDIT =
                 "The team \"%s\" is in multiple sections. "
@@ -1347,6 +1399,15 @@ public final class Const {
         public static final String QUOTA_PER_ENROLLMENT_EXCEED =
                 "You are trying to enroll more than 100 students. "
                 + "To avoid performance problems, please enroll no more than 100 students at a time.";
+        public static final String QUOTA_PER_ENROLLMENT_JOB_EXCEED =
+                "The student data you are trying to enroll is too long. "
+                + "Please enroll the students in smaller batches, e.g. one section at a time.";
+        public static final String ENROLLMENT_JOB_STOPPED_BY_STUDENTS_DELETION =
+                "The enrollment was stopped as all the students of this course are being removed. "
+                + "Please enroll the students again after they have been removed.";
+        public static final String ENROLLMENT_JOB_RETRIES_EXHAUSTED =
+                "The enrollment could not be completed because of a server error. "
+                + "The students listed as enrolled have been enrolled; please enroll the remaining students again.";
 
         public static final String COURSE_INSTRUCTOR_ADDED = "The instructor %s has been added successfully. "
                 + "An email containing how to 'join' this course will be sent to %s in a few minutes.";
@@ -1384,7 +1445,15 @@ public final class Const {
         public static final String STUDENT_NOT_FOUND_FOR_EDIT =
                 "The student you tried to edit does not exist. " + STUDENT_EVENTUAL_CONSISTENCY;
         public static final String STUDENT_DELETED = "The student has been removed from the course";
-        public static final String STUDENTS_DELETED = "All the students have been removed from the course";
+        public static final String STUDENTS_DELETED =
+                "All the students are being removed from the course. "
+                + "They will disappear from the list once they and their responses have been removed.";
+        public static final String STUDENTS_DELETION_IN_PROGRESS =
+                "The students of this course are being removed. "
+                + "%d students, responses and comments have been removed so far.";
+        public static final String STUDENTS_DELETION_FAILED =
+                "The removal of the students of this course was stopped by a server error after "
+                + "%d students, responses and comments were removed. Please remove all the students again.";
         public static final String STUDENT_PROFILE_EDITED = "Your profile has been edited successfully";
         public static final String STUDENT_PROFILE_PICTURE_SAVED = "Your profile picture has been saved successfully";
         public static final String STUDENT_PROFILE_PIC_TOO_LARGE = "The uploaded profile picture was too large. "
@@ -1409,12 +1478,29 @@ public final class Const {
         public static final String FEEDBACK_SESSION_EDITED = "The feedback session has been updated.";
         public static final String FEEDBACK_SESSION_END_TIME_EARLIER_THAN_START_TIME =
                 "The end time for this feedback session cannot be earlier than the start time.";
-        public static final String FEEDBACK_SESSION_DELETED = "The feedback session has been deleted.";
+        public static final String FEEDBACK_SESSION_DELETED =
+                "The feedback session is being deleted. It will disappear once all its responses have been deleted.";
+        public static final String FEEDBACK_SESSION_DELETION_IN_PROGRESS =
+                "The feedback session \"%s\" is being deleted. "
+                + "%d questions, responses and comments have been deleted so far.";
+        public static final String FEEDBACK_SESSION_DELETION_FAILED =
+                "The deletion of the feedback session \"%s\" was stopped by a server error after "
+                + "%d questions, responses and comments were deleted. Please delete the session again.";
+        public static final String FEEDBACK_SESSION_BEING_DELETED =
+                "The feedback session is being deleted and can no longer be changed.";
+        public static final String DELETION_ALREADY_IN_PROGRESS =
+                "The same data is already being deleted. Please wait until the deletion is complete.";
         public static final String FEEDBACK_SESSION_DELETED_NO_ACCESS =
                 "The feedback session has been deleted and is no longer accessible.";
         public static final String FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED = "This session has more responses than "
                 + "that can be downloaded in one go. Please download responses for one question at a time instead. "
                 + "To download responses for a specific question, click on the corresponding question number.";
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_STARTED = "The results are being prepared for download. "
+                + "Click <a href=\"${exportDownloadLink}\">here</a> to download them once they are ready.";
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_NOT_READY = "The results are still being prepared "
+                + "for download. Please try again in a few minutes. Prepared results can be downloaded for one day.";
+        public static final String FEEDBACK_SESSION_RESULTS_EXPORT_FAILED = "The results could not be prepared "
+                + "for download. Please try again, or download the responses for one question at a time instead.";
         public static final String FEEDBACK_SESSION_PUBLISHED =
                 "The feedback session has been published. "
                 + "Please allow up to 1 hour for all the notification emails to be sent out.";
@@ -3,6 +3,7 @@ package teammates.common.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -14,7 +15,9 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
+import com.google.appengine.tools.cloudstorage.GcsInputChannel;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
+import com.google.appengine.tools.cloudstorage.GcsService;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
@@ -24,6 +27,7 @@ import com.google.appengine.tools.cloudstorage.RetryParams;
 public final class GoogleCloudStorageHelper {
 
     private static final int MAX_READING_LENGTH = 900000;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
     private static final Logger log = Logger.getLogger();
 
     private GoogleCloudStorageHelper() {
@@ -73,6 +77,75 @@ public final class GoogleCloudStorageHelper {
                 .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
     }
 
+    /**
+     * Writes a byte array {@code data} to the Google Cloud Storage as the file {@code fileName},
+     * replacing the file if it already exists.
+     */
+    public static void writeDataToGcs(String fileName, byte[] data, String mimeType) throws IOException {
+        try (GcsOutputChannel outputChannel =
+                getGcsService().createOrReplace(getGcsFilename(fileName),
+                        new GcsFileOptions.Builder().mimeType(mimeType).build())) {
+
+            outputChannel.write(ByteBuffer.wrap(data));
+        }
+    }
+
+    /**
+     * Writes the content of the files {@code sourceFileNames}, in the given order,
+     * to the Google Cloud Storage as the file {@code fileName}.
+     * The source files are streamed one after another and are left unchanged.
+     */
+    public static void concatenateFilesInGcs(String fileName, List<String> sourceFileNames, String mimeType)
+            throws IOException {
+        GcsService gcsService = getGcsService();
+        try (GcsOutputChannel outputChannel =
+                gcsService.createOrReplace(getGcsFilename(fileName),
+                        new GcsFileOptions.Builder().mimeType(mimeType).build())) {
+
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            for (String sourceFileName : sourceFileNames) {
+                try (GcsInputChannel inputChannel =
+                        gcsService.openReadChannel(getGcsFilename(sourceFileName), 0)) {
+                    while (inputChannel.read(buffer) >= 0) {
+                        buffer.flip();
+                        outputChannel.write(buffer);
+                        buffer.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the file {@code fileName} in the Google Cloud Storage for reading.
+     */
+    public static InputStream openFileInGcs(String fileName) {
+        return Channels.newInputStream(
+                getGcsService().openPrefetchingReadChannel(getGcsFilename(fileName), 0, READ_BUFFER_SIZE));
+    }
+
+    /**
+     * Returns true if the file {@code fileName} exists in the Google Cloud Storage.
+     */
+    public static boolean doesFileExistInGcs(String fileName) throws IOException {
+        return getGcsService().getMetadata(getGcsFilename(fileName)) != null;
+    }
+
+    /**
+     * Deletes the file {@code fileName} in the Google Cloud Storage, if it exists.
+     */
+    public static void deleteFileInGcs(String fileName) throws IOException {
+        getGcsService().delete(getGcsFilename(fileName));
+    }
+
+    private static GcsService getGcsService() {
+        return GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance());
+    }
+
+    private static GcsFilename getGcsFilename(String fileName) {
+        return new GcsFilename(Config.GCS_BUCKETNAME, fileName);
+    }
+
     /**
      * Creates and invokes a URL for uploading a large blob to Google Cloud Storage.
      * Upon completion of the upload, a callback is made to the specified {@code callbackUrl}.<br>
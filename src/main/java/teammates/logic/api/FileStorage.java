@@ -0,0 +1,71 @@
+package teammates.logic.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import teammates.common.util.Config;
+import teammates.logic.core.FileStorageService;
+import teammates.logic.core.GoogleCloudStorageService;
+import teammates.logic.core.LocalFileStorageService;
+
+/**
+ * Handles operations related to storing files generated by the system.
+ */
+public class FileStorage {
+
+    private final FileStorageService service;
+
+    public FileStorage() {
+        if (Config.isUsingLocalFileStorage()) {
+            service = new LocalFileStorageService(Paths.get(Config.LOCAL_FILE_STORAGE_DIRECTORY));
+        } else {
+            service = new GoogleCloudStorageService();
+        }
+    }
+
+    /**
+     * Creates a file storage which keeps its files in {@code localDirectory} regardless of configuration.
+     */
+    public FileStorage(Path localDirectory) {
+        service = new LocalFileStorageService(localDirectory);
+    }
+
+    /**
+     * Writes {@code data} as the file {@code fileName}, replacing the file if it already exists.
+     */
+    public void writeFile(String fileName, byte[] data, String mimeType) throws IOException {
+        service.writeFile(fileName, data, mimeType);
+    }
+
+    /**
+     * Writes the content of the files {@code sourceFileNames}, in the given order, as the file {@code fileName}.
+     */
+    public void concatenateFiles(String fileName, List<String> sourceFileNames, String mimeType) throws IOException {
+        service.concatenateFiles(fileName, sourceFileNames, mimeType);
+    }
+
+    /**
+     * Opens the file {@code fileName} for reading.
+     */
+    public InputStream openFile(String fileName) throws IOException {
+        return service.openFile(fileName);
+    }
+
+    /**
+     * Returns true if the file {@code fileName} exists.
+     */
+    public boolean doesFileExist(String fileName) throws IOException {
+        return service.doesFileExist(fileName);
+    }
+
+    /**
+     * Deletes the file {@code fileName}, if it exists.
+     */
+    public void deleteFile(String fileName) throws IOException {
+        service.deleteFile(fileName);
+    }
+
+}
@@ -10,6 +10,8 @@ import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.FeedbackSessionNotVisibleException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Assumption;
@@ -146,6 +148,11 @@ public class GateKeeper {
                                                   + "] is not accessible to student [" + student.email + "]");
         }
 
+        if (feedbacksession.isBeingDeleted()) {
+            throw new EntityNotFoundException(new EntityDoesNotExistException(
+                    Const.StatusMessages.FEEDBACK_SESSION_DELETED_NO_ACCESS));
+        }
+
         if (!feedbacksession.isVisible()) {
             throw new FeedbackSessionNotVisibleException(
                                             "This feedback session is not yet visible.",
@@ -1,7 +1,10 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +28,8 @@ import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -43,6 +48,7 @@ import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.DeletionJobsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -69,6 +75,7 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -566,6 +573,17 @@ public class Logic {
         return coursesLogic.getCourseSummary(courseId);
     }
 
+    /**
+     * Returns a less detailed version of course data, with the statistics of the course but without its sections.
+     * The students of the course are not read if the statistics are already kept for the course. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public CourseDetailsBundle getCourseDetailsWithoutSections(String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.getCourseSummaryWithoutSections(courseId);
+    }
+
     /**
      * Returns a course data, including its feedback sessions, according to the instructor passed in.<br>
      * Preconditions: <br>
@@ -746,6 +764,109 @@ public class Logic {
         coursesLogic.deleteAllCoursesCascade(instructorList);
     }
 
+    /**
+     * Creates a job to permanently delete a course and all data related to the course in the background.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#createCourseDeletionJob(String)
+     */
+    public DeletionJobAttributes createCourseDeletionJob(String courseId) throws InvalidParametersException {
+        Assumption.assertNotNull(courseId);
+
+        return deletionJobsLogic.createCourseDeletionJob(courseId);
+    }
+
+    /**
+     * Creates a job to delete a feedback session and all its questions, responses and comments in the background,
+     * marking the session as being deleted until then.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#createFeedbackSessionDeletionJob(String, String)
+     */
+    public DeletionJobAttributes createFeedbackSessionDeletionJob(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return deletionJobsLogic.createFeedbackSessionDeletionJob(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Creates a job to delete all the students in the course, and the responses given by or to them,
+     * in the background.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#createStudentsDeletionJob(String)
+     */
+    public DeletionJobAttributes createStudentsDeletionJob(String courseId) throws InvalidParametersException {
+        Assumption.assertNotNull(courseId);
+
+        return deletionJobsLogic.createStudentsDeletionJob(courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if there is no such job.
+     */
+    public DeletionJobAttributes getDeletionJob(String deletionJobId) {
+        Assumption.assertNotNull(deletionJobId);
+
+        return deletionJobsLogic.getDeletionJob(deletionJobId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#isStudentsDeletionInProgress(String)
+     */
+    public boolean isStudentsDeletionInProgress(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return deletionJobsLogic.isStudentsDeletionInProgress(courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#getUnfinishedDeletionJobsForCourse(String)
+     */
+    public List<DeletionJobAttributes> getUnfinishedDeletionJobsForCourse(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return deletionJobsLogic.getUnfinishedDeletionJobsForCourse(courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#deleteNextPageForDeletionJob(String)
+     */
+    public DeletionJobAttributes deleteNextPageForDeletionJob(String deletionJobId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(deletionJobId);
+
+        return deletionJobsLogic.deleteNextPageForDeletionJob(deletionJobId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see DeletionJobsLogic#failDeletionJob(String)
+     */
+    public void failDeletionJob(String deletionJobId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(deletionJobId);
+
+        deletionJobsLogic.failDeletionJob(deletionJobId);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * All data related will not be deleted.
@@ -1051,6 +1172,97 @@ public class Logic {
 
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#isWithinSizeLimitPerEnrollment(String)
+     */
+    public boolean isWithinSizeLimitPerEnrollment(String enrollLines) {
+        Assumption.assertNotNull(enrollLines);
+
+        return studentsLogic.isWithinSizeLimitPerEnrollment(enrollLines.trim());
+    }
+
+    /**
+     * Creates a job to enroll the students in the background, after validating all of them.
+     * If there is an error in the enrollLines, the job is not created. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#createEnrollmentJob(String, String)
+     */
+    public EnrollmentJobAttributes createEnrollmentJob(String enrollLines, String courseId)
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(enrollLines);
+
+        return studentsLogic.createEnrollmentJob(enrollLines.trim(), courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if there is no such job.
+     */
+    public EnrollmentJobAttributes getEnrollmentJob(String enrollmentJobId) {
+        Assumption.assertNotNull(enrollmentJobId);
+
+        return studentsLogic.getEnrollmentJob(enrollmentJobId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#enrollStudentsForEnrollmentJob(String)
+     */
+    public EnrollmentJobAttributes enrollStudentsForEnrollmentJob(String enrollmentJobId)
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(enrollmentJobId);
+
+        return studentsLogic.enrollStudentsForEnrollmentJob(enrollmentJobId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#clearEnrollmentsToAdjust(String)
+     */
+    public void clearEnrollmentsToAdjust(String enrollmentJobId)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        Assumption.assertNotNull(enrollmentJobId);
+
+        studentsLogic.clearEnrollmentsToAdjust(enrollmentJobId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#failEnrollmentJob(String, String)
+     */
+    public void failEnrollmentJob(String enrollmentJobId, String errorMessage)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        Assumption.assertNotNull(enrollmentJobId);
+        Assumption.assertNotNull(errorMessage);
+
+        studentsLogic.failEnrollmentJob(enrollmentJobId, errorMessage);
+    }
+
+    /**
+     * Deletes the enrollment jobs which have not been updated since {@code time}.
+     * These are jobs that have long finished, or that have stopped without being marked as failed. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteEnrollmentJobsUpdatedBefore(Instant time) {
+        Assumption.assertNotNull(time);
+
+        studentsLogic.deleteEnrollmentJobsUpdatedBefore(time);
+    }
+
     public List<StudentAttributes> getUnregisteredStudentsForCourse(String courseId) {
         Assumption.assertNotNull(courseId);
         return studentsLogic.getUnregisteredStudentsForCourse(courseId);
@@ -1206,6 +1418,19 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the session together with all its respondents, which are left out by {@link #getFeedbackSession}.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionAttributes getFeedbackSessionWithRespondents(String feedbackSessionName, String courseId) {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return feedbackSessionsLogic.getFeedbackSessionWithRespondents(feedbackSessionName, courseId);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1393,6 +1618,105 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) of the whole session, or of a section if {@code section}
+     * is given, in CSV format to {@code writer} one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(FeedbackSessionAttributes,
+     *      List, String, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            FeedbackSessionAttributes session, List<FeedbackQuestionAttributes> questions, String instructorEmail,
+            String section, boolean isMissingResponsesShown, boolean isStatsShown, Writer writer) throws IOException {
+
+        Assumption.assertNotNull(session);
+        Assumption.assertNotNull(questions);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session, questions, instructorEmail, section, isMissingResponsesShown, isStatsShown, writer);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the number of parts in which the summary results of the session are exported
+     * @see FeedbackSessionsLogic#getFeedbackSessionResultsSummaryNumberOfParts(String, String)
+     */
+    public int getFeedbackSessionResultSummaryNumberOfParts(String courseId, String feedbackSessionName)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsSummaryNumberOfParts(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Writes one part of the summary results (without comments) of the whole session, or of a section if
+     * {@code section} is given, in CSV format to {@code writer}. <br>
+     * Preconditions: <br>
+     * * All parameters(except section) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryPartInSectionAsCsv(String, String, String,
+     *      String, int, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryPartInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail, String section, int partIndex,
+            boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryPartInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section, partIndex,
+                isMissingResponsesShown, isStatsShown, writer);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the name of the file in which results of the feedback session exported in the background are stored
+     */
+    public String getFeedbackSessionResultsExportFileName(String courseId, String feedbackSessionName, String exportId) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(exportId);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsExportFileName(feedbackSessionName, courseId, exportId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the name of the file in which one part of the results exported in the background is stored
+     */
+    public String getFeedbackSessionResultsExportPartFileName(
+            String courseId, String feedbackSessionName, String exportId, int partIndex) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(exportId);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsExportPartFileName(
+                feedbackSessionName, courseId, exportId, partIndex);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the name of the file which marks the export of the results of the feedback session as failed
+     */
+    public String getFeedbackSessionResultsExportFailureFileName(
+            String courseId, String feedbackSessionName, String exportId) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(exportId);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsExportFailureFileName(
+                feedbackSessionName, courseId, exportId);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1439,6 +1763,46 @@ public class Logic {
         feedbackSessionsLogic.updateRespondentsForSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Updates whether each of the {@code givers} is a respondent of the session from the responses of the givers.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void updateRespondents(String feedbackSessionName, String courseId, Collection<String> givers)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(givers);
+
+        feedbackSessionsLogic.updateRespondentsForGivers(feedbackSessionName, courseId, givers);
+    }
+
+    /**
+     * Rebuilds the respondents of the session from one page of its responses.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null.
+     *
+     * @param cursor the cursor returned for the previous page, or null to start from the first page
+     * @return the cursor of the next page, or null if there are no more responses
+     */
+    public String updateRespondentsForSessionPage(String feedbackSessionName, String courseId, String cursor)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return feedbackSessionsLogic.updateRespondentsForSessionPage(feedbackSessionName, courseId, cursor);
+    }
+
+    /**
+     * Recomputes the statistics of one page of the courses from the students of each course.
+     *
+     * @param cursor the cursor returned for the previous page, or null to start from the first page
+     * @return the cursor of the next page, or null if there are no more courses
+     */
+    public String repairCourseStatisticsPage(String cursor) {
+        return coursesLogic.repairCourseStatisticsPage(cursor);
+    }
+
     public void addInstructorRespondent(String email, String feedbackSessionName, String courseId)
             throws EntityDoesNotExistException, InvalidParametersException {
 
@@ -1955,6 +2319,19 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Updates the given responses with a constant number of datastore round trips.
+     * See {@link FeedbackResponsesLogic#updateFeedbackResponses(List)}.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.updateFeedbackResponses(feedbackResponses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1964,6 +2341,16 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Deletes the given responses and their comments in batches.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses) {
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.deleteFeedbackResponsesAndCascade(feedbackResponses);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -2214,12 +2601,32 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(List<StudentEnrollDetails> enrollmentList,
-                                                     FeedbackResponseAttributes response)
+    /**
+     * Returns the responses in the session, read lazily page by page so that only one page is held in memory.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Iterable<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        return feedbackResponsesLogic.streamFeedbackResponsesForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Adjusts the responses to the question for the changes of team and section of the modified students
+     * in {@code enrollmentList}, reading only the responses given or received by those students.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void adjustFeedbackResponsesOfQuestionForEnrollments(List<StudentEnrollDetails> enrollmentList,
+                                                                String feedbackQuestionId)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(enrollmentList);
-        Assumption.assertNotNull(response);
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+        Assumption.assertNotNull(feedbackQuestionId);
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionId);
     }
 
     /**
@@ -260,19 +260,53 @@ public class TaskQueuer {
     }
 
     /**
-     * Schedules adjustments to be done to responses of a feedback session in the database
+     * Schedules the enrollment of the next chunk of students of an enrollment job.
+     *
+     * @param courseId the course ID of the enrollment job
+     * @param enrollmentJobId the ID of the enrollment job
+     */
+    public void scheduleStudentEnrollment(String courseId, String enrollmentJobId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId);
+
+        addTask(TaskQueue.STUDENT_ENROLLMENT_QUEUE_NAME, TaskQueue.STUDENT_ENROLLMENT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules adjustments to be done to responses of all feedback sessions of a course in the database
      * after change is done to a course, typically after enrollment of new students
      * or re-enrollment of old students, or both.
      *
-     * @param courseId the course ID of the feedback session
-     * @param feedbackSessionName the name of the feedback session
+     * @param courseId the course ID of the feedback sessions
+     * @param enrollmentList the list of enrollment details
+     */
+    public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, List<StudentEnrollDetails> enrollmentList) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        String enrollmentDetails = JsonUtils.toJson(enrollmentList);
+        paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+
+        addTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules adjustments to be done to responses of a feedback question in the database
+     * after change is done to the teams or sections of students in a course.
+     *
+     * @param courseId the course ID of the feedback question
+     * @param feedbackSessionName the name of the feedback session of the question
+     * @param feedbackQuestionId the ID of the feedback question
      * @param enrollmentList the list of enrollment details
      */
-    public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
-                                                            List<StudentEnrollDetails> enrollmentList) {
+    public void scheduleFeedbackResponseAdjustmentForQuestion(String courseId, String feedbackSessionName,
+            String feedbackQuestionId, List<StudentEnrollDetails> enrollmentList) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.COURSE_ID, courseId);
         paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
 
         String enrollmentDetails = JsonUtils.toJson(enrollmentList);
         paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
@@ -294,6 +328,96 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules the rebuilding of the respondents of a feedback session from one page of its responses.
+     *
+     * @param cursor the cursor of the page to read, or null to start from the first page
+     */
+    public void scheduleFeedbackSessionRespondentsRepair(String courseId, String feedbackSessionName, String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        if (cursor != null) {
+            paramMap.put(ParamsNames.RESPONDENTS_REPAIR_CURSOR, cursor);
+        }
+
+        addTask(TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the recomputing of the statistics of one page of the courses.
+     *
+     * @param cursor the cursor of the page to recompute, or null to start from the first page
+     */
+    public void scheduleCourseStatisticsRepair(String cursor) {
+        Map<String, String> paramMap = new HashMap<>();
+        if (cursor != null) {
+            paramMap.put(ParamsNames.COURSE_STATISTICS_REPAIR_CURSOR, cursor);
+        }
+
+        addTask(TaskQueue.COURSE_STATISTICS_REPAIR_QUEUE_NAME, TaskQueue.COURSE_STATISTICS_REPAIR_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the deletion of the next page of entities of a deletion job.
+     *
+     * @param deletionJobId the ID of the deletion job
+     */
+    public void scheduleDeletion(String deletionJobId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.DELETION_JOB_ID, deletionJobId);
+
+        addTask(TaskQueue.DELETION_QUEUE_NAME, TaskQueue.DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the export of one part of the results of a feedback session in CSV format.
+     *
+     * @param section the section to export, or null to export all sections
+     * @param exportId the ID of the export the part belongs to
+     * @param partIndex the index of the part to export
+     * @param numberOfParts the number of parts of the export, fixed when the export is started
+     */
+    public void scheduleFeedbackSessionResultsExport(String courseId, String feedbackSessionName,
+            String instructorEmail, String section, boolean isMissingResponsesShown, boolean isStatsShown,
+            String exportId, int partIndex, int numberOfParts) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.INSTRUCTOR_EMAIL, instructorEmail);
+        if (section != null) {
+            paramMap.put(ParamsNames.SECTION_NAME, section);
+        }
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES, String.valueOf(isMissingResponsesShown));
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_SHOWSTATS, String.valueOf(isStatsShown));
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId);
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_EXPORT_PART_INDEX, String.valueOf(partIndex));
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS, String.valueOf(numberOfParts));
+
+        addTask(TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the files of an export of the results of a feedback session to be deleted one day from now.
+     *
+     * @param exportId the ID of the export to delete
+     * @param numberOfParts the number of parts of the export
+     */
+    public void scheduleFeedbackSessionResultsExportDeletion(String courseId, String feedbackSessionName,
+            String exportId, int numberOfParts) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId);
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS, String.valueOf(numberOfParts));
+
+        long oneDayInMillis = 24 * 60 * 60 * 1000L;
+        addDeferredTask(TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_DELETION_WORKER_URL, paramMap, oneDayInMillis);
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
      *
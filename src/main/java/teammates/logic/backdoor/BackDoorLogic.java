@@ -3,6 +3,7 @@ package teammates.logic.backdoor;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -22,6 +23,7 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionRespondentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -35,11 +37,13 @@ import teammates.common.util.StringHelper;
 import teammates.logic.api.Logic;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.AdminEmailsDb;
+import teammates.storage.api.CourseStatisticsDb;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.EntitiesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionRespondentsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.StudentsDb;
@@ -50,9 +54,11 @@ import teammates.storage.api.StudentsDb;
 public class BackDoorLogic extends Logic {
     private static final AccountsDb accountsDb = new AccountsDb();
     private static final CoursesDb coursesDb = new CoursesDb();
+    private static final CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
     private static final StudentsDb studentsDb = new StudentsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
     private static final FeedbackSessionsDb fbDb = new FeedbackSessionsDb();
+    private static final FeedbackSessionRespondentsDb fsrDb = new FeedbackSessionRespondentsDb();
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
@@ -106,7 +112,10 @@ public class BackDoorLogic extends Logic {
         coursesDb.createEntitiesDeferred(courses);
         instructorsDb.createEntitiesDeferred(instructors);
         studentsDb.createEntitiesDeferred(students);
+        // the statistics of the courses are recomputed from the students persisted when they are first read
+        courseStatisticsDb.deleteCourseStatisticsForCourses(getCourseIdsOfStudents(students));
         fbDb.createEntitiesDeferred(sessions);
+        fsrDb.createEntitiesDeferred(makeRespondents(sessions));
 
         // This also flushes all previously deferred operations
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
@@ -134,7 +143,7 @@ public class BackDoorLogic extends Logic {
             // question ID already injected
         }
         frDb.createEntityWithoutExistenceCheck(response);
-        updateRespondents(response.feedbackSessionName, response.courseId);
+        updateRespondents(response.feedbackSessionName, response.courseId, Collections.singletonList(response.giver));
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
 
@@ -206,7 +215,7 @@ public class BackDoorLogic extends Logic {
     }
 
     public String getFeedbackSessionAsJson(String feedbackSessionName, String courseId) {
-        FeedbackSessionAttributes fs = getFeedbackSession(feedbackSessionName, courseId);
+        FeedbackSessionAttributes fs = getFeedbackSessionWithRespondents(feedbackSessionName, courseId);
         return JsonUtils.toJson(fs);
     }
 
@@ -379,6 +388,21 @@ public class BackDoorLogic extends Logic {
         session.setRespondingStudentList(respondingStudents);
     }
 
+    private List<FeedbackSessionRespondentAttributes> makeRespondents(Collection<FeedbackSessionAttributes> sessions) {
+        List<FeedbackSessionRespondentAttributes> respondents = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            for (String instructor : session.getRespondingInstructorList()) {
+                respondents.add(new FeedbackSessionRespondentAttributes(
+                        session.getFeedbackSessionName(), session.getCourseId(), instructor, true));
+            }
+            for (String student : session.getRespondingStudentList()) {
+                respondents.add(new FeedbackSessionRespondentAttributes(
+                        session.getFeedbackSessionName(), session.getCourseId(), student, false));
+            }
+        }
+        return respondents;
+    }
+
     private void injectRealIds(
             Collection<FeedbackResponseAttributes> responses, Collection<FeedbackResponseCommentAttributes> responseComments,
             List<FeedbackQuestionAttributes> createdQuestions) {
@@ -578,6 +602,7 @@ public class BackDoorLogic extends Logic {
             coursesDb.deleteEntities(courses);
             instructorsDb.deleteInstructorsForCourses(courseIds);
             studentsDb.deleteStudentsForCourses(courseIds);
+            courseStatisticsDb.deleteCourseStatisticsForCourses(courseIds);
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
@@ -585,6 +610,14 @@ public class BackDoorLogic extends Logic {
         }
     }
 
+    private static List<String> getCourseIdsOfStudents(Collection<StudentAttributes> students) {
+        Set<String> courseIds = new HashSet<>();
+        for (StudentAttributes student : students) {
+            courseIds.add(student.course);
+        }
+        return new ArrayList<>(courseIds);
+    }
+
     public boolean isPicturePresentInGcs(String pictureKey) {
         return GoogleCloudStorageHelper.doesFileExistInGcs(new BlobKey(pictureKey));
     }
@@ -4,13 +4,14 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -43,6 +44,8 @@ public final class CoursesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int COURSE_STATISTICS_REPAIR_PAGE_SIZE = 20;
+
     private static CoursesLogic instance = new CoursesLogic();
 
     /* Explanation: This class depends on CoursesDb class but no other *Db classes.
@@ -220,19 +223,7 @@ public final class CoursesLogic {
         if (!isCourseVerified) {
             verifyCourseIsPresent(courseId);
         }
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.section.equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.section);
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<>(sectionNameSet);
-        sectionNameList.sort(null);
-
-        return sectionNameList;
+        return studentsLogic.getCourseStructure(courseId).getSectionNames();
     }
 
     /**
@@ -245,63 +236,9 @@ public final class CoursesLogic {
     public List<SectionDetailsBundle> getSectionsForCourse(CourseAttributes course, CourseDetailsBundle cdd) {
         Assumption.assertNotNull("Course is null", course);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(course.getId());
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-            cdd.stats.studentsTotal++;
-            if (!s.isRegistered()) {
-                cdd.stats.unregisteredTotal++;
-            }
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    cdd.stats.teamsTotal++;
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-            }
-        }
-
-        return sections;
+        CourseStructure courseStructure = studentsLogic.getCourseStructure(course.getId());
+        cdd.stats = courseStructure.getStats();
+        return courseStructure.getSections();
     }
 
     /**
@@ -312,49 +249,7 @@ public final class CoursesLogic {
 
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-            StudentAttributes s = students.get(i);
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-            }
-        }
-
-        return sections;
+        return studentsLogic.getCourseStructure(courseId).getSections();
     }
 
     /**
@@ -370,38 +265,7 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortByTeamName(students);
-
-        List<TeamDetailsBundle> teams = new ArrayList<>();
-
-        TeamDetailsBundle team = null;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-
-            // first student of first team
-            if (team == null) {
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            } else if (s.team.equals(team.name)) { // student in the same team as the previous student
-                team.students.add(s);
-            } else { // first student of subsequent teams (not the first team)
-                teams.add(team);
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            }
-
-            // if last iteration
-            if (i == students.size() - 1) {
-                teams.add(team);
-            }
-        }
-
-        return teams;
+        return studentsLogic.getCourseStructure(courseId).getTeams();
     }
 
     /**
@@ -416,6 +280,23 @@ public final class CoursesLogic {
         return cdd;
     }
 
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course using courseId, with the statistics
+     * of the course but without its sections. The students of the course are not read if the statistics
+     * are already kept for the course.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(String courseId) throws EntityDoesNotExistException {
+        CourseAttributes cd = coursesDb.getCourse(courseId);
+
+        if (cd == null) {
+            throw new EntityDoesNotExistException("The course does not exist: " + courseId);
+        }
+
+        CourseDetailsBundle cdd = new CourseDetailsBundle(cd);
+        cdd.stats = studentsLogic.getCourseStats(courseId);
+        return cdd;
+    }
+
     // TODO: reduce calls to this function, use above function instead.
     /**
      * Returns the {@link CourseDetailsBundle} course details for a course using courseId.
@@ -589,7 +470,7 @@ public final class CoursesLogic {
      * Returns course summaries for instructors.<br>
      *
      * @return Map with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as feedback sessions and sections.
      */
     public Map<String, CourseDetailsBundle> getCourseSummariesForInstructor(
             List<InstructorAttributes> instructorAttributesList) {
@@ -612,8 +493,15 @@ public final class CoursesLogic {
                         + courseIdList.toString());
         }
 
+        List<String> existingCourseIds = courseList.stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toList());
+        Map<String, CourseStats> statsByCourseId = studentsLogic.getCourseStatsForCourses(existingCourseIds);
+
         for (CourseAttributes ca : courseList) {
-            courseSummaryList.put(ca.getId(), getCourseSummary(ca));
+            CourseDetailsBundle cdd = new CourseDetailsBundle(ca);
+            cdd.stats = statsByCourseId.get(ca.getId());
+            courseSummaryList.put(ca.getId(), cdd);
         }
 
         return courseSummaryList;
@@ -654,17 +542,42 @@ public final class CoursesLogic {
         }
     }
 
+    /**
+     * Recomputes the statistics of one page of the courses from the students of each course.
+     *
+     * @param cursor the cursor returned for the previous page, or null to start from the first page
+     * @return the cursor of the next page, or null if there are no more courses
+     */
+    public String repairCourseStatisticsPage(String cursor) {
+        AttributesPage<CourseAttributes> page = coursesDb.getCoursesPage(cursor, COURSE_STATISTICS_REPAIR_PAGE_SIZE);
+        for (CourseAttributes course : page.getAttributes()) {
+            studentsLogic.repairCourseStatistics(course.getId());
+        }
+        return page.getNextCursor();
+    }
+
     /**
      * Permanently deletes a course in Recycle Bin by its given corresponding ID.
      * This will also cascade the data in other databases which are related to this course.
      */
     public void deleteCourseCascade(String courseId) {
         studentsLogic.deleteStudentsForCourse(courseId);
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
         instructorsLogic.deleteInstructorsForCourse(courseId);
         feedbackSessionsLogic.deleteFeedbackSessionsForCourseCascade(courseId);
         coursesDb.deleteCourse(courseId);
     }
 
+    /**
+     * Deletes the course together with its enrollment jobs and statistics. This is a non-cascade delete:
+     * everything else in the course should have been deleted before, as a deletion job does.
+     */
+    public void deleteCourse(String courseId) {
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
+        studentsLogic.deleteCourseStatistics(courseId);
+        coursesDb.deleteCourse(courseId);
+    }
+
     /**
      * Permanently deletes all courses in Recycle Bin.
      * This will also cascade the data in other databases which are related to these courses.
@@ -754,8 +667,8 @@ public final class CoursesLogic {
      */
     public String getCourseStudentListAsCsv(String courseId, String googleId) throws EntityDoesNotExistException {
 
-        Map<String, CourseDetailsBundle> courses = getCourseSummariesForInstructor(googleId, false);
-        CourseDetailsBundle course = courses.get(courseId);
+        instructorsLogic.verifyInstructorExists(googleId);
+        CourseDetailsBundle course = getCourseSummary(courseId);
         boolean hasSection = hasIndicatedSections(courseId);
 
         StringBuilder export = new StringBuilder(100);
@@ -795,13 +708,7 @@ public final class CoursesLogic {
     public boolean hasIndicatedSections(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentList = studentsLogic.getStudentsForCourse(courseId);
-        for (StudentAttributes student : studentList) {
-            if (!student.section.equals(Const.DEFAULT_SECTION)) {
-                return true;
-            }
-        }
-        return false;
+        return !studentsLogic.getCourseStructure(courseId).getSectionNames().isEmpty();
     }
 
     /**
@@ -0,0 +1,281 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import teammates.common.datatransfer.DeletionJobScope;
+import teammates.common.datatransfer.DeletionJobStage;
+import teammates.common.datatransfer.DeletionJobStatus;
+import teammates.common.datatransfer.DeletionPage;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.storage.api.DeletionJobsDb;
+
+/**
+ * Handles operations related to deletion jobs, which do cascade deletes in the background.
+ *
+ * <p>Each call to {@link #deleteNextPageForDeletionJob} deletes one page of one kind of entities,
+ * reading as little of them as possible, and records where the job stands. The pages are identified by cursors
+ * and deleting an entity twice has no effect, so a page which is deleted again, e.g. when its task is retried,
+ * leaves the job as it would have been otherwise.
+ *
+ * @see DeletionJobAttributes
+ * @see DeletionJobsDb
+ */
+public final class DeletionJobsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * The number of entities deleted per page, which is the most the datastore accepts in a single batch delete.
+     */
+    private static final int DELETION_PAGE_SIZE = 500;
+
+    /**
+     * The number of students deleted per page when the responses given by or to them are deleted with them,
+     * as a few queries are needed to find the responses of each student.
+     */
+    private static final int STUDENT_CASCADE_DELETION_PAGE_SIZE = 50;
+
+    private static DeletionJobsLogic instance = new DeletionJobsLogic();
+
+    private static final DeletionJobsDb deletionJobsDb = new DeletionJobsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private DeletionJobsLogic() {
+        // prevent initialization
+    }
+
+    public static DeletionJobsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Creates a job to delete the course and everything in it.
+     */
+    public DeletionJobAttributes createCourseDeletionJob(String courseId) throws InvalidParametersException {
+        return createDeletionJob(new DeletionJobAttributes(DeletionJobScope.COURSE, courseId, null));
+    }
+
+    /**
+     * Creates a job to delete the feedback session and everything in it.
+     * The session is marked as being deleted before the job is created, so that no job is left behind
+     * for a session which could not be marked, and nothing is added to the session while the job runs.
+     * The mark is cleared again if the job cannot be created.
+     *
+     * @see FeedbackSessionsLogic#setFeedbackSessionBeingDeleted(String, String, boolean)
+     */
+    public DeletionJobAttributes createFeedbackSessionDeletionJob(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        DeletionJobAttributes job =
+                new DeletionJobAttributes(DeletionJobScope.FEEDBACK_SESSION, courseId, feedbackSessionName);
+        List<DeletionJobAttributes> failedJobs = getFailedJobsWithSameScope(job);
+
+        fsLogic.setFeedbackSessionBeingDeleted(feedbackSessionName, courseId, true);
+        try {
+            return createDeletionJob(job, failedJobs);
+        } catch (InvalidParametersException | RuntimeException e) {
+            fsLogic.setFeedbackSessionBeingDeleted(feedbackSessionName, courseId, false);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a job to delete all the students of the course, together with the responses given by or to them.
+     */
+    public DeletionJobAttributes createStudentsDeletionJob(String courseId) throws InvalidParametersException {
+        return createDeletionJob(new DeletionJobAttributes(DeletionJobScope.STUDENTS_IN_COURSE, courseId, null));
+    }
+
+    private DeletionJobAttributes createDeletionJob(DeletionJobAttributes job) throws InvalidParametersException {
+        return createDeletionJob(job, getFailedJobsWithSameScope(job));
+    }
+
+    /**
+     * Creates the deletion job, replacing the given failed jobs which deleted the same entities,
+     * as the new job deletes what they left behind.
+     */
+    private DeletionJobAttributes createDeletionJob(DeletionJobAttributes job, List<DeletionJobAttributes> failedJobs)
+            throws InvalidParametersException {
+        deletionJobsDb.deleteEntities(failedJobs);
+
+        deletionJobsDb.createDeletionJob(job);
+        log.info("Created " + job.toString());
+        return job;
+    }
+
+    /**
+     * Returns the failed jobs which deleted the same entities as the given job.
+     *
+     * @throws InvalidParametersException if a job deleting the same entities is still in progress
+     */
+    private List<DeletionJobAttributes> getFailedJobsWithSameScope(DeletionJobAttributes job)
+            throws InvalidParametersException {
+        List<DeletionJobAttributes> failedJobs = new ArrayList<>();
+        for (DeletionJobAttributes otherJob : deletionJobsDb.getDeletionJobsForCourse(job.getCourseId())) {
+            if (!isSameScope(otherJob, job)) {
+                continue;
+            }
+            if (otherJob.isInProgress()) {
+                throw new InvalidParametersException(Const.StatusMessages.DELETION_ALREADY_IN_PROGRESS);
+            }
+            if (otherJob.isFailed()) {
+                failedJobs.add(otherJob);
+            }
+        }
+        return failedJobs;
+    }
+
+    private boolean isSameScope(DeletionJobAttributes job, DeletionJobAttributes otherJob) {
+        return job.getScope() == otherJob.getScope()
+                && Objects.equals(job.getFeedbackSessionName(), otherJob.getFeedbackSessionName());
+    }
+
+    public DeletionJobAttributes getDeletionJob(String deletionJobId) {
+        return deletionJobsDb.getDeletionJob(deletionJobId);
+    }
+
+    /**
+     * Returns true if all the students of the course are being deleted, in which case no students should be
+     * enrolled in the course, as they could be deleted together with the others.
+     */
+    public boolean isStudentsDeletionInProgress(String courseId) {
+        for (DeletionJobAttributes job : deletionJobsDb.getDeletionJobsForCourse(courseId)) {
+            if (job.getScope() == DeletionJobScope.STUDENTS_IN_COURSE && job.isInProgress()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the deletion jobs of the course which are in progress or have failed, oldest first.
+     */
+    public List<DeletionJobAttributes> getUnfinishedDeletionJobsForCourse(String courseId) {
+        List<DeletionJobAttributes> unfinishedJobs = new ArrayList<>();
+        for (DeletionJobAttributes job : deletionJobsDb.getDeletionJobsForCourse(courseId)) {
+            if (job.getStatus() != DeletionJobStatus.COMPLETED) {
+                unfinishedJobs.add(job);
+            }
+        }
+        unfinishedJobs.sort(Comparator.comparing(DeletionJobAttributes::getCreatedAt));
+        return unfinishedJobs;
+    }
+
+    /**
+     * Deletes the next page of entities of the deletion job, and records the position after the page
+     * and the number of entities deleted so far. The job is completed when the last page of its last stage is deleted.
+     *
+     * @return the job after the page is deleted. Nothing is deleted if the job is not in progress.
+     */
+    public DeletionJobAttributes deleteNextPageForDeletionJob(String deletionJobId)
+            throws EntityDoesNotExistException {
+        DeletionJobAttributes job = deletionJobsDb.getDeletionJob(deletionJobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Deletion job does not exist: " + deletionJobId);
+        }
+        if (!job.isInProgress()) {
+            return job;
+        }
+
+        DeletionPage page = deletePage(job);
+
+        job.setNumberOfEntitiesDeleted(job.getNumberOfEntitiesDeleted() + page.getNumberOfEntitiesDeleted());
+        job.setCursor(page.getNextCursor());
+        if (!page.hasNextPage()) {
+            DeletionJobStage nextStage = job.getScope().getNextStage(job.getStage());
+            if (nextStage == null) {
+                job.setStatus(DeletionJobStatus.COMPLETED);
+            } else {
+                job.setStage(nextStage);
+            }
+        }
+
+        try {
+            deletionJobsDb.updateDeletionJob(job);
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Invalid deletion job detected unexpectedly: " + job.toString());
+        }
+        log.info("Deleted " + page.getNumberOfEntitiesDeleted() + " entities: " + job.toString());
+        return job;
+    }
+
+    /**
+     * Stops the deletion job, keeping the number of entities deleted so far for the instructor to see.
+     * The entities not deleted yet are left as they are; they are deleted by the next job for the same scope.
+     * A feedback session which is not deleted yet is no longer marked as being deleted,
+     * so that it is shown and sent about again with the settings it had before.
+     */
+    public void failDeletionJob(String deletionJobId) throws EntityDoesNotExistException {
+        DeletionJobAttributes job = deletionJobsDb.getDeletionJob(deletionJobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Deletion job does not exist: " + deletionJobId);
+        }
+
+        job.setStatus(DeletionJobStatus.FAILED);
+        try {
+            deletionJobsDb.updateDeletionJob(job);
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Invalid deletion job detected unexpectedly: " + job.toString());
+        }
+        log.info("Failed " + job.toString());
+
+        if (job.getScope() == DeletionJobScope.FEEDBACK_SESSION) {
+            try {
+                fsLogic.setFeedbackSessionBeingDeleted(job.getFeedbackSessionName(), job.getCourseId(), false);
+            } catch (EntityDoesNotExistException e) {
+                // the session itself has been deleted already
+            }
+        }
+    }
+
+    private DeletionPage deletePage(DeletionJobAttributes job) {
+        String courseId = job.getCourseId();
+        String feedbackSessionName = job.getFeedbackSessionName();
+        String cursor = job.getCursor();
+        boolean isStudentsOnly = job.getScope() == DeletionJobScope.STUDENTS_IN_COURSE;
+
+        switch (job.getStage()) {
+        case FEEDBACK_RESPONSE_COMMENTS:
+            return frcLogic.deleteFeedbackResponseCommentsPage(courseId, feedbackSessionName, cursor, DELETION_PAGE_SIZE);
+        case FEEDBACK_RESPONSES:
+            return frLogic.deleteFeedbackResponsesPage(courseId, feedbackSessionName, cursor, DELETION_PAGE_SIZE);
+        case FEEDBACK_QUESTIONS:
+            return fqLogic.deleteFeedbackQuestionsPage(courseId, feedbackSessionName, cursor, DELETION_PAGE_SIZE);
+        case FEEDBACK_SESSION_RESPONDENTS:
+            return isStudentsOnly
+                    ? fsLogic.deleteStudentRespondentsPage(courseId, cursor, DELETION_PAGE_SIZE)
+                    : fsLogic.deleteFeedbackSessionRespondentsPage(
+                            courseId, feedbackSessionName, cursor, DELETION_PAGE_SIZE);
+        case FEEDBACK_SESSIONS:
+            return fsLogic.deleteFeedbackSessionsPage(courseId, feedbackSessionName, cursor, DELETION_PAGE_SIZE);
+        case STUDENTS:
+            // when the whole course is deleted, the responses of the students have been deleted in earlier stages
+            return isStudentsOnly
+                    ? studentsLogic.deleteStudentsPage(courseId, cursor, STUDENT_CASCADE_DELETION_PAGE_SIZE, true)
+                    : studentsLogic.deleteStudentsPage(courseId, cursor, DELETION_PAGE_SIZE, false);
+        case INSTRUCTORS:
+            return instructorsLogic.deleteInstructorsPage(courseId, cursor, DELETION_PAGE_SIZE);
+        case COURSE:
+            coursesLogic.deleteCourse(courseId);
+            return new DeletionPage(1, null);
+        default:
+            Assumption.fail("Unknown deletion job stage: " + job.getStage());
+            return null;
+        }
+    }
+
+}
@@ -7,9 +7,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -320,6 +322,52 @@ public final class FeedbackQuestionsLogic {
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
 
+        String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+        CourseRoster roster;
+
+        // loads only the part of the course roster the recipient type needs
+        switch (question.recipientType) {
+        case STUDENTS:
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(question.courseId), null);
+            break;
+        case INSTRUCTORS:
+            roster = new CourseRoster(null, instructorsLogic.getInstructorsForCourse(question.courseId));
+            break;
+        case TEAMS:
+            coursesLogic.verifyCourseIsPresent(question.courseId);
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(question.courseId), null);
+            break;
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            roster = new CourseRoster(studentsLogic.getStudentsForTeam(giverTeam, question.courseId), null);
+            break;
+        default:
+            roster = new CourseRoster(null, null);
+            break;
+        }
+
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
+    }
+
+    /**
+     * Gets the recipients the giver can give responses to for the question.
+     * The giver and the recipients are looked up in the {@code roster} of the course,
+     * so that the recipients of many questions can be found with one load of the roster.
+     */
+    public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver,
+            CourseRoster roster) {
+        return getRecipientsForQuestion(question, giver,
+                roster.getInstructorForEmail(giver), roster.getStudentForEmail(giver), roster);
+    }
+
+    /**
+     * Gets the recipients the given instructor or student can give responses to for the question.
+     * The recipients are looked up in the {@code roster} of the course.
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
         Map<String, String> recipients = new HashMap<>();
 
         FeedbackParticipantType recipientType = question.recipientType;
@@ -335,8 +383,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -344,8 +391,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -353,12 +399,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getTeamNames()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -366,16 +411,14 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (StudentAttributes student : roster.getTeamMembers(giverTeam)) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
             }
@@ -389,6 +432,23 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    /**
+     * Returns true if the recipients of the question are looked up in the roster of the course,
+     * and false if they are known from the giver alone.
+     */
+    public boolean isRosterNeededForRecipients(FeedbackQuestionAttributes question) {
+        switch (question.recipientType) {
+        case STUDENTS:
+        case INSTRUCTORS:
+        case TEAMS:
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
             StudentAttributes studentGiver) {
         String giverTeam = defaultTeam;
@@ -407,8 +467,21 @@ public final class FeedbackQuestionsLogic {
                        .isEmpty();
     }
 
-    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
-            throws EntityDoesNotExistException {
+    /**
+     * Returns true if the user has given the question as many responses as it needs.
+     * The recipients of the question are counted from the {@code roster} of the course.
+     */
+    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email,
+            CourseRoster roster) {
+        return isQuestionFullyAnsweredByUser(question, email, () -> roster);
+    }
+
+    /**
+     * Returns true if the user has given the question as many responses as it needs.
+     * The roster of the course is only taken from {@code rosterSupplier} if the recipients have to be counted.
+     */
+    public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email,
+            Supplier<CourseRoster> rosterSupplier) {
 
         int numberOfResponsesGiven =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
@@ -416,7 +489,7 @@ public final class FeedbackQuestionsLogic {
                 question.numberOfEntitiesToGiveFeedbackTo;
 
         if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
-            numberOfResponsesNeeded = getRecipientsForQuestion(question, email).size();
+            numberOfResponsesNeeded = getRecipientsForQuestion(question, email, rosterSupplier.get()).size();
         }
 
         return numberOfResponsesGiven >= numberOfResponsesNeeded;
@@ -597,6 +670,17 @@ public final class FeedbackQuestionsLogic {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the questions in the course, or in the session if {@code feedbackSessionName} is not null.
+     * This is a non-cascade delete and the responses to the questions should be handled.
+     *
+     * @see FeedbackQuestionsDb#deleteFeedbackQuestionsPage
+     */
+    public DeletionPage deleteFeedbackQuestionsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return fqDb.deleteFeedbackQuestionsPage(courseId, feedbackSessionName, cursor, pageSize);
+    }
+
     /**
      * Deletes a question.<br> Question is identified by it's question number, and
      * the feedback session name and course ID of the question.<br>
@@ -645,13 +729,12 @@ public final class FeedbackQuestionsLogic {
      * Removes questions with no recipients.
      */
     public List<FeedbackQuestionAttributes> getQuestionsWithRecipients(
-            List<FeedbackQuestionAttributes> questions, String giver)
-            throws EntityDoesNotExistException {
+            List<FeedbackQuestionAttributes> questions, String giver, CourseRoster roster) {
         List<FeedbackQuestionAttributes> questionsWithRecipients = new ArrayList<>();
         for (FeedbackQuestionAttributes question : questions) {
             int numRecipients = question.numberOfEntitiesToGiveFeedbackTo;
             if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS) {
-                numRecipients = this.getRecipientsForQuestion(question, giver)
+                numRecipients = this.getRecipientsForQuestion(question, giver, roster)
                         .size();
             }
             if (numRecipients > 0) {
@@ -1,10 +1,12 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.UserRole;
@@ -168,6 +170,20 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+    }
+
+    /**
+     * Deletes one page of the comments in the course, or in the session if {@code feedbackSessionName} is not null.
+     *
+     * @see FeedbackResponseCommentsDb#deleteFeedbackResponseCommentsPage
+     */
+    public DeletionPage deleteFeedbackResponseCommentsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return frcDb.deleteFeedbackResponseCommentsPage(courseId, feedbackSessionName, cursor, pageSize);
+    }
+
     public void deleteFeedbackResponseComment(FeedbackResponseCommentAttributes feedbackResponseComment) {
         frcDb.deleteEntity(feedbackResponseComment);
     }
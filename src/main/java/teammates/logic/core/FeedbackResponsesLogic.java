@@ -1,13 +1,19 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
@@ -18,6 +24,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackResponsesDb;
 import teammates.storage.entity.FeedbackResponse;
@@ -83,6 +90,33 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Returns the responses in the session, read lazily in pages of {@link Const#RESPONSE_STREAMING_PAGE_SIZE}.
+     * See {@link FeedbackResponsesDb#streamFeedbackResponsesForSession}.
+     */
+    public Iterable<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId) {
+        return frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId, Const.RESPONSE_STREAMING_PAGE_SIZE);
+    }
+
+    /**
+     * Returns the responses to the question given from the section, read one page at a time.
+     * See {@link FeedbackResponsesDb#streamFeedbackResponsesForQuestionFromSection}.
+     */
+    public Iterable<FeedbackResponseAttributes> streamFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String giverSection) {
+        return frDb.streamFeedbackResponsesForQuestionFromSection(
+                feedbackQuestionId, giverSection, Const.RESPONSE_STREAMING_PAGE_SIZE);
+    }
+
+    /**
+     * Returns one page of the responses in the session. See {@link FeedbackResponsesDb#getFeedbackResponsesForSessionPage}.
+     */
+    public AttributesPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+        return frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
         if (section == null) {
@@ -188,6 +222,11 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForSessionWithinRange(giverEmail, feedbackSessionName, courseId, range);
     }
 
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesFromGiverForSession(giverEmail, feedbackSessionName, courseId);
+    }
+
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
 
         return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
@@ -221,10 +260,11 @@ public final class FeedbackResponsesLogic {
             UserRole role, String section) {
 
         List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
+        Set<String> viewableResponseIds = new HashSet<>();
 
         // Add responses that the user submitted himself
         addNewResponses(
-                viewableResponses,
+                viewableResponses, viewableResponseIds,
                 getFeedbackResponsesFromGiverForQuestionInSection(
                         question.getId(), userEmail, section));
 
@@ -232,7 +272,7 @@ public final class FeedbackResponsesLogic {
         // receiver.
         if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
             addNewResponses(
-                    viewableResponses,
+                    viewableResponses, viewableResponseIds,
                     getFeedbackResponsesForReceiverForQuestionInSection(
                             question.getId(), userEmail, section));
         }
@@ -240,12 +280,12 @@ public final class FeedbackResponsesLogic {
         switch (role) {
         case STUDENT:
             // many queries
-            addNewResponses(viewableResponses,
+            addNewResponses(viewableResponses, viewableResponseIds,
                             getViewableFeedbackResponsesForStudentForQuestion(question, userEmail));
             break;
         case INSTRUCTOR:
             if (question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
-                addNewResponses(viewableResponses,
+                addNewResponses(viewableResponses, viewableResponseIds,
                                 getFeedbackResponsesForQuestionInSection(question.getId(), section));
             }
             break;
@@ -257,6 +297,57 @@ public final class FeedbackResponsesLogic {
         return viewableResponses;
     }
 
+    /**
+     * Gets the responses to the given questions of a session which the student can view,
+     * i.e. the same responses as {@link #getViewableFeedbackResponsesForQuestionInSection} gives for each question.
+     *
+     * <p>Only the responses given by or to the student, the student's team or its members are read,
+     * together with the responses to the questions whose responses are visible to all students.
+     * The visibility rules are then applied against the {@code roster}, so the number of datastore calls
+     * does not depend on the number of questions whose responses are not visible to all students.
+     *
+     * @return the viewable responses of each question with any, keyed by question ID.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getViewableFeedbackResponsesForStudentInSession(
+            String feedbackSessionName, String courseId, List<FeedbackQuestionAttributes> questions,
+            String studentEmail, String section, CourseRoster roster) {
+
+        Map<String, FeedbackQuestionAttributes> questionsById = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionsById.put(question.getId(), question);
+        }
+        StudentAttributes student = roster.getStudentForEmail(studentEmail);
+
+        Set<String> participants = new LinkedHashSet<>();
+        participants.add(studentEmail);
+        if (student != null) {
+            participants.add(student.team);
+            for (StudentAttributes teamMember : roster.getTeamMembers(student.team)) {
+                participants.add(teamMember.email);
+            }
+        }
+        List<FeedbackResponseAttributes> candidateResponses = new ArrayList<>();
+        Set<String> candidateResponseIds = new HashSet<>();
+        addNewResponses(candidateResponses, candidateResponseIds,
+                frDb.getFeedbackResponsesForSessionFromOrToUsers(feedbackSessionName, courseId, participants));
+        for (FeedbackQuestionAttributes question : questions) {
+            if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                addNewResponses(candidateResponses, candidateResponseIds,
+                        getFeedbackResponsesForQuestion(question.getId()));
+            }
+        }
+
+        Map<String, List<FeedbackResponseAttributes>> viewableResponses = new HashMap<>();
+        for (FeedbackResponseAttributes response : candidateResponses) {
+            FeedbackQuestionAttributes question = questionsById.get(response.feedbackQuestionId);
+            if (question != null && isResponseViewableByStudent(question, response, studentEmail, student, section,
+                                                                 roster)) {
+                viewableResponses.computeIfAbsent(question.getId(), id -> new ArrayList<>()).add(response);
+            }
+        }
+        return viewableResponses;
+    }
+
     public boolean isNameVisibleToUser(
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
@@ -443,6 +534,61 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Updates the given responses as {@link #updateFeedbackResponse(FeedbackResponseAttributes)} does,
+     * but with a constant number of datastore round trips: the existing responses are read in one batch,
+     * and the responses with unchanged giver and recipient are written in one batch.
+     * Responses whose giver or recipient is changed are recreated together.
+     *
+     * @throws InvalidParametersException if any of the responses is invalid, in which case none is updated.
+     * @throws EntityAlreadyExistsException if a response to be recreated clashes with an existing response.
+     *         The other responses are still updated.
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes responseToUpdate : responsesToUpdate) {
+            if (responseToUpdate.getId() == null) {
+                // cannot be read by ID in the batch
+                updateFeedbackResponse(responseToUpdate);
+            } else {
+                responseIds.add(responseToUpdate.getId());
+            }
+        }
+        Map<String, FeedbackResponse> oldResponseEntities = frDb.getFeedbackResponseEntities(responseIds);
+
+        List<FeedbackResponseAttributes> responsesToUpdateInPlace = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        List<FeedbackResponseAttributes> oldResponsesToReplace = new ArrayList<>();
+        for (FeedbackResponseAttributes responseToUpdate : responsesToUpdate) {
+            if (responseToUpdate.getId() == null) {
+                continue;
+            }
+            FeedbackResponse oldResponseEntity = oldResponseEntities.get(responseToUpdate.getId());
+            if (oldResponseEntity == null) {
+                throw new EntityDoesNotExistException(
+                        "Trying to update a feedback response that does not exist.");
+            }
+
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(responseToUpdate);
+            FeedbackResponseAttributes oldResponse = new FeedbackResponseAttributes(oldResponseEntity);
+            copyFixedValuesFromOldToNew(newResponse, oldResponse);
+
+            if (newResponse.recipient.equals(oldResponse.recipient)
+                    && newResponse.giver.equals(oldResponse.giver)) {
+                responsesToUpdateInPlace.add(newResponse);
+            } else {
+                newResponse.setId(null);
+                responsesToRecreate.add(newResponse);
+                oldResponsesToReplace.add(oldResponse);
+            }
+        }
+
+        frDb.updateFeedbackResponsesOptimized(responsesToUpdateInPlace, oldResponseEntities);
+        recreateResponses(responsesToRecreate, oldResponsesToReplace);
+    }
+
     /**
      * Copies values that cannot be changed to defensively avoid invalid parameters.
      * @param newResponse  values are copied from oldResponse
@@ -488,6 +634,44 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Recreates the responses in {@code newResponses} in place of the corresponding responses in
+     * {@code oldResponses}, as {@link #recreateResponse} does, creating and deleting all of them in one batch each.
+     */
+    private void recreateResponses(
+            List<FeedbackResponseAttributes> newResponses, List<FeedbackResponseAttributes> oldResponses)
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        if (newResponses.isEmpty()) {
+            return;
+        }
+
+        Set<FeedbackResponseAttributes> clashingResponses = Collections.newSetFromMap(new IdentityHashMap<>());
+        clashingResponses.addAll(frDb.createEntities(newResponses));
+
+        List<FeedbackResponseAttributes> replacedResponses = new ArrayList<>();
+        for (int i = 0; i < newResponses.size(); i++) {
+            if (!clashingResponses.contains(newResponses.get(i))) {
+                replacedResponses.add(oldResponses.get(i));
+            }
+        }
+        frDb.deleteEntities(replacedResponses);
+
+        for (int i = 0; i < newResponses.size(); i++) {
+            FeedbackResponseAttributes newResponse = newResponses.get(i);
+            if (!clashingResponses.contains(newResponse)) {
+                frcLogic.updateFeedbackResponseCommentsForChangingResponseId(
+                        oldResponses.get(i).getId(), newResponse.toEntity().getId());
+            }
+        }
+
+        if (!clashingResponses.isEmpty()) {
+            log.warning("Trying to update an existing response to one that already exists.");
+            throw new EntityAlreadyExistsException(
+                    "Trying to update an existing response to one that already exists: "
+                    + clashingResponses.iterator().next().getIdentificationString());
+        }
+    }
+
     /**
      * Updates responses for a student when his team changes. This is done by
      * deleting responses that are no longer relevant to him in his new team.
@@ -640,6 +824,82 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Adjusts the responses to the question after the teams or sections of some students change,
+     * by the same rules as {@link #updateFeedbackResponseForChangingTeam}
+     * and {@link #updateFeedbackResponseForChangingSection}.
+     *
+     * <p>Only the responses given or received by the students are read, and the responses to adjust are
+     * deleted and updated in one batch each. Adjusting the responses again leaves them unchanged,
+     * so the adjustment can be retried after a failure.
+     *
+     * @param studentsChangingTeam the emails of the students whose team changes
+     * @param newSectionsOfStudents the new sections of the students whose section changes, keyed by the email
+     * @throws EntityDoesNotExistException if the question does not exist
+     */
+    public void updateFeedbackResponsesOfQuestionForChangingTeamsAndSections(String feedbackQuestionId,
+            Set<String> studentsChangingTeam, Map<String, String> newSectionsOfStudents)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question == null) {
+            throw new EntityDoesNotExistException(
+                    "Trying to adjust responses of a feedback question that does not exist: " + feedbackQuestionId);
+        }
+
+        Set<String> students = new HashSet<>(studentsChangingTeam);
+        students.addAll(newSectionsOfStudents.keySet());
+        if (students.isEmpty()) {
+            return;
+        }
+
+        boolean isDeletedByChangeOfGiverTeam = question.giverType == FeedbackParticipantType.TEAMS
+                                               || isRecipientTypeTeamMembers(question);
+        boolean isDeletedByChangeOfRecipientTeam = isRecipientTypeTeamMembers(question);
+
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<>();
+        // the responses are updated in the entities read by the query, instead of reading them again
+        Map<String, FeedbackResponse> entitiesToUpdate = new HashMap<>();
+        for (FeedbackResponse entity
+                : frDb.getFeedbackResponseEntitiesForQuestionFromOrToUsers(feedbackQuestionId, students)) {
+            FeedbackResponseAttributes response = new FeedbackResponseAttributes(entity);
+            boolean shouldDeleteResponse =
+                    isDeletedByChangeOfGiverTeam && studentsChangingTeam.contains(response.giver)
+                    || isDeletedByChangeOfRecipientTeam && studentsChangingTeam.contains(response.recipient);
+            if (shouldDeleteResponse) {
+                responsesToDelete.add(response);
+                continue;
+            }
+
+            String newGiverSection = newSectionsOfStudents.getOrDefault(response.giver, response.giverSection);
+            String newRecipientSection =
+                    newSectionsOfStudents.getOrDefault(response.recipient, response.recipientSection);
+            if (!newGiverSection.equals(response.giverSection)
+                    || !newRecipientSection.equals(response.recipientSection)) {
+                response.giverSection = newGiverSection;
+                response.recipientSection = newRecipientSection;
+                responsesToUpdate.add(response);
+                entitiesToUpdate.put(response.getId(), entity);
+            }
+        }
+
+        frDb.deleteEntities(responsesToDelete);
+
+        frDb.updateFeedbackResponsesOptimized(responsesToUpdate, entitiesToUpdate);
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+        }
+
+        if (!responsesToDelete.isEmpty()) {
+            Set<String> giversOfDeletedResponses = new HashSet<>();
+            for (FeedbackResponseAttributes response : responsesToDelete) {
+                giversOfDeletedResponses.add(response.giver);
+            }
+            fsLogic.updateRespondentsForGivers(
+                    question.feedbackSessionName, question.courseId, giversOfDeletedResponses);
+        }
+    }
+
     /**
      * Updates responses for a student when his email changes.
      */
@@ -682,6 +942,18 @@ public final class FeedbackResponsesLogic {
         frDb.deleteEntity(responseToDelete);
     }
 
+    /**
+     * Deletes the given feedback responses and their comments in batches.
+     */
+    public void deleteFeedbackResponsesAndCascade(Collection<FeedbackResponseAttributes> responsesToDelete) {
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            responseIds.add(response.getId());
+        }
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        frDb.deleteEntities(responsesToDelete);
+    }
+
     public void deleteFeedbackResponsesForQuestionAndCascade(
             String feedbackQuestionId, boolean hasResponseRateUpdate) {
         List<FeedbackResponseAttributes> responsesForQuestion =
@@ -689,8 +961,8 @@ public final class FeedbackResponsesLogic {
 
         Set<String> emails = new HashSet<>();
 
+        deleteFeedbackResponsesAndCascade(responsesForQuestion);
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
             emails.add(response.giver);
         }
 
@@ -742,9 +1014,31 @@ public final class FeedbackResponsesLogic {
             responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
-        }
+        deleteFeedbackResponsesAndCascade(responses);
+    }
+
+    /**
+     * Deletes all the responses in the course given by or to any of {@code participants}, which are the emails
+     * of users or the names of teams, together with the comments on the responses.
+     * Unlike {@link #deleteFeedbackResponsesForStudentAndCascade}, the responses to a team are deleted
+     * whether or not the team has other members, as this is used when all the students of a course are deleted.
+     */
+    public void deleteFeedbackResponsesForParticipantsAndCascade(String courseId, Collection<String> participants) {
+        List<String> responseIds = frDb.getFeedbackResponseIdsForParticipants(courseId, participants);
+        // the comments are deleted first, so that they can still be found if the responses fail to be deleted
+        frcLogic.deleteFeedbackResponseCommentsForResponses(responseIds);
+        frDb.deleteFeedbackResponsesByIds(responseIds);
+    }
+
+    /**
+     * Deletes one page of the responses in the course, or in the session if {@code feedbackSessionName} is not null.
+     * This is a non-cascade delete and the comments of the responses should be handled.
+     *
+     * @see FeedbackResponsesDb#deleteFeedbackResponsesPage
+     */
+    public DeletionPage deleteFeedbackResponsesPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return frDb.deleteFeedbackResponsesPage(courseId, feedbackSessionName, cursor, pageSize);
     }
 
     /**
@@ -759,22 +1053,55 @@ public final class FeedbackResponsesLogic {
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
+     * {@code existingResponseIds} holds the IDs of {@code existingResponses} and is kept up to date.
      */
     private void addNewResponses(
-            List<FeedbackResponseAttributes> existingResponses,
+            List<FeedbackResponseAttributes> existingResponses, Set<String> existingResponseIds,
             List<FeedbackResponseAttributes> newResponses) {
 
-        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
-
-        for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            responses.put(existingResponse.getId(), existingResponse);
-        }
         for (FeedbackResponseAttributes newResponse : newResponses) {
-            responses.computeIfAbsent(newResponse.getId(), key -> {
+            if (existingResponseIds.add(newResponse.getId())) {
                 existingResponses.add(newResponse);
-                return newResponse;
-            });
+            }
+        }
+    }
+
+    /**
+     * Checks the response against the rules of {@link #getViewableFeedbackResponsesForQuestionInSection}
+     * for a student.
+     */
+    private boolean isResponseViewableByStudent(
+            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
+            String studentEmail, StudentAttributes student, String section, CourseRoster roster) {
+
+        boolean isInSection = section == null
+                || section.equals(response.giverSection) || section.equals(response.recipientSection);
+        if (isInSection && response.giver.equals(studentEmail)) {
+            return true;
+        }
+        if (isInSection && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.recipient.equals(studentEmail)) {
+            return true;
+        }
+
+        if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+            return true;
+        }
+        if (student == null) {
+            return false;
+        }
+
+        if (question.recipientType.isTeam() && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.recipient.equals(student.team)) {
+            return true;
+        }
+        if ((question.giverType == FeedbackParticipantType.TEAMS
+                || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                && (response.giver.equals(student.team) || roster.isStudentInTeam(response.giver, student.team))) {
+            return true;
         }
+        return question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && !response.recipient.equals(studentEmail) && roster.isStudentInTeam(response.recipient, student.team);
     }
 
     private List<FeedbackResponseAttributes> getFeedbackResponsesFromTeamForQuestion(
@@ -818,9 +1145,10 @@ public final class FeedbackResponsesLogic {
             FeedbackQuestionAttributes question, String studentEmail) {
 
         List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
+        Set<String> viewableResponseIds = new HashSet<>();
 
         if (question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            addNewResponses(viewableResponses,
+            addNewResponses(viewableResponses, viewableResponseIds,
                     getFeedbackResponsesForQuestion(question.getId()));
 
             // Early return as STUDENTS covers all other student types.
@@ -831,21 +1159,21 @@ public final class FeedbackResponsesLogic {
         if (question.recipientType.isTeam()
                 && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
             addNewResponses(
-                    viewableResponses,
+                    viewableResponses, viewableResponseIds,
                     getFeedbackResponsesForReceiverForQuestion(
                             question.getId(), student.team));
         }
 
         if (question.giverType == FeedbackParticipantType.TEAMS
                 || question.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)) {
-            addNewResponses(viewableResponses,
+            addNewResponses(viewableResponses, viewableResponseIds,
                     getFeedbackResponsesFromTeamForQuestion(
                             question.getId(), question.courseId, student.team));
         }
         if (question
                 .isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
             addNewResponses(
-                    viewableResponses,
+                    viewableResponses, viewableResponseIds,
                     getFeedbackResponsesForTeamMembersOfStudent(
                             question.getId(), student));
         }
@@ -1,8 +1,13 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,12 +17,20 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.google.common.hash.Hashing;
+
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantIndex;
+import teammates.common.datatransfer.ResponseVisibilityEvaluator;
+import teammates.common.datatransfer.ResponseVisibilityTable;
+import teammates.common.datatransfer.SessionCompletionIndex;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -62,8 +75,11 @@ public final class FeedbackSessionsLogic {
     private static final String PARAM_TO_SECTION = "toSection";
     private static final String PARAM_VIEW_TYPE = "viewType";
 
+    private static final String RESULTS_EXPORT_DIRECTORY = "results-exports/";
+
     private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ASSUMPTION_FAIL_RESPONSE_ORIGIN = "Client did not indicate the origin of the response(s)";
+
     private static final String ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE = "Number of responses exceeds the limited range";
     private static final String ERROR_NON_EXISTENT_COURSE = "Error getting feedback session(s): Course does not exist.";
     private static final String ERROR_NON_EXISTENT_STUDENT = "Error getting feedback session(s): Student does not exist.";
@@ -117,6 +133,14 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSession(courseId, feedbackSessionName);
     }
 
+    /**
+     * Returns a single feedback session together with all its respondents, which are left out by
+     * {@link #getFeedbackSession}. Returns null if not found.
+     */
+    public FeedbackSessionAttributes getFeedbackSessionWithRespondents(String feedbackSessionName, String courseId) {
+        return fsDb.getFeedbackSessionWithRespondents(courseId, feedbackSessionName);
+    }
+
     public List<FeedbackSessionAttributes> getFeedbackSessionsForCourse(
             String courseId) {
         return fsDb.getFeedbackSessionsForCourse(courseId);
@@ -301,14 +325,12 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> questions =
                 fqLogic.getFeedbackQuestionsForInstructor(feedbackSessionName,
                         courseId, userEmail);
-
-        InstructorAttributes instructorGiver = instructor;
+        LazyCourseRoster roster = new LazyCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
-                    userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructorGiver, null);
+            updateBundleAndRecipientListWithResponsesForInstructor(userEmail, fsa, instructor,
+                    bundle, recipientList, question, roster);
         }
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
@@ -331,34 +353,30 @@ public final class FeedbackSessionsLogic {
 
         FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
 
-        InstructorAttributes instructorGiver = instructor;
-
-        updateBundleAndRecipientListWithResponsesForInstructor(courseId,
-                userEmail, fsa, instructor, bundle, recipientList,
-                question, instructorGiver, null);
+        updateBundleAndRecipientListWithResponsesForInstructor(userEmail, fsa, instructor,
+                bundle, recipientList, question, new LazyCourseRoster(courseId));
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            LazyCourseRoster lazyRoster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
+        CourseRoster roster = lazyRoster.getIfNeededForRecipientsOf(question);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+                fqLogic.getRecipientsForQuestion(question, userEmail, instructor, null, roster);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -366,7 +384,7 @@ public final class FeedbackSessionsLogic {
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -402,20 +420,12 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                 courseId);
-
-        Set<String> hiddenInstructorEmails = null;
-
-        for (FeedbackQuestionAttributes question : questions) {
-            if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
-                break;
-            }
-        }
+        LazyCourseRoster roster = new LazyCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : questions) {
 
             updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+                    bundle, recipientList, question, roster);
         }
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
@@ -442,14 +452,8 @@ public final class FeedbackSessionsLogic {
 
         FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
 
-        Set<String> hiddenInstructorEmails = null;
-
-        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-            hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
-        }
-
         updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                bundle, recipientList, question, hiddenInstructorEmails);
+                bundle, recipientList, question, new LazyCourseRoster(courseId));
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
@@ -460,15 +464,17 @@ public final class FeedbackSessionsLogic {
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            LazyCourseRoster lazyRoster) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
+        CourseRoster roster = lazyRoster.getIfNeededForRecipientsOf(question);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+                fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
 
-        removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
+        if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
+            removeHiddenInstructors(question, responses, recipients, lazyRoster.getHiddenInstructorEmails());
+        }
 
         normalizeMaximumResponseEntities(question, recipients);
 
@@ -516,26 +522,6 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    /**
-     * Returns a {@link Set} of emails of the instructors who are not displayed
-     * to students in the course specified by {@code courseId}.
-     *
-     * @param courseId
-     *            the ID of the course
-     */
-    private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
-        Set<String> hiddenInstructorEmails = new HashSet<>();
-
-        for (InstructorAttributes instructor : instructors) {
-            if (!instructor.isDisplayedToStudents()) {
-                hiddenInstructorEmails.add(instructor.email);
-            }
-        }
-
-        return hiddenInstructorEmails;
-    }
-
     /**
      * Gets the response rate status for a session.
      */
@@ -817,24 +803,9 @@ public final class FeedbackSessionsLogic {
         if (!results.isComplete) {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
-        // sort responses by giver > recipient > qnNumber
-        results.responses.sort(results.compareByGiverRecipientQuestion);
-
         StringBuilder exportBuilder = new StringBuilder(100);
 
-        exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
-                     .append(System.lineSeparator())
-                     .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
-                     .append(System.lineSeparator());
-
-        if (section != null) {
-            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
-                         .append(System.lineSeparator());
-        }
-
-        exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
+        exportBuilder.append(getFeedbackSessionResultsCsvHeader(results.feedbackSession, section));
 
         Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
                 results.getQuestionResponseMap().entrySet();
@@ -847,6 +818,219 @@ public final class FeedbackSessionsLogic {
         return exportBuilder.toString();
     }
 
+    /**
+     * Writes the results of a feedback session in CSV format to {@code writer}, one question at a time.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, only the responses of the question
+     * currently being written are held in memory, so the memory used is bounded by the number of responses
+     * to a single question rather than to the whole session. The output is identical to the one produced
+     * for the whole session.
+     *
+     * @param section if not null, only responses given from this section are included
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = getFeedbackSessionToView(feedbackSessionName, courseId);
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session, questions, userEmail, section, isMissingResponsesShown, isStatsShown, writer);
+    }
+
+    /**
+     * Writes the results of the given questions of the feedback session in CSV format to {@code writer},
+     * one question at a time. This is for callers which have read the session and its questions before
+     * starting the output, so that it cannot fail halfway because they do not exist.
+     *
+     * @see #writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            FeedbackSessionAttributes session, List<FeedbackQuestionAttributes> questions, String userEmail,
+            String section, boolean isMissingResponsesShown, boolean isStatsShown, Writer writer) throws IOException {
+        writer.write(getFeedbackSessionResultsCsvHeader(session, section));
+        writeFeedbackQuestionsResultsInSectionAsCsv(
+                session, questions, userEmail, section, isMissingResponsesShown, isStatsShown, writer);
+    }
+
+    /**
+     * Returns the number of parts in which the CSV results of a feedback session are written
+     * by {@link #writeFeedbackSessionResultsSummaryPartInSectionAsCsv}.
+     */
+    public int getFeedbackSessionResultsSummaryNumberOfParts(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        getFeedbackSessionToView(feedbackSessionName, courseId);
+        return Math.max(1, fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId).size());
+    }
+
+    /**
+     * Writes one part of the CSV results of a feedback session to {@code writer}.
+     * Part {@code i} contains the results of the {@code i}-th question of the session,
+     * and the first part also contains the CSV header. Concatenating all the parts in order gives
+     * the output of {@link #writeFeedbackSessionResultsSummaryInSectionAsCsv}.
+     * Nothing is written for a part beyond the last question, e.g. if questions were deleted
+     * after {@link #getFeedbackSessionResultsSummaryNumberOfParts} was called.
+     */
+    public void writeFeedbackSessionResultsSummaryPartInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail, String section, int partIndex,
+            boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws EntityDoesNotExistException, IOException {
+        Assumption.assertTrue("Invalid part index: " + partIndex, partIndex >= 0);
+
+        FeedbackSessionAttributes session = getFeedbackSessionToView(feedbackSessionName, courseId);
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        if (partIndex == 0) {
+            writer.write(getFeedbackSessionResultsCsvHeader(session, section));
+        }
+        if (partIndex < questions.size()) {
+            writeFeedbackQuestionsResultsInSectionAsCsv(session, questions.subList(partIndex, partIndex + 1),
+                    userEmail, section, isMissingResponsesShown, isStatsShown, writer);
+        }
+    }
+
+    /**
+     * Returns the name of the file in which results of a feedback session exported in the background are stored.
+     * The name is derived from both the session and {@code exportId}, so an export can only be
+     * retrieved through the session it was made for.
+     */
+    public String getFeedbackSessionResultsExportFileName(
+            String feedbackSessionName, String courseId, String exportId) {
+        String exportKey = courseId + "%" + feedbackSessionName + "%" + exportId;
+        return RESULTS_EXPORT_DIRECTORY + Hashing.sha256().hashString(exportKey, StandardCharsets.UTF_8) + ".csv";
+    }
+
+    /**
+     * Returns the name of the file in which one part of an export is stored until all the parts are joined.
+     */
+    public String getFeedbackSessionResultsExportPartFileName(
+            String feedbackSessionName, String courseId, String exportId, int partIndex) {
+        return getFeedbackSessionResultsExportFileName(feedbackSessionName, courseId, exportId) + ".part" + partIndex;
+    }
+
+    /**
+     * Returns the name of the file which marks an export as failed.
+     */
+    public String getFeedbackSessionResultsExportFailureFileName(
+            String feedbackSessionName, String courseId, String exportId) {
+        return getFeedbackSessionResultsExportFileName(feedbackSessionName, courseId, exportId) + ".failed";
+    }
+
+    private FeedbackSessionAttributes getFeedbackSessionToView(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+        return session;
+    }
+
+    private void writeFeedbackQuestionsResultsInSectionAsCsv(
+            FeedbackSessionAttributes session, List<FeedbackQuestionAttributes> questions, String userEmail,
+            String section, boolean isMissingResponsesShown, boolean isStatsShown, Writer writer)
+            throws IOException {
+
+        String courseId = session.getCourseId();
+        String feedbackSessionName = session.getFeedbackSessionName();
+
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+        InstructorAttributes instructor = getInstructor(courseId, userEmail, UserRole.INSTRUCTOR);
+
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsForQuestions = new HashMap<>();
+        for (FeedbackResponseCommentAttributes frc
+                : frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)) {
+            commentsForQuestions.computeIfAbsent(frc.feedbackQuestionId, key -> new ArrayList<>()).add(frc);
+        }
+
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, UserRole.INSTRUCTOR,
+                feedbackSessionName, section);
+
+        for (FeedbackQuestionAttributes question : questions) {
+            // the statistics and missing responses written before the responses need all the responses at once
+            List<FeedbackResponseAttributes> responsesForQuestion = new ArrayList<>();
+            for (FeedbackResponseAttributes response
+                    : frLogic.streamFeedbackResponsesForQuestionFromSection(question.getId(), section)) {
+                responsesForQuestion.add(response);
+            }
+
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForInstructorForQuestionInCsv(
+                    session, question, responsesForQuestion, userEmail, instructor, roster,
+                    commentsForQuestions.getOrDefault(question.getId(), new ArrayList<>()), sectionTeamNameTable);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section));
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Builds a results bundle containing a single question, using data that is shared across all the
+     * questions of the session being exported.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorForQuestionInCsv(
+            FeedbackSessionAttributes session, FeedbackQuestionAttributes question,
+            List<FeedbackResponseAttributes> responsesForQuestion, String userEmail, InstructorAttributes instructor,
+            CourseRoster roster, List<FeedbackResponseCommentAttributes> commentsForQuestion,
+            Map<String, Set<String>> sectionTeamNameTable) {
+
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        relevantQuestions.put(question.getId(), question);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        ParticipantIndex participants = new ParticipantIndex();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        ResponseVisibilityEvaluator visibilityEvaluator =
+                new ResponseVisibilityEvaluator(userEmail, UserRole.INSTRUCTOR, null, instructor, roster);
+
+        for (FeedbackResponseAttributes response : responsesForQuestion) {
+            boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(question, response);
+            if (isVisibleResponse) {
+                responses.add(response);
+                relevantResponse.put(response.getId(), response);
+                addParticipantsToIndex(participants, response, question, roster);
+                visibilityEvaluator.addToTable(visibilityTable, question, response);
+            }
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
+                commentsForQuestion, userEmail, UserRole.INSTRUCTOR, roster, relevantQuestions, null,
+                new HashSet<>(), relevantResponse);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, participants, sectionTeamNameTable,
+                visibilityTable, null, roster, responseComments);
+    }
+
+    private String getFeedbackSessionResultsCsvHeader(FeedbackSessionAttributes session, String section) {
+        StringBuilder headerBuilder = new StringBuilder(100);
+
+        headerBuilder.append(String.format("Course,%s",
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
+                     .append(System.lineSeparator())
+                     .append(String.format("Session Name,%s",
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
+                     .append(System.lineSeparator());
+
+        if (section != null) {
+            headerBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
+                         .append(System.lineSeparator());
+        }
+
+        headerBuilder.append(System.lineSeparator()).append(System.lineSeparator());
+
+        return headerBuilder.toString();
+    }
+
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
             FeedbackSessionResultsBundle fsrBundle,
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
@@ -1043,7 +1227,8 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackSessionAttributes session : sessions) {
             // automated emails are required only for custom publish times
-            if (session.isPublished() && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())) {
+            if (session.isPublished() && !TimeHelper.isSpecialTime(session.getResultsVisibleFromTime())
+                    && !session.isBeingDeleted()) {
                 sessionsToSendEmailsFor.add(session);
             }
         }
@@ -1056,7 +1241,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackSessionAttributes> sessionsToSendEmailsFor = new ArrayList<>();
 
         for (FeedbackSessionAttributes session : sessions) {
-            if (session.isOpened()) {
+            if (session.isOpened() && !session.isBeingDeleted()) {
                 sessionsToSendEmailsFor.add(session);
             }
         }
@@ -1087,7 +1272,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (fsDb.isRespondent(fsa, userEmail, false)) {
             return true;
         }
 
@@ -1101,7 +1286,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (fsDb.isRespondent(fsa, userEmail, true)) {
             return true;
         }
 
@@ -1127,6 +1312,10 @@ public final class FeedbackSessionsLogic {
                                                   + "/" + newSession.getFeedbackSessionName());
         }
 
+        if (oldSession.isBeingDeleted()) {
+            throw new InvalidParametersException(Const.StatusMessages.FEEDBACK_SESSION_BEING_DELETED);
+        }
+
         // These can't be changed anyway. Copy values to defensively avoid
         // invalid parameters.
         newSession.setCreatorEmail(oldSession.getCreatorEmail());
@@ -1177,6 +1366,10 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+    /**
+     * Rebuilds the respondents of the session from all the responses in the session.
+     * Use {@link #updateRespondentsForGivers} when only the responses of some givers have changed.
+     */
     public void updateRespondentsForSession(String feedbackSessionName, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1184,30 +1377,111 @@ public final class FeedbackSessionsLogic {
         clearStudentRespondents(feedbackSessionName, courseId);
 
         FeedbackSessionAttributes fsa = getFeedbackSession(feedbackSessionName, courseId);
-        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        addRespondentsFromResponses(fsa, frLogic.streamFeedbackResponsesForSession(feedbackSessionName, courseId));
+    }
 
-        Map<String, List<String>> instructorQuestionsMap = new HashMap<>();
+    /**
+     * Rebuilds the respondents of the session from one page of its responses, starting from {@code cursor}.
+     * The respondents are cleared when the first page is read, so calling this for each page in turn
+     * rebuilds the respondents without reading all the responses of the session at once.
+     *
+     * @param cursor the cursor returned for the previous page, or null to start from the first page
+     * @return the cursor of the next page, or null if there are no more responses
+     */
+    public String updateRespondentsForSessionPage(String feedbackSessionName, String courseId, String cursor)
+            throws InvalidParametersException, EntityDoesNotExistException {
 
-        for (InstructorAttributes instructor : instructors) {
-            List<FeedbackQuestionAttributes> instructorQns = fqLogic
-                    .getFeedbackQuestionsForInstructor(questions,
-                            fsa.isCreator(instructor.email));
+        FeedbackSessionAttributes fsa = getFeedbackSession(feedbackSessionName, courseId);
+        if (fsa == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
 
-            if (!instructorQns.isEmpty()) {
-                List<String> questionIds = new ArrayList<>();
-                for (FeedbackQuestionAttributes question : instructorQns) {
-                    questionIds.add(question.getId());
+        if (cursor == null) {
+            fsDb.clearInstructorRespondents(fsa);
+            fsDb.clearStudentRespondents(fsa);
+        }
+
+        AttributesPage<FeedbackResponseAttributes> page = frLogic.getFeedbackResponsesForSessionPage(
+                feedbackSessionName, courseId, cursor, Const.RESPONSE_STREAMING_PAGE_SIZE);
+        addRespondentsFromResponses(fsa, page.getAttributes());
+        return page.getNextCursor();
+    }
+
+    /**
+     * Updates whether each of the {@code givers} is an instructor or student respondent of the session,
+     * reading only the responses of the givers instead of all the responses in the session.
+     */
+    public void updateRespondentsForGivers(String feedbackSessionName, String courseId, Collection<String> givers)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        FeedbackSessionAttributes fsa = getFeedbackSession(feedbackSessionName, courseId);
+        if (fsa == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        Set<String> creatorQuestionIds = getQuestionIdsForInstructor(questions, true);
+        Set<String> instructorQuestionIds = getQuestionIdsForInstructor(questions, false);
+
+        List<String> respondingInstructors = new ArrayList<>();
+        List<String> respondingStudents = new ArrayList<>();
+        for (String giver : givers) {
+            Set<String> questionIdsForGiver = Collections.emptySet();
+            if (instructorsLogic.getInstructorForEmail(courseId, giver) != null) {
+                questionIdsForGiver = fsa.isCreator(giver) ? creatorQuestionIds : instructorQuestionIds;
+            }
+
+            boolean isInstructorRespondent = false;
+            boolean isStudentRespondent = false;
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesFromGiverForSession(giver, feedbackSessionName, courseId)) {
+                if (questionIdsForGiver.contains(response.feedbackQuestionId)) {
+                    isInstructorRespondent = true;
+                } else {
+                    isStudentRespondent = true;
                 }
-                instructorQuestionsMap.put(instructor.email, questionIds);
+            }
+
+            if (isInstructorRespondent) {
+                respondingInstructors.add(giver);
+            } else {
+                fsDb.deleteInstructorRespondent(giver, fsa);
+            }
+            if (isStudentRespondent) {
+                respondingStudents.add(giver);
+            } else {
+                fsDb.deleteStudentRespondent(giver, fsa);
             }
         }
 
+        fsDb.addInstructorRespondents(respondingInstructors, fsa);
+        fsDb.addStudentRespondents(respondingStudents, fsa);
+    }
+
+    /**
+     * Adds the givers of the responses as respondents of the session. A giver is an instructor respondent
+     * for responses to the questions for the instructor, and a student respondent for responses to other questions.
+     */
+    private void addRespondentsFromResponses(FeedbackSessionAttributes fsa,
+            Iterable<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+
+        Set<String> creatorQuestionIds = getQuestionIdsForInstructor(questions, true);
+        Set<String> instructorQuestionIds = getQuestionIdsForInstructor(questions, false);
+        Map<String, Set<String>> instructorQuestionsMap = new HashMap<>();
+        for (InstructorAttributes instructor : instructors) {
+            instructorQuestionsMap.put(instructor.email,
+                    fsa.isCreator(instructor.email) ? creatorQuestionIds : instructorQuestionIds);
+        }
+
         Set<String> respondingStudentList = new HashSet<>();
         Set<String> respondingInstructorList = new HashSet<>();
-        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
         for (FeedbackResponseAttributes response : responses) {
-            List<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
+            Set<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
             if (instructorQuestions != null && instructorQuestions.contains(response.feedbackQuestionId)) {
                 respondingInstructorList.add(response.giver);
             } else {
@@ -1219,6 +1493,14 @@ public final class FeedbackSessionsLogic {
         addStudentRespondents(new ArrayList<>(respondingStudentList), feedbackSessionName, courseId);
     }
 
+    private Set<String> getQuestionIdsForInstructor(List<FeedbackQuestionAttributes> questions, boolean isCreator) {
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForInstructor(questions, isCreator)) {
+            questionIds.add(question.getId());
+        }
+        return questionIds;
+    }
+
     public void deleteInstructorFromRespondentsList(InstructorAttributes instructor) {
         if (instructor == null || instructor.email == null) {
             return;
@@ -1399,6 +1681,18 @@ public final class FeedbackSessionsLogic {
         updateFeedbackSession(sessionToUnpublish);
     }
 
+    /**
+     * Marks the feedback session as being deleted in the background, or clears the mark if the deletion failed.
+     * A session being deleted is hidden from students, no emails are sent about it and it cannot be updated,
+     * while its settings are kept as they are.
+     *
+     * @see FeedbackSessionAttributes#isBeingDeleted()
+     */
+    public void setFeedbackSessionBeingDeleted(String feedbackSessionName, String courseId, boolean isBeingDeleted)
+            throws EntityDoesNotExistException {
+        fsDb.setFeedbackSessionBeingDeleted(feedbackSessionName, courseId, isBeingDeleted);
+    }
+
     public List<FeedbackSessionAttributes> getFeedbackSessionsClosingWithinTimeLimit() {
         ArrayList<FeedbackSessionAttributes> requiredSessions = new ArrayList<>();
 
@@ -1406,7 +1700,8 @@ public final class FeedbackSessionsLogic {
                 fsDb.getFeedbackSessionsPossiblyNeedingClosingEmail();
 
         for (FeedbackSessionAttributes session : sessions) {
-            if (session.isClosingWithinTimeLimit(SystemParams.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT)) {
+            if (session.isClosingWithinTimeLimit(SystemParams.NUMBER_OF_HOURS_BEFORE_CLOSING_ALERT)
+                    && !session.isBeingDeleted()) {
                 requiredSessions.add(session);
             }
         }
@@ -1424,7 +1719,7 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackSessionAttributes session : sessions) {
             // is session closed in the past 1 hour
-            if (session.isClosedWithinPastHour()) {
+            if (session.isClosedWithinPastHour() && !session.isBeingDeleted()) {
                 requiredSessions.add(session);
             }
         }
@@ -1454,6 +1749,34 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the sessions in the course, or only the session named {@code feedbackSessionName}
+     * if it is not null. This is a non-cascade delete and everything in the sessions,
+     * including their respondents, should be handled.
+     *
+     * @see FeedbackSessionsDb#deleteFeedbackSessionsPage
+     */
+    public DeletionPage deleteFeedbackSessionsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return fsDb.deleteFeedbackSessionsPage(courseId, feedbackSessionName, cursor, pageSize);
+    }
+
+    /**
+     * Deletes one page of the respondents in the course, or in the session if {@code feedbackSessionName}
+     * is not null.
+     */
+    public DeletionPage deleteFeedbackSessionRespondentsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return fsDb.deleteRespondentsPage(courseId, feedbackSessionName, cursor, pageSize);
+    }
+
+    /**
+     * Deletes one page of the student respondents in all the sessions of the course.
+     */
+    public DeletionPage deleteStudentRespondentsPage(String courseId, String cursor, int pageSize) {
+        return fsDb.deleteStudentRespondentsPage(courseId, cursor, pageSize);
+    }
+
     /**
      * Deletes a specific feedback session, and all its question and responses.
      */
@@ -1500,6 +1823,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
+        fsDb.withRespondents(fsa);
         details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
 
         return details;
@@ -1527,8 +1851,10 @@ public final class FeedbackSessionsLogic {
             UserRole role, String section, CourseRoster roster)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(
-                courseId, feedbackSessionName);
+        // the number of respondents is only shown to instructors
+        FeedbackSessionAttributes session = role == UserRole.INSTRUCTOR
+                ? fsDb.getFeedbackSessionWithRespondents(courseId, feedbackSessionName)
+                : fsDb.getFeedbackSession(courseId, feedbackSessionName);
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
@@ -1537,11 +1863,9 @@ public final class FeedbackSessionsLogic {
         // create empty data containers to store results
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
-        Map<String, String> emailNameTable = new HashMap<>();
-        Map<String, String> emailLastNameTable = new HashMap<>();
-        Map<String, String> emailTeamNameTable = new HashMap<>();
+        ParticipantIndex participants = new ParticipantIndex();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
 
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
@@ -1549,12 +1873,24 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        // for students, the viewable responses of all questions are found in a single scan of the session's responses
+        Map<String, List<FeedbackResponseAttributes>> studentViewableResponses = isStudent(role)
+                ? frLogic.getViewableFeedbackResponsesForStudentInSession(
+                        feedbackSessionName, courseId, allQuestions, userEmail, section, roster)
+                : null;
+        ResponseVisibilityEvaluator visibilityEvaluator =
+                new ResponseVisibilityEvaluator(userEmail, role, null, null, roster);
         for (FeedbackQuestionAttributes question : allQuestions) {
 
             List<FeedbackResponseAttributes> responsesForThisQn;
 
-            responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
-                    question, userEmail, role, section);
+            if (isStudent(role)) {
+                responsesForThisQn = studentViewableResponses.getOrDefault(
+                        question.getId(), new ArrayList<FeedbackResponseAttributes>());
+            } else {
+                responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                        question, userEmail, role, section);
+            }
 
             boolean hasResponses = !responsesForThisQn.isEmpty();
             if (hasResponses) {
@@ -1562,14 +1898,8 @@ public final class FeedbackSessionsLogic {
                 responses.addAll(responsesForThisQn);
                 for (FeedbackResponseAttributes response : responsesForThisQn) {
                     relevantResponse.put(response.getId(), response);
-                    addEmailNamePairsToTable(emailNameTable, response,
-                            question, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response,
-                            question, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response,
-                            question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    addParticipantsToIndex(participants, response, question, roster);
+                    visibilityEvaluator.addToTable(visibilityTable, question, response);
                 }
             }
         }
@@ -1577,11 +1907,11 @@ public final class FeedbackSessionsLogic {
         StudentAttributes student = null;
         Set<String> studentsEmailInTeam = new HashSet<>();
         if (isStudent(role)) {
-            student = studentsLogic.getStudentForEmail(courseId, userEmail);
-            List<StudentAttributes> studentsInTeam = studentsLogic
-                    .getStudentsForTeam(student.team, courseId);
-            for (StudentAttributes teammates : studentsInTeam) {
-                studentsEmailInTeam.add(teammates.email);
+            student = roster.getStudentForEmail(userEmail);
+            for (StudentAttributes teammates : roster.getStudents()) {
+                if (teammates.team.equals(student.team)) {
+                    studentsEmailInTeam.add(teammates.email);
+                }
             }
         }
 
@@ -1614,8 +1944,7 @@ public final class FeedbackSessionsLogic {
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
-                        session, responses, relevantQuestions, emailNameTable,
-                        emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                        session, responses, relevantQuestions, participants, sectionTeamNameTable,
                         visibilityTable, responseStatus, roster, responseComments);
     }
 
@@ -1624,7 +1953,10 @@ public final class FeedbackSessionsLogic {
             UserRole role, CourseRoster roster, Map<String, String> params)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        // the number of respondents is only shown to instructors
+        FeedbackSessionAttributes session = role == UserRole.INSTRUCTOR
+                ? fsDb.getFeedbackSessionWithRespondents(courseId, feedbackSessionName)
+                : fsDb.getFeedbackSession(courseId, feedbackSessionName);
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
@@ -1660,11 +1992,9 @@ public final class FeedbackSessionsLogic {
 
         // create empty data containers to store results
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
-        Map<String, String> emailNameTable = new HashMap<>();
-        Map<String, String> emailLastNameTable = new HashMap<>();
-        Map<String, String> emailTeamNameTable = new HashMap<>();
+        ParticipantIndex participants = new ParticipantIndex();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
         FeedbackSessionResponseStatus responseStatus = section == null && isIncludeResponseStatus
                                                      ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
                                                      : null;
@@ -1673,21 +2003,20 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        ResponseVisibilityEvaluator visibilityEvaluator =
+                new ResponseVisibilityEvaluator(userEmail, role, student, instructor, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
+                boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(relatedQuestion, response);
                 if (isVisibleResponse) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
                     relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
-                    addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
-                    addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
-                    addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
+                    addParticipantsToIndex(participants, response, relatedQuestion, roster);
+                    visibilityEvaluator.addToTable(visibilityTable, relatedQuestion, response);
                 }
             }
         }
@@ -1698,8 +2027,7 @@ public final class FeedbackSessionsLogic {
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
-                session, responses, relevantQuestions, emailNameTable,
-                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                session, responses, relevantQuestions, participants, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
     }
 
@@ -1708,9 +2036,18 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
-        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        return getResponseComments(allResponseComments, userEmail, role, roster, relevantQuestions, student,
+                studentsEmailInTeam, relevantResponse);
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1778,11 +2115,9 @@ public final class FeedbackSessionsLogic {
                 boolean isIncludeResponseStatus, String section, String questionId) {
 
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
-        Map<String, String> emailNameTable = new HashMap<>();
-        Map<String, String> emailLastNameTable = new HashMap<>();
-        Map<String, String> emailTeamNameTable = new HashMap<>();
+        ParticipantIndex participants = new ParticipantIndex();
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
@@ -1805,18 +2140,17 @@ public final class FeedbackSessionsLogic {
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                    ResponseVisibilityEvaluator visibilityEvaluator =
+                            new ResponseVisibilityEvaluator(userEmail, role, null, instructor, roster);
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
+                        boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(question, response);
                         if (isVisibleResponse) {
                             relevantResponse.put(response.getId(), response);
                             relevantQuestions.put(question.getId(), question);
                             responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
+                            addParticipantsToIndex(participants, response, question, roster);
+                            visibilityEvaluator.addToTable(visibilityTable, question, response);
                         }
                     }
                     responseComments = getResponseComments(
@@ -1829,8 +2163,7 @@ public final class FeedbackSessionsLogic {
                 sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
         return new FeedbackSessionResultsBundle(
-                session, responses, relevantQuestions, emailNameTable,
-                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                session, responses, relevantQuestions, participants, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, true);
     }
 
@@ -1912,121 +2245,26 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         responseCommentList.sort(Comparator.comparing(responseComment -> responseComment.createdAt));
     }
 
-    private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
-            FeedbackQuestionAttributes question,
-            FeedbackResponseAttributes response,
-            String userEmail,
-            UserRole role,
-            CourseRoster roster) {
-        boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
-        visibilityTable.put(response.getId(), visibility);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        // keys of emailNameTable are participantIdentifiers,
-        // which consists of students' email, instructors' email, team names, or %GENERAL%.
-        // participants identifiers of anonymous responses are not anonymised in the tables
-        addEmailNamePairsToTable(emailNameTable, response, question, roster,
-                EMAIL_NAME_PAIR);
-    }
-
-    private void addEmailLastNamePairsToTable(Map<String, String> emailLastNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailLastNameTable, response, question, roster,
-                EMAIL_LASTNAME_PAIR);
-    }
-
-    private void addEmailTeamNamePairsToTable(
-            Map<String, String> emailTeamNameTable,
+    private void addParticipantsToIndex(ParticipantIndex participants,
             FeedbackResponseAttributes response,
             FeedbackQuestionAttributes question, CourseRoster roster) {
-        addEmailNamePairsToTable(emailTeamNameTable, response, question,
-                roster, EMAIL_TEAMNAME_PAIR);
-    }
-
-    private void addEmailNamePairsToTable(Map<String, String> emailNameTable,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes question, CourseRoster roster,
-            int pairType) {
+        // participant identifiers consist of students' email, instructors' email, team names, or %GENERAL%.
+        // participants identifiers of anonymous responses are not anonymised in the index
         if (question.giverType == FeedbackParticipantType.TEAMS
                 && roster.isStudentInCourse(response.giver)) {
-            emailNameTable.putIfAbsent(
-                        response.giver + Const.TEAM_OF_EMAIL_OWNER,
-                        getNameTeamNamePairForEmail(question.giverType,
-                                response.giver, roster)[pairType]);
+            addParticipantToIndex(participants, response.giver + Const.TEAM_OF_EMAIL_OWNER,
+                    question.giverType, response.giver, roster);
 
             StudentAttributes studentGiver = roster.getStudentForEmail(response.giver);
             if (studentGiver != null) {
-                emailNameTable.putIfAbsent(studentGiver.team, getNameTeamNamePairForEmail(
-                        question.giverType,
-                        response.giver, roster)[pairType]);
+                addParticipantToIndex(participants, studentGiver.team, question.giverType, response.giver, roster);
             }
         } else {
-            emailNameTable.putIfAbsent(
-                    response.giver,
-                    getNameTeamNamePairForEmail(question.giverType,
-                            response.giver, roster)[pairType]);
+            addParticipantToIndex(participants, response.giver, question.giverType, response.giver, roster);
         }
 
         FeedbackParticipantType recipientType = null;
@@ -2036,10 +2274,17 @@ public final class FeedbackSessionsLogic {
             recipientType = question.recipientType;
         }
 
-        emailNameTable.putIfAbsent(
-                    response.recipient,
-                    getNameTeamNamePairForEmail(recipientType,
-                                                response.recipient, roster)[pairType]);
+        addParticipantToIndex(participants, response.recipient, recipientType, response.recipient, roster);
+    }
+
+    private void addParticipantToIndex(ParticipantIndex participants, String participantIdentifier,
+            FeedbackParticipantType type, String email, CourseRoster roster) {
+        // the details of a participant are looked up in the roster only the first time the participant is seen
+        if (!participants.contains(participantIdentifier)) {
+            String[] nameTeamNamePair = getNameTeamNamePairForEmail(type, email, roster);
+            participants.add(participantIdentifier, nameTeamNamePair[EMAIL_NAME_PAIR],
+                    nameTeamNamePair[EMAIL_LASTNAME_PAIR], nameTeamNamePair[EMAIL_TEAMNAME_PAIR]);
+        }
     }
 
     private List<FeedbackSessionDetailsBundle> getFeedbackSessionDetailsForCourse(String courseId)
@@ -2066,6 +2311,7 @@ public final class FeedbackSessionsLogic {
             List<FeedbackQuestionAttributes> questions) {
 
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
+        fsDb.withRespondents(fsa);
         List<StudentAttributes> students = roster.getStudents();
         List<InstructorAttributes> instructors = roster.getInstructors();
         List<FeedbackQuestionAttributes> studentQns = fqLogic
@@ -2173,9 +2419,10 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions =
                 fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                         courseId);
+        LazyCourseRoster roster = new LazyCourseRoster(courseId);
 
         for (FeedbackQuestionAttributes question : allQuestions) {
-            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail)) {
+            if (!fqLogic.isQuestionFullyAnsweredByUser(question, userEmail, roster::get)) {
                 // If any question is not completely answered, session is not
                 // completed
                 return false;
@@ -2184,6 +2431,20 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Returns the index of which users in the {@code roster} have fully completed the session,
+     * built from one scan of the responses of the session.
+     * It is to be used instead of {@link #isFeedbackSessionFullyCompletedByStudent} when checking many users.
+     */
+    public SessionCompletionIndex getSessionCompletionIndex(FeedbackSessionAttributes session, CourseRoster roster)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        return new SessionCompletionIndex(session,
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId),
+                frLogic.streamFeedbackResponsesForSession(feedbackSessionName, courseId), roster);
+    }
+
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
@@ -2202,6 +2463,10 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionViewableToStudents(
             FeedbackSessionAttributes session) {
+        if (session.isBeingDeleted()) {
+            return false;
+        }
+
         // Allow students to view the feedback session if there are questions for them
         List<FeedbackQuestionAttributes> questionsToAnswer =
                 fqLogic.getFeedbackQuestionsForStudents(
@@ -2230,6 +2495,9 @@ public final class FeedbackSessionsLogic {
      * Returns true if there are any questions for students to answer.
      */
     public boolean isFeedbackSessionForStudentsToAnswer(FeedbackSessionAttributes session) {
+        if (session.isBeingDeleted()) {
+            return false;
+        }
 
         List<FeedbackQuestionAttributes> questionsToAnswer =
                 fqLogic.getFeedbackQuestionsForStudents(
@@ -2275,4 +2543,54 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+
+    /**
+     * Loads the roster of a course only when a question first needs it, as many sessions only have questions
+     * whose recipients are known from the giver alone, e.g. questions to the giver or to nobody specific.
+     */
+    private static final class LazyCourseRoster {
+
+        private static final CourseRoster EMPTY_ROSTER = new CourseRoster(null, null);
+
+        private final String courseId;
+        private CourseRoster roster;
+        private Set<String> hiddenInstructorEmails;
+
+        LazyCourseRoster(String courseId) {
+            this.courseId = courseId;
+        }
+
+        CourseRoster get() {
+            if (roster == null) {
+                roster = new CourseRoster(
+                        studentsLogic.getStudentsForCourse(courseId),
+                        instructorsLogic.getInstructorsForCourse(courseId));
+            }
+            return roster;
+        }
+
+        /**
+         * Returns the roster if the recipients of the question are looked up in it, or an empty roster otherwise.
+         */
+        CourseRoster getIfNeededForRecipientsOf(FeedbackQuestionAttributes question) {
+            return fqLogic.isRosterNeededForRecipients(question) ? get() : EMPTY_ROSTER;
+        }
+
+        /**
+         * Returns the emails of the instructors who are not displayed to students.
+         */
+        Set<String> getHiddenInstructorEmails() {
+            if (hiddenInstructorEmails == null) {
+                hiddenInstructorEmails = new HashSet<>();
+                for (InstructorAttributes instructor : get().getInstructors()) {
+                    if (!instructor.isDisplayedToStudents()) {
+                        hiddenInstructorEmails.add(instructor.email);
+                    }
+                }
+            }
+            return hiddenInstructorEmails;
+        }
+
+    }
+
 }
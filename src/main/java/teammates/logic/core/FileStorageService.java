@@ -0,0 +1,37 @@
+package teammates.logic.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * A file storage interface used by services for storing files generated by the system.
+ */
+public interface FileStorageService {
+
+    /**
+     * Writes {@code data} as the file {@code fileName}, replacing the file if it already exists.
+     */
+    void writeFile(String fileName, byte[] data, String mimeType) throws IOException;
+
+    /**
+     * Writes the content of the files {@code sourceFileNames}, in the given order, as the file {@code fileName}.
+     */
+    void concatenateFiles(String fileName, List<String> sourceFileNames, String mimeType) throws IOException;
+
+    /**
+     * Opens the file {@code fileName} for reading.
+     */
+    InputStream openFile(String fileName) throws IOException;
+
+    /**
+     * Returns true if the file {@code fileName} exists.
+     */
+    boolean doesFileExist(String fileName) throws IOException;
+
+    /**
+     * Deletes the file {@code fileName}, if it exists.
+     */
+    void deleteFile(String fileName) throws IOException;
+
+}
@@ -0,0 +1,42 @@
+package teammates.logic.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import teammates.common.util.GoogleCloudStorageHelper;
+
+/**
+ * File storage service provided by Google Cloud Storage.
+ * This is the default service used in production.
+ *
+ * @see GoogleCloudStorageHelper
+ */
+public class GoogleCloudStorageService implements FileStorageService {
+
+    @Override
+    public void writeFile(String fileName, byte[] data, String mimeType) throws IOException {
+        GoogleCloudStorageHelper.writeDataToGcs(fileName, data, mimeType);
+    }
+
+    @Override
+    public void concatenateFiles(String fileName, List<String> sourceFileNames, String mimeType) throws IOException {
+        GoogleCloudStorageHelper.concatenateFilesInGcs(fileName, sourceFileNames, mimeType);
+    }
+
+    @Override
+    public InputStream openFile(String fileName) {
+        return GoogleCloudStorageHelper.openFileInGcs(fileName);
+    }
+
+    @Override
+    public boolean doesFileExist(String fileName) throws IOException {
+        return GoogleCloudStorageHelper.doesFileExistInGcs(fileName);
+    }
+
+    @Override
+    public void deleteFile(String fileName) throws IOException {
+        GoogleCloudStorageHelper.deleteFileInGcs(fileName);
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.logic.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -284,6 +285,14 @@ public final class InstructorsLogic {
         instructorsDb.deleteInstructorsForCourse(courseId);
     }
 
+    /**
+     * Deletes one page of the instructors of the course, together with their search documents.
+     * Like {@link #deleteInstructorsForCourse}, this is only used when the whole course is deleted.
+     */
+    public DeletionPage deleteInstructorsPage(String courseId, String cursor, int pageSize) {
+        return instructorsDb.deleteInstructorsPage(courseId, cursor, pageSize);
+    }
+
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
         List<InstructorAttributes> instructors = getInstructorsForCourse(courseId);
         List<InstructorAttributes> instructorsWithCoOwnerPrivileges = new ArrayList<>();
@@ -0,0 +1,72 @@
+package teammates.logic.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import teammates.common.util.Assumption;
+
+/**
+ * File storage service backed by a directory of the local file system.
+ * It stands in for Google Cloud Storage where the latter is not available, e.g. in tests.
+ *
+ * <p>File names are resolved against the root directory; names that resolve to a path
+ * outside the root directory are not allowed.
+ */
+public class LocalFileStorageService implements FileStorageService {
+
+    private final Path rootDirectory;
+
+    public LocalFileStorageService(Path rootDirectory) {
+        this.rootDirectory = rootDirectory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void writeFile(String fileName, byte[] data, String mimeType) throws IOException {
+        Path file = resolve(fileName);
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        Files.write(tempFile, data);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void concatenateFiles(String fileName, List<String> sourceFileNames, String mimeType) throws IOException {
+        Path file = resolve(fileName);
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            for (String sourceFileName : sourceFileNames) {
+                Files.copy(resolve(sourceFileName), out);
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream openFile(String fileName) throws IOException {
+        return Files.newInputStream(resolve(fileName));
+    }
+
+    @Override
+    public boolean doesFileExist(String fileName) {
+        return Files.isRegularFile(resolve(fileName));
+    }
+
+    @Override
+    public void deleteFile(String fileName) throws IOException {
+        Files.deleteIfExists(resolve(fileName));
+    }
+
+    private Path resolve(String fileName) {
+        Path file = rootDirectory.resolve(fileName).normalize();
+        Assumption.assertTrue("File name is outside of the storage directory: " + fileName,
+                file.startsWith(rootDirectory) && !file.equals(rootDirectory));
+        return file;
+    }
+
+}
@@ -1,15 +1,28 @@
 package teammates.logic.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.DeletionPage;
+import teammates.common.datatransfer.EnrollmentJobStatus;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -22,6 +35,8 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.CourseStatisticsDb;
+import teammates.storage.api.EnrollmentJobsDb;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -37,6 +52,8 @@ public final class StudentsLogic {
     private static StudentsLogic instance = new StudentsLogic();
 
     private static final StudentsDb studentsDb = new StudentsDb();
+    private static final EnrollmentJobsDb enrollmentJobsDb = new EnrollmentJobsDb();
+    private static final CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
@@ -66,6 +83,8 @@ public final class StudentsLogic {
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData, hasDocument);
+        courseStatisticsDb.updateCourseStatistics(studentData.course, Collections.emptyList(),
+                Collections.singletonList(studentData));
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -94,6 +113,81 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Returns the sections and teams of the course. See {@link StudentsDb#getCourseStructure(String)}.
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        return studentsDb.getCourseStructure(courseId);
+    }
+
+    /**
+     * Returns the statistics of the students of the course, without reading the students of the course
+     * if the statistics are already kept for the course.
+     */
+    public CourseStats getCourseStats(String courseId) {
+        CourseStatisticsAttributes statistics = courseStatisticsDb.getCourseStatistics(courseId);
+        if (statistics == null) {
+            statistics = createCourseStatistics(courseId);
+        }
+        return statistics.toCourseStats();
+    }
+
+    /**
+     * Returns the statistics of the students of each of the courses, keyed by course ID.
+     * The statistics kept for the courses are read in a single batch.
+     */
+    public Map<String, CourseStats> getCourseStatsForCourses(List<String> courseIds) {
+        Map<String, CourseStatisticsAttributes> statisticsByCourseId =
+                courseStatisticsDb.getCourseStatisticsForCourses(courseIds);
+
+        Map<String, CourseStats> statsByCourseId = new HashMap<>();
+        for (String courseId : courseIds) {
+            CourseStatisticsAttributes statistics = statisticsByCourseId.get(courseId);
+            if (statistics == null) {
+                statistics = createCourseStatistics(courseId);
+            }
+            statsByCourseId.put(courseId, statistics.toCourseStats());
+        }
+        return statsByCourseId;
+    }
+
+    /**
+     * Recomputes the statistics of the course from its students, replacing the statistics kept for the course.
+     * This repairs statistics that have drifted from the students of the course.
+     *
+     * <p>The statistics are left for the next repair if they are updated while being recomputed.
+     */
+    public void repairCourseStatistics(String courseId) {
+        CourseStatisticsAttributes oldStatistics = courseStatisticsDb.getCourseStatistics(courseId);
+        if (oldStatistics == null) {
+            createCourseStatistics(courseId);
+            return;
+        }
+
+        CourseStatisticsAttributes statistics =
+                new CourseStatisticsAttributes(courseId, getStudentsForCourse(courseId));
+        try {
+            courseStatisticsDb.replaceCourseStatistics(statistics, oldStatistics.getUpdatedAt());
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Invalid course statistics detected unexpectedly: " + statistics.toString());
+        }
+    }
+
+    private CourseStatisticsAttributes createCourseStatistics(String courseId) {
+        CourseStatisticsAttributes statistics =
+                new CourseStatisticsAttributes(courseId, getStudentsForCourse(courseId));
+        try {
+            return courseStatisticsDb.createCourseStatisticsIfAbsent(statistics);
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Invalid course statistics detected unexpectedly: " + statistics.toString());
+            return statistics;
+        }
+    }
+
+    public void deleteCourseStatistics(String courseId) {
+        courseStatisticsDb.deleteCourseStatistics(courseId);
+    }
+
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
         return studentsDb.getStudentsForTeam(teamName, courseId);
     }
@@ -239,6 +333,7 @@ public final class StudentsLogic {
 
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        updateCourseStatistics(originalStudent, student);
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -256,14 +351,16 @@ public final class StudentsLogic {
 
         studentsDb.verifyStudentExists(courseId, originalEmail);
         StudentAttributes originalStudent = getStudentForEmail(courseId, originalEmail);
-        originalStudent.googleId = null;
+        StudentAttributes resetStudent = originalStudent.getCopy();
+        resetStudent.googleId = null;
 
-        if (!originalStudent.isValid()) {
-            throw new InvalidParametersException(originalStudent.getInvalidityInfo());
+        if (!resetStudent.isValid()) {
+            throw new InvalidParametersException(resetStudent.getInvalidityInfo());
         }
-        studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
-                                 originalStudent.team, originalStudent.section, originalStudent.email,
-                                 originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        studentsDb.updateStudent(resetStudent.course, originalEmail, resetStudent.name,
+                                 resetStudent.team, resetStudent.section, resetStudent.email,
+                                 resetStudent.googleId, resetStudent.comments, hasDocument, false);
+        updateCourseStatistics(originalStudent, resetStudent);
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
@@ -289,28 +386,36 @@ public final class StudentsLogic {
         }
 
         List<StudentAttributes> studentList = createStudents(enrollLines, courseId);
-        ArrayList<StudentAttributes> returnList = new ArrayList<>();
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
-        for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
-
-            enrollmentDetails = enrollStudent(student, hasDocument);
-            student.updateStatus = enrollmentDetails.updateStatus;
+        // the students in the course are read once, for both the validation and the enrollment
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(studentList, studentsInCourse);
 
-            enrollmentList.add(enrollmentDetails);
-            returnList.add(student);
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            studentsInCourseByEmail.put(student.email, student);
         }
+        // the query for the students in the course is eventually consistent, so students recently added to the course
+        // may be missing from it; they are looked up by key before being taken as new
+        List<String> emailsOfNewStudents = new ArrayList<>();
+        for (StudentAttributes student : studentList) {
+            if (!studentsInCourseByEmail.containsKey(student.email)) {
+                emailsOfNewStudents.add(student.email);
+            }
+        }
+        if (!emailsOfNewStudents.isEmpty()) {
+            studentsInCourseByEmail.putAll(studentsDb.getStudentsForEmails(courseId, emailsOfNewStudents));
+        }
+        List<StudentEnrollDetails> enrollmentList = enrollStudents(studentList, studentsInCourseByEmail, hasDocument);
+
+        ArrayList<StudentAttributes> returnList = new ArrayList<>(studentList);
 
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        Set<String> enrolledEmails = getEmailsInLowerCase(studentList);
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!enrolledEmails.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -319,6 +424,241 @@ public final class StudentsLogic {
         return new CourseEnrollmentResult(returnList, enrollmentList);
     }
 
+    /**
+     * Enrolls the students, given the existing students of the course keyed by email.
+     * The new students are created in one batch and the modified students are updated in one batch.
+     * The responses of the modified students are not adjusted; that is left to the caller to schedule.
+     *
+     * @return the enrollment details of the students, in the same order as {@code students}
+     */
+    private List<StudentEnrollDetails> enrollStudents(List<StudentAttributes> students,
+            Map<String, StudentAttributes> studentsInCourseByEmail, boolean hasDocument)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        List<StudentAttributes> studentsToCreate = new ArrayList<>();
+        List<StudentAttributes> studentsToUpdate = new ArrayList<>();
+        List<StudentAttributes> originalsOfStudentsToUpdate = new ArrayList<>();
+
+        for (StudentAttributes student : students) {
+            StudentAttributes originalStudent = studentsInCourseByEmail.get(student.email);
+            StudentEnrollDetails enrollmentDetails = getEnrollmentDetails(student, originalStudent);
+
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                studentsToCreate.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                student.updateWithExistingRecord(originalStudent);
+                if (!student.isValid()) {
+                    throw new InvalidParametersException(student.getInvalidityInfo());
+                }
+                studentsToUpdate.add(student);
+                originalsOfStudentsToUpdate.add(originalStudent);
+            }
+
+            student.updateStatus = enrollmentDetails.updateStatus;
+            enrollmentList.add(enrollmentDetails);
+        }
+
+        studentsDb.createStudents(studentsToCreate, hasDocument);
+        studentsDb.updateStudents(studentsToUpdate, hasDocument, false);
+
+        if (!students.isEmpty()) {
+            List<StudentAttributes> studentsAdded = new ArrayList<>(studentsToCreate);
+            studentsAdded.addAll(studentsToUpdate);
+            courseStatisticsDb.updateCourseStatistics(students.get(0).course, originalsOfStudentsToUpdate, studentsAdded);
+        }
+
+        return enrollmentList;
+    }
+
+    /**
+     * Returns the enrollment details of {@code student}, given the existing student with the same email
+     * or null if there is none. Nothing is written.
+     */
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes student, StudentAttributes originalStudent) {
+        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
+        enrollmentDetails.course = student.course;
+        enrollmentDetails.email = student.email;
+        enrollmentDetails.newTeam = student.team;
+        enrollmentDetails.newSection = student.section;
+
+        if (student.isEnrollInfoSameAs(originalStudent)) {
+            enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
+        } else if (originalStudent == null) {
+            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+        } else {
+            if (!originalStudent.team.equals(student.team)) {
+                enrollmentDetails.oldTeam = originalStudent.team;
+            }
+            if (!originalStudent.section.equals(student.section)) {
+                enrollmentDetails.oldSection = originalStudent.section;
+            }
+            enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
+        }
+        return enrollmentDetails;
+    }
+
+    /**
+     * Returns true if {@code enrollLines} has no more students than can be enrolled within one request.
+     * Larger enrollments are to be done with an enrollment job instead.
+     *
+     * @see #createEnrollmentJob(String, String)
+     */
+    public boolean isWithinSizeLimitPerEnrollment(String enrollLines) {
+        String[] linesArray = enrollLines.split(System.lineSeparator());
+        int numberOfStudents = 0;
+        // the first line is the header
+        for (int i = 1; i < linesArray.length; i++) {
+            if (!StringHelper.isWhiteSpace(linesArray[i])) {
+                numberOfStudents++;
+            }
+        }
+        return numberOfStudents <= Const.SIZE_LIMIT_PER_ENROLLMENT;
+    }
+
+    /**
+     * Creates a job to enroll the students in {@code enrollLines} in the background, one chunk at a time.
+     * All the students are validated up front by the same rules as {@link #enrollStudents(String, String)},
+     * so that the job is not created if any of them cannot be enrolled.
+     *
+     * @see #enrollStudentsForEnrollmentJob(String)
+     */
+    public EnrollmentJobAttributes createEnrollmentJob(String enrollLines, String courseId)
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException {
+
+        if (!coursesLogic.isCoursePresent(courseId)) {
+            throw new EntityDoesNotExistException("Course does not exist :"
+                    + courseId);
+        }
+
+        if (enrollLines.isEmpty()) {
+            throw new EnrollException(Const.StatusMessages.ENROLL_LINE_EMPTY);
+        }
+
+        if (enrollLines.length() > Const.LENGTH_LIMIT_PER_ENROLLMENT_JOB) {
+            throw new EnrollException(Const.StatusMessages.QUOTA_PER_ENROLLMENT_JOB_EXCEED);
+        }
+
+        List<StudentAttributes> studentList = createStudents(enrollLines, courseId);
+        validateSectionsAndTeams(studentList, courseId);
+
+        EnrollmentJobAttributes job = new EnrollmentJobAttributes(courseId, enrollLines, studentList.size());
+        enrollmentJobsDb.createEnrollmentJob(job);
+        return job;
+    }
+
+    public EnrollmentJobAttributes getEnrollmentJob(String enrollmentJobId) {
+        return enrollmentJobsDb.getEnrollmentJob(enrollmentJobId);
+    }
+
+    /**
+     * Enrolls the next chunk of at most {@link Const#SIZE_LIMIT_PER_ENROLLMENT} students of the enrollment job,
+     * and records the progress of the job. The job is completed when its last chunk is enrolled.
+     *
+     * <p>The students of the chunk are looked up by key instead of reading all the students in the course.
+     * The enrollment details of the chunk are recorded on the job before any student is written, and the
+     * checkpoint then moves the details of the modified students to {@link EnrollmentJobAttributes#getEnrollmentsToAdjust()}
+     * in the same write. A chunk which is enrolled again, e.g. when its task is retried, is thus counted and adjusted
+     * by what its students were before the first attempt, even though they are unmodified by the second attempt.
+     *
+     * @return the job after the chunk is enrolled, which is unchanged if the job is not in progress.
+     */
+    public EnrollmentJobAttributes enrollStudentsForEnrollmentJob(String enrollmentJobId)
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
+        EnrollmentJobAttributes job = enrollmentJobsDb.getEnrollmentJob(enrollmentJobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Enrollment job does not exist: " + enrollmentJobId);
+        }
+        if (!job.isInProgress()) {
+            return job;
+        }
+
+        String courseId = job.getCourseId();
+        if (!coursesLogic.isCoursePresent(courseId)) {
+            throw new EntityDoesNotExistException("Course does not exist :"
+                    + courseId);
+        }
+
+        List<StudentAttributes> studentList = createStudents(job.getEnrollLines(), courseId);
+        int chunkStart = job.getNumberOfStudentsProcessed();
+        int chunkEnd = Math.min(chunkStart + Const.SIZE_LIMIT_PER_ENROLLMENT, studentList.size());
+        List<StudentAttributes> chunk = studentList.subList(chunkStart, chunkEnd);
+
+        List<String> emails = new ArrayList<>();
+        for (StudentAttributes student : chunk) {
+            emails.add(student.email);
+        }
+        Map<String, StudentAttributes> studentsInChunkByEmail = studentsDb.getStudentsForEmails(courseId, emails);
+
+        if (job.getChunkEnrollments() == null) {
+            List<StudentEnrollDetails> chunkEnrollments = new ArrayList<>();
+            for (StudentAttributes student : chunk) {
+                chunkEnrollments.add(getEnrollmentDetails(student, studentsInChunkByEmail.get(student.email)));
+            }
+            job.setChunkEnrollments(chunkEnrollments);
+            enrollmentJobsDb.updateEnrollmentJob(job);
+        }
+
+        enrollStudents(chunk, studentsInChunkByEmail, true);
+
+        List<StudentEnrollDetails> enrollmentsToAdjust = new ArrayList<>(job.getEnrollmentsToAdjust());
+        for (StudentEnrollDetails enrollment : job.getChunkEnrollments()) {
+            if (enrollment.updateStatus == StudentUpdateStatus.NEW) {
+                job.setNumberOfNewStudents(job.getNumberOfNewStudents() + 1);
+            } else if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                job.setNumberOfModifiedStudents(job.getNumberOfModifiedStudents() + 1);
+                enrollmentsToAdjust.add(enrollment);
+            } else {
+                job.setNumberOfUnmodifiedStudents(job.getNumberOfUnmodifiedStudents() + 1);
+            }
+        }
+        job.setChunkEnrollments(null);
+        job.setEnrollmentsToAdjust(enrollmentsToAdjust);
+        job.setNumberOfStudentsProcessed(chunkEnd);
+        if (chunkEnd == studentList.size()) {
+            job.setStatus(EnrollmentJobStatus.COMPLETED);
+        }
+        enrollmentJobsDb.updateEnrollmentJob(job);
+
+        return job;
+    }
+
+    /**
+     * Records that the response adjustment of the modified students of the enrollment job has been scheduled.
+     */
+    public void clearEnrollmentsToAdjust(String enrollmentJobId)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        EnrollmentJobAttributes job = enrollmentJobsDb.getEnrollmentJob(enrollmentJobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Enrollment job does not exist: " + enrollmentJobId);
+        }
+
+        job.setEnrollmentsToAdjust(new ArrayList<>());
+        enrollmentJobsDb.updateEnrollmentJob(job);
+    }
+
+    /**
+     * Stops the enrollment job, recording the error which stopped it for the enroll page to show.
+     */
+    public void failEnrollmentJob(String enrollmentJobId, String errorMessage)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        EnrollmentJobAttributes job = enrollmentJobsDb.getEnrollmentJob(enrollmentJobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Enrollment job does not exist: " + enrollmentJobId);
+        }
+
+        job.setStatus(EnrollmentJobStatus.FAILED);
+        job.setErrorMessage(errorMessage);
+        enrollmentJobsDb.updateEnrollmentJob(job);
+    }
+
+    public void deleteEnrollmentJobsForCourse(String courseId) {
+        enrollmentJobsDb.deleteEnrollmentJobsForCourse(courseId);
+    }
+
+    public void deleteEnrollmentJobsUpdatedBefore(Instant time) {
+        enrollmentJobsDb.deleteEnrollmentJobsUpdatedBefore(time);
+    }
+
     private void verifyIsWithinSizeLimitPerEnrollment(List<StudentAttributes> students) throws EnrollException {
         if (students.size() > Const.SIZE_LIMIT_PER_ENROLLMENT) {
             throw new EnrollException(Const.StatusMessages.QUOTA_PER_ENROLLMENT_EXCEED);
@@ -329,8 +669,13 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(studentList, getStudentsForCourse(courseId));
+    }
+
+    private void validateSectionsAndTeams(List<StudentAttributes> studentList, List<StudentAttributes> studentsInCourse)
+            throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, studentsInCourse);
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -349,7 +694,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -363,30 +708,30 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+                                                  List<StudentAttributes> studentsInCourse) {
 
-        List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
-
-        for (StudentAttributes student : studentList) {
-            mergedList.add(student);
-        }
+        List<StudentAttributes> mergedList = new ArrayList<>(studentList);
+        Set<String> emailsInMergedList = getEmailsInLowerCase(studentList);
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (emailsInMergedList.add(student.email.toLowerCase())) {
                 mergedList.add(student);
             }
         }
         return mergedList;
     }
 
-    public String getSectionForTeam(String courseId, String teamName) {
-
-        List<StudentAttributes> students = getStudentsForTeam(teamName, courseId);
-        if (students.isEmpty()) {
-            return Const.DEFAULT_SECTION;
+    private static Set<String> getEmailsInLowerCase(List<StudentAttributes> students) {
+        Set<String> emails = new HashSet<>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email.toLowerCase());
         }
-        return students.get(0).section;
+        return emails;
+    }
+
+    public String getSectionForTeam(String courseId, String teamName) {
+        return getCourseStructure(courseId).getSectionForTeam(teamName);
     }
 
     private String getSectionInvalidityInfo(List<StudentAttributes> mergedList) {
@@ -466,8 +811,13 @@ public final class StudentsLogic {
     public void deleteStudentCascade(String courseId, String studentEmail, boolean hasDocument) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
-        fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
+        StudentAttributes student = getStudentForEmail(courseId, studentEmail);
+        fsLogic.deleteStudentFromRespondentsList(student);
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        if (student != null) {
+            courseStatisticsDb.updateCourseStatistics(courseId, Collections.singletonList(student),
+                    Collections.emptyList());
+        }
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -476,6 +826,7 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        updateCourseStatisticsForDeletedStudents(students);
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -484,6 +835,7 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        updateCourseStatisticsForDeletedStudents(students);
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -495,31 +847,101 @@ public final class StudentsLogic {
         }
     }
 
+    private void updateCourseStatisticsForDeletedStudents(Collection<StudentAttributes> students) {
+        for (StudentAttributes student : students) {
+            courseStatisticsDb.updateCourseStatistics(student.course, Collections.singletonList(student),
+                    Collections.emptyList());
+        }
+    }
+
+    /**
+     * Deletes one page of the students of the course, together with their search documents,
+     * and takes them out of the statistics of the course.
+     * If {@code isCascade} is true, the responses given by or to the students or their teams are deleted as well,
+     * together with the comments on those responses. This is only done correctly when all the students
+     * of the course are deleted, as the responses to a team are deleted together with any member of the team.
+     * The students are not taken out of the respondents of the sessions, which should be handled.
+     *
+     * <p>The query for the page may still return students deleted by a previous attempt at the same page,
+     * so the students are read again by key and only those which still exist are taken out of the statistics.
+     * The statistics are dropped after the last page, so that any drift is repaired when they are next read.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteStudentsPage(String courseId, String cursor, int pageSize, boolean isCascade) {
+        AttributesPage<StudentAttributes> page = studentsDb.getStudentsForCoursePage(courseId, cursor, pageSize);
+
+        Set<String> emails = new HashSet<>();
+        Set<String> participants = new HashSet<>();
+        for (StudentAttributes student : page.getAttributes()) {
+            emails.add(student.email);
+            participants.add(student.email);
+            participants.add(student.team);
+        }
+
+        if (isCascade) {
+            frLogic.deleteFeedbackResponsesForParticipantsAndCascade(courseId, participants);
+        }
+
+        List<StudentAttributes> students = new ArrayList<>(studentsDb.getStudentsForEmails(courseId, emails).values());
+        studentsDb.deleteStudents(students);
+        courseStatisticsDb.updateCourseStatistics(courseId, students, Collections.emptyList());
+        if (page.getNextCursor() == null) {
+            courseStatisticsDb.deleteCourseStatistics(courseId);
+        }
+        return new DeletionPage(students.size(), page.getNextCursor());
+    }
+
     public void deleteStudentsForCourse(String courseId) {
         studentsDb.deleteStudentsForCourse(courseId);
+        courseStatisticsDb.deleteCourseStatistics(courseId);
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+        courseStatisticsDb.deleteCourseStatistics(courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(
-            List<StudentEnrollDetails> enrollmentList,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
+    /**
+     * Adjusts the responses to the question for the changes of team and section
+     * of the modified students in {@code enrollmentList}.
+     *
+     * <p>The responses are moved to the sections the students are in when the adjustment is done,
+     * rather than the sections in {@code enrollmentList}, so that an adjustment which is retried or done
+     * after a later one does not move the responses back to an outdated section.
+     *
+     * @see FeedbackResponsesLogic#updateFeedbackResponsesOfQuestionForChangingTeamsAndSections
+     */
+    public void adjustFeedbackResponsesOfQuestionForEnrollments(
+            List<StudentEnrollDetails> enrollmentList, String feedbackQuestionId)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Set<String> studentsChangingTeam = new HashSet<>();
+        Map<String, Set<String>> studentsChangingSectionByCourseId = new HashMap<>();
         for (StudentEnrollDetails enrollment : enrollmentList) {
             if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
                 continue;
             }
 
-            boolean isResponseDeleted = false;
             if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
-                isResponseDeleted = frLogic.updateFeedbackResponseForChangingTeam(enrollment, response);
+                studentsChangingTeam.add(enrollment.email);
             }
+            if (isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
+                studentsChangingSectionByCourseId.computeIfAbsent(enrollment.course, courseId -> new HashSet<>())
+                        .add(enrollment.email);
+            }
+        }
 
-            if (!isResponseDeleted && isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
-                frLogic.updateFeedbackResponseForChangingSection(enrollment, response);
+        Map<String, String> newSectionsOfStudents = new HashMap<>();
+        for (Map.Entry<String, Set<String>> studentsChangingSection : studentsChangingSectionByCourseId.entrySet()) {
+            // students deleted since are left out, as their responses are deleted with them
+            for (StudentAttributes student : studentsDb.getStudentsForEmails(
+                    studentsChangingSection.getKey(), studentsChangingSection.getValue()).values()) {
+                newSectionsOfStudents.put(student.email, student.section);
             }
         }
+
+        frLogic.updateFeedbackResponsesOfQuestionForChangingTeamsAndSections(
+                feedbackQuestionId, studentsChangingTeam, newSectionsOfStudents);
     }
 
     /**
@@ -529,39 +951,6 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
-        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
-        enrollmentDetails.course = validStudentAttributes.course;
-        enrollmentDetails.email = validStudentAttributes.email;
-        enrollmentDetails.newTeam = validStudentAttributes.team;
-        enrollmentDetails.newSection = validStudentAttributes.section;
-
-        boolean isModifyingExistingStudent = originalStudentAttributes != null;
-        if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
-            enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
-
-            if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
-                enrollmentDetails.oldTeam = originalStudentAttributes.team;
-            }
-            if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
-                enrollmentDetails.oldSection = originalStudentAttributes.section;
-            }
-        } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
-        }
-
-        return enrollmentDetails;
-    }
-
     /**
      * Builds {@code studentList} from user input {@code lines}. All empty lines or lines with only white spaces will
      * be skipped.
@@ -574,6 +963,8 @@ public final class StudentsLogic {
         List<String> invalidityInfo = new ArrayList<>();
         String[] linesArray = lines.split(System.lineSeparator());
         List<StudentAttributes> studentList = new ArrayList<>();
+        // Key is the email, value is the index in studentList of the first student with the email
+        Map<String, Integer> studentIndexByEmail = new HashMap<>();
 
         StudentAttributesFactory saf = new StudentAttributesFactory(linesArray[0]);
 
@@ -590,8 +981,8 @@ public final class StudentsLogic {
                     invalidityInfo.add(invalidStudentInfo(sanitizedLine, student));
                 }
 
-                int duplicateEmailIndex = getDuplicateEmailIndex(student.email, studentList);
-                if (duplicateEmailIndex != -1) {
+                Integer duplicateEmailIndex = studentIndexByEmail.putIfAbsent(student.email, studentList.size());
+                if (duplicateEmailIndex != null) {
                     invalidityInfo.add(duplicateEmailInfo(sanitizedLine, linesArray[duplicateEmailIndex + 1]));
                 }
 
@@ -618,19 +1009,6 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, info);
     }
 
-    /**
-     * Returns the index of the first occurrence of the duplicate {@code email} in
-     * {@code studentList}, or -1 if {@code email} is not a duplicate in {@code studentList}.
-     */
-    private int getDuplicateEmailIndex(String email, List<StudentAttributes> studentList) {
-        for (int index = 0; index < studentList.size(); index++) {
-            if (studentList.get(index).email.equals(email)) {
-                return index;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Returns a {@code String} containing the duplicate email information in {@code duplicateEmailInfo} and
      * the corresponding sanitized invalid {@code userInput}.
@@ -650,14 +1028,17 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, errorMessage);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
+    /**
+     * Updates the statistics of the course of the student for a change of the details of the student.
+     */
+    private void updateCourseStatistics(StudentAttributes originalStudent, StudentAttributes updatedStudent) {
+        boolean isStatisticsChanged = isTeamChanged(originalStudent.team, updatedStudent.team)
+                || isSectionChanged(originalStudent.section, updatedStudent.section)
+                || originalStudent.isRegistered() != updatedStudent.isRegistered();
+        if (isStatisticsChanged) {
+            courseStatisticsDb.updateCourseStatistics(originalStudent.course, Collections.singletonList(originalStudent),
+                    Collections.singletonList(updatedStudent));
         }
-        return false;
     }
 
     private boolean isTeamChanged(String originalTeam, String newTeam) {
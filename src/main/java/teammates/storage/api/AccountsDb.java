@@ -219,10 +219,14 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return getAccountEntity(entity.googleId);
     }
 
+    @Override
+    protected Key<Account> getEntityKey(AccountAttributes attributes) {
+        return Key.create(Account.class, attributes.googleId);
+    }
+
     @Override
     protected QueryKeys<Account> getEntityQueryKeys(AccountAttributes attributes) {
-        Key<Account> keyToFind = Key.create(Account.class, attributes.googleId);
-        return load().filterKey(keyToFind).keys();
+        return load().filterKey(getEntityKey(attributes)).keys();
     }
 
     @Override
@@ -230,6 +230,11 @@ public class AdminEmailsDb extends EntitiesDb<AdminEmail, AdminEmailAttributes>
         return getAdminEmailEntity(adminEmailToGet.getSubject(), adminEmailToGet.getCreateDate());
     }
 
+    @Override
+    protected Key<AdminEmail> getEntityKey(AdminEmailAttributes attributes) {
+        return makeKeyOrNullFromWebSafeString(attributes.emailId);
+    }
+
     @Override
     protected QueryKeys<AdminEmail> getEntityQueryKeys(AdminEmailAttributes attributes) {
         Key<AdminEmail> key = makeKeyOrNullFromWebSafeString(attributes.emailId);
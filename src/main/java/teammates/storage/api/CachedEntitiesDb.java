@@ -0,0 +1,255 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.EntityNotFoundException;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.util.Config;
+import teammates.storage.cache.EntityCache;
+import teammates.storage.cache.EntityCacheStatistics;
+import teammates.storage.cache.LruEntityCache;
+import teammates.storage.cache.MemcacheEntityCache;
+import teammates.storage.entity.BaseEntity;
+
+/**
+ * Base class for classes performing CRUD operations on entities which are read far more often than written,
+ * with the reads of single entities and of small lists of entities going through an {@link EntityCache}.
+ *
+ * <p>Entities are cached as low-level Datastore entities and converted to entity objects on every read,
+ * so changes made to the returned objects never reach the cache.
+ * The cached data is invalidated whenever an entity is written through any of the methods of {@link EntitiesDb}.
+ * Reads and writes done in a transaction do not use the cache, and transactions writing entities
+ * have to be run through {@link #transact} so that the cache is invalidated again after they commit.
+ *
+ * @param <E> Specific entity class
+ * @param <A> Specific attributes class
+ */
+public abstract class CachedEntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> extends EntitiesDb<E, A> {
+
+    /**
+     * The maximum number of values kept in the in-memory cache.
+     */
+    private static final int LRU_CACHE_CAPACITY = 10000;
+
+    private static EntityCache entityCache;
+
+    /**
+     * Whether {@link #entityCache} has been set. The cache is only created when first used,
+     * as the configuration cannot be read before the GAE environment is set up.
+     */
+    private static boolean isEntityCacheSet;
+
+    /**
+     * The cache keys invalidated in the transaction being run by {@link #transact} in the current thread,
+     * or null if no transaction is being run by it.
+     */
+    private static final ThreadLocal<List<String>> KEYS_INVALIDATED_IN_TRANSACTION = new ThreadLocal<>();
+
+    private static EntityCache createEntityCache() {
+        if (Config.isUsingMemcacheEntityCache()) {
+            return new MemcacheEntityCache();
+        }
+        if (Config.isUsingLruEntityCache()) {
+            return new LruEntityCache(LRU_CACHE_CAPACITY);
+        }
+        return null;
+    }
+
+    public static synchronized EntityCache getEntityCache() {
+        if (!isEntityCacheSet) {
+            entityCache = createEntityCache();
+            isEntityCacheSet = true;
+        }
+        return entityCache;
+    }
+
+    /**
+     * Replaces the cache used by all subclasses. Setting the cache to null disables caching.
+     */
+    public static synchronized void setEntityCache(EntityCache cache) {
+        entityCache = cache;
+        isEntityCacheSet = true;
+    }
+
+    /**
+     * Gets the entity with the given key, reading it from the cache if it has been cached.
+     *
+     * @return null if the entity does not exist.
+     */
+    @SuppressWarnings("PMD.PrematureDeclaration") // the version must be read before the entity
+    protected E getEntityThroughCache(Key<E> key) {
+        EntityCache cache = getUsableEntityCache();
+        if (cache == null) {
+            return ofy().load().key(key).now();
+        }
+
+        String cacheKey = getEntityCacheKey(key);
+        Entity cachedEntity = (Entity) cache.get(cacheKey);
+        if (cachedEntity != null) {
+            EntityCacheStatistics.recordHit(key.getKind());
+            return ofy().load().fromEntity(cachedEntity);
+        }
+        EntityCacheStatistics.recordMiss(key.getKind());
+
+        long version = cache.getVersion(cacheKey);
+        Entity entity;
+        try {
+            entity = getDatastoreService().get(key.getRaw());
+        } catch (EntityNotFoundException e) {
+            // non-existence is not cached, as the entity is likely to be created soon after the check
+            return null;
+        }
+        cache.put(cacheKey, entity, version);
+        return ofy().load().fromEntity(entity);
+    }
+
+    /**
+     * Gets the entities matched by the given query, reading them from the cache if they have been cached.
+     * The result of the query is cached as a list identified by {@code listKind} and {@code listId},
+     * which must be invalidated through {@link #getCachedListKeys} whenever the result may have changed.
+     */
+    protected List<E> getEntitiesThroughCache(String listKind, String listId, Query<E> query) {
+        EntityCache cache = getUsableEntityCache();
+        if (cache == null) {
+            return query.list();
+        }
+
+        String cacheKey = getListCacheKey(listKind, listId);
+        @SuppressWarnings("unchecked")
+        List<Entity> cachedEntities = (List<Entity>) cache.get(cacheKey);
+        if (cachedEntities != null) {
+            EntityCacheStatistics.recordHit(listKind);
+            return toEntityObjects(cachedEntities);
+        }
+        EntityCacheStatistics.recordMiss(listKind);
+
+        long version = cache.getVersion(cacheKey);
+        List<com.google.appengine.api.datastore.Key> rawKeys = new ArrayList<>();
+        for (Key<E> key : query.keys().list()) {
+            rawKeys.add(key.getRaw());
+        }
+        Map<com.google.appengine.api.datastore.Key, Entity> entitiesByKey = getDatastoreService().get(rawKeys);
+
+        // keeps the order of the query, which is lost in the batch get
+        ArrayList<Entity> entities = new ArrayList<>();
+        for (com.google.appengine.api.datastore.Key rawKey : rawKeys) {
+            Entity entity = entitiesByKey.get(rawKey);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        cache.put(cacheKey, entities, version);
+        return toEntityObjects(entities);
+    }
+
+    /**
+     * Returns the keys of the cached lists which may contain the given entity,
+     * in the format given by {@link #getListCacheKey}.
+     */
+    protected abstract List<String> getCachedListKeys(A attributes);
+
+    protected static String getListCacheKey(String listKind, String listId) {
+        return "list%" + listKind + "%" + listId;
+    }
+
+    private static String getEntityCacheKey(Key<?> key) {
+        return "entity%" + key.getRaw().toString();
+    }
+
+    @Override
+    protected void invalidateCachedEntities(Collection<A> changedEntities) {
+        EntityCache cache = getEntityCache();
+        if (cache == null || changedEntities.isEmpty()) {
+            return;
+        }
+
+        List<String> cacheKeys = new ArrayList<>();
+        for (A attributes : changedEntities) {
+            Key<E> key = getEntityKey(attributes);
+            if (key != null) {
+                cacheKeys.add(getEntityCacheKey(key));
+            }
+            cacheKeys.addAll(getCachedListKeys(attributes));
+        }
+        invalidateCacheKeys(cache, cacheKeys);
+    }
+
+    /**
+     * Invalidates the cached lists identified by {@code listKind} and each of {@code listIds}.
+     * This has to be done by subclasses which write entities without going through the methods of {@link EntitiesDb}.
+     */
+    protected void invalidateCachedLists(String listKind, Collection<String> listIds) {
+        EntityCache cache = getEntityCache();
+        if (cache == null || listIds.isEmpty()) {
+            return;
+        }
+
+        List<String> cacheKeys = new ArrayList<>();
+        for (String listId : listIds) {
+            cacheKeys.add(getListCacheKey(listKind, listId));
+        }
+        invalidateCacheKeys(cache, cacheKeys);
+    }
+
+    private static void invalidateCacheKeys(EntityCache cache, List<String> cacheKeys) {
+        cache.invalidate(cacheKeys);
+
+        List<String> keysInvalidatedInTransaction = KEYS_INVALIDATED_IN_TRANSACTION.get();
+        if (keysInvalidatedInTransaction != null && ofy().getTransaction() != null) {
+            keysInvalidatedInTransaction.addAll(cacheKeys);
+        }
+    }
+
+    /**
+     * Runs {@code work} in a transaction, joining the current transaction if there is one.
+     * The cached data written in the transaction is invalidated again after the transaction ends,
+     * as values read by other requests after the invalidation done when the data was written,
+     * but before the commit, would otherwise be cached with the latest version.
+     */
+    protected <R> R transact(Work<R> work) {
+        if (KEYS_INVALIDATED_IN_TRANSACTION.get() != null) {
+            return ofy().transact(work);
+        }
+
+        List<String> keysInvalidatedInTransaction = new ArrayList<>();
+        KEYS_INVALIDATED_IN_TRANSACTION.set(keysInvalidatedInTransaction);
+        try {
+            return ofy().transact(work);
+        } finally {
+            KEYS_INVALIDATED_IN_TRANSACTION.remove();
+            EntityCache cache = getEntityCache();
+            if (cache != null && !keysInvalidatedInTransaction.isEmpty()) {
+                cache.invalidate(keysInvalidatedInTransaction);
+            }
+        }
+    }
+
+    private EntityCache getUsableEntityCache() {
+        return ofy().getTransaction() == null ? getEntityCache() : null;
+    }
+
+    private List<E> toEntityObjects(List<Entity> entities) {
+        List<E> entityObjects = new ArrayList<>();
+        for (Entity entity : entities) {
+            entityObjects.add(ofy().load().fromEntity(entity));
+        }
+        return entityObjects;
+    }
+
+    private DatastoreService getDatastoreService() {
+        return DatastoreServiceFactory.getDatastoreService();
+    }
+
+}
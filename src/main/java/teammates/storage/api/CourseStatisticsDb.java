@@ -0,0 +1,209 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.CourseStatistics;
+
+/**
+ * Handles CRUD operations for the statistics of courses.
+ *
+ * <p>The statistics are only written in transactions, so that concurrent changes to the students of a course
+ * are all counted. The transactions are separate from the ones writing the students, so the statistics drift
+ * if a student is written but the update of the statistics fails; such drift is repaired periodically.
+ *
+ * <p>As there is a single record per course, the statistics of a course can only be updated about once per second.
+ * Students enrolled together are therefore counted in a single update, rather than one update per student.
+ *
+ * @see CourseStatistics
+ * @see CourseStatisticsAttributes
+ */
+public class CourseStatisticsDb extends EntitiesDb<CourseStatistics, CourseStatisticsAttributes> {
+
+    /**
+     * Saves the statistics of the course in a transaction, unless statistics are already kept for the course.
+     * Statistics already kept are never replaced, as updates may have been applied to them since the given
+     * statistics were computed.
+     *
+     * @return the statistics kept for the course after the transaction
+     */
+    public CourseStatisticsAttributes createCourseStatisticsIfAbsent(CourseStatisticsAttributes statistics)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statistics);
+
+        if (!statistics.isValid()) {
+            throw new InvalidParametersException(statistics.getInvalidityInfo());
+        }
+
+        return ofy().transact(new Work<CourseStatisticsAttributes>() {
+            @Override
+            public CourseStatisticsAttributes run() {
+                CourseStatistics statisticsEntity = load().id(statistics.getCourseId()).now();
+                if (statisticsEntity != null) {
+                    return makeAttributes(statisticsEntity);
+                }
+
+                saveEntity(statistics.toEntity(), statistics);
+                return statistics;
+            }
+        });
+    }
+
+    /**
+     * Replaces the statistics of the course in a transaction, but only if the statistics kept for the course
+     * have not been updated since they were read, so that updates applied in the meantime are not lost.
+     *
+     * @param statistics the statistics to save
+     * @param expectedUpdatedAt the last update time of the statistics kept for the course when they were read
+     * @return true if the statistics are replaced, false if they have been updated since or are no longer kept
+     */
+    public boolean replaceCourseStatistics(CourseStatisticsAttributes statistics, Instant expectedUpdatedAt)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statistics);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, expectedUpdatedAt);
+
+        if (!statistics.isValid()) {
+            throw new InvalidParametersException(statistics.getInvalidityInfo());
+        }
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                CourseStatistics statisticsEntity = load().id(statistics.getCourseId()).now();
+                if (statisticsEntity == null || !expectedUpdatedAt.equals(statisticsEntity.getUpdatedAt())) {
+                    return false;
+                }
+
+                saveEntity(statistics.toEntity(), statistics);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if no statistics are kept for the course.
+     */
+    public CourseStatisticsAttributes getCourseStatistics(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributesOrNull(load().id(courseId).now());
+    }
+
+    /**
+     * Gets the statistics of the courses in a single batch read.
+     *
+     * @return the statistics found, keyed by course ID. Courses without statistics are left out.
+     */
+    public Map<String, CourseStatisticsAttributes> getCourseStatisticsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        Map<String, CourseStatisticsAttributes> statisticsByCourseId = new HashMap<>();
+        for (CourseStatistics statistics : load().ids(courseIds).values()) {
+            statisticsByCourseId.put(statistics.getCourseId(), makeAttributes(statistics));
+        }
+        return statisticsByCourseId;
+    }
+
+    /**
+     * Updates the statistics of the course for the students removed from and added to the course, in a transaction.
+     * A student whose details are changed is both removed with the old details and added with the new ones.
+     * Nothing is done if no statistics are kept for the course, as they are computed when first read.
+     */
+    public void updateCourseStatistics(String courseId, Collection<StudentAttributes> removedStudents,
+            Collection<StudentAttributes> addedStudents) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, removedStudents);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, addedStudents);
+
+        if (removedStudents.isEmpty() && addedStudents.isEmpty()) {
+            return;
+        }
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                CourseStatistics statisticsEntity = load().id(courseId).now();
+                if (statisticsEntity == null) {
+                    return;
+                }
+
+                CourseStatisticsAttributes statistics = makeAttributes(statisticsEntity);
+                for (StudentAttributes student : removedStudents) {
+                    statistics.removeStudent(student);
+                }
+                for (StudentAttributes student : addedStudents) {
+                    statistics.addStudent(student);
+                }
+                saveEntity(statistics.toEntity(), statistics);
+            }
+        });
+    }
+
+    public void deleteCourseStatistics(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteEntitiesByKeys(getKeysForCourses(Collections.singletonList(courseId)));
+    }
+
+    public void deleteCourseStatisticsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        deleteEntitiesByKeys(getKeysForCourses(courseIds));
+    }
+
+    private static List<Key<CourseStatistics>> getKeysForCourses(List<String> courseIds) {
+        List<Key<CourseStatistics>> keys = new ArrayList<>();
+        for (String courseId : courseIds) {
+            keys.add(Key.create(CourseStatistics.class, courseId));
+        }
+        return keys;
+    }
+
+    @Override
+    protected LoadType<CourseStatistics> load() {
+        return ofy().load().type(CourseStatistics.class);
+    }
+
+    @Override
+    protected CourseStatistics getEntity(CourseStatisticsAttributes attributes) {
+        return ofy().load().key(getEntityKey(attributes)).now();
+    }
+
+    @Override
+    protected Key<CourseStatistics> getEntityKey(CourseStatisticsAttributes attributes) {
+        return Key.create(CourseStatistics.class, attributes.getCourseId());
+    }
+
+    @Override
+    protected QueryKeys<CourseStatistics> getEntityQueryKeys(CourseStatisticsAttributes attributes) {
+        return load().filterKey(getEntityKey(attributes)).keys();
+    }
+
+    @Override
+    protected CourseStatisticsAttributes makeAttributes(CourseStatistics entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return CourseStatisticsAttributes.valueOf(entity);
+    }
+
+}
@@ -6,12 +6,14 @@ import java.time.DateTimeException;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -25,7 +27,7 @@ import teammates.storage.entity.Course;
  * @see Course
  * @see CourseAttributes
  */
-public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
+public class CoursesDb extends CachedEntitiesDb<Course, CourseAttributes> {
 
     /*
      * Explanation: Based on our policies for the storage component, this class does not handle cascading.
@@ -55,7 +57,8 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     public CourseAttributes getCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributesOrNull(getCourseEntity(courseId));
+        return makeAttributesOrNull(readThroughRequestIdentityMap("course%" + courseId,
+                () -> getEntityThroughCache(Key.create(Course.class, courseId))));
     }
 
     public List<CourseAttributes> getCourses(List<String> courseIds) {
@@ -74,6 +77,16 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return makeAttributes(load().list());
     }
 
+    /**
+     * Returns at most {@code pageSize} courses, starting from the position given by {@code cursor}.
+     * The cursor of the returned page can be passed on to another request to continue reading from there.
+     *
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     */
+    public AttributesPage<CourseAttributes> getCoursesPage(String cursor, int pageSize) {
+        return getAttributesPage(load(), cursor, pageSize);
+    }
+
     /**
      * Updates the course.<br>
      * Updates only name, deletion date and course archive status.<br>
@@ -130,10 +143,20 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return getCourseEntity(attributes.getId());
     }
 
+    @Override
+    protected Key<Course> getEntityKey(CourseAttributes attributes) {
+        return Key.create(Course.class, attributes.getId());
+    }
+
+    @Override
+    protected List<String> getCachedListKeys(CourseAttributes attributes) {
+        // courses are only cached individually
+        return Collections.emptyList();
+    }
+
     @Override
     protected QueryKeys<Course> getEntityQueryKeys(CourseAttributes attributes) {
-        Key<Course> keyToFind = Key.create(Course.class, attributes.getId());
-        return load().filterKey(keyToFind).keys();
+        return load().filterKey(getEntityKey(attributes)).keys();
     }
 
     private Course getCourseEntity(String courseId) {
@@ -0,0 +1,111 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.DeletionJob;
+
+/**
+ * Handles CRUD operations for deletion jobs.
+ *
+ * <p>The jobs are read by key, so the checkpoint recorded by a worker is seen by the next read.
+ *
+ * @see DeletionJob
+ * @see DeletionJobAttributes
+ */
+public class DeletionJobsDb extends EntitiesDb<DeletionJob, DeletionJobAttributes> {
+
+    public static final String ERROR_UPDATE_NON_EXISTENT_DELETION_JOB = "Trying to update non-existent Deletion Job: ";
+
+    /**
+     * Creates the deletion job. The IDs of jobs are random UUIDs, so there is no need to check for existence.
+     */
+    public void createDeletionJob(DeletionJobAttributes job) throws InvalidParametersException {
+        createEntityWithoutExistenceCheck(job);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if there is no such job.
+     */
+    public DeletionJobAttributes getDeletionJob(String id) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, id);
+
+        return makeAttributesOrNull(load().id(id).now());
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return an empty list if there are no jobs for the course.
+     */
+    public List<DeletionJobAttributes> getDeletionJobsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(load().filter("courseId =", courseId).list());
+    }
+
+    /**
+     * Updates the status and the checkpoint of the deletion job.
+     * The scope of a job never changes.
+     */
+    public void updateDeletionJob(DeletionJobAttributes job)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, job);
+
+        if (!job.isValid()) {
+            throw new InvalidParametersException(job.getInvalidityInfo());
+        }
+
+        DeletionJob jobEntity = getEntity(job);
+        if (jobEntity == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT_DELETION_JOB + job.getId());
+        }
+
+        jobEntity.setStage(job.getStage());
+        jobEntity.setCursor(job.getCursor());
+        jobEntity.setStatus(job.getStatus());
+        jobEntity.setNumberOfEntitiesDeleted(job.getNumberOfEntitiesDeleted());
+
+        saveEntity(jobEntity, job);
+    }
+
+    @Override
+    protected LoadType<DeletionJob> load() {
+        return ofy().load().type(DeletionJob.class);
+    }
+
+    @Override
+    protected DeletionJob getEntity(DeletionJobAttributes attributes) {
+        return ofy().load().key(getEntityKey(attributes)).now();
+    }
+
+    @Override
+    protected Key<DeletionJob> getEntityKey(DeletionJobAttributes attributes) {
+        return Key.create(DeletionJob.class, attributes.getId());
+    }
+
+    @Override
+    protected QueryKeys<DeletionJob> getEntityQueryKeys(DeletionJobAttributes attributes) {
+        return load().filterKey(getEntityKey(attributes)).keys();
+    }
+
+    @Override
+    protected DeletionJobAttributes makeAttributes(DeletionJob entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return DeletionJobAttributes.valueOf(entity);
+    }
+
+}
@@ -0,0 +1,124 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.EnrollmentJob;
+
+/**
+ * Handles CRUD operations for enrollment jobs.
+ *
+ * <p>The jobs are read by key, so the progress recorded by a worker is seen by the next read.
+ *
+ * @see EnrollmentJob
+ * @see EnrollmentJobAttributes
+ */
+public class EnrollmentJobsDb extends EntitiesDb<EnrollmentJob, EnrollmentJobAttributes> {
+
+    public static final String ERROR_UPDATE_NON_EXISTENT_ENROLLMENT_JOB = "Trying to update non-existent Enrollment Job: ";
+
+    /**
+     * Creates the enrollment job. The IDs of jobs are random UUIDs, so there is no need to check for existence.
+     */
+    public void createEnrollmentJob(EnrollmentJobAttributes job) throws InvalidParametersException {
+        createEntityWithoutExistenceCheck(job);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if there is no such job.
+     */
+    public EnrollmentJobAttributes getEnrollmentJob(String id) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, id);
+
+        return makeAttributesOrNull(load().id(id).now());
+    }
+
+    /**
+     * Updates the status and the progress of the enrollment job.
+     * The course and the enroll lines of a job never change.
+     */
+    public void updateEnrollmentJob(EnrollmentJobAttributes job)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, job);
+
+        if (!job.isValid()) {
+            throw new InvalidParametersException(job.getInvalidityInfo());
+        }
+
+        EnrollmentJob jobEntity = getEntity(job);
+        if (jobEntity == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT_ENROLLMENT_JOB + job.getId());
+        }
+
+        jobEntity.setStatus(job.getStatus());
+        jobEntity.setNumberOfStudentsProcessed(job.getNumberOfStudentsProcessed());
+        jobEntity.setNumberOfNewStudents(job.getNumberOfNewStudents());
+        jobEntity.setNumberOfModifiedStudents(job.getNumberOfModifiedStudents());
+        jobEntity.setNumberOfUnmodifiedStudents(job.getNumberOfUnmodifiedStudents());
+        jobEntity.setErrorMessage(job.getErrorMessage());
+        EnrollmentJob updatedEntity = job.toEntity();
+        jobEntity.setChunkEnrollments(updatedEntity.getChunkEnrollments());
+        jobEntity.setEnrollmentsToAdjust(updatedEntity.getEnrollmentsToAdjust());
+
+        saveEntity(jobEntity, job);
+    }
+
+    /**
+     * Deletes all the enrollment jobs of the course.
+     */
+    public void deleteEnrollmentJobsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteEntitiesByKeys(load().filter("courseId =", courseId).keys().list());
+    }
+
+    /**
+     * Deletes all the enrollment jobs which have not been updated since {@code time}.
+     */
+    public void deleteEnrollmentJobsUpdatedBefore(Instant time) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        deleteEntitiesByKeys(load().filter("updatedAt <", TimeHelper.convertInstantToDate(time)).keys().list());
+    }
+
+    @Override
+    protected LoadType<EnrollmentJob> load() {
+        return ofy().load().type(EnrollmentJob.class);
+    }
+
+    @Override
+    protected EnrollmentJob getEntity(EnrollmentJobAttributes attributes) {
+        return ofy().load().key(getEntityKey(attributes)).now();
+    }
+
+    @Override
+    protected Key<EnrollmentJob> getEntityKey(EnrollmentJobAttributes attributes) {
+        return Key.create(EnrollmentJob.class, attributes.getId());
+    }
+
+    @Override
+    protected QueryKeys<EnrollmentJob> getEntityQueryKeys(EnrollmentJobAttributes attributes) {
+        return load().filterKey(getEntityKey(attributes)).keys();
+    }
+
+    @Override
+    protected EnrollmentJobAttributes makeAttributes(EnrollmentJob entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return EnrollmentJobAttributes.valueOf(entity);
+    }
+
+}
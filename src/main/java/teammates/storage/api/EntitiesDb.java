@@ -4,18 +4,33 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.LoadResult;
+import com.googlecode.objectify.Result;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.AttributesPage;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
@@ -23,6 +38,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
+import teammates.storage.cache.RequestIdentityMap;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
@@ -52,6 +68,17 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected static final Logger log = Logger.getLogger();
 
+    /**
+     * The maximum number of entities the datastore accepts in a single batch delete.
+     */
+    private static final int MAX_KEYS_PER_BATCH_DELETE = 500;
+
+    /**
+     * The invalidations to be done again once the deferred writes done in the current thread are written
+     * by {@link #flush()}.
+     */
+    private static final ThreadLocal<List<Runnable>> INVALIDATIONS_AFTER_FLUSH = ThreadLocal.withInitial(ArrayList::new);
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -63,17 +90,21 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public List<A> createEntities(Collection<A> entitiesToAdd) throws InvalidParametersException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToAdd);
 
-        List<A> entitiesToUpdate = new ArrayList<>();
-        List<E> entities = new ArrayList<>();
-
         for (A entityToAdd : entitiesToAdd) {
             entityToAdd.sanitizeForSaving();
 
             if (!entityToAdd.isValid()) {
                 throw new InvalidParametersException(entityToAdd.getInvalidityInfo());
             }
+        }
+
+        Set<A> existingEntities = getExistingEntities(entitiesToAdd);
+
+        List<A> entitiesToUpdate = new ArrayList<>();
+        List<E> entities = new ArrayList<>();
 
-            if (hasEntity(entityToAdd)) {
+        for (A entityToAdd : entitiesToAdd) {
+            if (existingEntities.contains(entityToAdd)) {
                 entitiesToUpdate.add(entityToAdd);
             } else {
                 E entity = entityToAdd.toEntity();
@@ -177,6 +208,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected void saveEntity(E entityToSave, A entityToSaveAttributesForLogging) {
         ofy().save().entity(entityToSave).now();
         log.info(entityToSaveAttributesForLogging.getBackupIdentifier());
+        onEntitiesWritten(Collections.singletonList(entityToSaveAttributesForLogging));
     }
 
     protected void saveEntities(Collection<E> entitiesToSave) {
@@ -188,6 +220,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().save().entities(entitiesToSave).now();
+        onEntitiesWritten(entitiesToSaveAttributesForLogging);
     }
 
     protected void saveEntitiesDeferred(Collection<E> entitiesToSave) {
@@ -199,10 +232,21 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().defer().save().entities(entitiesToSave);
+        onEntitiesWritten(entitiesToSaveAttributesForLogging);
+        INVALIDATIONS_AFTER_FLUSH.get().add(() -> onEntitiesWritten(entitiesToSaveAttributesForLogging));
     }
 
+    /**
+     * Writes all entities saved with deferred writes, then invalidates the data read earlier about them again,
+     * as values read by other requests after the invalidation done when the writes were deferred,
+     * but before they were written, would otherwise be cached with the latest version.
+     */
     public static void flush() {
         ofy().flush();
+
+        List<Runnable> invalidations = INVALIDATIONS_AFTER_FLUSH.get();
+        INVALIDATIONS_AFTER_FLUSH.remove();
+        invalidations.forEach(Runnable::run);
     }
 
     // TODO: use this method for subclasses.
@@ -213,24 +257,66 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public void deleteEntity(A entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
-        ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
+        Key<E> keyToDelete = getEntityKey(entityToDelete);
+        if (keyToDelete == null) {
+            ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
+        } else {
+            ofy().delete().key(keyToDelete).now();
+        }
         log.info(entityToDelete.getBackupIdentifier());
+        onEntitiesWritten(Collections.singletonList(entityToDelete));
     }
 
+    /**
+     * Note: This is a non-cascade delete.<br>
+     *   <br> Fails silently for entities which do not exist.
+     *   <br> Keys which cannot be derived from the attributes are queried, with all queries sent
+     *   before waiting for any of their results.
+     */
     public void deleteEntities(Collection<A> entitiesToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToDelete);
 
         List<Key<E>> keysToDelete = new ArrayList<>();
+        List<A> deletedEntities = new ArrayList<>();
+        Map<A, LoadResult<Key<E>>> queriedKeys = new IdentityHashMap<>();
         for (A entityToDelete : entitiesToDelete) {
-            Key<E> keyToDelete = getEntityQueryKeys(entityToDelete).first().now();
+            Key<E> keyToDelete = getEntityKey(entityToDelete);
             if (keyToDelete == null) {
-                continue;
+                queriedKeys.put(entityToDelete, getEntityQueryKeys(entityToDelete).first());
+            } else {
+                keysToDelete.add(keyToDelete);
+                deletedEntities.add(entityToDelete);
+                log.info(entityToDelete.getBackupIdentifier());
             }
-            keysToDelete.add(keyToDelete);
-            log.info(entityToDelete.getBackupIdentifier());
         }
 
-        ofy().delete().keys(keysToDelete).now();
+        queriedKeys.forEach((entityToDelete, queriedKey) -> {
+            Key<E> keyToDelete = queriedKey.now();
+            if (keyToDelete != null) {
+                keysToDelete.add(keyToDelete);
+                deletedEntities.add(entityToDelete);
+                log.info(entityToDelete.getBackupIdentifier());
+            }
+        });
+
+        deleteEntitiesByKeys(keysToDelete);
+        onEntitiesWritten(deletedEntities);
+    }
+
+    /**
+     * Deletes the entities with the given keys in chunks of at most {@link #MAX_KEYS_PER_BATCH_DELETE} keys.
+     * All chunks are sent before waiting for any of them to complete.
+     */
+    protected void deleteEntitiesByKeys(List<Key<E>> keysToDelete) {
+        List<Result<Void>> deletions = new ArrayList<>();
+        for (int i = 0; i < keysToDelete.size(); i += MAX_KEYS_PER_BATCH_DELETE) {
+            List<Key<E>> chunk = keysToDelete.subList(i, Math.min(i + MAX_KEYS_PER_BATCH_DELETE, keysToDelete.size()));
+            deletions.add(ofy().delete().keys(chunk));
+        }
+
+        for (Result<Void> deletion : deletions) {
+            deletion.now();
+        }
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
@@ -240,6 +326,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributesForLogging) {
         ofy().delete().entity(entityToDelete).now();
         log.info(entityToDeleteAttributesForLogging.getBackupIdentifier());
+        onEntitiesWritten(Collections.singletonList(entityToDeleteAttributesForLogging));
     }
 
     protected void deleteEntitiesDirect(Collection<E> entitiesToDelete) {
@@ -251,6 +338,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(attributes.getBackupIdentifier());
         }
         ofy().delete().entities(entitiesToDelete).now();
+        onEntitiesWritten(entitiesToDeleteAttributesForLogging);
     }
 
     public void deletePicture(BlobKey key) {
@@ -275,10 +363,90 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
      */
     protected abstract QueryKeys<E> getEntityQueryKeys(A attributes);
 
+    /**
+     * NOTE: This method must be overriden for all subclasses such that it will return the key of the
+     * Entity matching the EntityAttributes in the parameter, if the key can be derived without querying.
+     * @return    the key of the Entity which matches the given {@link EntityAttributes} {@code attributes},
+     *             or null if the key can only be found with {@link #getEntityQueryKeys}.
+     */
+    protected abstract Key<E> getEntityKey(A attributes);
+
+    /**
+     * Discards the data read earlier which becomes outdated when the given entities are created, updated or deleted.
+     */
+    private void onEntitiesWritten(Collection<A> writtenEntities) {
+        invalidateRequestIdentityMap();
+        invalidateCachedEntities(writtenEntities);
+    }
+
+    /**
+     * Returns the result of the read identified by {@code key}, reading it again only if it has not been read
+     * in the current request. See {@link RequestIdentityMap}.
+     *
+     * <p>The result is shared by all callers in the request, so it must not be modified.
+     */
+    protected <T> T readThroughRequestIdentityMap(String key, Supplier<T> reader) {
+        return RequestIdentityMap.read(getClass().getName(), key, reader);
+    }
+
+    /**
+     * Discards the results of all reads of this class done in the current request.
+     * This is done automatically by the methods of this class which write entities,
+     * but has to be done by subclasses which write entities directly.
+     */
+    protected void invalidateRequestIdentityMap() {
+        RequestIdentityMap.invalidate(getClass().getName());
+    }
+
+    /**
+     * Invalidates the cached data which becomes outdated when the given entities are created, updated or deleted.
+     * This is called on every path that writes entities.
+     */
+    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
+    protected void invalidateCachedEntities(Collection<A> changedEntities) {
+        // Does nothing by default as entities are not cached unless the subclass extends CachedEntitiesDb.
+    }
+
     public boolean hasEntity(A attributes) {
         return getEntityQueryKeys(attributes).first().now() != null;
     }
 
+    /**
+     * Checks the existence of multiple entities with as few datastore round trips as possible.
+     * Entities with derivable keys are looked up in one batch get, while the key queries for the rest
+     * are all sent before waiting for any of their results.
+     * @return    the subset of {@code entities} which already exist.
+     */
+    protected Set<A> getExistingEntities(Collection<A> entities) {
+        Map<A, Key<E>> derivedKeys = new IdentityHashMap<>();
+        Map<A, LoadResult<Key<E>>> queriedKeys = new IdentityHashMap<>();
+        for (A entity : entities) {
+            Key<E> key = getEntityKey(entity);
+            if (key == null) {
+                queriedKeys.put(entity, getEntityQueryKeys(entity).first());
+            } else {
+                derivedKeys.put(entity, key);
+            }
+        }
+
+        Map<Key<E>, E> foundEntities = derivedKeys.isEmpty()
+                ? Collections.emptyMap()
+                : ofy().load().keys(derivedKeys.values());
+
+        Set<A> existingEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        derivedKeys.forEach((entity, key) -> {
+            if (foundEntities.containsKey(key)) {
+                existingEntities.add(entity);
+            }
+        });
+        queriedKeys.forEach((entity, key) -> {
+            if (key.now() != null) {
+                existingEntities.add(entity);
+            }
+        });
+        return existingEntities;
+    }
+
     protected abstract A makeAttributes(E entity);
 
     protected A makeAttributesOrNull(E entity) {
@@ -303,6 +471,145 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return attributes;
     }
 
+    /**
+     * Reads at most {@code pageSize} results of {@code query}, starting from the position given by {@code cursor}.
+     *
+     * @param cursor the web-safe cursor returned with the previous page, or null to read the first page
+     */
+    protected AttributesPage<A> getAttributesPage(Query<E> query, String cursor, int pageSize) {
+        QueryResultIterator<E> results = limitToPage(query, cursor, pageSize).iterator();
+        List<A> attributes = new ArrayList<>();
+        while (results.hasNext()) {
+            attributes.add(makeAttributes(results.next()));
+        }
+
+        String nextCursor = attributes.size() < pageSize ? null : results.getCursor().toWebSafeString();
+        return new AttributesPage<>(attributes, nextCursor);
+    }
+
+    /**
+     * Deletes at most {@code pageSize} entities matched by {@code query}, starting from the position given by
+     * {@code cursor}. Only the keys of the entities are read, so this is only suitable for entities which are
+     * not cached and whose search documents, if any, can be identified by their keys.
+     * Dbs which keep a cache of their entities must use {@link #deleteEntitiesPage} instead.
+     *
+     * @param cursor the web-safe cursor returned with the previous page, or null to delete the first page
+     * @param onPageRead called with the keys of the page before the entities are deleted
+     */
+    protected DeletionPage deleteEntityKeysPage(Query<E> query, String cursor, int pageSize,
+            Consumer<List<Key<E>>> onPageRead) {
+        Assumption.assertFalse("Cached entities must be deleted with deleteEntitiesPage",
+                this instanceof CachedEntitiesDb);
+
+        QueryResultIterator<Key<E>> results = limitToPage(query, cursor, pageSize).keys().iterator();
+        List<Key<E>> keys = new ArrayList<>();
+        while (results.hasNext()) {
+            keys.add(results.next());
+        }
+        String nextCursor = keys.size() < pageSize ? null : results.getCursor().toWebSafeString();
+
+        onPageRead.accept(keys);
+        deleteEntitiesByKeys(keys);
+        invalidateRequestIdentityMap();
+        return new DeletionPage(keys.size(), nextCursor);
+    }
+
+    protected DeletionPage deleteEntityKeysPage(Query<E> query, String cursor, int pageSize) {
+        return deleteEntityKeysPage(query, cursor, pageSize, keys -> { });
+    }
+
+    /**
+     * Deletes at most {@code pageSize} entities matched by {@code query}, starting from the position given by
+     * {@code cursor}. The entities are read in full, so that cached copies of them are invalidated
+     * and their search documents can be found.
+     *
+     * @param cursor the web-safe cursor returned with the previous page, or null to delete the first page
+     * @param onPageRead called with the entities of the page before they are deleted
+     */
+    protected DeletionPage deleteEntitiesPage(Query<E> query, String cursor, int pageSize,
+            Consumer<List<A>> onPageRead) {
+        QueryResultIterator<E> results = limitToPage(query, cursor, pageSize).iterator();
+        List<E> entities = new ArrayList<>();
+        List<A> attributes = new ArrayList<>();
+        while (results.hasNext()) {
+            E entity = results.next();
+            entities.add(entity);
+            attributes.add(makeAttributes(entity));
+        }
+        String nextCursor = entities.size() < pageSize ? null : results.getCursor().toWebSafeString();
+
+        onPageRead.accept(attributes);
+        deleteEntitiesDirect(entities, attributes);
+        return new DeletionPage(entities.size(), nextCursor);
+    }
+
+    protected DeletionPage deleteEntitiesPage(Query<E> query, String cursor, int pageSize) {
+        return deleteEntitiesPage(query, cursor, pageSize, attributes -> { });
+    }
+
+    private static <E> Query<E> limitToPage(Query<E> query, String cursor, int pageSize) {
+        Assumption.assertTrue("Page size must be positive", pageSize > 0);
+
+        Query<E> pageQuery = query.limit(pageSize);
+        if (cursor != null) {
+            pageQuery = pageQuery.startAt(Cursor.fromWebSafeString(cursor));
+        }
+        return pageQuery;
+    }
+
+    /**
+     * Returns the results of {@code query}, read lazily one page of {@code pageSize} results at a time.
+     * Only the current page is kept in memory: the Objectify session cache is cleared before each following page
+     * is read, so the entities read are not kept alive by the session.
+     */
+    protected Iterable<A> streamAttributes(Query<E> query, int pageSize) {
+        Assumption.assertTrue("Page size must be positive", pageSize > 0);
+
+        return () -> new PagedAttributesIterator(query, pageSize);
+    }
+
+    /**
+     * Iterates through the results of a query page by page. See {@link #streamAttributes}.
+     */
+    private class PagedAttributesIterator implements Iterator<A> {
+
+        private final Query<E> query;
+        private final int pageSize;
+        private AttributesPage<A> page;
+        private Iterator<A> pageIterator;
+
+        PagedAttributesIterator(Query<E> query, int pageSize) {
+            this.query = query;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page == null) {
+                readPage(null);
+            }
+            while (!pageIterator.hasNext() && page.hasNextPage()) {
+                ofy().clear();
+                readPage(page.getNextCursor());
+            }
+            return pageIterator.hasNext();
+        }
+
+        @Override
+        public A next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pageIterator.next();
+        }
+
+        private void readPage(String cursor) {
+            page = getAttributesPage(query, cursor, pageSize);
+            pageIterator = page.getAttributes().iterator();
+        }
+
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
@@ -355,4 +662,12 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        try {
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.info("Unable to delete documents in the index: " + indexName + " with document ids " + documentIds);
+        }
+    }
+
 }
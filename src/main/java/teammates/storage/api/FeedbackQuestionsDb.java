@@ -4,6 +4,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
@@ -11,6 +12,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -25,9 +27,11 @@ import teammates.storage.entity.FeedbackQuestion;
  * @see FeedbackQuestion
  * @see FeedbackQuestionAttributes
  */
-public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQuestionAttributes> {
+public class FeedbackQuestionsDb extends CachedEntitiesDb<FeedbackQuestion, FeedbackQuestionAttributes> {
     public static final String ERROR_UPDATE_NON_EXISTENT = "Trying to update non-existent Feedback Question : ";
 
+    private static final String FEEDBACK_QUESTIONS_FOR_SESSION = "FeedbackQuestionsForSession";
+
     /**
      * Creates multiple questions without checking for existence. Also calls {@link #flush()},
      * leading to any previously deferred operations being written immediately. This is needed
@@ -49,7 +53,8 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
 
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId),
+        Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+        return makeAttributesOrNull(key == null ? null : getEntityThroughCache(key),
                 "Trying to get non-existent Question: " + feedbackQuestionId);
     }
 
@@ -156,7 +161,9 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         //set true to prevent changes to last update timestamp
         fq.keepUpdateTimestamp = keepUpdateTimestamp;
 
-        saveEntity(fq, newAttributes);
+        // the attributes of the saved entity are used as newAttributes may not contain the question ID,
+        // which is needed to invalidate the cached question
+        saveEntity(fq, makeAttributes(fq));
     }
 
     public void deleteFeedbackQuestionsForCourse(String courseId) {
@@ -168,7 +175,24 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
     public void deleteFeedbackQuestionsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        deleteEntitiesDirect(load().filter("courseId in", courseIds).list());
+    }
+
+    /**
+     * Deletes at most {@code pageSize} questions in the course, or in the session if {@code feedbackSessionName}
+     * is not null. The questions are read in full, as they are cached.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteFeedbackQuestionsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<FeedbackQuestion> query = load().filter("courseId =", courseId);
+        if (feedbackSessionName != null) {
+            query = query.filter("feedbackSessionName =", feedbackSessionName);
+        }
+        return deleteEntitiesPage(query, cursor, pageSize);
     }
 
     // Gets a question entity if its Key (feedbackQuestionId) is known.
@@ -195,10 +219,9 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForSession(
             String feedbackSessionName, String courseId) {
-        return load()
+        return getEntitiesThroughCache(FEEDBACK_QUESTIONS_FOR_SESSION, feedbackSessionName + "%" + courseId, load()
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .list();
+                .filter("courseId =", courseId));
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForGiverType(
@@ -224,6 +247,17 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return getFeedbackQuestionEntity(attributes.feedbackSessionName, attributes.courseId, attributes.questionNumber);
     }
 
+    @Override
+    protected Key<FeedbackQuestion> getEntityKey(FeedbackQuestionAttributes attributes) {
+        return makeKeyOrNullFromWebSafeString(attributes.getId());
+    }
+
+    @Override
+    protected List<String> getCachedListKeys(FeedbackQuestionAttributes attributes) {
+        return Collections.singletonList(getListCacheKey(FEEDBACK_QUESTIONS_FOR_SESSION,
+                attributes.feedbackSessionName + "%" + attributes.courseId));
+    }
+
     @Override
     protected QueryKeys<FeedbackQuestion> getEntityQueryKeys(FeedbackQuestionAttributes attributes) {
         Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(attributes.getId());
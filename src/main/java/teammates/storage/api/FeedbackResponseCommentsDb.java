@@ -17,6 +17,7 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -154,6 +155,26 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
     }
 
+    /*
+     * Remove response comments for the response Ids
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        QueryFanOut fanOut = new QueryFanOut("FeedbackResponseCommentsDb.deleteFeedbackResponseCommentsForResponses");
+        List<List<Key<FeedbackResponseComment>>> keysForResponses = new ArrayList<>();
+        for (String responseId : responseIds) {
+            keysForResponses.add(fanOut.list(getFeedbackResponseCommentsForResponseQuery(responseId).keys()));
+        }
+        fanOut.join();
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (List<Key<FeedbackResponseComment>> keysForResponse : keysForResponses) {
+            keysToDelete.addAll(keysForResponse);
+        }
+        deleteEntitiesByKeys(keysToDelete);
+    }
+
     /*
      * Remove response comments for the course Ids
      */
@@ -169,6 +190,30 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteFeedbackResponseCommentsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes at most {@code pageSize} comments in the course, or in the session if {@code feedbackSessionName}
+     * is not null, together with their search documents. Only the keys of the comments are read.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteFeedbackResponseCommentsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<FeedbackResponseComment> query = load().filter("courseId =", courseId);
+        if (feedbackSessionName != null) {
+            query = query.filter("feedbackSessionName =", feedbackSessionName);
+        }
+        return deleteEntityKeysPage(query, cursor, pageSize, keys -> {
+            // the search documents of comments are identified by the IDs of the comments
+            List<String> documentIds = new ArrayList<>();
+            for (Key<FeedbackResponseComment> key : keys) {
+                documentIds.add(String.valueOf(key.getId()));
+            }
+            deleteDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, documentIds);
+        });
+    }
+
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -391,24 +436,22 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
-        List<FeedbackResponseComment> firstQueryResponseComments = load()
+        QueryFanOut fanOut =
+                new QueryFanOut("FeedbackResponseCommentsDb.getFeedbackResponseCommentEntitiesForSessionInSection");
+        List<FeedbackResponseComment> firstQueryResponseComments = fanOut.list(load()
                 .filter("courseId =", courseId)
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("giverSection =", section)
-                .list();
+                .filter("giverSection =", section));
+        List<FeedbackResponseComment> secondQueryResponseComments = fanOut.list(load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("receiverSection =", section));
+        fanOut.join();
 
+        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
         for (FeedbackResponseComment comment : firstQueryResponseComments) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
-
-        List<FeedbackResponseComment> secondQueryResponseComments = load()
-                .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("receiverSection =", section)
-                .list();
-
         for (FeedbackResponseComment comment : secondQueryResponseComments) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
@@ -430,6 +473,12 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return getFeedbackResponseCommentEntity(attributes.courseId, attributes.createdAt, attributes.giverEmail);
     }
 
+    @Override
+    protected Key<FeedbackResponseComment> getEntityKey(FeedbackResponseCommentAttributes attributes) {
+        Long id = attributes.getId();
+        return id == null ? null : Key.create(FeedbackResponseComment.class, id);
+    }
+
     @Override
     protected QueryKeys<FeedbackResponseComment> getEntityQueryKeys(FeedbackResponseCommentAttributes attributes) {
         Long id = attributes.getId();
@@ -6,14 +6,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.AttributesPage;
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -32,6 +37,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private static final Logger log = Logger.getLogger();
 
+    // the datastore limits the number of values an IN filter can take
+    private static final int MAX_VALUES_PER_IN_FILTER = 30;
+
     public void createFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToAdd)
             throws InvalidParametersException {
         List<FeedbackResponseAttributes> responsesToUpdate = createEntities(responsesToAdd);
@@ -65,6 +73,20 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(getFeedbackResponseEntityWithCheck(feedbackQuestionId, giverEmail, receiverEmail));
     }
 
+    /**
+     * Gets the feedback response entities with the given IDs in a single batch read.
+     *
+     * @return the entities found, keyed by ID. IDs without a response are left out.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntities(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        if (feedbackResponseIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return load().ids(feedbackResponseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -173,6 +195,59 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Returns the responses in the session, read lazily one page of {@code pageSize} responses at a time,
+     * so that sessions of any size can be processed with only one page in memory.
+     * The Objectify session cache is cleared whenever a new page is read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Iterable<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return streamAttributes(getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId), pageSize);
+    }
+
+    /**
+     * Returns the responses to the question given from the section, read lazily one page of {@code pageSize}
+     * responses at a time like {@link #streamFeedbackResponsesForSession}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters except {@code giverSection} are non-null.
+     *
+     * @param giverSection if null, the responses given from all sections are returned
+     */
+    public Iterable<FeedbackResponseAttributes> streamFeedbackResponsesForQuestionFromSection(
+            String feedbackQuestionId, String giverSection, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        Query<FeedbackResponse> query = load().filter("feedbackQuestionId =", feedbackQuestionId);
+        if (giverSection != null) {
+            query = query.filter("giverSection =", giverSection);
+        }
+        return streamAttributes(query, pageSize);
+    }
+
+    /**
+     * Returns at most {@code pageSize} responses in the session, starting from the position given by {@code cursor}.
+     * The cursor of the returned page can be passed on to another request to continue reading from there.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null.
+     *
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     */
+    public AttributesPage<FeedbackResponseAttributes> getFeedbackResponsesForSessionPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getAttributesPage(getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId), cursor, pageSize);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -319,6 +394,81 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 getFeedbackResponseEntitiesFromGiverForQuestionInSection(feedbackQuestionId, giverEmail, section));
     }
 
+    /**
+     * Gets the responses to the question given or received by any of the users.
+     * The responses are read with one query per batch of users instead of one query per user.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionFromOrToUsers(
+            String feedbackQuestionId, Collection<String> userEmails) {
+        return makeAttributes(getFeedbackResponseEntitiesForQuestionFromOrToUsers(feedbackQuestionId, userEmails));
+    }
+
+    /**
+     * Gets the entities of the responses to the question given or received by any of the users,
+     * as {@link #getFeedbackResponsesForQuestionFromOrToUsers} does, so that they can be updated without reading
+     * them again.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionFromOrToUsers(
+            String feedbackQuestionId, Collection<String> userEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, userEmails);
+
+        List<String> emails = new ArrayList<>(userEmails);
+        // a response from one user to another is found by both queries
+        Map<String, FeedbackResponse> entities = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> emailsInBatch = emails.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, emails.size()));
+            for (FeedbackResponse entity
+                    : getFeedbackResponseEntitiesForQuestion(feedbackQuestionId, "giverEmail in", emailsInBatch)) {
+                entities.put(entity.getId(), entity);
+            }
+            for (FeedbackResponse entity
+                    : getFeedbackResponseEntitiesForQuestion(feedbackQuestionId, "receiver in", emailsInBatch)) {
+                entities.put(entity.getId(), entity);
+            }
+        }
+        return new ArrayList<>(entities.values());
+    }
+
+    /**
+     * Gets the responses in the session given or received by any of the users,
+     * with one query per batch of users as in {@link #getFeedbackResponsesForQuestionFromOrToUsers}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForSessionFromOrToUsers(
+            String feedbackSessionName, String courseId, Collection<String> userEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, userEmails);
+
+        List<String> emails = new ArrayList<>(userEmails);
+        // a response from one user to another is found by both queries
+        Map<String, FeedbackResponse> entities = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> emailsInBatch = emails.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, emails.size()));
+            for (FeedbackResponse entity : getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId)
+                    .filter("giverEmail in", emailsInBatch).list()) {
+                entities.put(entity.getId(), entity);
+            }
+            for (FeedbackResponse entity : getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId)
+                    .filter("receiver in", emailsInBatch).list()) {
+                entities.put(entity.getId(), entity);
+            }
+        }
+        return makeAttributes(entities.values());
+    }
+
     /**
      *  Preconditions: <br>
      * * All parameters are non-null.
@@ -334,6 +484,21 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     *  Preconditions: <br>
+     * * All parameters are non-null.
+     *  @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponsesFromGiverForSessionQuery(giverEmail, feedbackSessionName, courseId)
+                .list());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -431,6 +596,53 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates the given feedback responses in their entities, which have been read beforehand,
+     * and writes all of them in a single batch.
+     * Only the answer, the recipient and the sections are updated, as in {@link #updateFeedbackResponseOptimized}.
+     * Responses without an entity in {@code entities}, e.g. as they have been deleted, are skipped.
+     * Preconditions: <br>
+     * * {@code entities} contains the entities of the responses, keyed by the response ID.
+     *
+     * @throws InvalidParametersException if any of the responses is invalid, in which case none is updated.
+     */
+    public void updateFeedbackResponsesOptimized(
+            List<FeedbackResponseAttributes> newAttributesList, Map<String, FeedbackResponse> entities)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newAttributesList);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entities);
+
+        List<String> invalidityInfo = new ArrayList<>();
+        for (FeedbackResponseAttributes newAttributes : newAttributesList) {
+            invalidityInfo.addAll(newAttributes.getInvalidityInfo());
+        }
+        if (!invalidityInfo.isEmpty()) {
+            throw new InvalidParametersException(invalidityInfo);
+        }
+
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+        List<FeedbackResponseAttributes> attributesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes newAttributes : newAttributesList) {
+            FeedbackResponse fr = entities.get(newAttributes.getId());
+            if (fr == null) {
+                log.info("Trying to update non-existent response: " + newAttributes.getId() + ".");
+                continue;
+            }
+
+            fr.keepUpdateTimestamp = false;
+            fr.setAnswer(newAttributes.responseMetaData);
+            fr.setRecipientEmail(newAttributes.recipient);
+            fr.setGiverSection(newAttributes.giverSection);
+            fr.setRecipientSection(newAttributes.recipientSection);
+            entitiesToSave.add(fr);
+            attributesToSave.add(newAttributes);
+        }
+
+        if (!entitiesToSave.isEmpty()) {
+            saveEntities(entitiesToSave, attributesToSave);
+        }
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -443,6 +655,70 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
     }
 
+    /**
+     * Deletes at most {@code pageSize} responses in the course, or in the session if {@code feedbackSessionName}
+     * is not null. Only the keys of the responses are read.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteFeedbackResponsesPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<FeedbackResponse> query = load().filter("courseId =", courseId);
+        if (feedbackSessionName != null) {
+            query = query.filter("feedbackSessionName =", feedbackSessionName);
+        }
+        return deleteEntityKeysPage(query, cursor, pageSize);
+    }
+
+    /**
+     * Gets the IDs of the responses in the course given by or to any of {@code participants},
+     * which are the emails of users or the names of teams. Only the keys of the responses are read,
+     * with the queries for all the participants sent at once.
+     */
+    public List<String> getFeedbackResponseIdsForParticipants(String courseId, Collection<String> participants) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, participants);
+
+        QueryFanOut fanOut = new QueryFanOut("FeedbackResponsesDb.getFeedbackResponseIdsForParticipants");
+        List<List<Key<FeedbackResponse>>> keysForParticipants = new ArrayList<>();
+        for (String participant : participants) {
+            keysForParticipants.add(fanOut.list(load()
+                    .filter("courseId =", courseId)
+                    .filter("giverEmail =", participant)
+                    .keys()));
+            keysForParticipants.add(fanOut.list(load()
+                    .filter("courseId =", courseId)
+                    .filter("receiver =", participant)
+                    .keys()));
+        }
+        fanOut.join();
+
+        // a response given by one participant to another is found twice
+        Set<String> responseIds = new LinkedHashSet<>();
+        for (List<Key<FeedbackResponse>> keys : keysForParticipants) {
+            for (Key<FeedbackResponse> key : keys) {
+                responseIds.add(key.getName());
+            }
+        }
+        return new ArrayList<>(responseIds);
+    }
+
+    /**
+     * Deletes the responses with the given IDs. Fails silently for responses which do not exist.
+     */
+    public void deleteFeedbackResponsesByIds(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<Key<FeedbackResponse>> keys = new ArrayList<>();
+        for (String responseId : responseIds) {
+            keys.add(Key.create(FeedbackResponse.class, responseId));
+        }
+        deleteEntitiesByKeys(keys);
+        invalidateRequestIdentityMap();
+    }
+
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -476,22 +752,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 String feedbackQuestionId, String section) {
         List<FeedbackResponse> feedbackResponses = new ArrayList<>();
 
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .list());
-
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
-
-        feedbackResponses.addAll(load()
+        // responses given to the section are only included if their givers are not in any section
+        for (FeedbackResponse response : load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", "None")
-                .filter("receiverSection =", section)
-                .list());
+                .filter("sectionsTouched =", section)
+                .list()) {
+            if (section.equals(response.getGiverSection()) || Const.DEFAULT_SECTION.equals(response.getGiverSection())) {
+                feedbackResponses.add(response);
+            }
+        }
 
         return feedbackResponses;
     }
@@ -513,27 +782,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionWithinRange(
             String feedbackSessionName, String courseId, int range) {
+        return getFeedbackResponsesForSessionQuery(feedbackSessionName, courseId)
+                .limit(range + 1).list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesForSessionQuery(String feedbackSessionName, String courseId) {
         return load()
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .limit(range + 1).list();
+                .filter("courseId =", courseId);
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -546,21 +807,13 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("sectionsTouched =", section)
+                .limit(range + 1).list();
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
@@ -589,31 +842,13 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
+        return load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
                 .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
+                .filter("sectionsTouched =", section)
                 .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -624,40 +859,35 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
+        return load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
                 .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
+                .filter("sectionsTouched =", section)
                 .list();
+    }
 
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(
+            String feedbackQuestionId, String inFilter, List<String> emails) {
+        return load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
+                .filter(inFilter, emails)
                 .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
             String giverEmail, String feedbackSessionName, String courseId, int range) {
+        return getFeedbackResponsesFromGiverForSessionQuery(giverEmail, feedbackSessionName, courseId)
+                .limit(range + 1).list();
+    }
+
+    private Query<FeedbackResponse> getFeedbackResponsesFromGiverForSessionQuery(
+            String giverEmail, String feedbackSessionName, String courseId) {
         return load()
                 .filter("giverEmail =", giverEmail)
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .limit(range + 1).list();
+                .filter("courseId =", courseId);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
@@ -690,6 +920,16 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntity(attributes.feedbackQuestionId, attributes.giver, attributes.recipient);
     }
 
+    @Override
+    protected Key<FeedbackResponse> getEntityKey(FeedbackResponseAttributes attributes) {
+        String id = attributes.getId();
+        if (id == null) {
+            // responses are recreated whenever their giver or recipient changes, so their ids always follow this form
+            id = attributes.feedbackQuestionId + "%" + attributes.giver + "%" + attributes.recipient;
+        }
+        return Key.create(FeedbackResponse.class, id);
+    }
+
     @Override
     protected QueryKeys<FeedbackResponse> getEntityQueryKeys(FeedbackResponseAttributes attributes) {
         String id = attributes.getId();
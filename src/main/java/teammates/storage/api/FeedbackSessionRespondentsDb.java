@@ -0,0 +1,206 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.DeletionPage;
+import teammates.common.datatransfer.attributes.FeedbackSessionRespondentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.FeedbackSessionRespondent;
+
+/**
+ * Handles CRUD operations for the respondents of feedback sessions.
+ *
+ * <p>The respondents are read with non-ancestor queries, so a respondent added or deleted
+ * may not be reflected in the results immediately.
+ * The respondents of each session are cached as a list, like the session itself.
+ *
+ * @see FeedbackSessionRespondent
+ * @see FeedbackSessionRespondentAttributes
+ */
+public class FeedbackSessionRespondentsDb
+        extends CachedEntitiesDb<FeedbackSessionRespondent, FeedbackSessionRespondentAttributes> {
+
+    private static final String RESPONDENTS_FOR_SESSION = "RespondentsForSession";
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if the session has no respondents.
+     */
+    public List<FeedbackSessionRespondentAttributes> getRespondentsForSession(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(readThroughRequestIdentityMap("respondents%" + feedbackSessionName + "%" + courseId,
+                () -> getEntitiesThroughCache(RESPONDENTS_FOR_SESSION, getSessionListId(feedbackSessionName, courseId),
+                        getRespondentsForSessionQuery(feedbackSessionName, courseId))));
+    }
+
+    /**
+     * Gets the sessions of the course in which the user with the given email has responded in the given role.
+     */
+    public List<FeedbackSessionRespondentAttributes> getRespondentsForUserInCourse(
+            String email, String courseId, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(load()
+                .filter("courseId =", courseId)
+                .filter("email =", email)
+                .filter("isInstructor =", isInstructor)
+                .list());
+    }
+
+    /**
+     * Records the given respondents. Respondents which are already recorded are left as they are,
+     * so that the time they were first recorded is kept.
+     * Each respondent is a separate entity, so this never contends with the recording of other respondents.
+     */
+    public void createRespondents(Collection<FeedbackSessionRespondentAttributes> respondents)
+            throws InvalidParametersException {
+        if (respondents.isEmpty()) {
+            return;
+        }
+
+        List<Key<FeedbackSessionRespondent>> keys = new ArrayList<>();
+        for (FeedbackSessionRespondentAttributes respondent : respondents) {
+            keys.add(getEntityKey(respondent));
+        }
+        // the existing respondents are found with a batch get by key rather than one check per respondent
+        Set<String> existingIds = new HashSet<>();
+        for (FeedbackSessionRespondent existingRespondent : ofy().load().keys(keys).values()) {
+            existingIds.add(existingRespondent.getId());
+        }
+
+        List<FeedbackSessionRespondentAttributes> newRespondents = new ArrayList<>();
+        for (FeedbackSessionRespondentAttributes respondent : respondents) {
+            if (!existingIds.contains(respondent.getId())) {
+                newRespondents.add(respondent);
+            }
+        }
+        if (!newRespondents.isEmpty()) {
+            createEntitiesWithoutExistenceCheck(newRespondents);
+        }
+    }
+
+    /**
+     * Deletes all the respondents of the session.
+     */
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteEntitiesDirect(getRespondentsForSessionQuery(feedbackSessionName, courseId).list());
+    }
+
+    /**
+     * Deletes all the respondents of the session in the given role.
+     */
+    public void deleteRespondentsForSession(String feedbackSessionName, String courseId, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        deleteEntitiesDirect(getRespondentsForSessionQuery(feedbackSessionName, courseId)
+                .filter("isInstructor =", isInstructor)
+                .list());
+    }
+
+    /**
+     * Deletes all the respondents of all sessions in the given courses.
+     */
+    public void deleteRespondentsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        deleteEntitiesDirect(load().filter("courseId in", courseIds).list());
+    }
+
+    /**
+     * Deletes at most {@code pageSize} respondents in the course, or in the session if {@code feedbackSessionName}
+     * is not null. The respondents are read in full, so that the cached respondents of their sessions
+     * are invalidated.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteRespondentsPage(String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<FeedbackSessionRespondent> query = load().filter("courseId =", courseId);
+        if (feedbackSessionName != null) {
+            query = query.filter("feedbackSessionName =", feedbackSessionName);
+        }
+        return deleteEntitiesPage(query, cursor, pageSize);
+    }
+
+    /**
+     * Deletes at most {@code pageSize} student respondents in all the sessions of the course.
+     * The respondents are read in full, as in {@link #deleteRespondentsPage}.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteStudentRespondentsPage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load()
+                .filter("courseId =", courseId)
+                .filter("isInstructor =", false), cursor, pageSize);
+    }
+
+    private Query<FeedbackSessionRespondent> getRespondentsForSessionQuery(String feedbackSessionName, String courseId) {
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+    }
+
+    private static String getSessionListId(String feedbackSessionName, String courseId) {
+        return feedbackSessionName + "%" + courseId;
+    }
+
+    @Override
+    protected LoadType<FeedbackSessionRespondent> load() {
+        return ofy().load().type(FeedbackSessionRespondent.class);
+    }
+
+    @Override
+    protected FeedbackSessionRespondent getEntity(FeedbackSessionRespondentAttributes attributes) {
+        return ofy().load().key(getEntityKey(attributes)).now();
+    }
+
+    @Override
+    protected Key<FeedbackSessionRespondent> getEntityKey(FeedbackSessionRespondentAttributes attributes) {
+        return Key.create(FeedbackSessionRespondent.class, attributes.getId());
+    }
+
+    @Override
+    protected List<String> getCachedListKeys(FeedbackSessionRespondentAttributes attributes) {
+        return Collections.singletonList(getListCacheKey(RESPONDENTS_FOR_SESSION,
+                getSessionListId(attributes.getFeedbackSessionName(), attributes.getCourseId())));
+    }
+
+    @Override
+    protected QueryKeys<FeedbackSessionRespondent> getEntityQueryKeys(FeedbackSessionRespondentAttributes attributes) {
+        return load().filterKey(getEntityKey(attributes)).keys();
+    }
+
+    @Override
+    protected FeedbackSessionRespondentAttributes makeAttributes(FeedbackSessionRespondent entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return FeedbackSessionRespondentAttributes.valueOf(entity);
+    }
+
+}
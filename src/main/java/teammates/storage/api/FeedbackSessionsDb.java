@@ -7,15 +7,21 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionRespondentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -26,13 +32,24 @@ import teammates.storage.entity.FeedbackSession;
 /**
  * Handles CRUD operations for feedback sessions.
  *
+ * <p>The respondents of a session are recorded as separate
+ * {@link teammates.storage.entity.FeedbackSessionRespondent} entities,
+ * so that recording a respondent does not write the session entity.
+ * The sessions returned only include the respondents still recorded in the session entity itself by older versions;
+ * the other respondents are only read, through the cache, for callers which need them,
+ * e.g. with {@link #getFeedbackSessionWithRespondents}.
+ *
  * @see FeedbackSession
  * @see FeedbackSessionAttributes
  */
-public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSessionAttributes> {
+public class FeedbackSessionsDb extends CachedEntitiesDb<FeedbackSession, FeedbackSessionAttributes> {
 
     public static final String ERROR_UPDATE_NON_EXISTENT = "Trying to update non-existent Feedback Session : ";
 
+    private static final String FEEDBACK_SESSIONS_FOR_COURSE = "FeedbackSessionsForCourse";
+
+    private final FeedbackSessionRespondentsDb respondentsDb = new FeedbackSessionRespondentsDb();
+
     public List<FeedbackSessionAttributes> getAllOpenFeedbackSessions(Instant rangeStart, Instant rangeEnd) {
         List<FeedbackSessionAttributes> list = new LinkedList<>();
 
@@ -41,15 +58,14 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Instant start = rangeStart.minus(Duration.ofHours(25));
         Instant end = rangeEnd.plus(Duration.ofHours(25));
 
-        List<FeedbackSession> endEntities = load()
+        QueryFanOut fanOut = new QueryFanOut("FeedbackSessionsDb.getAllOpenFeedbackSessions");
+        List<FeedbackSession> endEntities = fanOut.list(load()
                 .filter("endTime >", TimeHelper.convertInstantToDate(start))
-                .filter("endTime <=", TimeHelper.convertInstantToDate(end))
-                .list();
-
-        List<FeedbackSession> startEntities = load()
+                .filter("endTime <=", TimeHelper.convertInstantToDate(end)));
+        List<FeedbackSession> startEntities = fanOut.list(load()
                 .filter("startTime >=", TimeHelper.convertInstantToDate(start))
-                .filter("startTime <", TimeHelper.convertInstantToDate(end))
-                .list();
+                .filter("startTime <", TimeHelper.convertInstantToDate(end)));
+        fanOut.join();
 
         List<FeedbackSession> endTimeEntities = new ArrayList<>(endEntities);
         List<FeedbackSession> startTimeEntities = new ArrayList<>(startEntities);
@@ -85,10 +101,21 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId),
+        return makeAttributesOrNull(
+                readThroughRequestIdentityMap("session%" + feedbackSessionName + "%" + courseId,
+                        () -> getEntityThroughCache(getFeedbackSessionKey(feedbackSessionName, courseId))),
                 "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
     }
 
+    /**
+     * Gets the session as {@link #getFeedbackSession} does, together with all its respondents.
+     *
+     * @return Null if not found.
+     */
+    public FeedbackSessionAttributes getFeedbackSessionWithRespondents(String courseId, String feedbackSessionName) {
+        return withRespondents(getFeedbackSession(courseId, feedbackSessionName));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -97,7 +124,8 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
     public List<FeedbackSessionAttributes> getFeedbackSessionsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getFeedbackSessionEntitiesForCourse(courseId));
+        return makeAttributes(readThroughRequestIdentityMap("sessionsForCourse%" + courseId,
+                () -> getFeedbackSessionEntitiesForCourse(courseId)));
     }
 
     /**
@@ -180,7 +208,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         List<Key<FeedbackSession>> sessionKeys = getFeedbackSessionKeysForCourse(courseId);
         for (Key<FeedbackSession> sessionKey : sessionKeys) {
             try {
-                ofy().transact(new VoidWork() {
+                transact(new VoidWork() {
                     @Override
                     public void vrun() {
                         FeedbackSession session = ofy().load().key(sessionKey).now();
@@ -202,39 +230,29 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
-    public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addInstructorRespondents(emails, feedbackSession);
-    }
-
+    /**
+     * Marks the feedback session as being deleted by a deletion job, or clears the mark.
+     * This is kept apart from {@link #updateFeedbackSession}, so that the mark is not lost
+     * when the session is updated from attributes which were not read from the datastore.
+     */
     // The objectify library does not support throwing checked exceptions inside transactions
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void setFeedbackSessionBeingDeleted(String feedbackSessionName, String courseId, boolean isBeingDeleted)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
+                    FeedbackSession fs = getFeedbackSessionEntity(feedbackSessionName, courseId);
                     if (fs == null) {
                         throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
+                                ERROR_UPDATE_NON_EXISTENT + courseId + "/" + feedbackSessionName));
                     }
-
-                    fs.getRespondingInstructorList().addAll(emails);
-
-                    saveEntity(fs, feedbackSession);
+                    fs.setBeingDeleted(isBeingDeleted);
+                    saveEntity(fs);
                 }
             });
         } catch (RuntimeException e) {
@@ -245,120 +263,197 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
+    public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<String> emails = new ArrayList<>();
+        emails.add(email);
+        addInstructorRespondents(emails, feedbackSession);
+    }
+
+    public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        addRespondents(emails, feedbackSession, true);
+    }
+
     public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        updateRespondent(oldEmail, newEmail, feedbackSession, true);
+    }
 
-        feedbackSession.sanitizeForSaving();
+    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        clearRespondents(feedbackSession, true);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        List<String> emails = new ArrayList<>();
+        emails.add(email);
+        addStudentRespondents(emails, feedbackSession);
+    }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
+    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        deleteRespondent(email, feedbackSession, true);
+    }
 
-        if (fs.getRespondingInstructorList().contains(oldEmail)) {
-            fs.getRespondingInstructorList().remove(oldEmail);
-            fs.getRespondingInstructorList().add(newEmail);
-        }
+    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        addRespondents(emails, feedbackSession, false);
+    }
 
-        saveEntity(fs, feedbackSession);
+    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        updateRespondent(oldEmail, newEmail, feedbackSession, false);
     }
 
-    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
+    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        clearRespondents(feedbackSession, false);
+    }
 
-        feedbackSession.sanitizeForSaving();
+    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        deleteRespondent(email, feedbackSession, false);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void deleteFeedbackSessionsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        deleteFeedbackSessionsForCourses(Arrays.asList(courseId));
+    }
+
+    public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        deleteEntitiesDirect(load().filter("courseId in", courseIds).list());
+        respondentsDb.deleteRespondentsForCourses(courseIds);
+    }
+
+    /**
+     * Deletes at most {@code pageSize} sessions in the course, or only the session named {@code feedbackSessionName}
+     * if it is not null. The respondents of the sessions are not deleted.
+     * The sessions are read in full, as they are cached.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteFeedbackSessionsPage(
+            String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<FeedbackSession> query = load().filter("courseId =", courseId);
+        if (feedbackSessionName != null) {
+            query = query.filter("feedbackSessionName =", feedbackSessionName);
         }
+        return deleteEntitiesPage(query, cursor, pageSize);
+    }
 
-        fs.getRespondingInstructorList().clear();
+    /**
+     * Deletes at most {@code pageSize} respondents in the course, or in the session if {@code feedbackSessionName}
+     * is not null.
+     *
+     * @see FeedbackSessionRespondentsDb#deleteRespondentsPage
+     */
+    public DeletionPage deleteRespondentsPage(String courseId, String feedbackSessionName, String cursor, int pageSize) {
+        return respondentsDb.deleteRespondentsPage(courseId, feedbackSessionName, cursor, pageSize);
+    }
 
-        saveEntity(fs, feedbackSession);
+    /**
+     * Deletes at most {@code pageSize} student respondents in all the sessions of the course.
+     *
+     * @see FeedbackSessionRespondentsDb#deleteStudentRespondentsPage
+     */
+    public DeletionPage deleteStudentRespondentsPage(String courseId, String cursor, int pageSize) {
+        return respondentsDb.deleteStudentRespondentsPage(courseId, cursor, pageSize);
     }
 
-    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addStudentRespondents(emails, feedbackSession);
+    /**
+     * Deletes the session together with its respondents.
+     */
+    @Override
+    public void deleteEntity(FeedbackSessionAttributes entityToDelete) {
+        super.deleteEntity(entityToDelete);
+        respondentsDb.deleteRespondentsForSession(entityToDelete.getFeedbackSessionName(), entityToDelete.getCourseId());
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+    /**
+     * Records the respondents as separate entities; the session entity itself is not written.
+     */
+    private void addRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession, boolean isInstructor)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        getExistingSessionEntity(feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        List<FeedbackSessionRespondentAttributes> respondents = new ArrayList<>();
+        for (String email : emails) {
+            respondents.add(new FeedbackSessionRespondentAttributes(
+                    feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), email, isInstructor));
+        }
+        respondentsDb.createRespondents(respondents);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+    private void updateRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession,
+            boolean isInstructor) throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+        FeedbackSession fs = getExistingSessionEntity(feedbackSession);
+
+        FeedbackSessionRespondentAttributes oldRespondent = new FeedbackSessionRespondentAttributes(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), oldEmail, isInstructor);
+        if (respondentsDb.hasEntity(oldRespondent)) {
+            respondentsDb.createRespondents(Collections.singletonList(new FeedbackSessionRespondentAttributes(
+                    feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), newEmail, isInstructor)));
+            respondentsDb.deleteEntity(oldRespondent);
         }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+        Set<String> legacyRespondents = getLegacyRespondents(fs, isInstructor);
+        if (legacyRespondents.contains(oldEmail)) {
+            legacyRespondents.remove(oldEmail);
+            legacyRespondents.add(newEmail);
+            saveEntity(fs, feedbackSession);
+        }
+    }
 
-                    fs.getRespondingInstructorList().remove(email);
+    private void clearRespondents(FeedbackSessionAttributes feedbackSession, boolean isInstructor)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackSession fs = getExistingSessionEntity(feedbackSession);
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
+        respondentsDb.deleteRespondentsForSession(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), isInstructor);
+
+        Set<String> legacyRespondents = getLegacyRespondents(fs, isInstructor);
+        if (!legacyRespondents.isEmpty()) {
+            legacyRespondents.clear();
+            saveEntity(fs, feedbackSession);
         }
     }
 
     // The objectify library does not support throwing checked exceptions inside transactions
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
+    private void deleteRespondent(String email, FeedbackSessionAttributes feedbackSession, boolean isInstructor)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+        FeedbackSession fs = getExistingSessionEntity(feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        respondentsDb.deleteEntity(new FeedbackSessionRespondentAttributes(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), email, isInstructor));
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        if (!getLegacyRespondents(fs, isInstructor).contains(email)) {
+            return;
         }
-
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
+                    FeedbackSession fsInTransaction = getEntity(feedbackSession);
+                    if (fsInTransaction == null) {
                         throw new RuntimeException(new EntityDoesNotExistException(
                                 ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
                     }
 
-                    fs.getRespondingStudentList().addAll(emails);
+                    getLegacyRespondents(fsInTransaction, isInstructor).remove(email);
 
-                    saveEntity(fs, feedbackSession);
+                    saveEntity(fsInTransaction, feedbackSession);
                 }
             });
         } catch (RuntimeException e) {
@@ -369,10 +464,13 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
-    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
+    /**
+     * Validates the given session and gets its entity.
+     *
+     * @throws EntityDoesNotExistException if the session does not exist
+     */
+    private FeedbackSession getExistingSessionEntity(FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
         feedbackSession.sanitizeForSaving();
@@ -385,61 +483,90 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         if (fs == null) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
         }
+        return fs;
+    }
 
-        if (fs.getRespondingStudentList().contains(oldEmail)) {
-            fs.getRespondingStudentList().remove(oldEmail);
-            fs.getRespondingStudentList().add(newEmail);
-        }
-
-        saveEntity(fs, feedbackSession);
+    /**
+     * Returns the respondents recorded in the session entity itself, as was done before respondents
+     * were recorded as {@link teammates.storage.entity.FeedbackSessionRespondent} entities.
+     * The set is empty once the session is migrated.
+     */
+    private Set<String> getLegacyRespondents(FeedbackSession fs, boolean isInstructor) {
+        return isInstructor ? fs.getRespondingInstructorList() : fs.getRespondingStudentList();
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+    /**
+     * Adds the respondents recorded as {@link teammates.storage.entity.FeedbackSessionRespondent} entities
+     * to the respondent lists of the session, which only hold the respondents recorded in the session entity itself
+     * when the session is read.
+     *
+     * @return the given session
+     */
+    public FeedbackSessionAttributes withRespondents(FeedbackSessionAttributes session) {
+        if (session != null) {
+            mergeRespondents(session, respondentsDb.getRespondentsForSession(
+                    session.getFeedbackSessionName(), session.getCourseId()));
+        }
+        return session;
+    }
 
-        feedbackSession.sanitizeForSaving();
+    /**
+     * Returns true if the user with the given email has responded to the session in the given role.
+     */
+    public boolean isRespondent(FeedbackSessionAttributes session, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, session);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        Set<String> legacyRespondents =
+                isInstructor ? session.getRespondingInstructorList() : session.getRespondingStudentList();
+        if (legacyRespondents.contains(email)) {
+            return true;
         }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        for (FeedbackSessionRespondentAttributes respondent : respondentsDb.getRespondentsForSession(
+                session.getFeedbackSessionName(), session.getCourseId())) {
+            if (respondent.isInstructor() == isInstructor && respondent.getEmail().equals(email)) {
+                return true;
+            }
         }
-
-        fs.getRespondingStudentList().clear();
-
-        saveEntity(fs, feedbackSession);
+        return false;
     }
 
+    /**
+     * Moves the respondents recorded in the session entity itself by older versions into
+     * {@link teammates.storage.entity.FeedbackSessionRespondent} entities.
+     * The respondent entities are saved before the respondents are removed from the session entity,
+     * which is done in a transaction, so no respondent is lost if this is stopped halfway or run concurrently
+     * with other updates of the session.
+     */
     // The objectify library does not support throwing checked exceptions inside transactions
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+    public void moveLegacyRespondents(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackSession fs = getExistingSessionEntity(feedbackSession);
+        Set<String> instructors = new HashSet<>(fs.getRespondingInstructorList());
+        Set<String> students = new HashSet<>(fs.getRespondingStudentList());
+        if (instructors.isEmpty() && students.isEmpty()) {
+            return;
         }
 
+        addRespondents(new ArrayList<>(instructors), feedbackSession, true);
+        addRespondents(new ArrayList<>(students), feedbackSession, false);
+
         try {
-            ofy().transact(new VoidWork() {
+            transact(new VoidWork() {
                 @Override
                 public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
+                    FeedbackSession fsInTransaction = getEntity(feedbackSession);
+                    if (fsInTransaction == null) {
                         throw new RuntimeException(new EntityDoesNotExistException(
                                 ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
                     }
 
-                    fs.getRespondingStudentList().remove(email);
+                    // respondents recorded in the entity since it was read above are not moved yet, so they are kept
+                    fsInTransaction.getRespondingInstructorList().removeAll(instructors);
+                    fsInTransaction.getRespondingStudentList().removeAll(students);
 
-                    saveEntity(fs, feedbackSession);
+                    saveEntity(fsInTransaction, feedbackSession);
                 }
             });
         } catch (RuntimeException e) {
@@ -450,20 +577,24 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
-    public void deleteFeedbackSessionsForCourse(String courseId) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
-
-        deleteFeedbackSessionsForCourses(Arrays.asList(courseId));
-    }
-
-    public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
-
-        ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+    private void mergeRespondents(FeedbackSessionAttributes session,
+                                  List<FeedbackSessionRespondentAttributes> respondents) {
+        // copied, as the sets may be shared with entities kept for later reads
+        Set<String> respondingInstructors = new HashSet<>(session.getRespondingInstructorList());
+        Set<String> respondingStudents = new HashSet<>(session.getRespondingStudentList());
+        for (FeedbackSessionRespondentAttributes respondent : respondents) {
+            if (respondent.isInstructor()) {
+                respondingInstructors.add(respondent.getEmail());
+            } else {
+                respondingStudents.add(respondent.getEmail());
+            }
+        }
+        session.setRespondingInstructorList(respondingInstructors);
+        session.setRespondingStudentList(respondingStudents);
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return getEntitiesThroughCache(FEEDBACK_SESSIONS_FOR_COURSE, courseId, load().filter("courseId =", courseId));
     }
 
     private List<Key<FeedbackSession>> getFeedbackSessionKeysForCourse(String courseId) {
@@ -504,6 +635,10 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return load().id(feedbackSessionName + "%" + courseId).now();
     }
 
+    private Key<FeedbackSession> getFeedbackSessionKey(String feedbackSessionName, String courseId) {
+        return Key.create(FeedbackSession.class, feedbackSessionName + "%" + courseId);
+    }
+
     @Override
     protected LoadType<FeedbackSession> load() {
         return ofy().load().type(FeedbackSession.class);
@@ -514,6 +649,16 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return getFeedbackSessionEntity(attributes.getFeedbackSessionName(), attributes.getCourseId());
     }
 
+    @Override
+    protected Key<FeedbackSession> getEntityKey(FeedbackSessionAttributes attributes) {
+        return getFeedbackSessionKey(attributes.getFeedbackSessionName(), attributes.getCourseId());
+    }
+
+    @Override
+    protected List<String> getCachedListKeys(FeedbackSessionAttributes attributes) {
+        return Collections.singletonList(getListCacheKey(FEEDBACK_SESSIONS_FOR_COURSE, attributes.getCourseId()));
+    }
+
     @Override
     protected QueryKeys<FeedbackSession> getEntityQueryKeys(FeedbackSessionAttributes attributes) {
         return load()
@@ -7,9 +7,11 @@ import java.util.List;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.DeletionPage;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -116,7 +118,8 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributesOrNull(getInstructorEntityForEmail(courseId, email),
+        return makeAttributesOrNull(readThroughRequestIdentityMap("instructorForEmail%" + email + "%" + courseId,
+                () -> getInstructorEntityForEmail(courseId, email)),
                 "Trying to get non-existent Instructor: " + courseId + "/" + email);
     }
 
@@ -138,7 +141,8 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributesOrNull(getInstructorEntityForGoogleId(courseId, googleId),
+        return makeAttributesOrNull(readThroughRequestIdentityMap("instructorForGoogleId%" + googleId + "%" + courseId,
+                () -> getInstructorEntityForGoogleId(courseId, googleId)),
                 "Trying to get non-existent Instructor: " + googleId);
     }
 
@@ -178,7 +182,8 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     public List<InstructorAttributes> getInstructorsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getInstructorEntitiesForCourse(courseId));
+        return makeAttributes(readThroughRequestIdentityMap("instructorsForCourse%" + courseId,
+                () -> getInstructorEntitiesForCourse(courseId)));
     }
 
     /**
@@ -300,11 +305,32 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteInstructors(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Deletes at most {@code pageSize} instructors of the course, together with their search documents.
+     *
+     * @param cursor the cursor returned with the previous page, or null to delete the first page
+     */
+    public DeletionPage deleteInstructorsPage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesPage(load().filter("courseId =", courseId), cursor, pageSize, instructors -> {
+            List<String> documentIds = new ArrayList<>();
+            for (InstructorAttributes instructor : instructors) {
+                // legacy instructors without keys have no search documents
+                if (instructor.key != null) {
+                    documentIds.add(StringHelper.encrypt(instructor.key));
+                }
+            }
+            deleteDocuments(Const.SearchIndex.INSTRUCTOR, documentIds);
+        });
+    }
+
     private void deleteInstructors(List<Instructor> instructors) {
         for (Instructor instructor : instructors) {
             deleteDocument(makeAttributes(instructor));
         }
         ofy().delete().entities(instructors).now();
+        invalidateRequestIdentityMap();
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
@@ -365,6 +391,12 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return getInstructorEntityForEmail(instructorToGet.courseId, instructorToGet.email);
     }
 
+    @Override
+    protected Key<Instructor> getEntityKey(InstructorAttributes attributes) {
+        // instructors keep their ids when their emails are updated, so their keys can only be found by querying
+        return null;
+    }
+
     @Override
     protected QueryKeys<Instructor> getEntityQueryKeys(InstructorAttributes attributes) {
         return load()
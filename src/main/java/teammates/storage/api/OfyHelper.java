@@ -8,11 +8,15 @@ import com.googlecode.objectify.ObjectifyService;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStatistics;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.DeletionJob;
+import teammates.storage.entity.EnrollmentJob;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -28,11 +32,15 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Account.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
+        ObjectifyService.register(CourseStatistics.class);
         ObjectifyService.register(CourseStudent.class);
+        ObjectifyService.register(DeletionJob.class);
+        ObjectifyService.register(EnrollmentJob.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondent.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
     }
@@ -244,6 +244,12 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         return getStudentProfileEntityFromDb(attributes.googleId);
     }
 
+    @Override
+    protected Key<StudentProfile> getEntityKey(StudentProfileAttributes attributes) {
+        // profiles may also be stored under a legacy key, see getEntityQueryKeysForLegacyData
+        return null;
+    }
+
     @Override
     protected QueryKeys<StudentProfile> getEntityQueryKeys(StudentProfileAttributes attributes) {
         Key<Account> parentKey = Key.create(Account.class, attributes.googleId);
@@ -0,0 +1,134 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.googlecode.objectify.LoadResult;
+import com.googlecode.objectify.cmd.QueryExecute;
+
+import teammates.common.util.Logger;
+
+/**
+ * Runs independent queries concurrently: every query is sent as soon as it is added,
+ * and {@link #join()} waits for all of them together.
+ * The reads thus take about as long as the slowest query instead of as long as all the queries put together.
+ *
+ * <p>The time from creating a fan-out to the end of its {@link #join()} is recorded per call site.
+ * The timings are kept per instance and are reset when the instance is restarted.
+ *
+ * <p>Example:
+ * <pre>
+ * QueryFanOut fanOut = new QueryFanOut("SomeDb.someMethod");
+ * List&lt;A&gt; first = fanOut.list(firstQuery);
+ * List&lt;A&gt; second = fanOut.list(secondQuery);
+ * fanOut.join();
+ * </pre>
+ */
+public class QueryFanOut {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Map<String, CallSiteTimings> TIMINGS = new ConcurrentHashMap<>();
+
+    private final String callSite;
+    private final long startTime;
+    private final List<Runnable> pendingResults = new ArrayList<>();
+
+    /**
+     * Creates a fan-out whose timing is recorded under {@code callSite}.
+     */
+    public QueryFanOut(String callSite) {
+        this.callSite = callSite;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Sends the query and returns its results. The list is only guaranteed to be filled after {@link #join()}.
+     */
+    public <T> List<T> list(QueryExecute<T> query) {
+        List<T> results = query.list();
+        pendingResults.add(results::size);
+        return results;
+    }
+
+    /**
+     * Sends the query for its first result. The result is only guaranteed to be available after {@link #join()}.
+     */
+    public <T> LoadResult<T> first(QueryExecute<T> query) {
+        LoadResult<T> result = query.first();
+        pendingResults.add(result::now);
+        return result;
+    }
+
+    /**
+     * Waits for the results of all the queries sent and records the time taken.
+     */
+    public void join() {
+        for (Runnable pendingResult : pendingResults) {
+            pendingResult.run();
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        TIMINGS.computeIfAbsent(callSite, c -> new CallSiteTimings()).record(elapsedNanos);
+        log.fine(callSite + ": " + pendingResults.size() + " queries took "
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms");
+    }
+
+    /**
+     * Returns the number of fan-outs joined at the given call site since the last reset.
+     */
+    public static long getNumberOfFanOuts(String callSite) {
+        CallSiteTimings timings = TIMINGS.get(callSite);
+        return timings == null ? 0 : timings.count.sum();
+    }
+
+    /**
+     * Returns the average time taken by the fan-outs at the given call site in milliseconds,
+     * or 0 if there were none.
+     */
+    public static double getAverageMillis(String callSite) {
+        CallSiteTimings timings = TIMINGS.get(callSite);
+        if (timings == null || timings.count.sum() == 0) {
+            return 0;
+        }
+        return (double) timings.totalNanos.sum() / timings.count.sum() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns the longest time taken by a fan-out at the given call site in milliseconds, or 0 if there were none.
+     */
+    public static long getMaxMillis(String callSite) {
+        CallSiteTimings timings = TIMINGS.get(callSite);
+        return timings == null ? 0 : TimeUnit.NANOSECONDS.toMillis(timings.maxNanos.get());
+    }
+
+    /**
+     * Resets the timings of all call sites.
+     */
+    public static void resetTimings() {
+        TIMINGS.clear();
+    }
+
+    /**
+     * The timings recorded for a single call site.
+     */
+    private static class CallSiteTimings {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+    }
+
+}
@@ -3,16 +3,24 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.AttributesPage;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -35,10 +43,12 @@ import teammates.storage.search.StudentSearchQuery;
  * @see CourseStudent
  * @see StudentAttributes
  */
-public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
+public class StudentsDb extends CachedEntitiesDb<CourseStudent, StudentAttributes> {
 
     public static final String ERROR_UPDATE_EMAIL_ALREADY_USED = "Trying to update to an email that is already used by: ";
 
+    private static final String STUDENTS_FOR_COURSE = "StudentsForCourse";
+
     private static final Logger log = Logger.getLogger();
 
     public void putDocument(StudentAttributes student) {
@@ -114,6 +124,36 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Creates the students in a single batch write, after checking in a single batch read that none of them exists.
+     * The search documents of the students are also created in a single batch if {@code hasDocument} is true.
+     *
+     * @throws InvalidParametersException if any of the students is invalid, in which case none is created.
+     * @throws EntityAlreadyExistsException if any of the students already exists, in which case none is created.
+     */
+    public void createStudents(Collection<StudentAttributes> students, boolean hasDocument)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        if (students.isEmpty()) {
+            return;
+        }
+
+        Set<StudentAttributes> existingStudents = getExistingEntities(students);
+        if (!existingStudents.isEmpty()) {
+            StudentAttributes existingStudent = existingStudents.iterator().next();
+            String error = String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, existingStudent.getEntityTypeAsString())
+                    + existingStudent.getIdentificationString();
+            log.info(error);
+            throw new EntityAlreadyExistsException(error);
+        }
+
+        List<CourseStudent> createdStudents = createEntitiesWithoutExistenceCheck(students);
+        if (hasDocument) {
+            putDocuments(makeAttributes(createdStudents));
+        }
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -125,7 +165,30 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
 
-        return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
+        return makeAttributesOrNull(readThroughRequestIdentityMap("studentForEmail%" + email + "%" + courseId,
+                () -> getCourseStudentEntityForEmail(courseId, email)));
+    }
+
+    /**
+     * Gets the students of the course with the given emails, loading them by key in one batch.
+     *
+     * @return the students found, keyed by email. Emails of students not in the course are left out.
+     */
+    public Map<String, StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<String> ids = new ArrayList<>();
+        for (String email : emails) {
+            ids.add(email + '%' + courseId);
+        }
+
+        Map<String, StudentAttributes> studentsByEmail = new HashMap<>();
+        for (CourseStudent courseStudent : load().ids(ids).values()) {
+            StudentAttributes student = makeAttributes(courseStudent);
+            studentsByEmail.put(student.email, student);
+        }
+        return studentsByEmail;
     }
 
     /**
@@ -137,10 +200,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        CourseStudent student = load()
-                .filter("courseId =", courseId)
-                .filter("googleId =", googleId)
-                .first().now();
+        CourseStudent student = readThroughRequestIdentityMap("studentForGoogleId%" + googleId + "%" + courseId,
+                () -> load()
+                        .filter("courseId =", courseId)
+                        .filter("googleId =", googleId)
+                        .first().now());
 
         return makeAttributesOrNull(student);
     }
@@ -189,7 +253,26 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     public List<StudentAttributes> getStudentsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getCourseStudentEntitiesForCourse(courseId));
+        return makeAttributes(readThroughRequestIdentityMap("studentsForCourse%" + courseId,
+                () -> getEntitiesThroughCache(STUDENTS_FOR_COURSE, courseId, getCourseStudentsForCourseQuery(courseId))));
+    }
+
+    /**
+     * Gets the sections and teams of the course, built from the students of the course at most once per request.
+     * The students are read through the entity cache, whose version of the course roster is changed
+     * by every write of a student in the course, so the students are read from the Datastore
+     * at most once per change to the course roster.
+     *
+     * <p>The structure is shared by all callers in the request, so the students in it must not be modified.
+     *
+     * <p>Preconditions: <br>
+     *  * All parameters are non-null.
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return readThroughRequestIdentityMap("courseStructure%" + courseId,
+                () -> new CourseStructure(getStudentsForCourse(courseId)));
     }
 
     /**
@@ -339,6 +422,59 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Updates the name, comments, Google ID, team and section of the students, reading and writing
+     * the students in a single batch each. The students are identified by their course and email.
+     * The search documents of the students are then updated in a single batch if {@code hasDocument} is true.
+     *
+     * <p>Preconditions: <br>
+     * * All students are valid.
+     *
+     * @param keepUpdateTimestamp Set true to prevent changes to updatedAt. Use when updating entities with scripts.
+     * @throws EntityDoesNotExistException if any of the students does not exist, in which case none is updated.
+     */
+    public void updateStudents(Collection<StudentAttributes> students, boolean hasDocument, boolean keepUpdateTimestamp)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        if (students.isEmpty()) {
+            return;
+        }
+
+        List<Key<CourseStudent>> keys = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            keys.add(getEntityKey(student));
+        }
+        Map<Key<CourseStudent>, CourseStudent> courseStudents = ofy().load().keys(keys);
+        for (StudentAttributes student : students) {
+            if (!courseStudents.containsKey(getEntityKey(student))) {
+                throw new EntityDoesNotExistException(
+                        ERROR_UPDATE_NON_EXISTENT_STUDENT + student.course + "/" + student.email);
+            }
+        }
+
+        List<CourseStudent> courseStudentsToSave = new ArrayList<>();
+        List<StudentAttributes> updatedStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            CourseStudent courseStudent = courseStudents.get(getEntityKey(student));
+            courseStudent.setName(student.name);
+            courseStudent.setLastName(StringHelper.splitName(student.name)[1]);
+            courseStudent.setComments(student.comments);
+            courseStudent.setGoogleId(student.googleId);
+            courseStudent.setTeamName(student.team);
+            courseStudent.setSectionName(student.section);
+            // Set true to prevent changes to last update timestamp
+            courseStudent.keepUpdateTimestamp = keepUpdateTimestamp;
+            courseStudentsToSave.add(courseStudent);
+            updatedStudents.add(makeAttributes(courseStudent));
+        }
+
+        saveEntities(courseStudentsToSave, updatedStudents);
+        if (hasDocument) {
+            putDocuments(updatedStudents);
+        }
+    }
+
     @SuppressWarnings("PMD.PreserveStackTrace")
     private void recreateStudentWithNewEmail(
             CourseStudent newCourseStudent, String lastName, CourseStudent courseStudent,
@@ -413,6 +549,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             }
         } else {
             ofy().delete().keys(getCourseStudentForEmailQuery(courseId, email).keys()).now();
+            invalidateRequestIdentityMap();
+            invalidateCachedLists(STUDENTS_FOR_COURSE, Collections.singletonList(courseId));
         }
     }
 
@@ -437,7 +575,10 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForGoogleId(googleId));
         } else {
-            ofy().delete().keys(getCourseStudentsForGoogleIdQuery(googleId).keys());
+            List<Key<CourseStudent>> keys = getCourseStudentsForGoogleIdQuery(googleId).keys().list();
+            ofy().delete().keys(keys).now();
+            invalidateRequestIdentityMap();
+            invalidateCachedLists(STUDENTS_FOR_COURSE, getCourseIds(keys));
         }
     }
 
@@ -462,14 +603,44 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (hasDocument) {
             deleteStudentsCascadeDocuments(getCourseStudentEntitiesForCourse(courseId));
         } else {
-            ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys());
+            ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys()).now();
+            invalidateRequestIdentityMap();
+            invalidateCachedLists(STUDENTS_FOR_COURSE, Collections.singletonList(courseId));
         }
     }
 
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys()).now();
+        invalidateRequestIdentityMap();
+        invalidateCachedLists(STUDENTS_FOR_COURSE, courseIds);
+    }
+
+    /**
+     * Returns at most {@code pageSize} students of the course, starting from the position given by {@code cursor}.
+     *
+     * @param cursor the cursor returned with the previous page, or null to read the first page
+     */
+    public AttributesPage<StudentAttributes> getStudentsForCoursePage(String courseId, String cursor, int pageSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return getAttributesPage(getCourseStudentsForCourseQuery(courseId), cursor, pageSize);
+    }
+
+    /**
+     * Deletes the students together with their search documents. Fails silently for students which do not exist.
+     * The students must have been read from the database, so that their search documents can be identified.
+     */
+    public void deleteStudents(List<StudentAttributes> students) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        List<String> documentIds = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            documentIds.add(student.key);
+        }
+        deleteDocuments(Const.SearchIndex.STUDENT, documentIds);
+        deleteEntities(students);
     }
 
     /**
@@ -566,11 +737,32 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return getCourseStudentEntityForEmail(studentToGet.course, studentToGet.email);
     }
 
+    @Override
+    protected Key<CourseStudent> getEntityKey(StudentAttributes attributes) {
+        // students are recreated whenever their emails are updated, so their ids always follow this form
+        return Key.create(CourseStudent.class, attributes.email + "%" + attributes.course);
+    }
+
     @Override
     protected QueryKeys<CourseStudent> getEntityQueryKeys(StudentAttributes attributes) {
         return getCourseStudentForEmailQuery(attributes.course, attributes.email).keys();
     }
 
+    @Override
+    protected List<String> getCachedListKeys(StudentAttributes attributes) {
+        return Collections.singletonList(getListCacheKey(STUDENTS_FOR_COURSE, attributes.course));
+    }
+
+    private static Set<String> getCourseIds(List<Key<CourseStudent>> keys) {
+        Set<String> courseIds = new TreeSet<>();
+        for (Key<CourseStudent> key : keys) {
+            // the ids are of the form email%courseId, and course ids cannot contain '%'
+            String id = key.getName();
+            courseIds.add(id.substring(id.lastIndexOf('%') + 1));
+        }
+        return courseIds;
+    }
+
     private void deleteStudentsCascadeDocuments(List<CourseStudent> students) {
         List<StudentAttributes> studentsAttributes = new ArrayList<>();
         for (CourseStudent student : students) {
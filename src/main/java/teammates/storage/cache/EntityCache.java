@@ -0,0 +1,53 @@
+package teammates.storage.cache;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * A cache of values read from the Datastore.
+ *
+ * <p>Every key has a version, which is changed whenever the key is invalidated. A value is cached together with
+ * the version its key had before the value was read from the Datastore, and is only returned while the key still
+ * has that version. A value read before a write is thus never returned after the write has invalidated its key,
+ * however long the read takes.
+ */
+public interface EntityCache {
+
+    /**
+     * The number of seconds after which cached values expire. This bounds how long a value can be stale
+     * if it was changed without invalidating its key, e.g. by data migration scripts,
+     * or if it was read by an eventually consistent query which did not see a write yet.
+     */
+    int EXPIRATION_IN_SECONDS = 60;
+
+    /**
+     * Gets the value cached under {@code key}.
+     *
+     * @return null if there is no value cached, or if the key has been invalidated since the value was read.
+     */
+    Serializable get(String key);
+
+    /**
+     * Gets the current version of {@code key}, which has to be read before the value to cache is read.
+     */
+    long getVersion(String key);
+
+    /**
+     * Caches {@code value} under {@code key}, replacing any value cached under the key.
+     *
+     * @param version the version of the key returned by {@link #getVersion} before the value was read.
+     *         The value is never returned if the key has been invalidated since then.
+     */
+    void put(String key, Serializable value, long version);
+
+    /**
+     * Changes the versions of {@code keys}, so that the values cached under them are no longer returned.
+     */
+    void invalidate(Collection<String> keys);
+
+    /**
+     * Removes all cached values.
+     */
+    void clear();
+
+}
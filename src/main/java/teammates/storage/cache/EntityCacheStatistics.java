@@ -0,0 +1,68 @@
+package teammates.storage.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the number of cache hits and misses of each kind of cached data.
+ *
+ * <p>The counts are kept per instance and are reset when the instance is restarted.
+ */
+public final class EntityCacheStatistics {
+
+    private static final Map<String, LongAdder> HIT_COUNTS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> MISS_COUNTS = new ConcurrentHashMap<>();
+
+    private EntityCacheStatistics() {
+        // utility class
+    }
+
+    /**
+     * Records a lookup of the given kind which found the value in the cache.
+     */
+    public static void recordHit(String kind) {
+        HIT_COUNTS.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a lookup of the given kind which did not find the value in the cache.
+     */
+    public static void recordMiss(String kind) {
+        MISS_COUNTS.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the number of cache hits of the given kind since the last reset.
+     */
+    public static long getHitCount(String kind) {
+        LongAdder count = HIT_COUNTS.get(kind);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the number of cache misses of the given kind since the last reset.
+     */
+    public static long getMissCount(String kind) {
+        LongAdder count = MISS_COUNTS.get(kind);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups of the given kind that were cache hits, or 0 if there were no lookups.
+     */
+    public static double getHitRatio(String kind) {
+        long hitCount = getHitCount(kind);
+        long lookupCount = hitCount + getMissCount(kind);
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Resets the counts of all kinds to zero.
+     */
+    public static void reset() {
+        HIT_COUNTS.clear();
+        MISS_COUNTS.clear();
+    }
+
+}
@@ -0,0 +1,99 @@
+package teammates.storage.cache;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps cached values in the memory of the current instance, discarding the least recently used values
+ * when the cache is full.
+ *
+ * <p>Other instances are not aware of the values cached here, so this should only be used when there is
+ * a single instance, e.g. in tests and on the dev server.
+ *
+ * <p>The versions of the keys are taken from a counter shared by all keys, so a version discarded when
+ * the cache is full is created again later than any version the key had before.
+ */
+public class LruEntityCache implements EntityCache {
+
+    private final Map<String, CachedValue> cachedValues;
+    private final Map<String, Long> versions;
+    private long lastVersion;
+
+    public LruEntityCache(int capacity) {
+        this.cachedValues = createLruMap(capacity);
+        this.versions = createLruMap(capacity);
+    }
+
+    private static <V> Map<String, V> createLruMap(int capacity) {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Serializable get(String key) {
+        CachedValue cachedValue = cachedValues.get(key);
+        if (cachedValue == null) {
+            return null;
+        }
+        if (cachedValue.isExpired() || !Long.valueOf(cachedValue.version).equals(versions.get(key))) {
+            cachedValues.remove(key);
+            return null;
+        }
+        return cachedValue.value;
+    }
+
+    @Override
+    public synchronized long getVersion(String key) {
+        return versions.computeIfAbsent(key, k -> ++lastVersion);
+    }
+
+    @Override
+    public synchronized void put(String key, Serializable value, long version) {
+        long expiryInMillis = System.currentTimeMillis() + EXPIRATION_IN_SECONDS * 1000L;
+        cachedValues.put(key, new CachedValue(value, version, expiryInMillis));
+    }
+
+    @Override
+    public synchronized void invalidate(Collection<String> keys) {
+        for (String key : keys) {
+            versions.put(key, ++lastVersion);
+            cachedValues.remove(key);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        cachedValues.clear();
+        versions.clear();
+    }
+
+    /**
+     * A cached value together with the version its key had before the value was read.
+     */
+    private static class CachedValue {
+
+        final Serializable value;
+        final long version;
+        final long expiryInMillis;
+
+        CachedValue(Serializable value, long version, long expiryInMillis) {
+            this.value = value;
+            this.version = version;
+            this.expiryInMillis = expiryInMillis;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiryInMillis;
+        }
+
+    }
+
+}
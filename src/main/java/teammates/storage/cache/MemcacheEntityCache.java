@@ -0,0 +1,113 @@
+package teammates.storage.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Logger;
+
+/**
+ * Keeps cached values in GAE Memcache, where they are shared by all instances.
+ *
+ * <p>The versions of the keys are kept in Memcache too, and are changed with its atomic increment.
+ * A version evicted from Memcache is created again from the current time, which is later than any version
+ * the key had before unless the key was invalidated more than a thousand times per millisecond,
+ * so the values cached with the evicted version are not returned.
+ */
+public class MemcacheEntityCache implements EntityCache {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final String NAMESPACE = "entities";
+
+    /**
+     * Returned as the version of a key when Memcache is unavailable.
+     * No key has this version, so values cached with it are never returned.
+     */
+    private static final long UNAVAILABLE_VERSION = 0L;
+
+    /**
+     * The number of versions a key can go through per millisecond since its version was created.
+     */
+    private static final long VERSIONS_PER_MILLISECOND = 1000L;
+
+    private final MemcacheService memcache = MemcacheServiceFactory.getMemcacheService(NAMESPACE);
+
+    @Override
+    public Serializable get(String key) {
+        String versionKey = getVersionKey(key);
+        Map<String, Object> values = memcache.getAll(Arrays.asList(key, versionKey));
+        Object cachedValue = values.get(key);
+        Object version = values.get(versionKey);
+        // values cached by older versions of the application are not wrapped, and are not returned either
+        if (!(cachedValue instanceof CachedValue) || !(version instanceof Long)
+                || ((CachedValue) cachedValue).version != (Long) version) {
+            return null;
+        }
+        return ((CachedValue) cachedValue).value;
+    }
+
+    @Override
+    public long getVersion(String key) {
+        Long version = memcache.increment(getVersionKey(key), 0L, getInitialVersion());
+        return version == null ? UNAVAILABLE_VERSION : version;
+    }
+
+    @Override
+    public void put(String key, Serializable value, long version) {
+        try {
+            memcache.put(key, new CachedValue(value, version), Expiration.byDeltaSeconds(EXPIRATION_IN_SECONDS));
+        } catch (IllegalArgumentException e) {
+            // the value is larger than what Memcache accepts; it will simply be read from the Datastore every time
+            log.warning("Value of " + key + " is too large to be cached: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidate(Collection<String> keys) {
+        Set<String> versionKeys = new HashSet<>();
+        for (String key : keys) {
+            versionKeys.add(getVersionKey(key));
+        }
+        memcache.incrementAll(versionKeys, 1L, getInitialVersion());
+    }
+
+    @Override
+    public void clear() {
+        // there is no way to clear a single namespace, but nothing else is kept in Memcache
+        memcache.clearAll();
+    }
+
+    private static long getInitialVersion() {
+        return System.currentTimeMillis() * VERSIONS_PER_MILLISECOND;
+    }
+
+    private static String getVersionKey(String key) {
+        return "version%" + key;
+    }
+
+    /**
+     * A cached value together with the version its key had before the value was read.
+     */
+    private static class CachedValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final Serializable value;
+        final long version;
+
+        CachedValue(Serializable value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package teammates.storage.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the results of reads done while serving a request, so that repeated reads of the same data
+ * within the request are served from memory.
+ *
+ * <p>The map is bound to the current thread between {@link #open()} and {@link #close()}.
+ * Outside of that, every read goes to the reader given.
+ * Results are grouped into namespaces, and all results in a namespace are discarded when any data in it is written.
+ */
+public final class RequestIdentityMap {
+
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    /**
+     * Stands for a null result, as {@link Map#get} cannot tell a null value from an absent one.
+     */
+    private static final Object NULL_RESULT = new Object();
+
+    private RequestIdentityMap() {
+        // utility class
+    }
+
+    /**
+     * Starts keeping the results of reads done by the current thread, discarding any results kept before.
+     */
+    public static void open() {
+        CURRENT_SCOPE.set(new Scope());
+    }
+
+    /**
+     * Stops keeping the results of reads done by the current thread and discards the results kept.
+     *
+     * @return the number of reads served from memory since {@link #open()} was called,
+     *         or 0 if it was not called.
+     */
+    public static int close() {
+        Scope scope = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.remove();
+        return scope == null ? 0 : scope.numberOfDuplicateReads;
+    }
+
+    public static boolean isOpen() {
+        return CURRENT_SCOPE.get() != null;
+    }
+
+    /**
+     * Returns the result of the read identified by {@code key} in {@code namespace},
+     * calling {@code reader} only if the read has not been done in the current request.
+     *
+     * <p>The result is shared by all callers, so it must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T read(String namespace, String key, Supplier<T> reader) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope == null) {
+            return reader.get();
+        }
+
+        Map<String, Object> results = scope.resultsByNamespace.computeIfAbsent(namespace, n -> new HashMap<>());
+        Object result = results.get(key);
+        if (result != null) {
+            scope.numberOfDuplicateReads++;
+            return NULL_RESULT.equals(result) ? null : (T) result;
+        }
+
+        T readResult = reader.get();
+        results.put(key, readResult == null ? NULL_RESULT : readResult);
+        return readResult;
+    }
+
+    /**
+     * Discards the results of all reads in {@code namespace} done in the current request.
+     */
+    public static void invalidate(String namespace) {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.resultsByNamespace.remove(namespace);
+        }
+    }
+
+    /**
+     * The results kept for a single request.
+     */
+    private static class Scope {
+
+        final Map<String, Map<String, Object>> resultsByNamespace = new HashMap<>();
+        int numberOfDuplicateReads;
+
+    }
+
+}
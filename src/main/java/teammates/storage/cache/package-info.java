@@ -0,0 +1,4 @@
+/**
+ * Contains classes for caching entities read from the Datastore.
+ */
+package teammates.storage.cache;
@@ -0,0 +1,93 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the statistics of the students of a course, kept up to date as students are enrolled, updated,
+ * joined and deleted, so that the statistics can be shown without reading all the students of the course.
+ */
+@Entity
+@Index
+public class CourseStatistics extends BaseEntity {
+
+    /** The ID of the course, as there is one record per course. */
+    @Id
+    private String courseId;
+
+    @Unindex
+    private int numberOfStudents;
+
+    @Unindex
+    private int numberOfUnregisteredStudents;
+
+    /**
+     * The number of students in each team of each section, as a JSON map of section name to team name to count.
+     * Team names cannot be used as property names, as they may contain dots.
+     */
+    @Unindex
+    private Text teamSizesBySection;
+
+    @Unindex
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private CourseStatistics() {
+        // required by Objectify
+    }
+
+    public CourseStatistics(String courseId, int numberOfStudents, int numberOfUnregisteredStudents,
+                            String teamSizesBySection) {
+        this.courseId = courseId;
+        this.numberOfStudents = numberOfStudents;
+        this.numberOfUnregisteredStudents = numberOfUnregisteredStudents;
+        setTeamSizesBySection(teamSizesBySection);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public void setNumberOfStudents(int numberOfStudents) {
+        this.numberOfStudents = numberOfStudents;
+    }
+
+    public int getNumberOfUnregisteredStudents() {
+        return numberOfUnregisteredStudents;
+    }
+
+    public void setNumberOfUnregisteredStudents(int numberOfUnregisteredStudents) {
+        this.numberOfUnregisteredStudents = numberOfUnregisteredStudents;
+    }
+
+    public String getTeamSizesBySection() {
+        return teamSizesBySection == null ? null : teamSizesBySection.getValue();
+    }
+
+    public void setTeamSizesBySection(String teamSizesBySection) {
+        this.teamSizesBySection = teamSizesBySection == null ? null : new Text(teamSizesBySection);
+    }
+
+    public Instant getUpdatedAt() {
+        return TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.updatedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+}
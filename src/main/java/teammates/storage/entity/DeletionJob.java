@@ -0,0 +1,139 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.DeletionJobScope;
+import teammates.common.datatransfer.DeletionJobStage;
+import teammates.common.datatransfer.DeletionJobStatus;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents a cascade delete which is done in the background, one page of entities at a time.
+ *
+ * <p>The current stage and the cursor within the stage are the checkpoint of the job: the worker for each page
+ * deletes the entities from there on, so a job whose worker is retried or stopped part way can be resumed.
+ */
+@Entity
+@Index
+public class DeletionJob extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String courseId;
+
+    /** The name of the feedback session deleted, or null if the job does not delete a single session. */
+    private String feedbackSessionName;
+
+    @Unindex
+    private DeletionJobScope scope;
+
+    @Unindex
+    private DeletionJobStage stage;
+
+    /** The cursor from which the current stage continues, or null if the stage starts from the beginning. */
+    @Unindex
+    private Text cursor;
+
+    @Unindex
+    private DeletionJobStatus status;
+
+    @Unindex
+    private int numberOfEntitiesDeleted;
+
+    @Unindex
+    private Date createdAt;
+
+    @Unindex
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private DeletionJob() {
+        // required by Objectify
+    }
+
+    public DeletionJob(String id, String courseId, String feedbackSessionName, DeletionJobScope scope,
+                       DeletionJobStage stage, String cursor, DeletionJobStatus status, int numberOfEntitiesDeleted,
+                       Instant createdAt) {
+        this.id = id;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.scope = scope;
+        this.stage = stage;
+        setCursor(cursor);
+        this.status = status;
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+        this.createdAt = TimeHelper.convertInstantToDate(createdAt);
+        this.updatedAt = this.createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public DeletionJobScope getScope() {
+        return scope;
+    }
+
+    public DeletionJobStage getStage() {
+        return stage;
+    }
+
+    public void setStage(DeletionJobStage stage) {
+        this.stage = stage;
+    }
+
+    public String getCursor() {
+        return cursor == null ? null : cursor.getValue();
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor == null ? null : new Text(cursor);
+    }
+
+    public DeletionJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DeletionJobStatus status) {
+        this.status = status;
+    }
+
+    public int getNumberOfEntitiesDeleted() {
+        return numberOfEntitiesDeleted;
+    }
+
+    public void setNumberOfEntitiesDeleted(int numberOfEntitiesDeleted) {
+        this.numberOfEntitiesDeleted = numberOfEntitiesDeleted;
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+
+    public Instant getUpdatedAt() {
+        return TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.updatedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+}
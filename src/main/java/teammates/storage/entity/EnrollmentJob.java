@@ -0,0 +1,192 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents an enrollment of students into a course which is done in the background, one chunk at a time.
+ *
+ * <p>The number of students processed is the checkpoint of the job: the worker for each chunk enrolls the students
+ * from there on, and the enroll page polls the job to show its progress.
+ */
+@Entity
+@Index
+public class EnrollmentJob extends BaseEntity {
+
+    @Id
+    private String id;
+
+    private String courseId;
+
+    /** The enrollment lines entered by the instructor, including the header line. */
+    @Unindex
+    private Text enrollLines;
+
+    @Unindex
+    private EnrollmentJobStatus status;
+
+    @Unindex
+    private int numberOfStudents;
+
+    @Unindex
+    private int numberOfStudentsProcessed;
+
+    @Unindex
+    private int numberOfNewStudents;
+
+    @Unindex
+    private int numberOfModifiedStudents;
+
+    @Unindex
+    private int numberOfUnmodifiedStudents;
+
+    @Unindex
+    private String errorMessage;
+
+    /**
+     * The enrollment details of the chunk being enrolled, in JSON format.
+     * They are recorded before the students of the chunk are written, so that a retried chunk is counted
+     * and adjusted by what the students were before the first attempt.
+     */
+    @Unindex
+    private Text chunkEnrollments;
+
+    /** The enrollment details of the modified students whose responses are yet to be adjusted, in JSON format. */
+    @Unindex
+    private Text enrollmentsToAdjust;
+
+    @Unindex
+    private Date createdAt;
+
+    /** Indexed so that finished jobs can be expired. */
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private EnrollmentJob() {
+        // required by Objectify
+    }
+
+    public EnrollmentJob(String id, String courseId, String enrollLines, EnrollmentJobStatus status,
+                         int numberOfStudents, int numberOfStudentsProcessed, int numberOfNewStudents,
+                         int numberOfModifiedStudents, int numberOfUnmodifiedStudents, String errorMessage,
+                         String chunkEnrollments, String enrollmentsToAdjust, Instant createdAt) {
+        this.id = id;
+        this.courseId = courseId;
+        this.enrollLines = new Text(enrollLines);
+        this.status = status;
+        this.numberOfStudents = numberOfStudents;
+        this.numberOfStudentsProcessed = numberOfStudentsProcessed;
+        this.numberOfNewStudents = numberOfNewStudents;
+        this.numberOfModifiedStudents = numberOfModifiedStudents;
+        this.numberOfUnmodifiedStudents = numberOfUnmodifiedStudents;
+        this.errorMessage = errorMessage;
+        setChunkEnrollments(chunkEnrollments);
+        setEnrollmentsToAdjust(enrollmentsToAdjust);
+        this.createdAt = TimeHelper.convertInstantToDate(createdAt);
+        this.updatedAt = this.createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEnrollLines() {
+        return enrollLines == null ? null : enrollLines.getValue();
+    }
+
+    public EnrollmentJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentJobStatus status) {
+        this.status = status;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfStudentsProcessed() {
+        return numberOfStudentsProcessed;
+    }
+
+    public void setNumberOfStudentsProcessed(int numberOfStudentsProcessed) {
+        this.numberOfStudentsProcessed = numberOfStudentsProcessed;
+    }
+
+    public int getNumberOfNewStudents() {
+        return numberOfNewStudents;
+    }
+
+    public void setNumberOfNewStudents(int numberOfNewStudents) {
+        this.numberOfNewStudents = numberOfNewStudents;
+    }
+
+    public int getNumberOfModifiedStudents() {
+        return numberOfModifiedStudents;
+    }
+
+    public void setNumberOfModifiedStudents(int numberOfModifiedStudents) {
+        this.numberOfModifiedStudents = numberOfModifiedStudents;
+    }
+
+    public int getNumberOfUnmodifiedStudents() {
+        return numberOfUnmodifiedStudents;
+    }
+
+    public void setNumberOfUnmodifiedStudents(int numberOfUnmodifiedStudents) {
+        this.numberOfUnmodifiedStudents = numberOfUnmodifiedStudents;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getChunkEnrollments() {
+        return chunkEnrollments == null ? null : chunkEnrollments.getValue();
+    }
+
+    public void setChunkEnrollments(String chunkEnrollments) {
+        this.chunkEnrollments = chunkEnrollments == null ? null : new Text(chunkEnrollments);
+    }
+
+    public String getEnrollmentsToAdjust() {
+        return enrollmentsToAdjust == null ? null : enrollmentsToAdjust.getValue();
+    }
+
+    public void setEnrollmentsToAdjust(String enrollmentsToAdjust) {
+        this.enrollmentsToAdjust = enrollmentsToAdjust == null ? null : new Text(enrollmentsToAdjust);
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+
+    public Instant getUpdatedAt() {
+        return TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.updatedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+}
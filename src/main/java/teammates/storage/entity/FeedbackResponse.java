@@ -1,7 +1,10 @@
 package teammates.storage.entity;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
@@ -51,6 +54,10 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    // Contains both giverSection and receiverSection, so that the responses in a section can be found in one query.
+    // Derived from those fields whenever the response is saved.
+    private List<String> sectionsTouched;
+
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
     private Date createdAt;
@@ -148,6 +155,15 @@ public class FeedbackResponse extends BaseEntity {
         this.receiverSection = recipientSection;
     }
 
+    /**
+     * Returns the sections of the giver and the recipient.
+     *
+     * @return null if the response has not been saved since the sections were first stored this way.
+     */
+    public List<String> getSectionsTouched() {
+        return sectionsTouched;
+    }
+
     public Text getResponseMetaData() {
         return answer;
     }
@@ -179,4 +195,14 @@ public class FeedbackResponse extends BaseEntity {
     public void updateLastUpdateTimestamp() {
         this.setLastUpdate(Instant.now());
     }
+
+    @OnSave
+    public void updateSectionsTouched() {
+        List<String> sections = new ArrayList<>();
+        sections.add(giverSection);
+        if (!Objects.equals(giverSection, receiverSection)) {
+            sections.add(receiverSection);
+        }
+        this.sectionsTouched = sections;
+    }
 }
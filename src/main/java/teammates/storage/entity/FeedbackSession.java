@@ -107,6 +107,9 @@ public class FeedbackSession extends BaseEntity {
 
     private Boolean isPublishedEmailEnabled;
 
+    @Unindex
+    private boolean isBeingDeleted;
+
     @SuppressWarnings("unused")
     private FeedbackSession() {
         // required by Objectify
@@ -371,6 +374,14 @@ public class FeedbackSession extends BaseEntity {
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
+    public boolean isBeingDeleted() {
+        return isBeingDeleted;
+    }
+
+    public void setBeingDeleted(boolean isBeingDeleted) {
+        this.isBeingDeleted = isBeingDeleted;
+    }
+
     public Set<String> getRespondingInstructorList() {
         return this.respondingInstructorList;
     }
@@ -401,7 +412,8 @@ public class FeedbackSession extends BaseEntity {
                 + ", sentPublishedEmail=" + sentPublishedEmail
                 + ", isOpeningEmailEnabled=" + isOpeningEmailEnabled
                 + ", isClosingEmailEnabled=" + isClosingEmailEnabled
-                + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled + "]";
+                + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled
+                + ", isBeingDeleted=" + isBeingDeleted + "]";
     }
 
 }
@@ -0,0 +1,88 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Records that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent is a separate entity, so that submissions by different users
+ * do not contend on a single entity.
+ */
+@Entity
+@Index
+public class FeedbackSessionRespondent extends BaseEntity {
+
+    /**
+     * ID of the respondent.
+     *
+     * @see #makeId(String, String, String, boolean)
+     */
+    @Id
+    private String id;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    @Unindex
+    private Date createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondent() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.createdAt = TimeHelper.convertInstantToDate(Instant.now());
+        this.id = makeId(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    /**
+     * Returns the ID of the respondent with the given details,
+     * in the format {@code role%email%feedbackSessionName%courseId}.
+     */
+    public static String makeId(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        return (isInstructor ? "instructor" : "student") + '%' + email + '%' + feedbackSessionName + '%' + courseId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+
+}
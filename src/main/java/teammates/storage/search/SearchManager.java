@@ -39,6 +39,11 @@ public final class SearchManager {
 
     private static final RetryManager RM = new RetryManager(8);
 
+    /**
+     * The maximum number of documents the search service accepts in a single batch delete.
+     */
+    private static final int MAX_DOCUMENTS_PER_BATCH_DELETE = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -213,6 +218,16 @@ public final class SearchManager {
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Deletes documents by their documentIds, in batches of at most {@link #MAX_DOCUMENTS_PER_BATCH_DELETE}.
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds) {
+        Index index = getIndex(indexName);
+        for (int i = 0; i < documentIds.size(); i += MAX_DOCUMENTS_PER_BATCH_DELETE) {
+            index.deleteAsync(documentIds.subList(i, Math.min(i + MAX_DOCUMENTS_PER_BATCH_DELETE, documentIds.size())));
+        }
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
@@ -4,8 +4,10 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.util.Assumption;
+import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.logic.api.EmailSender;
+import teammates.logic.api.FileStorage;
 import teammates.logic.api.Logic;
 import teammates.logic.api.TaskQueuer;
 
@@ -24,6 +26,7 @@ public abstract class AutomatedAction {
     protected Logic logic;
     protected TaskQueuer taskQueuer;
     protected EmailSender emailSender;
+    protected FileStorage fileStorage;
 
     protected HttpServletRequest request;
     protected HttpServletResponse response;
@@ -34,6 +37,7 @@ public abstract class AutomatedAction {
         this.logic = new Logic();
         setTaskQueuer(new TaskQueuer());
         setEmailSender(new EmailSender());
+        setFileStorage(new FileStorage());
     }
 
     public TaskQueuer getTaskQueuer() {
@@ -52,6 +56,14 @@ public abstract class AutomatedAction {
         this.emailSender = emailSender;
     }
 
+    public FileStorage getFileStorage() {
+        return fileStorage;
+    }
+
+    public void setFileStorage(FileStorage fileStorage) {
+        this.fileStorage = fileStorage;
+    }
+
     protected String getRequestParamValue(String paramName) {
         return HttpRequestHelper.getValueFromRequestParameterMap(request, paramName);
     }
@@ -82,6 +94,15 @@ public abstract class AutomatedAction {
         return values;
     }
 
+    /**
+     * Returns true if the task of this action will not be retried again should it fail,
+     * i.e. it has already been retried {@code taskRetryLimit} times, which is the retry limit of its queue.
+     */
+    protected boolean isLastTaskAttempt(int taskRetryLimit) {
+        String taskRetryCount = request.getHeader(Const.TaskQueue.TASK_RETRY_COUNT_HEADER);
+        return taskRetryCount != null && Integer.parseInt(taskRetryCount) >= taskRetryLimit;
+    }
+
     protected void setForRetry() {
         // Sets an arbitrary retry code outside of the range 200-299 so GAE will automatically retry upon failure
         response.setStatus(100);
@@ -26,6 +26,9 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_ENROLLMENT_JOBS_CLEANUP, EnrollmentJobsCleanupAction.class);
+        map(ActionURIs.AUTOMATED_COURSE_STATISTICS_REPAIR, CourseStatisticsRepairAction.class);
+        map(ActionURIs.AUTOMATED_FEEDBACK_SESSION_RESPONDENTS_REPAIR, FeedbackSessionRespondentsRepairAction.class);
 
         // Task queue workers
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
@@ -38,11 +41,18 @@ public class AutomatedActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, FeedbackSessionRemindEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL,
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_WORKER_URL, FeedbackSessionRespondentsRepairWorkerAction.class);
+        map(TaskQueue.COURSE_STATISTICS_REPAIR_WORKER_URL, CourseStatisticsRepairWorkerAction.class);
+        map(TaskQueue.DELETION_WORKER_URL, DeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_WORKER_URL, FeedbackSessionResultsExportWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_DELETION_WORKER_URL,
+                FeedbackSessionResultsExportDeletionWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.STUDENT_ENROLLMENT_WORKER_URL, StudentEnrollmentWorkerAction.class);
     }
 
     private static void map(String actionUri, Class<? extends AutomatedAction> actionClass) {
@@ -0,0 +1,26 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: starts recomputing the statistics of all the courses from their students.
+ *
+ * <p>The statistics are updated separately from the students, so they can drift from the students
+ * if an update of the statistics fails. The drift is repaired by this job.
+ */
+public class CourseStatisticsRepairAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "repair course statistics";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling the recomputing of the statistics of all courses.";
+    }
+
+    @Override
+    public void execute() {
+        taskQueuer.scheduleCourseStatisticsRepair(null);
+    }
+
+}
@@ -0,0 +1,34 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: recomputes the statistics of one page of the courses from the students of each course.
+ *
+ * <p>The worker for each page schedules the worker for the next page, so that the statistics of all the courses
+ * are recomputed without reading all the courses in one request.
+ */
+public class CourseStatisticsRepairWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String cursor = getRequestParamValue(ParamsNames.COURSE_STATISTICS_REPAIR_CURSOR);
+
+        String nextCursor = logic.repairCourseStatisticsPage(cursor);
+
+        if (nextCursor != null) {
+            taskQueuer.scheduleCourseStatisticsRepair(nextCursor);
+        }
+    }
+
+}
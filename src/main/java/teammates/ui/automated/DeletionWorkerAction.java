@@ -0,0 +1,64 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the next page of entities of a deletion job.
+ *
+ * <p>The progress of the job is recorded after each page, and the worker for each page schedules the worker
+ * for the next page, so that courses and feedback sessions of any size are deleted without reaching
+ * the request deadline. A task which fails is retried from the last page recorded, and the job is marked as failed
+ * once the task has failed on its last retry.
+ */
+public class DeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String deletionJobId = getNonNullRequestParamValue(ParamsNames.DELETION_JOB_ID);
+
+        DeletionJobAttributes job;
+        try {
+            job = logic.deleteNextPageForDeletionJob(deletionJobId);
+        } catch (EntityDoesNotExistException e) {
+            log.warning("Deletion job " + deletionJobId + " no longer exists");
+            return;
+        } catch (RuntimeException e) {
+            if (isLastTaskAttempt(Const.TaskQueue.DELETION_TASK_RETRY_LIMIT)) {
+                log.severe("Deletion job " + deletionJobId + " failed after all its retries: "
+                        + TeammatesException.toStringWithStackTrace(e));
+                failDeletionJob(deletionJobId);
+            }
+            throw e;
+        }
+
+        if (job.isInProgress()) {
+            taskQueuer.scheduleDeletion(deletionJobId);
+        }
+    }
+
+    private void failDeletionJob(String deletionJobId) {
+        try {
+            logic.failDeletionJob(deletionJobId);
+        } catch (EntityDoesNotExistException e) {
+            log.info("Deletion job " + deletionJobId + " no longer exists");
+        }
+    }
+
+}
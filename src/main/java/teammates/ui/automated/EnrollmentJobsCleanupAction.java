@@ -0,0 +1,28 @@
+package teammates.ui.automated;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Cron job: deletes the enrollment jobs which have not been updated for a day.
+ *
+ * <p>A job holds all the enroll lines of its enrollment, and its progress is only polled while the enroll page
+ * is open, so there is no need to keep it for long after it is finished.
+ */
+public class EnrollmentJobsCleanupAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "delete old enrollment jobs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Deleting enrollment jobs which have not been updated for a day.";
+    }
+
+    @Override
+    public void execute() {
+        logic.deleteEnrollmentJobsUpdatedBefore(TimeHelper.getInstantDaysOffsetFromNow(-1));
+    }
+
+}
@@ -1,13 +1,17 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.HttpRequestHelper;
@@ -18,11 +22,18 @@ import teammates.common.util.Logger;
 /**
  * Task queue worker action: adjusts feedback responses in the database due to
  * change in student enrollment details of a course.
+ *
+ * <p>The worker for a course, or for one of its feedback sessions, schedules a worker for each question
+ * of the sessions, so that the questions are adjusted in parallel and a failed adjustment is retried
+ * for its question only. The worker for a question reads only the responses given or received by the modified students.
  */
 public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final String ERROR_STRING =
+            "Error encountered while adjusting feedback session responses of %s in course %s: %s%n%s";
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -38,41 +49,82 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
         String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
         Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
 
+        // absent when the responses of all sessions in the course are to be adjusted
         String sessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
-        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_SESSION_NAME, sessionName);
 
         String enrollmentDetails = getRequestParamValue(ParamsNames.ENROLLMENT_DETAILS);
         Assumption.assertPostParamNotNull(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
 
-        log.info("Adjusting submissions for feedback session :" + sessionName + "in course : " + courseId);
+        String questionId = getRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
 
-        FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(sessionName, courseId);
+        List<StudentEnrollDetails> enrollmentList =
+                JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
 
-        String errorString = "Error encountered while adjusting feedback session responses of %s in course %s: %s%n%s";
+        if (questionId == null) {
+            scheduleAdjustmentForQuestions(courseId, sessionName, enrollmentList);
+        } else {
+            adjustResponsesForQuestion(courseId, sessionName, questionId, enrollmentList);
+        }
+    }
 
-        if (feedbackSession == null) {
-            log.severe(String.format(errorString, sessionName, courseId, "feedback session is null", ""));
-            setForRetry();
+    private void scheduleAdjustmentForQuestions(String courseId, String sessionName,
+                                                List<StudentEnrollDetails> enrollmentList) {
+        // only the responses of modified students are adjusted
+        List<StudentEnrollDetails> modifiedEnrollments = new ArrayList<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                modifiedEnrollments.add(enrollment);
+            }
+        }
+        if (modifiedEnrollments.isEmpty()) {
             return;
         }
 
-        List<FeedbackResponseAttributes> allResponses =
-                logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
-                                                     feedbackSession.getCourseId());
-        List<StudentEnrollDetails> enrollmentList =
-                JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
-            try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
-            } catch (Exception e) {
-                String url = HttpRequestHelper.getRequestedUrl(request);
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
-                // no logged-in user for worker
-                String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
-                log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
+        List<FeedbackSessionAttributes> feedbackSessions;
+        if (sessionName == null) {
+            feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
+        } else {
+            FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(sessionName, courseId);
+            if (feedbackSession == null) {
+                log.severe(String.format(ERROR_STRING, sessionName, courseId, "feedback session is null", ""));
                 setForRetry();
                 return;
             }
+            feedbackSessions = Collections.singletonList(feedbackSession);
+        }
+
+        for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
+            String feedbackSessionName = feedbackSession.getFeedbackSessionName();
+            log.info("Adjusting submissions for feedback session :" + feedbackSessionName + "in course : " + courseId);
+
+            List<FeedbackQuestionAttributes> questions;
+            try {
+                questions = logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+            } catch (EntityDoesNotExistException e) {
+                log.severe(String.format(ERROR_STRING, feedbackSessionName, courseId, e.getMessage(), ""));
+                continue;
+            }
+            for (FeedbackQuestionAttributes question : questions) {
+                taskQueuer.scheduleFeedbackResponseAdjustmentForQuestion(
+                        courseId, feedbackSessionName, question.getId(), modifiedEnrollments);
+            }
+        }
+    }
+
+    private void adjustResponsesForQuestion(String courseId, String sessionName, String questionId,
+                                            List<StudentEnrollDetails> enrollmentList) {
+        try {
+            logic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, questionId);
+        } catch (EntityDoesNotExistException e) {
+            // the question was deleted after the adjustment was scheduled; there are no responses to adjust
+            log.warning(String.format(ERROR_STRING, sessionName, courseId, e.getMessage(), ""));
+        } catch (Exception e) {
+            String url = HttpRequestHelper.getRequestedUrl(request);
+            Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
+            // no logged-in user for worker
+            String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
+            log.severe(String.format(ERROR_STRING, sessionName, courseId, e.getMessage(), logMessage));
+            setForRetry();
         }
     }
 
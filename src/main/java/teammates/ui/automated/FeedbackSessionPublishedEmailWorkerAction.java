@@ -41,6 +41,11 @@ public class FeedbackSessionPublishedEmailWorkerAction extends AutomatedAction {
                        + " for course: " + courseId + " could not be fetched.");
             return;
         }
+        if (session.isBeingDeleted()) {
+            log.info("No emails are sent for feedback session " + feedbackSessionName
+                     + " of course " + courseId + " as it is being deleted.");
+            return;
+        }
         List<EmailWrapper> emailsToBeSent =
                 new EmailGenerator().generateFeedbackSessionPublishedEmails(session);
         try {
@@ -43,6 +43,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+            if (session.isBeingDeleted()) {
+                log.info("No emails are sent for feedback session " + feedbackSessionName
+                         + " of course " + courseId + " as it is being deleted.");
+                return;
+            }
             List<StudentAttributes> studentList = logic.getStudentsForCourse(courseId);
             List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
 
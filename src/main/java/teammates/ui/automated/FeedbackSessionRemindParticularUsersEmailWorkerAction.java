@@ -3,6 +3,7 @@ package teammates.ui.automated;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -38,18 +39,26 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerAction extends Autom
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+            if (session.isBeingDeleted()) {
+                log.info("No emails are sent for feedback session " + feedbackSessionName
+                         + " of course " + courseId + " as it is being deleted.");
+                return;
+            }
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             InstructorAttributes instructorToNotify =
                     logic.getInstructorForGoogleId(courseId, googleIdOfInstructorToNotify);
 
+            // the users are looked up in the roster, loaded once, instead of with two queries per user
+            CourseRoster roster = new CourseRoster(
+                    logic.getStudentsForCourse(courseId), logic.getInstructorsForCourse(courseId));
             for (String userEmail : usersToRemind) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, userEmail);
+                StudentAttributes student = roster.getStudentForEmail(userEmail);
                 if (student != null) {
                     studentsToRemindList.add(student);
                 }
 
-                InstructorAttributes instructor = logic.getInstructorForEmail(courseId, userEmail);
+                InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
                 if (instructor != null) {
                     instructorsToRemindList.add(instructor);
                 }
@@ -37,6 +37,11 @@ public class FeedbackSessionResendPublishedEmailWorkerAction extends AutomatedAc
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+            if (session.isBeingDeleted()) {
+                log.info("No emails are sent for feedback session " + feedbackSessionName
+                         + " of course " + courseId + " as it is being deleted.");
+                return;
+            }
             List<StudentAttributes> studentsToEmailList = new ArrayList<>();
             List<InstructorAttributes> instructorsToEmailList = new ArrayList<>();
 
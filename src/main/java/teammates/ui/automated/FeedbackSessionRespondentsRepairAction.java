@@ -0,0 +1,40 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Cron job: starts rebuilding the respondents of the feedback sessions which opened or closed in the past day.
+ *
+ * <p>The respondents are updated separately from the responses, so they can drift from the responses
+ * if an update of the respondents fails. Each session is repaired by this job once after it opens
+ * and once after it closes.
+ */
+public class FeedbackSessionRespondentsRepairAction extends AutomatedAction {
+
+    private static final Duration REPAIR_PERIOD = Duration.ofDays(1);
+
+    @Override
+    protected String getActionDescription() {
+        return "repair feedback session respondents";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling the rebuilding of the respondents of feedback sessions opened or closed in the past day.";
+    }
+
+    @Override
+    public void execute() {
+        Instant now = Instant.now();
+        List<FeedbackSessionAttributes> sessions = logic.getAllOpenFeedbackSessions(now.minus(REPAIR_PERIOD), now);
+        for (FeedbackSessionAttributes session : sessions) {
+            taskQueuer.scheduleFeedbackSessionRespondentsRepair(
+                    session.getCourseId(), session.getFeedbackSessionName(), null);
+        }
+    }
+
+}
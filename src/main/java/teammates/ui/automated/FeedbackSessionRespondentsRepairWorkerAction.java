@@ -0,0 +1,62 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: rebuilds the respondents of a feedback session from one page of its responses.
+ *
+ * <p>The respondents are cleared by the worker for the first page. The worker for each page schedules the worker
+ * for the next page, so that the respondents are rebuilt without reading all the responses in one request.
+ * A page which still fails after the last retry leaves the respondents of the session incomplete,
+ * so the failure is logged as severe for the repair to be run again.
+ */
+public class FeedbackSessionRespondentsRepairWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String cursor = getRequestParamValue(ParamsNames.RESPONDENTS_REPAIR_CURSOR);
+
+        String nextCursor;
+        try {
+            nextCursor = logic.updateRespondentsForSessionPage(feedbackSessionName, courseId, cursor);
+        } catch (EntityDoesNotExistException e) {
+            log.severe("Feedback session to repair respondents of no longer exists: "
+                    + TeammatesException.toStringWithStackTrace(e));
+            return;
+        } catch (InvalidParametersException e) {
+            log.severe("Failed to repair respondents: " + TeammatesException.toStringWithStackTrace(e));
+            return;
+        } catch (RuntimeException e) {
+            if (isLastTaskAttempt(Const.TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_TASK_RETRY_LIMIT)) {
+                log.severe("Retries exhausted while repairing the respondents of feedback session "
+                        + feedbackSessionName + " in course " + courseId
+                        + "; its respondents are incomplete until the repair is run again");
+            }
+            throw e;
+        }
+
+        if (nextCursor != null) {
+            taskQueuer.scheduleFeedbackSessionRespondentsRepair(courseId, feedbackSessionName, nextCursor);
+        }
+    }
+
+}
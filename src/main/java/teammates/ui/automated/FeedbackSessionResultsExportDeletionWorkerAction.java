@@ -0,0 +1,50 @@
+package teammates.ui.automated;
+
+import java.io.IOException;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the files of an export of the results of a feedback session,
+ * whether the export completed or failed.
+ */
+public class FeedbackSessionResultsExportDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String exportId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_EXPORT_ID);
+        int numberOfParts = Integer.parseInt(
+                getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS));
+
+        try {
+            fileStorage.deleteFile(logic.getFeedbackSessionResultsExportFileName(courseId, feedbackSessionName, exportId));
+            fileStorage.deleteFile(
+                    logic.getFeedbackSessionResultsExportFailureFileName(courseId, feedbackSessionName, exportId));
+            // parts are left behind if the export failed before joining them
+            for (int i = 0; i < numberOfParts; i++) {
+                fileStorage.deleteFile(
+                        logic.getFeedbackSessionResultsExportPartFileName(courseId, feedbackSessionName, exportId, i));
+            }
+        } catch (IOException e) {
+            log.severe("Error while deleting exported results: " + TeammatesException.toStringWithStackTrace(e));
+            setForRetry();
+        }
+    }
+
+}
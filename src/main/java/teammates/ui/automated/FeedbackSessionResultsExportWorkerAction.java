@@ -0,0 +1,122 @@
+package teammates.ui.automated;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: exports one part of the results of a feedback session in CSV format.
+ *
+ * <p>Each part is stored as a separate file. The worker for a part schedules the worker for the next part,
+ * and the worker for the last part joins all the parts into the file that the instructor downloads.
+ * The number of parts is fixed when the export is started, and the files of the export, including the parts,
+ * are deleted one day after it completes or fails.
+ */
+public class FeedbackSessionResultsExportWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final String CSV_MIME_TYPE = "text/csv";
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String instructorEmail = getNonNullRequestParamValue(ParamsNames.INSTRUCTOR_EMAIL);
+        String section = getRequestParamValue(ParamsNames.SECTION_NAME);
+        boolean isMissingResponsesShown = Boolean.parseBoolean(
+                getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES));
+        boolean isStatsShown = Boolean.parseBoolean(getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_SHOWSTATS));
+        String exportId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_EXPORT_ID);
+        int partIndex = Integer.parseInt(getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_EXPORT_PART_INDEX));
+        int numberOfParts = Integer.parseInt(
+                getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS));
+
+        StringWriter partContent = new StringWriter();
+        try {
+            logic.writeFeedbackSessionResultSummaryPartInSectionAsCsv(
+                    courseId, feedbackSessionName, instructorEmail, section, partIndex,
+                    isMissingResponsesShown, isStatsShown, partContent);
+        } catch (EntityDoesNotExistException e) {
+            log.severe("Feedback session to export no longer exists: " + TeammatesException.toStringWithStackTrace(e));
+            failExport(courseId, feedbackSessionName, exportId, numberOfParts);
+            return;
+        } catch (IOException e) {
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return;
+        } catch (RuntimeException e) {
+            if (isLastTaskAttempt(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_TASK_RETRY_LIMIT)) {
+                failExport(courseId, feedbackSessionName, exportId, numberOfParts);
+            }
+            throw e;
+        }
+
+        String fileName = logic.getFeedbackSessionResultsExportFileName(courseId, feedbackSessionName, exportId);
+        try {
+            fileStorage.writeFile(
+                    logic.getFeedbackSessionResultsExportPartFileName(courseId, feedbackSessionName, exportId, partIndex),
+                    partContent.toString().getBytes(StandardCharsets.UTF_8), CSV_MIME_TYPE);
+
+            if (partIndex + 1 < numberOfParts) {
+                taskQueuer.scheduleFeedbackSessionResultsExport(courseId, feedbackSessionName, instructorEmail, section,
+                        isMissingResponsesShown, isStatsShown, exportId, partIndex + 1, numberOfParts);
+                return;
+            }
+
+            List<String> partFileNames = new ArrayList<>();
+            for (int i = 0; i < numberOfParts; i++) {
+                partFileNames.add(logic.getFeedbackSessionResultsExportPartFileName(
+                        courseId, feedbackSessionName, exportId, i));
+            }
+            // the parts have already been joined if this is a retry after a later step failed
+            if (!fileStorage.doesFileExist(fileName)) {
+                fileStorage.concatenateFiles(fileName, partFileNames, CSV_MIME_TYPE);
+            }
+            taskQueuer.scheduleFeedbackSessionResultsExportDeletion(
+                    courseId, feedbackSessionName, exportId, numberOfParts);
+        } catch (IOException e) {
+            log.severe("Error while storing exported results: " + TeammatesException.toStringWithStackTrace(e));
+            if (isLastTaskAttempt(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_TASK_RETRY_LIMIT)) {
+                failExport(courseId, feedbackSessionName, exportId, numberOfParts);
+                return;
+            }
+            setForRetry();
+        }
+    }
+
+    /**
+     * Marks the export as failed, so that the instructor is told so instead of waiting for it,
+     * and schedules the files written so far to be deleted.
+     */
+    private void failExport(String courseId, String feedbackSessionName, String exportId, int numberOfParts) {
+        try {
+            fileStorage.writeFile(
+                    logic.getFeedbackSessionResultsExportFailureFileName(courseId, feedbackSessionName, exportId),
+                    new byte[0], CSV_MIME_TYPE);
+        } catch (IOException e) {
+            log.severe("Failed to record the failure of export " + exportId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+        taskQueuer.scheduleFeedbackSessionResultsExportDeletion(courseId, feedbackSessionName, exportId, numberOfParts);
+    }
+
+}
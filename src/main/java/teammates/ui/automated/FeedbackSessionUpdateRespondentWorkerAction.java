@@ -1,5 +1,7 @@
 package teammates.ui.automated;
 
+import java.util.Collections;
+
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
@@ -8,7 +10,11 @@ import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: appends to or removes from the respondent list of a feedback session.
+ * Task queue worker action: updates whether a giver is a respondent of a feedback session.
+ *
+ * <p>Whether the giver is an instructor or student respondent is recomputed from the responses of the giver only,
+ * instead of being taken from the task, so that tasks for the same giver which are retried or run out of order
+ * still leave the respondents matching the responses.
  */
 public class FeedbackSessionUpdateRespondentWorkerAction extends AutomatedAction {
 
@@ -32,32 +38,11 @@ public class FeedbackSessionUpdateRespondentWorkerAction extends AutomatedAction
         Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
         String email = getRequestParamValue(ParamsNames.RESPONDENT_EMAIL);
         Assumption.assertPostParamNotNull(ParamsNames.RESPONDENT_EMAIL, email);
-        String isInstructorString = getRequestParamValue(ParamsNames.RESPONDENT_IS_INSTRUCTOR);
-        Assumption.assertPostParamNotNull(ParamsNames.RESPONDENT_IS_INSTRUCTOR, isInstructorString);
-        String isToBeRemovedString = getRequestParamValue(ParamsNames.RESPONDENT_IS_TO_BE_REMOVED);
-        Assumption.assertPostParamNotNull(ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, isToBeRemovedString);
-
-        boolean isInstructor = Boolean.parseBoolean(isInstructorString);
-        boolean isToBeRemoved = Boolean.parseBoolean(isToBeRemovedString);
 
         try {
-            if (isInstructor) {
-                if (isToBeRemoved) {
-                    logic.deleteInstructorRespondent(email, feedbackSessionName, courseId);
-                } else {
-                    logic.addInstructorRespondent(email, feedbackSessionName, courseId);
-                }
-            } else {
-                if (isToBeRemoved) {
-                    logic.deleteStudentRespondent(email, feedbackSessionName, courseId);
-                } else {
-                    logic.addStudentRespondent(email, feedbackSessionName, courseId);
-                }
-            }
+            logic.updateRespondents(feedbackSessionName, courseId, Collections.singletonList(email));
         } catch (InvalidParametersException | EntityDoesNotExistException e) {
-            log.severe("Failed to " + (isToBeRemoved ? "remove" : "append") + " "
-                    + (isInstructor ? "instructor" : "student") + " respondent: "
-                    + TeammatesException.toStringWithStackTrace(e));
+            log.severe("Failed to update respondent " + email + ": " + TeammatesException.toStringWithStackTrace(e));
         }
     }
 }
@@ -0,0 +1,98 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.exception.EnrollException;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: enrolls the next chunk of students of an enrollment job.
+ *
+ * <p>The progress of the job is recorded after each chunk, and the worker for each chunk schedules the worker
+ * for the next chunk, so that any number of students are enrolled without reaching the request deadline.
+ * The responses of the students modified by a chunk are adjusted separately, as they are for other enrollments.
+ * The modified students are recorded on the job together with the progress, so that a retried task schedules
+ * their adjustment even if the previous attempt failed before doing so.
+ *
+ * <p>The job is stopped if all the students of the course are being deleted, so that no students are enrolled
+ * while the deletion is still reading the students to delete.
+ */
+public class StudentEnrollmentWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String enrollmentJobId = getNonNullRequestParamValue(ParamsNames.ENROLLMENT_JOB_ID);
+
+        EnrollmentJobAttributes job;
+        try {
+            // a previous attempt may have recorded a chunk without scheduling the adjustment of its students
+            job = logic.getEnrollmentJob(enrollmentJobId);
+            scheduleFeedbackResponseAdjustment(job);
+            if (job != null && job.isInProgress() && logic.isStudentsDeletionInProgress(courseId)) {
+                log.info("Stopping enrollment job " + enrollmentJobId + " as the students of course " + courseId
+                        + " are being deleted");
+                failEnrollmentJob(enrollmentJobId, Const.StatusMessages.ENROLLMENT_JOB_STOPPED_BY_STUDENTS_DELETION);
+                return;
+            }
+            job = logic.enrollStudentsForEnrollmentJob(enrollmentJobId);
+            scheduleFeedbackResponseAdjustment(job);
+        } catch (EntityDoesNotExistException | EnrollException | InvalidParametersException
+                | EntityAlreadyExistsException e) {
+            log.severe("Failed to enroll students of enrollment job " + enrollmentJobId + " in course " + courseId
+                    + ": " + TeammatesException.toStringWithStackTrace(e));
+            failEnrollmentJob(enrollmentJobId, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            if (isLastTaskAttempt(Const.TaskQueue.STUDENT_ENROLLMENT_TASK_RETRY_LIMIT)) {
+                failEnrollmentJob(enrollmentJobId, Const.StatusMessages.ENROLLMENT_JOB_RETRIES_EXHAUSTED);
+            }
+            throw e;
+        }
+
+        if (job.isInProgress()) {
+            taskQueuer.scheduleStudentEnrollment(courseId, enrollmentJobId);
+        }
+    }
+
+    private void scheduleFeedbackResponseAdjustment(EnrollmentJobAttributes job)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        if (job == null || job.getEnrollmentsToAdjust().isEmpty()) {
+            return;
+        }
+
+        // scheduling the same adjustment twice, if clearing fails, is harmless as the adjustment is idempotent
+        taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(job.getCourseId(), job.getEnrollmentsToAdjust());
+        logic.clearEnrollmentsToAdjust(job.getId());
+    }
+
+    private void failEnrollmentJob(String enrollmentJobId, String errorMessage) {
+        try {
+            logic.failEnrollmentJob(enrollmentJobId, errorMessage);
+        } catch (EntityDoesNotExistException e) {
+            // the job has been deleted together with its course, so there is no progress left to record
+            log.info("Enrollment job " + enrollmentJobId + " no longer exists");
+        } catch (InvalidParametersException e) {
+            log.severe("Failed to record the failure of enrollment job " + enrollmentJobId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+}
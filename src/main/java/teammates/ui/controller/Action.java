@@ -20,15 +20,18 @@ import teammates.common.util.Const;
 import teammates.common.util.CryptoHelper;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
+import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Url;
 import teammates.logic.api.EmailSender;
+import teammates.logic.api.FileStorage;
 import teammates.logic.api.GateKeeper;
 import teammates.logic.api.Logic;
 import teammates.logic.api.TaskQueuer;
+import teammates.storage.cache.RequestIdentityMap;
 import teammates.ui.pagedata.PageData;
 
 /** An 'action' to be performed by the system. If the logged in user is allowed
@@ -37,6 +40,8 @@ import teammates.ui.pagedata.PageData;
  */
 public abstract class Action {
 
+    private static final Logger log = Logger.getLogger();
+
     /** This is used to ensure unregistered users don't access certain pages in the system. */
     public String regkey;
 
@@ -56,6 +61,7 @@ public abstract class Action {
     protected GateKeeper gateKeeper;
     protected TaskQueuer taskQueuer;
     protected EmailSender emailSender;
+    protected FileStorage fileStorage;
 
     /** The full request URL e.g., {@code /page/instructorHome?user=abc&course=c1}. */
     protected String requestUrl;
@@ -87,6 +93,9 @@ public abstract class Action {
     /** This is for authentication at Action Level. */
     private String authenticationRedirectUrl = "";
 
+    /** The number of reads served from the request identity map while executing this action. */
+    private int numberOfDuplicateReadsRemoved;
+
     /** Initializes variables.
      * Aborts with an {@link UnauthorizedAccessException} if the user is not
      * logged in or if a non-admin tried to masquerade as another user.
@@ -106,6 +115,7 @@ public abstract class Action {
         gateKeeper = new GateKeeper();
         setTaskQueuer(new TaskQueuer());
         setEmailSender(new EmailSender());
+        setFileStorage(new FileStorage());
         requestParameters = request.getParameterMap();
         session = request.getSession();
         sessionToken = CryptoHelper.computeSessionToken(session.getId());
@@ -152,6 +162,14 @@ public abstract class Action {
         this.emailSender = emailSender;
     }
 
+    public FileStorage getFileStorage() {
+        return fileStorage;
+    }
+
+    public void setFileStorage(FileStorage fileStorage) {
+        this.fileStorage = fileStorage;
+    }
+
     // These methods are used for Cross-Site Request Forgery (CSRF) prevention
 
     private void validateOriginIfRequired() {
@@ -464,8 +482,29 @@ public abstract class Action {
      * 2. User ID, error flag, and the status message will be added to the response,
      *    to be encoded into the URL. The error flag is also added to the
      *    {@code isError} flag in the {@link ActionResult} object.
+     *
+     * <p>Repeated reads of the same data within the action are served from a {@link RequestIdentityMap}.
      */
     public ActionResult executeAndPostProcess() {
+        RequestIdentityMap.open();
+        try {
+            return doExecuteAndPostProcess();
+        } finally {
+            numberOfDuplicateReadsRemoved = RequestIdentityMap.close();
+            log.info(getClass().getSimpleName() + " served " + numberOfDuplicateReadsRemoved
+                    + " duplicate reads from the request identity map");
+        }
+    }
+
+    /**
+     * Returns the number of reads served from the request identity map in the last call of
+     * {@link #executeAndPostProcess()}.
+     */
+    public int getNumberOfDuplicateReadsRemoved() {
+        return numberOfDuplicateReadsRemoved;
+    }
+
+    private ActionResult doExecuteAndPostProcess() {
         if (!isValidUser()) {
             return createRedirectResult(getAuthenticationRedirectUrl());
         }
@@ -647,6 +686,18 @@ public abstract class Action {
                                       fileContent);
     }
 
+    /**
+     * Generates a {@link FileDownloadResult} whose content is written out while the response is sent.
+     */
+    public FileDownloadResult createFileDownloadResult(String fileName,
+                                                       FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
@@ -27,7 +27,7 @@ public abstract class FeedbackSubmissionEditPageAction extends Action {
 
         FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(feedbackSessionName, courseId);
 
-        if (feedbackSession == null) {
+        if (feedbackSession == null || feedbackSession.isBeingDeleted()) {
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_DELETED_NO_ACCESS,
                                                StatusMessageColor.WARNING));
 
@@ -69,6 +69,13 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
 
         setStatusToAdmin();
 
+        if (data.bundle.feedbackSession.isBeingDeleted()) {
+            isError = true;
+            statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_DELETED_NO_ACCESS,
+                                               StatusMessageColor.WARNING));
+            return createSpecificRedirectResult();
+        }
+
         if (!isSessionOpenForSpecificUser(data.bundle.feedbackSession)) {
             isError = true;
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SUBMISSIONS_NOT_OPEN,
@@ -297,21 +304,36 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     }
 
     private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
+        if (!responsesToDelete.isEmpty()) {
+            logic.deleteFeedbackResponses(responsesToDelete);
         }
     }
 
+    /**
+     * Updates the responses in one batch. Invalid responses are reported and left out beforehand,
+     * as an invalid response would stop the whole batch from being written.
+     * If a response clashes with an existing response, the other responses are still updated,
+     * and whether the user is a respondent is then checked against the database.
+     */
     private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
             throws EntityDoesNotExistException {
+        List<FeedbackResponseAttributes> validResponsesToUpdate = new ArrayList<>();
         for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
+            if (response.isValid()) {
+                validResponsesToUpdate.add(response);
+            } else {
+                setStatusForException(new InvalidParametersException(response.getInvalidityInfo()));
             }
         }
+        if (validResponsesToUpdate.isEmpty()) {
+            return;
+        }
+        try {
+            logic.updateFeedbackResponses(validResponsesToUpdate);
+            hasValidResponse = true;
+        } catch (EntityAlreadyExistsException | InvalidParametersException e) {
+            setStatusForException(e);
+        }
     }
 
     private FeedbackResponseAttributes extractFeedbackResponseData(
@@ -1,8 +1,10 @@
 package teammates.ui.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -20,18 +22,23 @@ public class InstructorCourseDeleteAllRecoveryCoursesAction extends Action {
         InstructorCoursesPageData data = new InstructorCoursesPageData(account, sessionToken);
         List<InstructorAttributes> instructorList = logic.getInstructorsForGoogleId(data.account.googleId);
 
+        List<String> recoveryCourseIds = new ArrayList<>();
         for (InstructorAttributes instructor : instructorList) {
             CourseAttributes course = logic.getRecoveryCourseForInstructor(instructor);
             if (course != null) {
                 gateKeeper.verifyAccessible(instructor,
                         course,
                         Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
+                recoveryCourseIds.add(course.getId());
             }
         }
 
         try {
-            /* Permanently delete all courses and setup status to be shown to user and admin */
-            logic.deleteAllCourses(instructorList);
+            /* Permanently delete all courses in the background and setup status to be shown to user and admin */
+            for (String courseId : recoveryCourseIds) {
+                DeletionJobAttributes job = logic.createCourseDeletionJob(courseId);
+                taskQueuer.scheduleDeletion(job.getId());
+            }
             String statusMessage = Const.StatusMessages.COURSE_ALL_DELETED;
             statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
             statusToAdmin = "All courses deleted";
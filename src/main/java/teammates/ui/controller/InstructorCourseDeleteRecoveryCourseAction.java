@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -21,8 +22,9 @@ public class InstructorCourseDeleteRecoveryCourseAction extends Action {
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
 
         try {
-            /* Permanently delete the course and setup status to be shown to user and admin */
-            logic.deleteCourse(idOfCourseToDelete);
+            /* Permanently delete the course in the background and setup status to be shown to user and admin */
+            DeletionJobAttributes job = logic.createCourseDeletionJob(idOfCourseToDelete);
+            taskQueuer.scheduleDeletion(job.getId());
             String statusMessage = String.format(Const.StatusMessages.COURSE_DELETED, idOfCourseToDelete);
             statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
             statusToAdmin = "Course deleted: " + idOfCourseToDelete;
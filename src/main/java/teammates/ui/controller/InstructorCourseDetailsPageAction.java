@@ -3,10 +3,12 @@ package teammates.ui.controller;
 import java.util.List;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.StringHelper;
@@ -54,9 +56,40 @@ public class InstructorCourseDetailsPageAction extends Action {
             statusToUser.add(new StatusMessage(message, StatusMessageColor.WARNING));
         }
 
+        for (DeletionJobAttributes job : logic.getUnfinishedDeletionJobsForCourse(courseId)) {
+            addStatusForDeletionJob(job);
+        }
+
         statusToAdmin = "instructorCourseDetails Page Load<br>"
                         + "Viewing Course Details for Course <span class=\"bold\">[" + courseId + "]</span>";
 
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_COURSE_DETAILS, data);
     }
+
+    /**
+     * Shows how far the deletion of the students or of a feedback session of the course has gone,
+     * or that it has failed. Deletions of the whole course are not shown, as the course is in the Recycle Bin.
+     */
+    private void addStatusForDeletionJob(DeletionJobAttributes job) {
+        StatusMessageColor color = job.isFailed() ? StatusMessageColor.DANGER : StatusMessageColor.INFO;
+        switch (job.getScope()) {
+        case STUDENTS_IN_COURSE:
+            String studentsMessage = job.isFailed()
+                    ? Const.StatusMessages.STUDENTS_DELETION_FAILED
+                    : Const.StatusMessages.STUDENTS_DELETION_IN_PROGRESS;
+            statusToUser.add(new StatusMessage(
+                    String.format(studentsMessage, job.getNumberOfEntitiesDeleted()), color));
+            break;
+        case FEEDBACK_SESSION:
+            String sessionMessage = job.isFailed()
+                    ? Const.StatusMessages.FEEDBACK_SESSION_DELETION_FAILED
+                    : Const.StatusMessages.FEEDBACK_SESSION_DELETION_IN_PROGRESS;
+            statusToUser.add(new StatusMessage(String.format(sessionMessage,
+                    SanitizationHelper.sanitizeForHtml(job.getFeedbackSessionName()), job.getNumberOfEntitiesDeleted()),
+                    color));
+            break;
+        default:
+            break;
+        }
+    }
 }
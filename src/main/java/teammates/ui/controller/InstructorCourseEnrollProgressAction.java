@@ -0,0 +1,38 @@
+package teammates.ui.controller;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.ui.pagedata.InstructorCourseEnrollProgressAjaxPageData;
+
+/**
+ * Action: gets the progress of a job enrolling students into a course of an instructor in the background.
+ */
+public class InstructorCourseEnrollProgressAction extends Action {
+
+    @Override
+    protected ActionResult execute() throws EntityDoesNotExistException {
+        String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.COURSE_ID, courseId);
+        String enrollmentJobId = getRequestParamValue(Const.ParamsNames.ENROLLMENT_JOB_ID);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId);
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, account.googleId);
+        gateKeeper.verifyAccessible(instructor, logic.getCourse(courseId),
+                                    Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT);
+
+        EnrollmentJobAttributes job = logic.getEnrollmentJob(enrollmentJobId);
+        if (job == null || !job.getCourseId().equals(courseId)) {
+            throw new EntityDoesNotExistException("Enrollment job does not exist: " + enrollmentJobId);
+        }
+
+        statusToAdmin = "Progress of enrollment job " + enrollmentJobId + " in Course <span class=\"bold\">["
+                        + courseId + "]</span>: " + job.getNumberOfStudentsProcessed() + "/" + job.getNumberOfStudents()
+                        + " students, " + job.getStatus();
+
+        return createAjaxResult(new InstructorCourseEnrollProgressAjaxPageData(account, sessionToken, job));
+    }
+
+}
@@ -5,8 +5,9 @@ import java.util.Comparator;
 import java.util.List;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
-import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -44,6 +45,14 @@ public class InstructorCourseEnrollSaveAction extends Action {
 
         /* Process enrollment list and setup data for page result */
         try {
+            if (logic.isStudentsDeletionInProgress(courseId)) {
+                throw new EnrollException(Const.StatusMessages.COURSE_ENROLL_STUDENTS_BEING_DELETED);
+            }
+
+            if (!logic.isWithinSizeLimitPerEnrollment(studentsInfo)) {
+                return startEnrollmentJob(studentsInfo, courseId);
+            }
+
             List<StudentAttributes>[] students = enrollAndProcessResultForDisplay(studentsInfo, courseId);
             boolean hasSection = hasSections(students);
 
@@ -81,6 +90,26 @@ public class InstructorCourseEnrollSaveAction extends Action {
         }
     }
 
+    /**
+     * Starts enrolling the students in the background, and shows the enroll page which polls the progress of the job.
+     */
+    private ActionResult startEnrollmentJob(String studentsInfo, String courseId)
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
+        EnrollmentJobAttributes job = logic.createEnrollmentJob(studentsInfo, courseId);
+        taskQueuer.scheduleStudentEnrollment(courseId, job.getId());
+
+        statusToUser.add(new StatusMessage(
+                String.format(Const.StatusMessages.COURSE_ENROLL_IN_BACKGROUND, job.getNumberOfStudents()),
+                StatusMessageColor.INFO));
+        statusToAdmin = "Enrollment of " + job.getNumberOfStudents() + " students in Course <span class=\"bold\">["
+                        + courseId + "]</span> started in the background as job " + job.getId();
+
+        InstructorCourseEnrollPageData pageData =
+                new InstructorCourseEnrollPageData(account, sessionToken, courseId, "", job.getId());
+
+        return createShowPageResult(Const.ViewURIs.INSTRUCTOR_COURSE_ENROLL, pageData);
+    }
+
     private boolean hasSections(List<StudentAttributes>[] students) {
         for (List<StudentAttributes> studentList : students) {
             for (StudentAttributes student : studentList) {
@@ -92,17 +121,23 @@ public class InstructorCourseEnrollSaveAction extends Action {
         return false;
     }
 
+    private boolean hasModifiedStudents(List<StudentEnrollDetails> enrollmentList) {
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private List<StudentAttributes>[] enrollAndProcessResultForDisplay(String studentsInfo, String courseId)
             throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
         List<StudentAttributes> students = enrollResult.studentList;
 
-        // Adjust submissions for all feedback responses within the course
-        List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            // Schedule adjustment of submissions for feedback session in course
-            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
-                    courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+        // Adjust submissions for all feedback responses within the course, which only modified students can affect
+        if (hasModifiedStudents(enrollResult.enrollmentList)) {
+            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(courseId, enrollResult.enrollmentList);
         }
 
         students.sort(Comparator.comparing(obj -> obj.updateStatus.numericRepresentation));
@@ -1,6 +1,8 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -18,10 +20,15 @@ public class InstructorCourseStudentDeleteAllAction extends Action {
         gateKeeper.verifyAccessible(
                 instructor, logic.getCourse(courseId), Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT);
 
-        logic.deleteAllStudentsInCourse(courseId);
-        statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENTS_DELETED, StatusMessageColor.SUCCESS));
-        statusToAdmin = "All the Students "
-                + "in Course <span class=\"bold\">[" + courseId + "]</span> are deleted.";
+        try {
+            DeletionJobAttributes job = logic.createStudentsDeletionJob(courseId);
+            taskQueuer.scheduleDeletion(job.getId());
+            statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENTS_DELETED, StatusMessageColor.SUCCESS));
+            statusToAdmin = "All the Students "
+                    + "in Course <span class=\"bold\">[" + courseId + "]</span> are being deleted.";
+        } catch (InvalidParametersException e) {
+            setStatusForException(e);
+        }
 
         RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_COURSE_DETAILS_PAGE);
         result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
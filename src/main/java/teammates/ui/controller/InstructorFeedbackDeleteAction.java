@@ -1,5 +1,8 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -27,10 +30,15 @@ public class InstructorFeedbackDeleteAction extends Action {
                 false,
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION);
 
-        logic.deleteFeedbackSession(feedbackSessionName, courseId);
-        statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_DELETED, StatusMessageColor.SUCCESS));
-        statusToAdmin = "Feedback Session <span class=\"bold\">[" + feedbackSessionName + "]</span> "
-                        + "from Course: <span class=\"bold\">[" + courseId + " deleted.";
+        try {
+            DeletionJobAttributes job = logic.createFeedbackSessionDeletionJob(feedbackSessionName, courseId);
+            taskQueuer.scheduleDeletion(job.getId());
+            statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_DELETED, StatusMessageColor.SUCCESS));
+            statusToAdmin = "Feedback Session <span class=\"bold\">[" + feedbackSessionName + "]</span> "
+                            + "from Course: <span class=\"bold\">[" + courseId + " deleted.";
+        } catch (EntityDoesNotExistException | InvalidParametersException e) {
+            setStatusForException(e);
+        }
 
         return createRedirectResult(nextUrl);
     }
@@ -67,7 +67,7 @@ public class InstructorFeedbackEditPageAction extends Action {
         InstructorFeedbackEditPageData data = new InstructorFeedbackEditPageData(account, sessionToken);
 
         data.init(feedbackSession, questions, questionHasResponses, studentList, instructorsWhoCanSubmit, instructor,
-                shouldLoadInEditMode, numOfInstructors, logic.getCourseDetails(courseId));
+                shouldLoadInEditMode, numOfInstructors, logic.getCourseDetailsWithoutSections(courseId));
 
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_FEEDBACK_EDIT, data);
     }
@@ -1,5 +1,9 @@
 package teammates.ui.controller;
 
+import java.util.List;
+import java.util.UUID;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -8,6 +12,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
+import teammates.common.util.Url;
 
 public class InstructorFeedbackResultsDownloadAction extends Action {
 
@@ -21,6 +26,7 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
         boolean isStatsShown = getRequestParamAsBoolean(Const.ParamsNames.FEEDBACK_RESULTS_SHOWSTATS);
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String questionNumber = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_NUMBER);
+        boolean isExportInBackground = getRequestParamAsBoolean(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_IN_BACKGROUND);
         // Parameter is used to throw the exceeding range exception in test
         String simulateExcessDataForTesting = getRequestParamValue("simulateExcessDataForTesting");
 
@@ -41,6 +47,16 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
                 throw new ExceedingRangeException("This session has more responses than that can be downloaded at one go.");
             }
 
+            if (questionId == null && isExportInBackground) {
+                return scheduleResultsExport(courseId, feedbackSessionName, instructor.email, section,
+                        isMissingResponsesShown, isStatsShown);
+            }
+
+            if (questionId == null) {
+                return createStreamedFileDownloadResult(session, instructor.email, section,
+                        isMissingResponsesShown, isStatsShown);
+            }
+
             String questionName = "";
             if (questionNumber != null) {
                 questionName = "_question" + questionNumber;
@@ -80,4 +96,80 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
         return createFileDownloadResult(fileName, fileContent);
     }
 
+    /**
+     * Schedules the results of the whole session (or of a section) to be exported in the background,
+     * and points the instructor to where the exported file can be downloaded once it is ready.
+     */
+    private RedirectResult scheduleResultsExport(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown) throws EntityDoesNotExistException {
+        boolean isAllSections = section == null || "All".equals(section);
+        String exportId = UUID.randomUUID().toString();
+        int numberOfParts = logic.getFeedbackSessionResultSummaryNumberOfParts(courseId, feedbackSessionName);
+
+        taskQueuer.scheduleFeedbackSessionResultsExport(courseId, feedbackSessionName, instructorEmail,
+                isAllSections ? null : section, isMissingResponsesShown, isStatsShown, exportId, 0, numberOfParts);
+
+        String exportDownloadLink = Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_EXPORT_DOWNLOAD;
+        exportDownloadLink = Url.addParamToUrl(exportDownloadLink, Const.ParamsNames.COURSE_ID, courseId);
+        exportDownloadLink = Url.addParamToUrl(exportDownloadLink, Const.ParamsNames.FEEDBACK_SESSION_NAME,
+                feedbackSessionName);
+        if (!isAllSections) {
+            exportDownloadLink = Url.addParamToUrl(exportDownloadLink, Const.ParamsNames.SECTION_NAME, section);
+        }
+        exportDownloadLink = Url.addParamToUrl(exportDownloadLink, Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID,
+                exportId);
+        exportDownloadLink = Url.addParamToUrl(exportDownloadLink, Const.ParamsNames.USER_ID, account.googleId);
+
+        statusToUser.add(new StatusMessage(
+                Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_STARTED.replace(
+                        "${exportDownloadLink}", exportDownloadLink),
+                StatusMessageColor.INFO));
+        statusToAdmin = "Export of summary data for Feedback Session " + feedbackSessionName
+                      + " in Course " + courseId + (isAllSections ? "" : " within " + section)
+                      + " was scheduled with ID " + exportId;
+
+        RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE);
+        result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
+        result.addResponseParam(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        return result;
+    }
+
+    /**
+     * Creates a download of the whole session (or of a section) that is written out question by question,
+     * so that sessions of any size can be downloaded in one go.
+     * The session and its questions are read before the response is committed, so the download is not
+     * stopped halfway because they do not exist.
+     */
+    private FileDownloadResult createStreamedFileDownloadResult(
+            FeedbackSessionAttributes session, String instructorEmail, String section,
+            boolean isMissingResponsesShown, boolean isStatsShown) throws EntityDoesNotExistException {
+        String courseId = session.getCourseId();
+        String feedbackSessionName = session.getFeedbackSessionName();
+        List<FeedbackQuestionAttributes> questions = logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        boolean isAllSections = section == null || "All".equals(section);
+        String sectionToDownload = isAllSections ? null : section;
+
+        String fileName;
+        String downloadedDescription;
+        if (isAllSections) {
+            fileName = courseId + "_" + feedbackSessionName;
+            downloadedDescription = "Summary data for Feedback Session " + feedbackSessionName
+                                  + " in Course " + courseId;
+        } else {
+            fileName = courseId + "_" + feedbackSessionName + "_" + section;
+            downloadedDescription = "Summary data for Feedback Session " + feedbackSessionName
+                                  + " in Course " + courseId + " within " + section;
+        }
+        // the activity log is written after the response is sent, so this is replaced once the file is written
+        statusToAdmin = downloadedDescription + " was not downloaded completely";
+
+        return createFileDownloadResult(fileName, writer -> {
+            logic.writeFeedbackSessionResultSummaryInSectionAsCsv(
+                    session, questions, instructorEmail, sectionToDownload, isMissingResponsesShown, isStatsShown,
+                    writer);
+            statusToAdmin = downloadedDescription + " was downloaded";
+        });
+    }
+
 }
@@ -0,0 +1,95 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.StatusMessage;
+import teammates.common.util.StatusMessageColor;
+
+/**
+ * Action: downloads the results of a feedback session that were exported in the background.
+ */
+public class InstructorFeedbackResultsExportDownloadAction extends Action {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    protected ActionResult execute() throws EntityDoesNotExistException {
+        String courseId = getRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        String exportId = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID);
+
+        Assumption.assertPostParamNotNull(Const.ParamsNames.COURSE_ID, courseId);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        Assumption.assertPostParamNotNull(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId);
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, account.googleId);
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        boolean isCreatorOnly = true;
+
+        gateKeeper.verifyAccessible(instructor, session, !isCreatorOnly);
+
+        String exportFileName = logic.getFeedbackSessionResultsExportFileName(courseId, feedbackSessionName, exportId);
+
+        boolean isExportReady;
+        boolean isExportFailed;
+        try {
+            isExportReady = fileStorage.doesFileExist(exportFileName);
+            isExportFailed = !isExportReady && fileStorage.doesFileExist(
+                    logic.getFeedbackSessionResultsExportFailureFileName(courseId, feedbackSessionName, exportId));
+        } catch (IOException e) {
+            // Happens when the storage service is down; the instructor can simply try again later
+            isExportReady = false;
+            isExportFailed = false;
+            statusToAdmin = Const.ACTION_RESULT_FAILURE + " : Checking exported file failed. Error: " + e.getMessage();
+        }
+
+        if (isExportFailed) {
+            statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_FAILED,
+                                               StatusMessageColor.DANGER));
+            isError = true;
+            return createRedirectToResultsPage(courseId, feedbackSessionName);
+        }
+
+        if (!isExportReady) {
+            statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_NOT_READY,
+                                               StatusMessageColor.WARNING));
+            return createRedirectToResultsPage(courseId, feedbackSessionName);
+        }
+
+        String section = getRequestParamValue(Const.ParamsNames.SECTION_NAME);
+        String fileName = section == null
+                        ? courseId + "_" + feedbackSessionName
+                        : courseId + "_" + feedbackSessionName + "_" + section;
+        statusToAdmin = "Exported summary data for Feedback Session " + feedbackSessionName
+                      + " in Course " + courseId + " was downloaded";
+
+        return createFileDownloadResult(fileName, writer -> {
+            try (InputStream fileContent = fileStorage.openFile(exportFileName);
+                    Reader reader = new InputStreamReader(fileContent, StandardCharsets.UTF_8)) {
+                char[] buffer = new char[BUFFER_SIZE];
+                int length = reader.read(buffer);
+                while (length != -1) {
+                    writer.write(buffer, 0, length);
+                    length = reader.read(buffer);
+                }
+            }
+        });
+    }
+
+    private RedirectResult createRedirectToResultsPage(String courseId, String feedbackSessionName) {
+        RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE);
+        result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
+        result.addResponseParam(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        return result;
+    }
+
+}
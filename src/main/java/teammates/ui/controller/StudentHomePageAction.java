@@ -105,7 +105,7 @@ public class StudentHomePageAction extends Action {
     private void addPlaceholderCourse(List<CourseDetailsBundle> courses, String courseId,
             Map<FeedbackSessionAttributes, Boolean> sessionSubmissionStatusMap) {
         try {
-            CourseDetailsBundle course = logic.getCourseDetails(courseId);
+            CourseDetailsBundle course = logic.getCourseDetailsWithoutSections(courseId);
             courses.add(course);
 
             addPlaceholderFeedbackSessions(course, sessionSubmissionStatusMap);
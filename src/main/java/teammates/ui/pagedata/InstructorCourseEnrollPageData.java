@@ -1,6 +1,8 @@
 package teammates.ui.pagedata;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Url;
 
 /**
  * PageData: this is page data for 'Enroll' page for a course of an instructor.
@@ -8,12 +10,22 @@ import teammates.common.datatransfer.attributes.AccountAttributes;
 public class InstructorCourseEnrollPageData extends PageData {
     private String courseId;
     private String enrollStudents;
+    private String enrollmentJobId;
 
     public InstructorCourseEnrollPageData(AccountAttributes account, String sessionToken, String courseId,
             String enrollStudents) {
+        this(account, sessionToken, courseId, enrollStudents, null);
+    }
+
+    /**
+     * Creates the page data for the 'Enroll' page showing the progress of an enrollment job.
+     */
+    public InstructorCourseEnrollPageData(AccountAttributes account, String sessionToken, String courseId,
+            String enrollStudents, String enrollmentJobId) {
         super(account, sessionToken);
         this.courseId = courseId;
         this.enrollStudents = enrollStudents;
+        this.enrollmentJobId = enrollmentJobId;
     }
 
     public String getCourseId() {
@@ -24,7 +36,19 @@ public class InstructorCourseEnrollPageData extends PageData {
         return enrollStudents;
     }
 
+    public String getEnrollmentJobId() {
+        return enrollmentJobId;
+    }
+
     public String getInstructorCourseEnrollSaveLink() {
         return getInstructorCourseEnrollSaveLink(courseId);
     }
+
+    public String getInstructorCourseEnrollProgressLink() {
+        String link = Const.ActionURIs.INSTRUCTOR_COURSE_ENROLL_PROGRESS;
+        link = Url.addParamToUrl(link, Const.ParamsNames.COURSE_ID, courseId);
+        link = Url.addParamToUrl(link, Const.ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId);
+        link = addUserIdToUrl(link);
+        return link;
+    }
 }
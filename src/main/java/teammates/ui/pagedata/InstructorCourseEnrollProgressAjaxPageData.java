@@ -0,0 +1,58 @@
+package teammates.ui.pagedata;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+
+/**
+ * PageData: the progress of an enrollment job, polled by the 'Enroll' page for a course of an instructor.
+ */
+public class InstructorCourseEnrollProgressAjaxPageData extends PageData {
+    private EnrollmentJobStatus status;
+    private int numberOfStudents;
+    private int numberOfStudentsProcessed;
+    private int numberOfNewStudents;
+    private int numberOfModifiedStudents;
+    private int numberOfUnmodifiedStudents;
+    private String errorMessage;
+
+    public InstructorCourseEnrollProgressAjaxPageData(AccountAttributes account, String sessionToken,
+            EnrollmentJobAttributes job) {
+        super(account, sessionToken);
+        this.status = job.getStatus();
+        this.numberOfStudents = job.getNumberOfStudents();
+        this.numberOfStudentsProcessed = job.getNumberOfStudentsProcessed();
+        this.numberOfNewStudents = job.getNumberOfNewStudents();
+        this.numberOfModifiedStudents = job.getNumberOfModifiedStudents();
+        this.numberOfUnmodifiedStudents = job.getNumberOfUnmodifiedStudents();
+        this.errorMessage = job.getErrorMessage();
+    }
+
+    public EnrollmentJobStatus getStatus() {
+        return status;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfStudentsProcessed() {
+        return numberOfStudentsProcessed;
+    }
+
+    public int getNumberOfNewStudents() {
+        return numberOfNewStudents;
+    }
+
+    public int getNumberOfModifiedStudents() {
+        return numberOfModifiedStudents;
+    }
+
+    public int getNumberOfUnmodifiedStudents() {
+        return numberOfUnmodifiedStudents;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -28,7 +28,6 @@ const handsontable = new Handsontable(container, {
     sortIndicator: true,
     minRows: 20,
     maxCols: 5,
-    maxRows: 100,
     stretchH: 'all',
     minSpareRows: 1,
     contextMenu: [
@@ -60,9 +59,52 @@ function updateDataDump() {
             ? '' : dataPushToTextarea + userDataRows); // only pushes header string if userDataRows is not empty
 }
 
+const ENROLLMENT_PROGRESS_POLLING_INTERVAL_IN_MILLI_SECONDS = 3000;
+
+/**
+ * Polls the progress of the enrollment job shown on the page, until the job is no longer in progress.
+ */
+function pollEnrollmentProgress() {
+    const $progress = $('#enrollment-progress');
+    const $progressText = $('#enrollment-progress-text');
+    $.ajax({
+        type: 'GET',
+        url: $progress.data('progressUrl'),
+        error() {
+            $progressText.text('Failed to get the progress of the enrollment. Refresh the page to try again.');
+        },
+        success(data) {
+            const percentage = data.numberOfStudents === 0
+                    ? 100 : Math.floor((100 * data.numberOfStudentsProcessed) / data.numberOfStudents);
+            $('#enrollment-progress-bar').css('width', `${percentage}%`);
+
+            if (data.status === 'IN_PROGRESS') {
+                $progressText.text(`Enrolled ${data.numberOfStudentsProcessed} of ${data.numberOfStudents} students...`);
+                setTimeout(pollEnrollmentProgress, ENROLLMENT_PROGRESS_POLLING_INTERVAL_IN_MILLI_SECONDS);
+                return;
+            }
+
+            const summary = `${data.numberOfNewStudents} added, ${data.numberOfModifiedStudents} modified, `
+                    + `${data.numberOfUnmodifiedStudents} updated with no changes`;
+            if (data.status === 'COMPLETED') {
+                $progress.removeClass('alert-info').addClass('alert-success');
+                $progressText.text(`All ${data.numberOfStudents} students have been enrolled (${summary}).`);
+            } else {
+                $progress.removeClass('alert-info').addClass('alert-danger');
+                $progressText.text(`The enrollment stopped after ${data.numberOfStudentsProcessed} of `
+                        + `${data.numberOfStudents} students (${summary}): ${data.errorMessage}`);
+            }
+        },
+    });
+}
+
 $(document).ready(() => {
     prepareInstructorPages();
 
+    if ($('#enrollment-progress').length) {
+        pollEnrollmentProgress();
+    }
+
     if ($('#enrollstudents').val()) {
         const allData = $('#enrollstudents').val().split('\n'); // data in the table including column headers (string format)
 
@@ -22,10 +22,18 @@
   <div class="panel panel-primary">
     <div class="panel-body fill-plain">
       <div class="text-muted padding-15px">
-        <span class="glyphicon glyphicon-exclamation-sign glyphicon-primary"></span> If you want to enroll more than
-        <strong>100</strong> students into one course, divide students into sections containing no more than
-        <strong>100</strong> students.
+        <span class="glyphicon glyphicon-exclamation-sign glyphicon-primary"></span> A section can contain no more than
+        <strong>100</strong> students. If you enroll more than <strong><%= Const.SIZE_LIMIT_PER_ENROLLMENT %></strong>
+        students at a time, they are enrolled in the background and the progress is shown on this page.
       </div>
+      <c:if test="${not empty data.enrollmentJobId}">
+        <div id="enrollment-progress" class="alert alert-info" data-progress-url="${data.instructorCourseEnrollProgressLink}">
+          <span id="enrollment-progress-text">Enrolling students...</span>
+          <div class="progress margin-top-7px">
+            <div id="enrollment-progress-bar" class="progress-bar" role="progressbar" style="width: 0%;"></div>
+          </div>
+        </div>
+      </c:if>
       <form id="student-data-spreadsheet-form" action="${data.instructorCourseEnrollSaveLink}" method="post"
             class="form-horizontal" role="form">
         <input type="hidden" name="${SESSION_TOKEN}" value="${data.sessionToken}">
@@ -137,6 +145,11 @@
         <ul>
           <li class="more-info-column-info">
             <samp>Section</samp> [Compulsory for courses having more than 100 students]: Section name/ID
+            <ul>
+              <li class="more-info-sub-point-details">
+                A section can contain no more than 100 students.
+              </li>
+            </ul>
           </li>
           <li class="more-info-column-info">
             <samp>Team</samp> [Compulsory]: Team name/ID
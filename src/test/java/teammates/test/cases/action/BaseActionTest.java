@@ -9,8 +9,10 @@ import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidPostParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Assumption;
@@ -19,6 +21,8 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.StringHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.DeletionJobsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
@@ -702,6 +706,22 @@ public abstract class BaseActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Runs the deletion jobs scheduled by the action to completion, as the deletion workers would.
+     */
+    protected void runDeletionTasksAdded(Action action) throws EntityDoesNotExistException {
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!Const.TaskQueue.DELETION_QUEUE_NAME.equals(task.getQueueName())) {
+                continue;
+            }
+            String deletionJobId = task.getParamMap().get(Const.ParamsNames.DELETION_JOB_ID)[0];
+            DeletionJobAttributes job;
+            do {
+                job = DeletionJobsLogic.inst().deleteNextPageForDeletionJob(deletionJobId);
+            } while (job.isInProgress());
+        }
+    }
+
     protected void verifyNoEmailsSent(Action action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -98,7 +98,11 @@ public class InstructorCourseDeleteAllRecoveryCoursesActionTest extends BaseActi
                 getPageResultDestination(Const.ActionURIs.INSTRUCTOR_COURSES_PAGE, false, "idOfInstructor1OfCourse3"),
                 redirectResult.getDestinationWithParams());
         assertFalse(redirectResult.isError);
-        assertEquals("All courses have been permanently deleted.", redirectResult.getStatusMessage());
+        assertEquals("All courses are being permanently deleted. "
+                + "They will disappear once all their data has been deleted.", redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(deleteAllAction, Const.TaskQueue.DELETION_QUEUE_NAME, 2);
+        assertTrue(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
+        runDeletionTasksAdded(deleteAllAction);
         assertFalse(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
         assertFalse(CoursesLogic.inst().isCoursePresent("icdat.owncourse"));
         String expectedLogMessage = "TEAMMATESLOG|||instructorRecoveryDeleteAllCourses|||"
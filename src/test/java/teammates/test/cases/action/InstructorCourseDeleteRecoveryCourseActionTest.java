@@ -75,7 +75,11 @@ public class InstructorCourseDeleteRecoveryCourseActionTest extends BaseActionTe
                 getPageResultDestination(Const.ActionURIs.INSTRUCTOR_COURSES_PAGE, false, "idOfInstructor1OfCourse3"),
                 redirectResult.getDestinationWithParams());
         assertFalse(redirectResult.isError);
-        assertEquals("The course idOfTypicalCourse3 has been permanently deleted.", redirectResult.getStatusMessage());
+        assertEquals("The course idOfTypicalCourse3 is being permanently deleted. "
+                + "It will disappear once all its data has been deleted.", redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(deleteAction, Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+        assertTrue(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
+        runDeletionTasksAdded(deleteAction);
         assertFalse(CoursesLogic.inst().isCoursePresent(instructor1OfCourse3.courseId));
         String expectedLogMessage = "TEAMMATESLOG|||instructorRecoveryDeleteCourse|||instructorRecoveryDeleteCourse|||"
                 + "true|||Instructor|||Instructor 1 of Course 3|||idOfInstructor1OfCourse3|||"
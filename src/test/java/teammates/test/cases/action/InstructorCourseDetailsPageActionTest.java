@@ -1,9 +1,16 @@
 package teammates.test.cases.action;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.StatusMessage;
+import teammates.logic.core.DeletionJobsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.AjaxResult;
 import teammates.ui.controller.InstructorCourseDetailsPageAction;
@@ -15,6 +22,8 @@ import teammates.ui.pagedata.InstructorCourseDetailsPageData;
  */
 public class InstructorCourseDetailsPageActionTest extends BaseActionTest {
 
+    private static final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
+
     @Override
     protected String getActionUri() {
         return Const.ActionURIs.INSTRUCTOR_COURSE_DETAILS_PAGE;
@@ -22,7 +31,7 @@ public class InstructorCourseDetailsPageActionTest extends BaseActionTest {
 
     @Override
     @Test
-    public void testExecuteAndPostProcess() {
+    public void testExecuteAndPostProcess() throws Exception {
         InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
         gaeSimulation.loginAsInstructor(instructor1OfCourse1.googleId);
 
@@ -173,6 +182,41 @@ public class InstructorCourseDetailsPageActionTest extends BaseActionTest {
                          + "</tr>"
                      + "</table>",
                      pageData.getStudentListHtmlTableAsString());
+
+        ______TS("Deletions of the students and of a session: progress and failure are shown");
+
+        DeletionJobAttributes studentsJob = deletionJobsLogic.createStudentsDeletionJob(instructor1OfCourse1.courseId);
+        DeletionJobAttributes sessionJob = deletionJobsLogic.createFeedbackSessionDeletionJob(
+                "First feedback session", instructor1OfCourse1.courseId);
+        deletionJobsLogic.failDeletionJob(sessionJob.getId());
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, instructor1OfCourse1.courseId
+        };
+        pageResult = getShowPageResult(getAction(submissionParams));
+
+        List<String> statusMessages = new ArrayList<>();
+        for (StatusMessage statusMessage : pageResult.getStatusToUser()) {
+            statusMessages.add(statusMessage.getText());
+        }
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(
+                String.format(Const.StatusMessages.STUDENTS_DELETION_IN_PROGRESS, 0),
+                String.format(Const.StatusMessages.FEEDBACK_SESSION_DELETION_FAILED, "First feedback session", 0)),
+                statusMessages);
+
+        ______TS("Completed deletions and failed deletions superseded by later ones are not shown");
+
+        deletionJobsLogic.deleteNextPageForDeletionJob(studentsJob.getId());
+        deletionJobsLogic.deleteNextPageForDeletionJob(studentsJob.getId());
+        deletionJobsLogic.createFeedbackSessionDeletionJob("First feedback session", instructor1OfCourse1.courseId);
+
+        pageResult = getShowPageResult(getAction(submissionParams));
+
+        assertEquals(String.format(Const.StatusMessages.INSTRUCTOR_COURSE_EMPTY,
+                                   pageResult.data.getInstructorCourseEnrollLink(instructor1OfCourse1.courseId))
+                     + "<br>" + String.format(Const.StatusMessages.FEEDBACK_SESSION_DELETION_IN_PROGRESS,
+                                              "First feedback session", 0),
+                     pageResult.getStatusMessage());
     }
 
     @Override
@@ -0,0 +1,120 @@
+package teammates.test.cases.action;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.NullPostParameterException;
+import teammates.common.util.Const;
+import teammates.logic.core.StudentsLogic;
+import teammates.test.driver.AssertHelper;
+import teammates.ui.controller.AjaxResult;
+import teammates.ui.controller.InstructorCourseEnrollProgressAction;
+import teammates.ui.pagedata.InstructorCourseEnrollProgressAjaxPageData;
+
+/**
+ * SUT: {@link InstructorCourseEnrollProgressAction}.
+ */
+public class InstructorCourseEnrollProgressActionTest extends BaseActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.INSTRUCTOR_COURSE_ENROLL_PROGRESS;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() throws Exception {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        String courseId = instructor1OfCourse1.courseId;
+        gaeSimulation.loginAsInstructor(instructor1OfCourse1.googleId);
+
+        EnrollmentJobAttributes job = createEnrollmentJob(courseId);
+
+        ______TS("Failure case: params with null enrollment job id");
+
+        try {
+            getAjaxResult(getAction(Const.ParamsNames.COURSE_ID, courseId));
+            signalFailureToDetectException("Did not detect that parameters are null.");
+        } catch (NullPostParameterException e) {
+            assertEquals(String.format(Const.StatusCodes.NULL_POST_PARAMETER, Const.ParamsNames.ENROLLMENT_JOB_ID),
+                         e.getMessage());
+        }
+
+        ______TS("Typical case: job in progress");
+
+        String[] params = {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId()
+        };
+        AjaxResult result = getAjaxResult(getAction(params));
+
+        assertFalse(result.isError);
+        InstructorCourseEnrollProgressAjaxPageData data = (InstructorCourseEnrollProgressAjaxPageData) result.data;
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, data.getStatus());
+        assertEquals(2, data.getNumberOfStudents());
+        assertEquals(0, data.getNumberOfStudentsProcessed());
+        assertNull(data.getErrorMessage());
+
+        ______TS("Typical case: completed job");
+
+        studentsLogic.enrollStudentsForEnrollmentJob(job.getId());
+
+        result = getAjaxResult(getAction(params));
+
+        data = (InstructorCourseEnrollProgressAjaxPageData) result.data;
+        assertEquals(EnrollmentJobStatus.COMPLETED, data.getStatus());
+        assertEquals(2, data.getNumberOfStudentsProcessed());
+        assertEquals(2, data.getNumberOfNewStudents());
+        assertEquals(0, data.getNumberOfModifiedStudents());
+        assertEquals(0, data.getNumberOfUnmodifiedStudents());
+
+        ______TS("Failure case: job of another course");
+
+        InstructorAttributes instructorOfCourse2 = typicalBundle.instructors.get("instructor1OfCourse2");
+        gaeSimulation.loginAsInstructor(instructorOfCourse2.googleId);
+
+        try {
+            getAjaxResult(getAction(Const.ParamsNames.COURSE_ID, instructorOfCourse2.courseId,
+                                    Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId()));
+            signalFailureToDetectException("Did not detect that the job is not in the course.");
+        } catch (EntityNotFoundException e) {
+            AssertHelper.assertContains("Enrollment job does not exist: " + job.getId(), e.getMessage());
+        }
+
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
+    }
+
+    @Override
+    protected InstructorCourseEnrollProgressAction getAction(String... params) {
+        return (InstructorCourseEnrollProgressAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String courseId = typicalBundle.instructors.get("instructor1OfCourse1").courseId;
+        EnrollmentJobAttributes job = createEnrollmentJob(courseId);
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId()
+        };
+
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+        verifyUnaccessibleWithoutModifyStudentPrivilege(submissionParams);
+
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
+    }
+
+    private EnrollmentJobAttributes createEnrollmentJob(String courseId) throws Exception {
+        return studentsLogic.createEnrollmentJob("Section|Team|Name|Email" + System.lineSeparator()
+                + "Section Progress|Team Progress|Student 1|student1@enrollprogress.tmt" + System.lineSeparator()
+                + "Section Progress|Team Progress|Student 2|student2@enrollprogress.tmt", courseId);
+    }
+
+}
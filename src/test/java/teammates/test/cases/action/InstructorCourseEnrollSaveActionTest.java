@@ -1,5 +1,6 @@
 package teammates.test.cases.action;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -7,6 +8,8 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
@@ -15,6 +18,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.DeletionJobsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.InstructorCourseEnrollSaveAction;
@@ -74,13 +78,14 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
         assertFalse(pageResult.isError);
         assertEquals("", pageResult.getStatusMessage());
 
-        // there are 6 sessions in this course
-        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 6);
+        // one task adjusts the responses of all sessions in this course
+        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
 
         List<TaskWrapper> tasksAdded = enrollAction.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
             Map<String, String[]> paramMap = task.getParamMap();
             assertEquals(courseId, paramMap.get(ParamsNames.COURSE_ID)[0]);
+            assertNull(paramMap.get(ParamsNames.FEEDBACK_SESSION_NAME));
         }
 
         InstructorCourseEnrollResultPageData pageData = (InstructorCourseEnrollResultPageData) pageResult.data;
@@ -263,7 +268,7 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
         assertEquals("", pageResult.getStatusMessage());
         verifyNoTasksAdded(enrollAction);
 
-        //fail to enroll, if exceed the range
+        //enroll in the background, if exceed the range
         enrollStringBuilder.append(System.lineSeparator()).append(
                 "section" + Const.SIZE_LIMIT_PER_ENROLLMENT + "\tteam" + Const.SIZE_LIMIT_PER_ENROLLMENT
                  + "\tname" + Const.SIZE_LIMIT_PER_ENROLLMENT + "\temail" + Const.SIZE_LIMIT_PER_ENROLLMENT
@@ -275,10 +280,75 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
         enrollAction = getAction(submissionParams);
         pageResult = getShowPageResult(enrollAction);
         assertEquals(Const.ViewURIs.INSTRUCTOR_COURSE_ENROLL, pageResult.destination);
+        assertFalse(pageResult.isError);
+        assertEquals(String.format(Const.StatusMessages.COURSE_ENROLL_IN_BACKGROUND,
+                Const.SIZE_LIMIT_PER_ENROLLMENT + 1), pageResult.getStatusMessage());
+        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.STUDENT_ENROLLMENT_QUEUE_NAME, 1);
+
+        enrollPageData = (InstructorCourseEnrollPageData) pageResult.data;
+        assertEquals("", enrollPageData.getEnrollStudents());
+        String enrollmentJobId = enrollPageData.getEnrollmentJobId();
+        TaskWrapper enrollmentTask = enrollAction.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals(enrollmentJobId, enrollmentTask.getParamMap().get(ParamsNames.ENROLLMENT_JOB_ID)[0]);
+
+        EnrollmentJobAttributes enrollmentJob = StudentsLogic.inst().getEnrollmentJob(enrollmentJobId);
+        assertEquals(courseId, enrollmentJob.getCourseId());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT + 1, enrollmentJob.getNumberOfStudents());
+        assertEquals(0, enrollmentJob.getNumberOfStudentsProcessed());
+        assertTrue(enrollmentJob.isInProgress());
+
+        ______TS("Failure case: enrollment in the background failed due to invalid lines");
+
+        enrollStringBuilder.append(System.lineSeparator()).append(studentWithInvalidEmail);
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.STUDENTS_ENROLLMENT_INFO, enrollStringBuilder.toString()
+        };
+        enrollAction = getAction(submissionParams);
+        pageResult = getShowPageResult(enrollAction);
+        assertEquals(Const.ViewURIs.INSTRUCTOR_COURSE_ENROLL, pageResult.destination);
         assertTrue(pageResult.isError);
-        assertEquals(Const.StatusMessages.QUOTA_PER_ENROLLMENT_EXCEED, pageResult.getStatusMessage());
+        AssertHelper.assertContains(SanitizationHelper.sanitizeForHtml(studentWithInvalidEmail),
+                pageResult.getStatusMessage());
         verifyNoTasksAdded(enrollAction);
 
+        enrollPageData = (InstructorCourseEnrollPageData) pageResult.data;
+        assertNull(enrollPageData.getEnrollmentJobId());
+
+        ______TS("Failure case: enrollment too long to be stored on an enrollment job");
+
+        List<String> tooLongEnrollLines = new ArrayList<>();
+        tooLongEnrollLines.add("Section|Team|Name|Email");
+        for (int i = 0; i < Const.LENGTH_LIMIT_PER_ENROLLMENT_JOB / 40; i++) {
+            tooLongEnrollLines.add("Section " + i / 100 + "|Team " + i + "|Name " + i + "|long" + i + "@e.tmt");
+        }
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.STUDENTS_ENROLLMENT_INFO, String.join(System.lineSeparator(), tooLongEnrollLines)
+        };
+        enrollAction = getAction(submissionParams);
+        pageResult = getShowPageResult(enrollAction);
+        assertTrue(pageResult.isError);
+        assertEquals(Const.StatusMessages.QUOTA_PER_ENROLLMENT_JOB_EXCEED, pageResult.getStatusMessage());
+        verifyNoTasksAdded(enrollAction);
+
+        ______TS("Failure case: students of the course are being deleted");
+
+        DeletionJobAttributes deletionJob = DeletionJobsLogic.inst().createStudentsDeletionJob(courseId);
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.STUDENTS_ENROLLMENT_INFO, "Section|Team|Name|Email" + System.lineSeparator()
+                        + "Section 1|Team 1|Name|enrolled.while.deleting@e.tmt"
+        };
+        enrollAction = getAction(submissionParams);
+        pageResult = getShowPageResult(enrollAction);
+        assertTrue(pageResult.isError);
+        assertEquals(Const.StatusMessages.COURSE_ENROLL_STUDENTS_BEING_DELETED, pageResult.getStatusMessage());
+        verifyNoTasksAdded(enrollAction);
+        assertNull(StudentsLogic.inst().getStudentForEmail(courseId, "enrolled.while.deleting@e.tmt"));
+
+        DeletionJobsLogic.inst().failDeletionJob(deletionJob.getId());
+
         ______TS("Failure case: empty input");
 
         enrollString = "";
@@ -4,6 +4,8 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.DeletionJobsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.InstructorCourseStudentDeleteAllAction;
 import teammates.ui.controller.RedirectResult;
@@ -20,10 +22,14 @@ public class InstructorCourseStudentDeleteAllActionTest extends BaseActionTest {
 
     @Override
     @Test
-    public void testExecuteAndPostProcess() {
+    public void testExecuteAndPostProcess() throws Exception {
 
         InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
 
+        // the deletions started by the access control test are never run
+        DeletionJobsDb deletionJobsDb = new DeletionJobsDb();
+        deletionJobsDb.deleteEntities(deletionJobsDb.getDeletionJobsForCourse(instructor1OfCourse1.courseId));
+
         ______TS("success: delete all students");
         gaeSimulation.loginAsInstructor(instructor1OfCourse1.googleId);
 
@@ -37,11 +43,27 @@ public class InstructorCourseStudentDeleteAllActionTest extends BaseActionTest {
         assertEquals(Const.ActionURIs.INSTRUCTOR_COURSE_DETAILS_PAGE, redirectResult.destination);
         assertFalse(redirectResult.isError);
         assertEquals(Const.StatusMessages.STUDENTS_DELETED, redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+
+        assertFalse(StudentsLogic.inst().getStudentsForCourse(instructor1OfCourse1.courseId).isEmpty());
+
+        ______TS("failure: students are already being deleted");
+
+        InstructorCourseStudentDeleteAllAction secondAction = getAction(submissionParams);
+        RedirectResult secondRedirectResult = getRedirectResult(secondAction);
+
+        assertEquals(Const.ActionURIs.INSTRUCTOR_COURSE_DETAILS_PAGE, secondRedirectResult.destination);
+        assertTrue(secondRedirectResult.isError);
+        assertEquals(Const.StatusMessages.DELETION_ALREADY_IN_PROGRESS, secondRedirectResult.getStatusMessage());
+        verifyNoTasksAdded(secondAction);
+
+        runDeletionTasksAdded(action);
+        assertTrue(StudentsLogic.inst().getStudentsForCourse(instructor1OfCourse1.courseId).isEmpty());
 
         AssertHelper.assertLogMessageEquals("TEAMMATESLOG|||instructorCourseStudentDeleteAll|||"
                 + "instructorCourseStudentDeleteAll|||true|||Instructor|||Instructor 1 of Course 1|||"
                 + "idOfInstructor1OfCourse1|||instr1@course1.tmt|||All the Students in Course "
-                + "<span class=\"bold\">[idOfTypicalCourse1]</span> are deleted.|||"
+                + "<span class=\"bold\">[idOfTypicalCourse1]</span> are being deleted.|||"
                 + "/page/instructorCourseStudentDeleteAll", action.getLogMessage());
 
     }
@@ -5,7 +5,6 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
-import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.ui.controller.InstructorFeedbackDeleteAction;
 import teammates.ui.controller.RedirectResult;
@@ -22,7 +21,7 @@ public class InstructorFeedbackDeleteActionTest extends BaseActionTest {
 
     @Override
     @Test
-    public void testExecuteAndPostProcess() {
+    public void testExecuteAndPostProcess() throws Exception {
         FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
         FeedbackSessionAttributes fs = typicalBundle.feedbackSessions.get("session1InCourse1");
 
@@ -39,6 +38,18 @@ public class InstructorFeedbackDeleteActionTest extends BaseActionTest {
         InstructorFeedbackDeleteAction a = getAction(submissionParams);
         RedirectResult r = getRedirectResult(a);
 
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.DELETION_QUEUE_NAME, 1);
+
+        // the session is marked as being deleted until the deletion job has deleted it, keeping its settings
+        FeedbackSessionAttributes sessionBeingDeleted =
+                fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName());
+        assertTrue(sessionBeingDeleted.isBeingDeleted());
+        assertEquals(fs.getStartTime(), sessionBeingDeleted.getStartTime());
+        assertEquals(fs.getEndTime(), sessionBeingDeleted.getEndTime());
+        assertEquals(fs.getResultsVisibleFromTime(), sessionBeingDeleted.getResultsVisibleFromTime());
+        assertEquals(fs.isOpeningEmailEnabled(), sessionBeingDeleted.isOpeningEmailEnabled());
+
+        runDeletionTasksAdded(a);
         assertNull(fsDb.getFeedbackSession(fs.getCourseId(), fs.getFeedbackSessionName()));
         assertEquals(
                 getPageResultDestination(
@@ -71,9 +82,7 @@ public class InstructorFeedbackDeleteActionTest extends BaseActionTest {
         verifyUnaccessibleForInstructorsOfOtherCourses(submissionParams);
         verifyUnaccessibleWithoutModifySessionPrivilege(submissionParams);
         verifyAccessibleForInstructorsOfTheSameCourse(submissionParams);
-
-        //recreate the entity
-        FeedbackSessionsLogic.inst().createFeedbackSession(fs);
+        // the session is only deleted by the deletion job scheduled, which is not run here
         verifyAccessibleForAdminToMasqueradeAsInstructor(submissionParams);
     }
 }
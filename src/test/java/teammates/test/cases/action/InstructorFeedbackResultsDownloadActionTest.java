@@ -1,6 +1,7 @@
 package teammates.test.cases.action;
 
 import java.net.URL;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
@@ -10,6 +11,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.NullPostParameterException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.controller.FileDownloadResult;
@@ -175,6 +177,33 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
         assertEquals(expectedFileName, result.getFileName());
         verifyFileContentForDownloadWithMissingResponsesHidden(result.getFileContent(), session);
 
+        ______TS("Typical case: results exported in background");
+
+        String[] paramsExportInBackground = {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.SECTION_NAME, "Section 1",
+                Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_IN_BACKGROUND, "true"
+        };
+        action = getAction(paramsExportInBackground);
+        r = getRedirectResult(action);
+
+        assertFalse(r.isError);
+        assertTrue(r.getDestinationWithParams().startsWith(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE));
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_QUEUE_NAME, 1);
+
+        TaskWrapper exportTask = action.getTaskQueuer().getTasksAdded().get(0);
+        Map<String, String[]> exportParams = exportTask.getParamMap();
+        assertEquals(session.getCourseId(), exportParams.get(Const.ParamsNames.COURSE_ID)[0]);
+        assertEquals("Section 1", exportParams.get(Const.ParamsNames.SECTION_NAME)[0]);
+        assertEquals("0", exportParams.get(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_PART_INDEX)[0]);
+        int numberOfQuestions = fqLogic.getFeedbackQuestionsForSession(
+                session.getFeedbackSessionName(), session.getCourseId()).size();
+        assertEquals(String.valueOf(numberOfQuestions),
+                     exportParams.get(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS)[0]);
+        String exportId = exportParams.get(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID)[0];
+        assertTrue(r.getStatusMessage().contains(Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID + "=" + exportId));
+
         ______TS("Typical case: results downloadable by question");
 
         final int questionNum2 = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1").getQuestionNumber();
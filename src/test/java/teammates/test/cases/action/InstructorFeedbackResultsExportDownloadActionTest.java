@@ -0,0 +1,125 @@
+package teammates.test.cases.action;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.NullPostParameterException;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.controller.FileDownloadResult;
+import teammates.ui.controller.InstructorFeedbackResultsExportDownloadAction;
+import teammates.ui.controller.RedirectResult;
+
+/**
+ * SUT: {@link InstructorFeedbackResultsExportDownloadAction}.
+ */
+public class InstructorFeedbackResultsExportDownloadActionTest extends BaseActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_EXPORT_DOWNLOAD;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() throws Exception {
+        gaeSimulation.loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").googleId);
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String exportId = UUID.randomUUID().toString();
+
+        String[] params = {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId
+        };
+
+        ______TS("Failure case: params with null export id");
+
+        try {
+            getRedirectResult(getAction(Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                    Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName()));
+            signalFailureToDetectException("Did not detect that parameters are null.");
+        } catch (NullPostParameterException e) {
+            assertEquals(String.format(Const.StatusCodes.NULL_POST_PARAMETER,
+                                       Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID),
+                         e.getMessage());
+        }
+
+        ______TS("Typical case: export not ready yet");
+
+        InstructorFeedbackResultsExportDownloadAction action = getAction(params);
+        RedirectResult redirectResult = getRedirectResult(action);
+
+        assertFalse(redirectResult.isError);
+        assertTrue(redirectResult.getDestinationWithParams()
+                .startsWith(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE));
+        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_NOT_READY,
+                     redirectResult.getStatusMessage());
+
+        ______TS("Failure case: export failed");
+
+        String failureFileName = fsLogic.getFeedbackSessionResultsExportFailureFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId);
+        action = getAction(params);
+        action.getFileStorage().writeFile(failureFileName, new byte[0], "text/csv");
+        redirectResult = getRedirectResult(action);
+
+        assertTrue(redirectResult.isError);
+        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_FAILED,
+                     redirectResult.getStatusMessage());
+
+        action.getFileStorage().deleteFile(failureFileName);
+
+        ______TS("Typical case: exported file downloadable");
+
+        String exportFileName = fsLogic.getFeedbackSessionResultsExportFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId);
+        String exportedContent = "Course,\"" + session.getCourseId() + "\"" + System.lineSeparator() + "\u00e9";
+        action = getAction(params);
+        action.getFileStorage().writeFile(exportFileName, exportedContent.getBytes(StandardCharsets.UTF_8), "text/csv");
+
+        FileDownloadResult result = getFileDownloadResult(action);
+
+        assertFalse(result.isError);
+        assertEquals(session.getCourseId() + "_" + session.getFeedbackSessionName(), result.getFileName());
+        assertEquals(exportedContent, result.getFileContent());
+
+        ______TS("Failure case: export of another session is not downloadable");
+
+        FeedbackSessionAttributes otherSession = typicalBundle.feedbackSessions.get("session2InCourse1");
+        action = getAction(Const.ParamsNames.COURSE_ID, otherSession.getCourseId(),
+                           Const.ParamsNames.FEEDBACK_SESSION_NAME, otherSession.getFeedbackSessionName(),
+                           Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId);
+        redirectResult = getRedirectResult(action);
+
+        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_RESULTS_EXPORT_NOT_READY,
+                     redirectResult.getStatusMessage());
+
+        action.getFileStorage().deleteFile(exportFileName);
+    }
+
+    @Override
+    protected InstructorFeedbackResultsExportDownloadAction getAction(String... params) {
+        return (InstructorFeedbackResultsExportDownloadAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, UUID.randomUUID().toString()
+        };
+
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+    }
+
+}
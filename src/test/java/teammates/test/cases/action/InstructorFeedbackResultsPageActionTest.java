@@ -128,6 +128,8 @@ public class InstructorFeedbackResultsPageActionTest extends BaseActionTest {
                 result.getDestinationWithParams());
         assertEquals("", result.getStatusMessage());
         assertFalse(result.isError);
+        // the same instructor and session are read many times while building the results
+        assertTrue(action.getNumberOfDuplicateReadsRemoved() > 0);
 
         ______TS("Typical case: sortType question");
 
@@ -27,6 +27,7 @@ import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponsesDb;
 import teammates.storage.api.FeedbackSessionsDb;
+import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.RedirectResult;
 import teammates.ui.controller.StudentFeedbackSubmissionEditSaveAction;
 
@@ -1158,6 +1159,68 @@ public class StudentFeedbackSubmissionEditSaveActionTest extends BaseActionTest
         assertEquals(answersBeforeEdit, answersAfterEdit);
     }
 
+    @Test
+    public void testExecuteAndPostProcess_existingResponseModifiedToClashWithOtherResponse_otherResponsesSaved()
+            throws Exception {
+        removeAndRestoreTypicalDataBundle();
+
+        FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+        FeedbackResponseAttributes fr1 = typicalBundle.feedbackResponses.get("response1ForQ1S1C1");
+        FeedbackResponseAttributes fr2 = typicalBundle.feedbackResponses.get("response2ForQ2S1C1");
+        FeedbackQuestionAttributes fq1 = typicalBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestionAttributes fq2 = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+        fq1 = new FeedbackQuestionsDb().getFeedbackQuestion(
+                fq1.feedbackSessionName, fq1.courseId, fq1.questionNumber);
+        fq2 = new FeedbackQuestionsDb().getFeedbackQuestion(
+                fq2.feedbackSessionName, fq2.courseId, fq2.questionNumber);
+        // necessary to get the correct responseIds
+        fr1 = frDb.getFeedbackResponse(fq1.getId(), fr1.giver, fr1.recipient);
+        fr2 = frDb.getFeedbackResponse(fq2.getId(), fr2.giver, fr2.recipient);
+
+        // another response by the same giver, which the edited recipient of fr2 clashes with
+        String clashingRecipient = typicalBundle.students.get("student3InCourse1").email;
+        FeedbackResponseAttributes clashingResponse = new FeedbackResponseAttributes(fr2);
+        clashingResponse.setId(null);
+        clashingResponse.recipient = clashingRecipient;
+        frDb.createEntity(clashingResponse);
+
+        gaeSimulation.loginAsStudent(typicalBundle.students.get("student1InCourse1").googleId);
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, fr1.feedbackSessionName,
+                Const.ParamsNames.COURSE_ID, fr1.courseId,
+
+                Const.ParamsNames.FEEDBACK_QUESTION_RESPONSETOTAL + "-1", "1",
+                Const.ParamsNames.FEEDBACK_RESPONSE_ID + "-1-0", fr1.getId(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID + "-1", fr1.feedbackQuestionId,
+                Const.ParamsNames.FEEDBACK_RESPONSE_RECIPIENT + "-1-0", fr1.recipient,
+                Const.ParamsNames.FEEDBACK_QUESTION_TYPE + "-1", fr1.feedbackQuestionType.toString(),
+                Const.ParamsNames.FEEDBACK_RESPONSE_TEXT + "-1-0", "Edited answer",
+
+                Const.ParamsNames.FEEDBACK_QUESTION_RESPONSETOTAL + "-2", "1",
+                Const.ParamsNames.FEEDBACK_RESPONSE_ID + "-2-0", fr2.getId(),
+                Const.ParamsNames.FEEDBACK_QUESTION_ID + "-2", fr2.feedbackQuestionId,
+                Const.ParamsNames.FEEDBACK_RESPONSE_RECIPIENT + "-2-0", clashingRecipient,
+                Const.ParamsNames.FEEDBACK_QUESTION_TYPE + "-2", fr2.feedbackQuestionType.toString(),
+                Const.ParamsNames.FEEDBACK_RESPONSE_TEXT + "-2-0", "Clashing answer"
+        };
+
+        StudentFeedbackSubmissionEditSaveAction a = getAction(submissionParams);
+        RedirectResult r = getRedirectResult(a);
+
+        assertTrue(r.isError);
+        AssertHelper.assertContains("Trying to update an existing response to one that already exists",
+                r.getStatusMessage());
+
+        // the response which does not clash is still updated
+        assertEquals("Edited answer", frDb.getFeedbackResponse(fr1.getId()).getResponseDetails().getAnswerString());
+        // the clashing response is left as it is
+        assertEquals(fr2.getResponseDetails().getAnswerString(),
+                frDb.getFeedbackResponse(fr2.getId()).getResponseDetails().getAnswerString());
+
+        removeAndRestoreTypicalDataBundle();
+    }
+
     @Test
     public void testGracePeriodExecuteAndPostProcess() throws Exception {
         FeedbackSessionsDb feedbackSessionDb = new FeedbackSessionsDb();
@@ -0,0 +1,37 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+import teammates.ui.automated.CourseStatisticsRepairAction;
+
+/**
+ * SUT: {@link CourseStatisticsRepairAction}.
+ */
+public class CourseStatisticsRepairActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_COURSE_STATISTICS_REPAIR;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: the repair of the first page of courses is scheduled");
+
+        CourseStatisticsRepairAction action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_STATISTICS_REPAIR_QUEUE_NAME, 1);
+        TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+        assertNull(task.getParamMap().get(Const.ParamsNames.COURSE_STATISTICS_REPAIR_CURSOR));
+    }
+
+    @Override
+    protected CourseStatisticsRepairAction getAction(String... params) {
+        return (CourseStatisticsRepairAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
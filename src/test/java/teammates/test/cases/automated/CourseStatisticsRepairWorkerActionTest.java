@@ -0,0 +1,77 @@
+package teammates.test.cases.automated;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.CourseStatisticsDb;
+import teammates.ui.automated.CourseStatisticsRepairWorkerAction;
+
+/**
+ * SUT: {@link CourseStatisticsRepairWorkerAction}.
+ */
+public class CourseStatisticsRepairWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_STATISTICS_REPAIR_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        int numberOfStudents = studentsLogic.getStudentsForCourse(course.getId()).size();
+        assertTrue(numberOfStudents > 0);
+
+        ______TS("typical case: statistics which have drifted from the students are recomputed page by page");
+
+        studentsLogic.getCourseStats(course.getId());
+        courseStatisticsDb.replaceCourseStatistics(new CourseStatisticsAttributes(course.getId(), Collections.emptyList()),
+                courseStatisticsDb.getCourseStatistics(course.getId()).getUpdatedAt());
+        assertEquals(0, studentsLogic.getCourseStats(course.getId()).studentsTotal);
+
+        CourseStatisticsRepairWorkerAction action = getAction();
+        action.execute();
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        while (!tasksAdded.isEmpty()) {
+            assertEquals(1, tasksAdded.size());
+            TaskWrapper task = tasksAdded.get(0);
+            assertEquals(Const.TaskQueue.COURSE_STATISTICS_REPAIR_QUEUE_NAME, task.getQueueName());
+
+            action = getAction(ParamsNames.COURSE_STATISTICS_REPAIR_CURSOR,
+                    task.getParamMap().get(ParamsNames.COURSE_STATISTICS_REPAIR_CURSOR)[0]);
+            action.execute();
+            tasksAdded = action.getTaskQueuer().getTasksAdded();
+        }
+
+        for (CourseAttributes courseInBundle : dataBundle.courses.values()) {
+            CourseStatisticsAttributes statistics = courseStatisticsDb.getCourseStatistics(courseInBundle.getId());
+            assertNotNull(statistics);
+            CourseStats expectedStats = studentsLogic.getCourseStructure(courseInBundle.getId()).getStats();
+            assertEquals(expectedStats.studentsTotal, statistics.toCourseStats().studentsTotal);
+            assertEquals(expectedStats.unregisteredTotal, statistics.toCourseStats().unregisteredTotal);
+            assertEquals(expectedStats.teamsTotal, statistics.toCourseStats().teamsTotal);
+            assertEquals(expectedStats.sectionsTotal, statistics.toCourseStats().sectionsTotal);
+        }
+        assertEquals(numberOfStudents, studentsLogic.getCourseStats(course.getId()).studentsTotal);
+    }
+
+    @Override
+    protected CourseStatisticsRepairWorkerAction getAction(String... params) {
+        return (CourseStatisticsRepairWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,176 @@
+package teammates.test.cases.automated;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DeletionJobScope;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.DeletionJobsLogic;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.CourseStatisticsDb;
+import teammates.ui.automated.DeletionWorkerAction;
+
+/**
+ * SUT: {@link DeletionWorkerAction}.
+ */
+public class DeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionAttributes session2 = dataBundle.feedbackSessions.get("session2InCourse1");
+        String courseId = session1.getCourseId();
+
+        ______TS("typical case: feedback session is deleted stage by stage");
+
+        assertFalse(frLogic.getFeedbackResponsesForSession(session1.getFeedbackSessionName(), courseId).isEmpty());
+        assertFalse(frcLogic.getFeedbackResponseCommentForSession(courseId, session1.getFeedbackSessionName())
+                .isEmpty());
+        int numberOfSessions = fsLogic.getFeedbackSessionsForCourse(courseId).size();
+
+        DeletionJobAttributes job =
+                deletionJobsLogic.createFeedbackSessionDeletionJob(session1.getFeedbackSessionName(), courseId);
+        int numberOfTasks = runDeletionJob(job.getId());
+
+        assertEquals(DeletionJobScope.FEEDBACK_SESSION.getStages().size(), numberOfTasks);
+        job = deletionJobsLogic.getDeletionJob(job.getId());
+        assertFalse(job.isInProgress());
+        assertTrue(job.getNumberOfEntitiesDeleted() > 0);
+        assertNull(fsLogic.getFeedbackSession(session1.getFeedbackSessionName(), courseId));
+        assertTrue(frLogic.getFeedbackResponsesForSession(session1.getFeedbackSessionName(), courseId).isEmpty());
+        assertTrue(frcLogic.getFeedbackResponseCommentForSession(courseId, session1.getFeedbackSessionName())
+                .isEmpty());
+        assertEquals(numberOfSessions - 1, fsLogic.getFeedbackSessionsForCourse(courseId).size());
+        assertFalse(fqLogic.getFeedbackQuestionsForSession(session2.getFeedbackSessionName(), courseId).isEmpty());
+
+        ______TS("failed job: feedback session being deleted is given back unchanged");
+
+        job = deletionJobsLogic.createFeedbackSessionDeletionJob(session2.getFeedbackSessionName(), courseId);
+        FeedbackSessionAttributes sessionBeingDeleted =
+                fsLogic.getFeedbackSession(session2.getFeedbackSessionName(), courseId);
+        assertTrue(sessionBeingDeleted.isBeingDeleted());
+        assertFalse(fsLogic.isFeedbackSessionViewableToStudents(sessionBeingDeleted));
+        try {
+            fsLogic.updateFeedbackSession(sessionBeingDeleted);
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            assertEquals(Const.StatusMessages.FEEDBACK_SESSION_BEING_DELETED, e.getMessage());
+        }
+
+        deletionJobsLogic.failDeletionJob(job.getId());
+
+        FeedbackSessionAttributes sessionGivenBack = fsLogic.getFeedbackSession(session2.getFeedbackSessionName(), courseId);
+        assertFalse(sessionGivenBack.isBeingDeleted());
+        assertEquals(session2.getStartTime(), sessionGivenBack.getStartTime());
+        assertEquals(session2.getResultsVisibleFromTime(), sessionGivenBack.getResultsVisibleFromTime());
+
+        ______TS("typical case: students are deleted together with the responses given by or to them");
+
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        assertFalse(students.isEmpty());
+        // a student taken out of the statistics twice, as by a retried page, is not left as drift
+        studentsLogic.getCourseStats(courseId);
+        courseStatisticsDb.updateCourseStatistics(
+                courseId, Collections.singletonList(students.get(0)), Collections.emptyList());
+
+        job = deletionJobsLogic.createStudentsDeletionJob(courseId);
+        runDeletionJob(job.getId());
+
+        assertFalse(deletionJobsLogic.getDeletionJob(job.getId()).isInProgress());
+        assertTrue(studentsLogic.getStudentsForCourse(courseId).isEmpty());
+        assertEquals(0, studentsLogic.getCourseStats(courseId).studentsTotal);
+        assertTrue(fsLogic.getFeedbackSessionWithRespondents(session2.getFeedbackSessionName(), courseId)
+                .getRespondingStudentList().isEmpty());
+        for (String studentEmail : new String[] {"student1InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt"}) {
+            assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(courseId, studentEmail).isEmpty());
+            assertTrue(frLogic.getFeedbackResponsesForReceiverForCourse(courseId, studentEmail).isEmpty());
+        }
+        assertNotNull(coursesLogic.getCourse(courseId));
+        assertFalse(instructorsLogic.getInstructorsForCourse(courseId).isEmpty());
+
+        ______TS("typical case: course is deleted last, after everything in it");
+
+        job = deletionJobsLogic.createCourseDeletionJob(courseId);
+        numberOfTasks = runDeletionJob(job.getId());
+
+        assertEquals(DeletionJobScope.COURSE.getStages().size(), numberOfTasks);
+        assertFalse(deletionJobsLogic.getDeletionJob(job.getId()).isInProgress());
+        assertNull(coursesLogic.getCourse(courseId));
+        assertTrue(fsLogic.getFeedbackSessionsForCourse(courseId).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesForSession(session2.getFeedbackSessionName(), courseId).isEmpty());
+        assertTrue(instructorsLogic.getInstructorsForCourse(courseId).isEmpty());
+
+        ______TS("job already completed: nothing is deleted and no task is added");
+
+        DeletionWorkerAction action = getAction(ParamsNames.DELETION_JOB_ID, job.getId());
+        action.execute();
+        verifyNoTasksAdded(action);
+
+        ______TS("job which no longer exists: no task is added");
+
+        action = getAction(ParamsNames.DELETION_JOB_ID, "non-existent-job");
+        action.execute();
+        verifyNoTasksAdded(action);
+    }
+
+    /**
+     * Runs the deletion job to completion, one task at a time.
+     *
+     * @return the number of tasks run
+     */
+    private int runDeletionJob(String deletionJobId) {
+        int numberOfTasks = 0;
+        DeletionWorkerAction action = getAction(ParamsNames.DELETION_JOB_ID, deletionJobId);
+        action.execute();
+        numberOfTasks++;
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        while (!tasksAdded.isEmpty()) {
+            assertEquals(1, tasksAdded.size());
+            TaskWrapper task = tasksAdded.get(0);
+            assertEquals(Const.TaskQueue.DELETION_QUEUE_NAME, task.getQueueName());
+            assertEquals(deletionJobId, task.getParamMap().get(ParamsNames.DELETION_JOB_ID)[0]);
+
+            action = getAction(ParamsNames.DELETION_JOB_ID, deletionJobId);
+            action.execute();
+            numberOfTasks++;
+            tasksAdded = action.getTaskQueuer().getTasksAdded();
+        }
+        return numberOfTasks;
+    }
+
+    @Override
+    protected DeletionWorkerAction getAction(String... params) {
+        return (DeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
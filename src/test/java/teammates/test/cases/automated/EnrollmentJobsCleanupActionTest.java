@@ -0,0 +1,46 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.EnrollmentJobsCleanupAction;
+
+/**
+ * SUT: {@link EnrollmentJobsCleanupAction}.
+ */
+public class EnrollmentJobsCleanupActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_ENROLLMENT_JOBS_CLEANUP;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+
+        ______TS("recently updated jobs are kept");
+
+        EnrollmentJobAttributes job = studentsLogic.createEnrollmentJob("Section|Team|Name|Email"
+                + System.lineSeparator() + "Section 1|Team Cleanup|Name Cleanup|cleanup@enrollcleanup.tmt", courseId);
+
+        EnrollmentJobsCleanupAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNotNull(studentsLogic.getEnrollmentJob(job.getId()));
+
+        // jobs which have not been updated for a day are deleted, which is verified in EnrollmentJobsDbTest
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
+    }
+
+    @Override
+    protected EnrollmentJobsCleanupAction getAction(String... params) {
+        return (EnrollmentJobsCleanupAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.test.cases.automated;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -15,8 +16,10 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.automated.FeedbackResponseAdjustmentWorkerAction;
 
@@ -26,6 +29,7 @@ import teammates.ui.automated.FeedbackResponseAdjustmentWorkerAction;
 public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedActionTest {
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
@@ -72,10 +76,88 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         FeedbackResponseAdjustmentWorkerAction action = getAction(submissionParams);
         action.execute();
 
+        // the adjustment of the session is sharded into one task per question
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), student.course);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, questions.size());
+
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            Map<String, String[]> paramMap = task.getParamMap();
+            assertEquals(student.course, paramMap.get(ParamsNames.COURSE_ID)[0]);
+            assertEquals(session.getFeedbackSessionName(), paramMap.get(ParamsNames.FEEDBACK_SESSION_NAME)[0]);
+
+            FeedbackResponseAdjustmentWorkerAction questionAction = getAction(toSubmissionParams(paramMap));
+            questionAction.execute();
+            verifyNoTasksAdded(questionAction);
+        }
+
         List<FeedbackResponseAttributes> newResponsesForSession =
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
 
+        ______TS("typical case : adjustment for all sessions in the course");
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        int numberOfQuestionsInCourse = 0;
+        for (FeedbackSessionAttributes sessionInCourse : fsLogic.getFeedbackSessionsForCourse(student.course)) {
+            numberOfQuestionsInCourse += fqLogic.getFeedbackQuestionsForSession(
+                    sessionInCourse.getFeedbackSessionName(), student.course).size();
+        }
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
+                numberOfQuestionsInCourse);
+
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            Map<String, String[]> paramMap = task.getParamMap();
+            assertEquals(student.course, paramMap.get(ParamsNames.COURSE_ID)[0]);
+            assertNotNull(paramMap.get(ParamsNames.FEEDBACK_SESSION_NAME));
+            assertNotNull(paramMap.get(ParamsNames.FEEDBACK_QUESTION_ID));
+        }
+
+        ______TS("no modified students: nothing to adjust");
+
+        enrollList.clear();
+        enrollList.add(new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, student.course, student.email,
+                                                null, newTeam, null, newSection));
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        ______TS("question deleted before adjustment: nothing to adjust");
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.FEEDBACK_QUESTION_ID, "non-existent question",
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    private static String[] toSubmissionParams(Map<String, String[]> paramMap) {
+        List<String> params = new ArrayList<>();
+        for (Map.Entry<String, String[]> param : paramMap.entrySet()) {
+            params.add(param.getKey());
+            params.add(param.getValue()[0]);
+        }
+        return params.toArray(new String[0]);
     }
 
     @Override
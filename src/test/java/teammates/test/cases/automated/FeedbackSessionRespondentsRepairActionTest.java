@@ -0,0 +1,70 @@
+package teammates.test.cases.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionRespondentsRepairAction;
+
+/**
+ * SUT: {@link FeedbackSessionRespondentsRepairAction}.
+ */
+public class FeedbackSessionRespondentsRepairActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_FEEDBACK_SESSION_RESPONDENTS_REPAIR;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("typical case: the repair of a session closed in the past day is scheduled");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        session.setStartTime(Instant.now().minus(Duration.ofDays(30)));
+        session.setEndTime(Instant.now().minus(Duration.ofHours(1)));
+        fsLogic.updateFeedbackSession(session);
+
+        FeedbackSessionRespondentsRepairAction action = getAction();
+        action.execute();
+
+        boolean isRepairScheduled = false;
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            assertEquals(Const.TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_QUEUE_NAME, task.getQueueName());
+            assertNull(task.getParamMap().get(ParamsNames.RESPONDENTS_REPAIR_CURSOR));
+            isRepairScheduled |= session.getCourseId().equals(task.getParamMap().get(ParamsNames.COURSE_ID)[0])
+                    && session.getFeedbackSessionName()
+                            .equals(task.getParamMap().get(ParamsNames.FEEDBACK_SESSION_NAME)[0]);
+        }
+        assertTrue(isRepairScheduled);
+
+        ______TS("typical case: the repair of a session neither opened nor closed in the past day is not scheduled");
+
+        session.setEndTime(Instant.now().plus(Duration.ofDays(30)));
+        fsLogic.updateFeedbackSession(session);
+
+        action = getAction();
+        action.execute();
+
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            assertFalse(session.getCourseId().equals(task.getParamMap().get(ParamsNames.COURSE_ID)[0])
+                    && session.getFeedbackSessionName()
+                            .equals(task.getParamMap().get(ParamsNames.FEEDBACK_SESSION_NAME)[0]));
+        }
+    }
+
+    @Override
+    protected FeedbackSessionRespondentsRepairAction getAction(String... params) {
+        return (FeedbackSessionRespondentsRepairAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
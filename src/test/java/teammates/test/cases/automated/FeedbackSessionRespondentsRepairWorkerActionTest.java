@@ -0,0 +1,134 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.ui.automated.FeedbackSessionRespondentsRepairWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionRespondentsRepairWorkerAction}.
+ */
+public class FeedbackSessionRespondentsRepairWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        FeedbackSessionAttributes sessionBeforeRepair = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        Set<String> expectedStudents = sessionBeforeRepair.getRespondingStudentList();
+        Set<String> expectedInstructors = sessionBeforeRepair.getRespondingInstructorList();
+        assertFalse(expectedStudents.isEmpty());
+        assertFalse(expectedInstructors.isEmpty());
+
+        ______TS("typical case: respondents which have drifted from the responses are rebuilt");
+
+        fsLogic.clearStudentRespondents(sessionName, courseId);
+        fsLogic.addStudentRespondents(Arrays.asList("not.a.respondent@course1.tmt"), sessionName, courseId);
+
+        FeedbackSessionRespondentsRepairWorkerAction action = getAction(getSubmissionParams(session, null));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        FeedbackSessionAttributes sessionAfterRepair = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        assertEquals(expectedStudents, sessionAfterRepair.getRespondingStudentList());
+        assertEquals(expectedInstructors, sessionAfterRepair.getRespondingInstructorList());
+
+        ______TS("typical case: session with more than one page of responses is repaired page by page");
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Set<String> syntheticGivers = new HashSet<>();
+        for (int i = 0; i < Const.RESPONSE_STREAMING_PAGE_SIZE; i++) {
+            String giver = "synthetic.student" + i + "@course1.tmt";
+            syntheticGivers.add(giver);
+            responses.add(new FeedbackResponseAttributes(sessionName, courseId, question.getId(),
+                    question.questionType, giver, Const.DEFAULT_SECTION, giver, Const.DEFAULT_SECTION,
+                    new Text("Synthetic answer " + i)));
+        }
+        frDb.createEntitiesWithoutExistenceCheck(responses);
+
+        action = getAction(getSubmissionParams(session, null));
+        action.execute();
+        int numberOfTasksRun = 1;
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        while (!tasksAdded.isEmpty()) {
+            assertEquals(1, tasksAdded.size());
+            TaskWrapper task = tasksAdded.get(0);
+            assertEquals(Const.TaskQueue.FEEDBACK_SESSION_RESPONDENTS_REPAIR_QUEUE_NAME, task.getQueueName());
+
+            action = getAction(getSubmissionParams(session,
+                    task.getParamMap().get(ParamsNames.RESPONDENTS_REPAIR_CURSOR)[0]));
+            action.execute();
+            numberOfTasksRun++;
+            tasksAdded = action.getTaskQueuer().getTasksAdded();
+        }
+
+        assertEquals(2, numberOfTasksRun);
+        Set<String> expectedStudentsWithSyntheticGivers = new HashSet<>(expectedStudents);
+        expectedStudentsWithSyntheticGivers.addAll(syntheticGivers);
+        sessionAfterRepair = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        assertEquals(expectedStudentsWithSyntheticGivers, sessionAfterRepair.getRespondingStudentList());
+        assertEquals(expectedInstructors, sessionAfterRepair.getRespondingInstructorList());
+
+        frDb.deleteEntities(responses);
+
+        ______TS("failure case: session deleted before repair");
+
+        FeedbackSessionAttributes deletedSession = session.getCopy();
+        deletedSession.setFeedbackSessionName("Non-existent session");
+
+        action = getAction(getSubmissionParams(deletedSession, null));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    private String[] getSubmissionParams(FeedbackSessionAttributes session, String cursor) {
+        if (cursor == null) {
+            return new String[] {
+                    ParamsNames.COURSE_ID, session.getCourseId(),
+                    ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName()
+            };
+        }
+        return new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.RESPONDENTS_REPAIR_CURSOR, cursor
+        };
+    }
+
+    @Override
+    protected FeedbackSessionRespondentsRepairWorkerAction getAction(String... params) {
+        return (FeedbackSessionRespondentsRepairWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
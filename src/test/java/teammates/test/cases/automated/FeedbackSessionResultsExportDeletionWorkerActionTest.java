@@ -0,0 +1,79 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.ui.automated.FeedbackSessionResultsExportDeletionWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionResultsExportDeletionWorkerAction}.
+ */
+public class FeedbackSessionResultsExportDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private static final int NUMBER_OF_PARTS = 3;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String exportId = UUID.randomUUID().toString();
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId,
+                ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS, String.valueOf(NUMBER_OF_PARTS)
+        };
+
+        ______TS("typical case: exported file, failure marker and left-over parts deleted");
+
+        List<String> fileNames = new ArrayList<>();
+        fileNames.add(fsLogic.getFeedbackSessionResultsExportFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId));
+        fileNames.add(fsLogic.getFeedbackSessionResultsExportFailureFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId));
+        for (int i = 0; i < NUMBER_OF_PARTS; i++) {
+            fileNames.add(fsLogic.getFeedbackSessionResultsExportPartFileName(
+                    session.getFeedbackSessionName(), session.getCourseId(), exportId, i));
+        }
+
+        FeedbackSessionResultsExportDeletionWorkerAction action = getAction(submissionParams);
+        for (String fileName : fileNames) {
+            action.getFileStorage().writeFile(fileName, new byte[0], "text/csv");
+        }
+
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        for (String fileName : fileNames) {
+            assertFalse(action.getFileStorage().doesFileExist(fileName));
+        }
+
+        ______TS("typical case: deleting an export again does nothing");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    @Override
+    protected FeedbackSessionResultsExportDeletionWorkerAction getAction(String... params) {
+        return (FeedbackSessionResultsExportDeletionWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,253 @@
+package teammates.test.cases.automated;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.Text;
+import com.google.common.io.ByteStreams;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.ui.automated.FeedbackSessionResultsExportWorkerAction;
+
+/**
+ * SUT: {@link FeedbackSessionResultsExportWorkerAction}.
+ */
+public class FeedbackSessionResultsExportWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
+
+    private static final int NUMBER_OF_SYNTHETIC_QUESTIONS = 10;
+    private static final int NUMBER_OF_SYNTHETIC_RESPONSES_PER_QUESTION = 10000;
+    private static final int SYNTHETIC_RESPONSES_BATCH_SIZE = 500;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("typical case: results exported part by part");
+
+        String exportId = UUID.randomUUID().toString();
+        String exportFileName = runExport(session, instructor, exportId);
+
+        String expectedExport = getExpectedExport(session, instructor);
+        assertEquals(expectedExport, readFile(exportFileName));
+        int numberOfParts = fqLogic.getFeedbackQuestionsForSession(
+                session.getFeedbackSessionName(), session.getCourseId()).size();
+        verifyPartFilesKept(exportFileName, numberOfParts);
+
+        ______TS("typical case: last part retried after the parts were joined");
+
+        getAction().getFileStorage().writeFile(exportFileName + ".part0",
+                "Changed part".getBytes(StandardCharsets.UTF_8), "text/csv");
+
+        FeedbackSessionResultsExportWorkerAction lastPartAction =
+                getAction(getSubmissionParams(session, instructor, exportId, numberOfParts - 1, numberOfParts));
+        lastPartAction.execute();
+
+        verifyDeletionScheduled(lastPartAction.getTaskQueuer().getTasksAdded());
+        assertEquals(expectedExport, readFile(exportFileName));
+        assertFalse(lastPartAction.getFileStorage().doesFileExist(fsLogic.getFeedbackSessionResultsExportFailureFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId)));
+
+        deleteExportFiles(exportFileName, numberOfParts);
+
+        ______TS("failure case: session deleted before export");
+
+        FeedbackSessionAttributes deletedSession = session.getCopy();
+        deletedSession.setFeedbackSessionName("Non-existent session");
+
+        FeedbackSessionResultsExportWorkerAction action =
+                getAction(getSubmissionParams(deletedSession, instructor, exportId, 0, 1));
+        action.execute();
+
+        verifyDeletionScheduled(action.getTaskQueuer().getTasksAdded());
+        assertFalse(action.getFileStorage().doesFileExist(
+                fsLogic.getFeedbackSessionResultsExportFileName(
+                        deletedSession.getFeedbackSessionName(), deletedSession.getCourseId(), exportId)));
+        String failureFileName = fsLogic.getFeedbackSessionResultsExportFailureFileName(
+                deletedSession.getFeedbackSessionName(), deletedSession.getCourseId(), exportId);
+        assertTrue(action.getFileStorage().doesFileExist(failureFileName));
+
+        action.getFileStorage().deleteFile(failureFileName);
+
+        ______TS("typical case: session with 100,000 responses exported without loading all responses at once");
+
+        FeedbackSessionAttributes largeSession = createSyntheticSession(session,
+                dataBundle.feedbackQuestions.get("qn1InSession1InCourse1"));
+
+        exportId = UUID.randomUUID().toString();
+        exportFileName = runExport(largeSession, instructor, exportId);
+
+        String exportedContent = readFile(exportFileName);
+        assertEquals(getExpectedExport(largeSession, instructor), exportedContent);
+        int sampleInterval = NUMBER_OF_SYNTHETIC_RESPONSES_PER_QUESTION / 10;
+        for (int i = 0; i < NUMBER_OF_SYNTHETIC_RESPONSES_PER_QUESTION; i += sampleInterval) {
+            assertTrue(exportedContent.contains(getSyntheticResponse(NUMBER_OF_SYNTHETIC_QUESTIONS, i)));
+        }
+        verifyPartFilesKept(exportFileName, NUMBER_OF_SYNTHETIC_QUESTIONS);
+
+        deleteExportFiles(exportFileName, NUMBER_OF_SYNTHETIC_QUESTIONS);
+        // deleting the responses in bulk first, as the cascade deletes them one at a time
+        frDb.deleteFeedbackResponsesForCourse(largeSession.getCourseId());
+        fsLogic.deleteFeedbackSessionCascade(largeSession.getFeedbackSessionName(), largeSession.getCourseId());
+    }
+
+    /**
+     * Runs the chain of export tasks to completion, starting from the first part,
+     * and verifies that the deletion of the export is scheduled at the end.
+     *
+     * @return the name of the exported file
+     */
+    private String runExport(FeedbackSessionAttributes session, InstructorAttributes instructor, String exportId)
+            throws Exception {
+        int numberOfParts = fsLogic.getFeedbackSessionResultsSummaryNumberOfParts(
+                session.getFeedbackSessionName(), session.getCourseId());
+        FeedbackSessionResultsExportWorkerAction action =
+                getAction(getSubmissionParams(session, instructor, exportId, 0, numberOfParts));
+        action.execute();
+        int numberOfTasksRun = 1;
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        while (numberOfTasksRun < numberOfParts) {
+            assertEquals(1, tasksAdded.size());
+            TaskWrapper task = tasksAdded.get(0);
+            assertEquals(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_WORKER_URL, task.getWorkerUrl());
+            assertEquals(String.valueOf(numberOfTasksRun),
+                         task.getParamMap().get(ParamsNames.FEEDBACK_RESULTS_EXPORT_PART_INDEX)[0]);
+
+            action = getAction(toParams(task.getParamMap()));
+            action.execute();
+            numberOfTasksRun++;
+            tasksAdded = action.getTaskQueuer().getTasksAdded();
+        }
+        verifyDeletionScheduled(tasksAdded);
+
+        return fsLogic.getFeedbackSessionResultsExportFileName(
+                session.getFeedbackSessionName(), session.getCourseId(), exportId);
+    }
+
+    private void verifyDeletionScheduled(List<TaskWrapper> tasksAdded) {
+        assertEquals(1, tasksAdded.size());
+        assertEquals(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_QUEUE_NAME, tasksAdded.get(0).getQueueName());
+        assertEquals(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_EXPORT_DELETION_WORKER_URL,
+                     tasksAdded.get(0).getWorkerUrl());
+    }
+
+    private String getExpectedExport(FeedbackSessionAttributes session, InstructorAttributes instructor)
+            throws Exception {
+        StringWriter expected = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, false, true, expected);
+        return expected.toString();
+    }
+
+    private String readFile(String fileName) throws IOException {
+        try (InputStream content = getAction().getFileStorage().openFile(fileName)) {
+            return new String(ByteStreams.toByteArray(content), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void verifyPartFilesKept(String exportFileName, int numberOfParts) throws IOException {
+        for (int i = 0; i < numberOfParts; i++) {
+            assertTrue(getAction().getFileStorage().doesFileExist(exportFileName + ".part" + i));
+        }
+    }
+
+    private void deleteExportFiles(String exportFileName, int numberOfParts) throws IOException {
+        getAction().getFileStorage().deleteFile(exportFileName);
+        for (int i = 0; i < numberOfParts; i++) {
+            getAction().getFileStorage().deleteFile(exportFileName + ".part" + i);
+        }
+    }
+
+    private FeedbackSessionAttributes createSyntheticSession(FeedbackSessionAttributes template,
+            FeedbackQuestionAttributes questionTemplate) throws Exception {
+        FeedbackSessionAttributes session = template.getCopy();
+        session.setFeedbackSessionName("Session with many responses");
+        fsLogic.createFeedbackSession(session);
+
+        for (int questionNumber = 1; questionNumber <= NUMBER_OF_SYNTHETIC_QUESTIONS; questionNumber++) {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(
+                    questionTemplate.feedbackSessionName, questionTemplate.courseId, questionTemplate.questionNumber);
+            question.setId(null);
+            question.feedbackSessionName = session.getFeedbackSessionName();
+            fqLogic.createFeedbackQuestionNoIntegrityCheck(question, questionNumber);
+            String questionId = fqLogic.getFeedbackQuestion(
+                    session.getFeedbackSessionName(), session.getCourseId(), questionNumber).getId();
+
+            List<FeedbackResponseAttributes> responses = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_SYNTHETIC_RESPONSES_PER_QUESTION; i++) {
+                String giver = "synthetic.student" + i + "@course1.tmt";
+                responses.add(new FeedbackResponseAttributes(session.getFeedbackSessionName(), session.getCourseId(),
+                        questionId, question.questionType, giver, Const.DEFAULT_SECTION, giver, Const.DEFAULT_SECTION,
+                        new Text(getSyntheticResponse(questionNumber, i))));
+                if (responses.size() == SYNTHETIC_RESPONSES_BATCH_SIZE) {
+                    frDb.createEntitiesWithoutExistenceCheck(responses);
+                    responses.clear();
+                }
+            }
+            frDb.createEntitiesWithoutExistenceCheck(responses);
+        }
+
+        return session;
+    }
+
+    private String getSyntheticResponse(int questionNumber, int responseNumber) {
+        return "Answer " + responseNumber + " to question " + questionNumber;
+    }
+
+    private String[] getSubmissionParams(FeedbackSessionAttributes session, InstructorAttributes instructor,
+            String exportId, int partIndex, int numberOfParts) {
+        return new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.INSTRUCTOR_EMAIL, instructor.email,
+                ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES, "false",
+                ParamsNames.FEEDBACK_RESULTS_SHOWSTATS, "true",
+                ParamsNames.FEEDBACK_RESULTS_EXPORT_ID, exportId,
+                ParamsNames.FEEDBACK_RESULTS_EXPORT_PART_INDEX, String.valueOf(partIndex),
+                ParamsNames.FEEDBACK_RESULTS_EXPORT_NUMBER_OF_PARTS, String.valueOf(numberOfParts)
+        };
+    }
+
+    private String[] toParams(Map<String, String[]> paramMap) {
+        List<String> params = new ArrayList<>();
+        paramMap.forEach((key, values) -> {
+            params.add(key);
+            params.add(values[0]);
+        });
+        return params.toArray(new String[0]);
+    }
+
+    @Override
+    protected FeedbackSessionResultsExportWorkerAction getAction(String... params) {
+        return (FeedbackSessionResultsExportWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -2,14 +2,20 @@ package teammates.test.cases.automated;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.api.FeedbackResponsesDb;
 import teammates.ui.automated.FeedbackSessionUpdateRespondentWorkerAction;
 
 /**
@@ -18,6 +24,8 @@ import teammates.ui.automated.FeedbackSessionUpdateRespondentWorkerAction;
 public class FeedbackSessionUpdateRespondentWorkerActionTest extends BaseAutomatedActionTest {
 
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
 
     @Override
     protected String getActionUri() {
@@ -25,8 +33,12 @@ public class FeedbackSessionUpdateRespondentWorkerActionTest extends BaseAutomat
     }
 
     @Test
-    public void allTests() throws EntityDoesNotExistException {
+    public void allTests() throws Exception {
         FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        FeedbackQuestionAttributes studentQuestion = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+        FeedbackQuestionAttributes instructorQuestion = fqLogic.getFeedbackQuestion(sessionName, courseId, 4);
 
         ______TS("typical case: new student respondent");
 
@@ -34,15 +46,9 @@ public class FeedbackSessionUpdateRespondentWorkerActionTest extends BaseAutomat
 
         verifyRespondentNotInSessionRespondentsList(session, student.email, false);
 
-        String[] submissionParams = new String[] {
-                ParamsNames.COURSE_ID, session.getCourseId(),
-                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
-                ParamsNames.RESPONDENT_EMAIL, student.email,
-                ParamsNames.RESPONDENT_IS_INSTRUCTOR, "false",
-                ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, "false"
-        };
-
-        FeedbackSessionUpdateRespondentWorkerAction action = getAction(submissionParams);
+        FeedbackResponseAttributes studentResponse = createResponse(studentQuestion, student.email);
+        FeedbackSessionUpdateRespondentWorkerAction action =
+                getAction(getSubmissionParams(session, student.email, false, false));
         action.execute();
 
         verifyRespondentInSessionRespondentsList(session, student.email, false);
@@ -53,54 +59,63 @@ public class FeedbackSessionUpdateRespondentWorkerActionTest extends BaseAutomat
 
         verifyRespondentNotInSessionRespondentsList(session, instructor.email, true);
 
-        submissionParams = new String[] {
-                ParamsNames.COURSE_ID, session.getCourseId(),
-                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
-                ParamsNames.RESPONDENT_EMAIL, instructor.email,
-                ParamsNames.RESPONDENT_IS_INSTRUCTOR, "true",
-                ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, "false"
-        };
-
-        action = getAction(submissionParams);
+        FeedbackResponseAttributes instructorResponse = createResponse(instructorQuestion, instructor.email);
+        action = getAction(getSubmissionParams(session, instructor.email, true, false));
         action.execute();
 
         verifyRespondentInSessionRespondentsList(session, instructor.email, true);
 
-        ______TS("typical case: deleted student respondent");
+        ______TS("stale task: removal of a student who still has responses is ignored");
+
+        action = getAction(getSubmissionParams(session, student.email, false, true));
+        action.execute();
 
         verifyRespondentInSessionRespondentsList(session, student.email, false);
 
-        submissionParams = new String[] {
-                ParamsNames.COURSE_ID, session.getCourseId(),
-                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
-                ParamsNames.RESPONDENT_EMAIL, student.email,
-                ParamsNames.RESPONDENT_IS_INSTRUCTOR, "false",
-                ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, "true"
-        };
+        ______TS("typical case: deleted student respondent");
 
-        action = getAction(submissionParams);
+        frDb.deleteEntity(studentResponse);
+        action = getAction(getSubmissionParams(session, student.email, false, true));
         action.execute();
 
         verifyRespondentNotInSessionRespondentsList(session, student.email, false);
 
-        ______TS("typical case: deleted instructor respondent");
+        ______TS("stale task: append of a student who has no responses is ignored");
 
-        verifyRespondentInSessionRespondentsList(session, instructor.email, true);
+        action = getAction(getSubmissionParams(session, student.email, false, false));
+        action.execute();
 
-        submissionParams = new String[] {
-                ParamsNames.COURSE_ID, session.getCourseId(),
-                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
-                ParamsNames.RESPONDENT_EMAIL, instructor.email,
-                ParamsNames.RESPONDENT_IS_INSTRUCTOR, "true",
-                ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, "true"
-        };
+        verifyRespondentNotInSessionRespondentsList(session, student.email, false);
+
+        ______TS("typical case: deleted instructor respondent");
 
-        action = getAction(submissionParams);
+        frDb.deleteEntity(instructorResponse);
+        action = getAction(getSubmissionParams(session, instructor.email, true, true));
         action.execute();
 
         verifyRespondentNotInSessionRespondentsList(session, instructor.email, true);
     }
 
+    private FeedbackResponseAttributes createResponse(FeedbackQuestionAttributes question, String giver)
+            throws Exception {
+        FeedbackResponseAttributes response = new FeedbackResponseAttributes(question.feedbackSessionName,
+                question.courseId, question.getId(), question.questionType, giver, Const.DEFAULT_SECTION,
+                giver, Const.DEFAULT_SECTION, new Text("Answer of " + giver));
+        frDb.createEntity(response);
+        return response;
+    }
+
+    private String[] getSubmissionParams(FeedbackSessionAttributes session, String email, boolean isInstructor,
+            boolean isToBeRemoved) {
+        return new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.RESPONDENT_EMAIL, email,
+                ParamsNames.RESPONDENT_IS_INSTRUCTOR, String.valueOf(isInstructor),
+                ParamsNames.RESPONDENT_IS_TO_BE_REMOVED, String.valueOf(isToBeRemoved)
+        };
+    }
+
     @Override
     protected FeedbackSessionUpdateRespondentWorkerAction getAction(String... params) {
         return (FeedbackSessionUpdateRespondentWorkerAction)
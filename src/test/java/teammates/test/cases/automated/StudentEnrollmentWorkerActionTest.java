@@ -0,0 +1,214 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.DeletionJobsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.EnrollmentJobsDb;
+import teammates.ui.automated.StudentEnrollmentWorkerAction;
+
+/**
+ * SUT: {@link StudentEnrollmentWorkerAction}.
+ */
+public class StudentEnrollmentWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final DeletionJobsLogic deletionJobsLogic = DeletionJobsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.STUDENT_ENROLLMENT_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+        String courseId = student1InCourse1.course;
+
+        ______TS("typical case: students are enrolled chunk by chunk");
+
+        // one modified student followed by enough new students to need a second chunk
+        StringBuilder enrollLines = new StringBuilder(200);
+        enrollLines.append("Section|Team|Name|Email").append(System.lineSeparator())
+                .append(student1InCourse1.section).append("|Team Enroll|")
+                .append(student1InCourse1.name).append('|').append(student1InCourse1.email);
+        for (int i = 0; i < Const.SIZE_LIMIT_PER_ENROLLMENT; i++) {
+            enrollLines.append(System.lineSeparator()).append("Section Enroll ").append(i / 100)
+                    .append("|Team Enroll ").append(i).append("|Name ").append(i)
+                    .append("|enroll").append(i).append("@enrollworker.tmt");
+        }
+        EnrollmentJobAttributes job = studentsLogic.createEnrollmentJob(enrollLines.toString(), courseId);
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT + 1, job.getNumberOfStudents());
+
+        StudentEnrollmentWorkerAction action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.STUDENT_ENROLLMENT_QUEUE_NAME, 1);
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME.equals(task.getQueueName())) {
+                // only the modified student needs its responses adjusted
+                List<StudentEnrollDetails> enrollmentList = JsonUtils.fromJson(
+                        task.getParamMap().get(ParamsNames.ENROLLMENT_DETAILS)[0],
+                        new TypeToken<List<StudentEnrollDetails>>(){}.getType());
+                assertEquals(1, enrollmentList.size());
+                assertEquals(student1InCourse1.email, enrollmentList.get(0).email);
+                assertEquals(StudentUpdateStatus.MODIFIED, enrollmentList.get(0).updateStatus);
+            } else {
+                assertEquals(job.getId(), task.getParamMap().get(ParamsNames.ENROLLMENT_JOB_ID)[0]);
+            }
+        }
+
+        job = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, job.getStatus());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT, job.getNumberOfStudentsProcessed());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT - 1, job.getNumberOfNewStudents());
+        assertEquals(1, job.getNumberOfModifiedStudents());
+        assertEquals("Team Enroll", studentsLogic.getStudentForEmail(courseId, student1InCourse1.email).team);
+        assertNull(studentsLogic.getStudentForEmail(courseId,
+                "enroll" + (Const.SIZE_LIMIT_PER_ENROLLMENT - 1) + "@enrollworker.tmt"));
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        job = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.COMPLETED, job.getStatus());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT + 1, job.getNumberOfStudentsProcessed());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT, job.getNumberOfNewStudents());
+        assertEquals(1, job.getNumberOfModifiedStudents());
+        assertEquals(0, job.getNumberOfUnmodifiedStudents());
+        StudentAttributes lastStudent = studentsLogic.getStudentForEmail(courseId,
+                "enroll" + (Const.SIZE_LIMIT_PER_ENROLLMENT - 1) + "@enrollworker.tmt");
+        assertEquals("Section Enroll 1", lastStudent.section);
+
+        ______TS("completed job: a task run again changes nothing");
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        EnrollmentJobAttributes jobAfterRerun = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.COMPLETED, jobAfterRerun.getStatus());
+        assertEquals(Const.SIZE_LIMIT_PER_ENROLLMENT, jobAfterRerun.getNumberOfNewStudents());
+
+        ______TS("retried chunk: students moved by the failed attempt are still counted and adjusted");
+
+        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
+        String enrollLinesForRetry = "Section|Team|Name|Email" + System.lineSeparator()
+                + student2InCourse1.section + "|Team Enroll Retried|" + student2InCourse1.name + "|"
+                + student2InCourse1.email;
+        job = studentsLogic.createEnrollmentJob(enrollLinesForRetry, courseId);
+
+        // the first attempt records the chunk and moves the student, but fails before recording the checkpoint
+        StudentEnrollDetails recordedEnrollment = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, courseId,
+                student2InCourse1.email, student2InCourse1.team, "Team Enroll Retried", null,
+                student2InCourse1.section);
+        job.setChunkEnrollments(Arrays.asList(recordedEnrollment));
+        new EnrollmentJobsDb().updateEnrollmentJob(job);
+        studentsLogic.enrollStudents(enrollLinesForRetry, courseId);
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
+        List<StudentEnrollDetails> adjustedEnrollments = JsonUtils.fromJson(
+                action.getTaskQueuer().getTasksAdded().get(0).getParamMap().get(ParamsNames.ENROLLMENT_DETAILS)[0],
+                new TypeToken<List<StudentEnrollDetails>>(){}.getType());
+        assertEquals(1, adjustedEnrollments.size());
+        assertEquals(student2InCourse1.team, adjustedEnrollments.get(0).oldTeam);
+        job = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getNumberOfModifiedStudents());
+        assertEquals(0, job.getNumberOfUnmodifiedStudents());
+        assertNull(job.getChunkEnrollments());
+        assertTrue(job.getEnrollmentsToAdjust().isEmpty());
+
+        ______TS("retried task: adjustment recorded with the checkpoint but not scheduled is scheduled");
+
+        job.setEnrollmentsToAdjust(Arrays.asList(recordedEnrollment));
+        new EnrollmentJobsDb().updateEnrollmentJob(job);
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
+        assertNull(action.getTaskQueuer().getNumberOfTasksAdded().get(Const.TaskQueue.STUDENT_ENROLLMENT_QUEUE_NAME));
+        assertTrue(studentsLogic.getEnrollmentJob(job.getId()).getEnrollmentsToAdjust().isEmpty());
+
+        ______TS("failed job: no more students are enrolled");
+
+        String newStudentEmail = "enroll.failed@enrollworker.tmt";
+        job = studentsLogic.createEnrollmentJob("Section|Team|Name|Email" + System.lineSeparator()
+                + "Section Enroll 1|Team Enroll Failed|Name Failed|" + newStudentEmail, courseId);
+        studentsLogic.failEnrollmentJob(job.getId(), "Stopped for testing");
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        job = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.FAILED, job.getStatus());
+        assertEquals("Stopped for testing", job.getErrorMessage());
+        assertEquals(0, job.getNumberOfStudentsProcessed());
+        assertNull(studentsLogic.getStudentForEmail(courseId, newStudentEmail));
+
+        ______TS("students being deleted: job is stopped and no more students are enrolled");
+
+        job = studentsLogic.createEnrollmentJob("Section|Team|Name|Email" + System.lineSeparator()
+                + "Section Enroll 1|Team Enroll Stopped|Name Stopped|" + newStudentEmail, courseId);
+        DeletionJobAttributes deletionJob = deletionJobsLogic.createStudentsDeletionJob(courseId);
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        job = studentsLogic.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.FAILED, job.getStatus());
+        assertEquals(Const.StatusMessages.ENROLLMENT_JOB_STOPPED_BY_STUDENTS_DELETION, job.getErrorMessage());
+        assertNull(studentsLogic.getStudentForEmail(courseId, newStudentEmail));
+
+        deletionJobsLogic.failDeletionJob(deletionJob.getId());
+
+        ______TS("failure case: job deleted together with its course");
+
+        job = studentsLogic.createEnrollmentJob("Section|Team|Name|Email" + System.lineSeparator()
+                + "Section Enroll 1|Team Enroll Deleted|Name Deleted|" + newStudentEmail, courseId);
+        studentsLogic.deleteEnrollmentJobsForCourse(courseId);
+
+        action = getAction(getSubmissionParams(courseId, job.getId()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNull(studentsLogic.getEnrollmentJob(job.getId()));
+        assertNull(studentsLogic.getStudentForEmail(courseId, newStudentEmail));
+    }
+
+    private String[] getSubmissionParams(String courseId, String enrollmentJobId) {
+        return new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId
+        };
+    }
+
+    @Override
+    protected StudentEnrollmentWorkerAction getAction(String... params) {
+        return (StudentEnrollmentWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
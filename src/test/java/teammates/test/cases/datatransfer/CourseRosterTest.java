@@ -1,6 +1,8 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -8,6 +10,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -77,6 +80,37 @@ public class CourseRosterTest extends BaseTestCase {
 
     }
 
+    @Test
+    public void testTeamIndexes() {
+
+        ______TS("No students");
+
+        CourseRoster roster = new CourseRoster(null, null);
+        assertTrue(roster.getTeamNames().isEmpty());
+        assertTrue(roster.getTeamMembers("team 1").isEmpty());
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("team 1"));
+
+        ______TS("multiple teams in multiple sections");
+
+        List<StudentAttributes> students = createStudentList("team 1", "s1@gmail.com",
+                                                             "team 1", "s2@gmail.com",
+                                                             "team 2", "s3@gmail.com");
+        students.get(0).section = "section 1";
+        students.get(1).section = "section 1";
+        students.get(2).section = "section 2";
+        roster = new CourseRoster(students, null);
+
+        assertEquals(new HashSet<>(Arrays.asList("team 1", "team 2")), roster.getTeamNames());
+        assertEquals(2, roster.getTeamMembers("team 1").size());
+        assertTrue(roster.getTeamMembers("team 1").contains(students.get(1)));
+        assertEquals(1, roster.getTeamMembers("team 2").size());
+        assertTrue(roster.getTeamMembers("non-existent team").isEmpty());
+
+        assertEquals("section 1", roster.getSectionForTeam("team 1"));
+        assertEquals("section 2", roster.getSectionForTeam("team 2"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+    }
+
     private List<StudentAttributes> createStudentList(String... studentData) {
         List<StudentAttributes> students = new ArrayList<>();
         for (int i = 0; i < studentData.length; i += 2) {
@@ -0,0 +1,118 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.TeamDetailsBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CourseStructure}.
+ */
+public class CourseStructureTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "CSTest.course";
+
+    @Test
+    public void testNoStudents() {
+        CourseStructure structure = new CourseStructure(new ArrayList<>());
+
+        assertTrue(structure.getSections().isEmpty());
+        assertTrue(structure.getTeams().isEmpty());
+        assertTrue(structure.getSectionNames().isEmpty());
+        assertEquals(Const.DEFAULT_SECTION, structure.getSectionForTeam("Team 1"));
+
+        CourseStats stats = structure.getStats();
+        assertEquals(0, stats.studentsTotal);
+        assertEquals(0, stats.teamsTotal);
+        assertEquals(0, stats.sectionsTotal);
+    }
+
+    @Test
+    public void testSectionsAndTeams() {
+        List<StudentAttributes> students = Arrays.asList(
+                createStudent("Section B", "Team 3", "Eve", ""),
+                createStudent(Const.DEFAULT_SECTION, "Team 0", "Zed", "zed"),
+                createStudent("Section A", "Team 2", "Dan", "dan"),
+                createStudent("Section A", "Team 1", "Bob", ""),
+                createStudent("Section A", "Team 1", "Amy", "amy"),
+                // a team split over two sections
+                createStudent("Section B", "Team 2", "Cat", "cat"));
+
+        CourseStructure structure = new CourseStructure(students);
+
+        ______TS("sections are sorted by name, with their teams and students");
+
+        List<SectionDetailsBundle> sections = structure.getSections();
+        assertEquals(3, sections.size());
+        assertEquals(Const.DEFAULT_SECTION, sections.get(0).name);
+        verifyTeam(sections.get(0).teams.get(0), "Team 0", "Zed");
+        assertEquals("Section A", sections.get(1).name);
+        assertEquals(2, sections.get(1).teams.size());
+        verifyTeam(sections.get(1).teams.get(0), "Team 1", "Amy", "Bob");
+        verifyTeam(sections.get(1).teams.get(1), "Team 2", "Dan");
+        assertEquals("Section B", sections.get(2).name);
+        verifyTeam(sections.get(2).teams.get(0), "Team 2", "Cat");
+        verifyTeam(sections.get(2).teams.get(1), "Team 3", "Eve");
+
+        assertEquals(Arrays.asList("Section A", "Section B"), structure.getSectionNames());
+
+        ______TS("teams are sorted by name regardless of section");
+
+        List<TeamDetailsBundle> teams = structure.getTeams();
+        assertEquals(4, teams.size());
+        verifyTeam(teams.get(0), "Team 0", "Zed");
+        verifyTeam(teams.get(1), "Team 1", "Amy", "Bob");
+        verifyTeam(teams.get(2), "Team 2", "Cat", "Dan");
+        verifyTeam(teams.get(3), "Team 3", "Eve");
+
+        assertEquals("Section A", structure.getSectionForTeam("Team 1"));
+        assertEquals("Section A", structure.getSectionForTeam("Team 2"));
+        assertEquals(Const.DEFAULT_SECTION, structure.getSectionForTeam("Team 0"));
+        assertEquals(Const.DEFAULT_SECTION, structure.getSectionForTeam("non-existent team"));
+
+        ______TS("statistics count the teams once per section and leave out the default section");
+
+        CourseStats stats = structure.getStats();
+        assertEquals(6, stats.studentsTotal);
+        assertEquals(2, stats.unregisteredTotal);
+        assertEquals(5, stats.teamsTotal);
+        assertEquals(2, stats.sectionsTotal);
+
+        ______TS("changes to the bundles returned do not change the structure");
+
+        sections.get(1).teams.clear();
+        teams.get(1).students.clear();
+        structure.getSectionNames().clear();
+
+        verifyTeam(structure.getSections().get(1).teams.get(0), "Team 1", "Amy", "Bob");
+        verifyTeam(structure.getTeams().get(1), "Team 1", "Amy", "Bob");
+        assertEquals(2, structure.getSectionNames().size());
+    }
+
+    private static void verifyTeam(TeamDetailsBundle team, String expectedName, String... expectedStudentNames) {
+        assertEquals(expectedName, team.name);
+        List<String> studentNames = new ArrayList<>();
+        for (StudentAttributes student : team.students) {
+            studentNames.add(student.name);
+        }
+        assertEquals(Arrays.asList(expectedStudentNames), studentNames);
+    }
+
+    private static StudentAttributes createStudent(String section, String team, String name, String googleId) {
+        return StudentAttributes.builder(COURSE_ID, name, name.toLowerCase() + "@cstest.tmt")
+                .withSection(section)
+                .withTeam(team)
+                .withGoogleId(googleId)
+                .build();
+    }
+
+}
@@ -1,43 +1,56 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantIndex;
+import teammates.common.datatransfer.ResponseVisibilityTable;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
+import teammates.test.driver.LegacyResultsBundleComparators;
 
 /**
  * SUT: {@link teammates.common.datatransfer.FeedbackSessionResultsBundle}.
  */
 public class FeedbackSessionResultsBundleTest extends BaseTestCase {
 
+    private static final String DELETED_STUDENT_EMAIL = "deleted.student@fsrbt.tmt";
+
     @Test
     public void testGetActualResponses() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
 
         FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
 
-        Map<String, String> emailNameTable = new HashMap<>();
-        emailNameTable.put("student1InCourse1@gmail.tmt", "Student 1 in course 1");
-        emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
-        emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
+        ParticipantIndex participants = new ParticipantIndex();
+        participants.add("student1InCourse1@gmail.tmt", "Student 1 in course 1", null, null);
+        participants.add("student2InCourse1@gmail.tmt", "Student in two courses", null, null);
+        participants.add("student3InCourse1@gmail.tmt", "student3 In Course1", null, null);
 
-        Map<String, boolean[]> visibilityTable = new HashMap<>();
-        boolean[] visibility = new boolean[2];
-        visibilityTable.put("response1ForQ1S1C1", visibility);
-        visibilityTable.put("response2ForQ1S1C1", visibility);
-        visibilityTable.put("response1ForQ2S1C1", visibility);
-        visibilityTable.put("response2ForQ2S1C1", visibility);
-        visibilityTable.put("response3ForQ2S1C1", visibility);
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
+        visibilityTable.put("response1ForQ1S1C1", false, false);
+        visibilityTable.put("response2ForQ1S1C1", false, false);
+        visibilityTable.put("response1ForQ2S1C1", false, false);
+        visibilityTable.put("response2ForQ2S1C1", false, false);
+        visibilityTable.put("response3ForQ2S1C1", false, false);
 
         List<String> allExpectedResponses = new ArrayList<>();
         allExpectedResponses.add(responseBundle.feedbackResponses.get("response1ForQ1S1C1").toString());
@@ -45,8 +58,7 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
 
         FeedbackSessionResultsBundle bundle =
                 new FeedbackSessionResultsBundle(session, new ArrayList<>(responseBundle.feedbackResponses.values()),
-                        responseBundle.feedbackQuestions, emailNameTable, new HashMap<>(),
-                        new HashMap<>(), null, visibilityTable, null,
+                        responseBundle.feedbackQuestions, participants, null, visibilityTable, null,
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
                         new ArrayList<>(responseBundle.instructors.values())), null);
 
@@ -64,4 +76,238 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
         allResponses = bundle.getActualUnsortedResponses(fqa);
         assertEquals(0, allResponses.size());
     }
+
+    @Test
+    public void testGroupedViews_builtOnce() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        ParticipantIndex participants = new ParticipantIndex();
+        participants.add("student1InCourse1@gmail.tmt", "Student 1 in course 1", null, "Team 1.1");
+        participants.add("student2InCourse1@gmail.tmt", "Student in two courses", null, "Team 1.1");
+        participants.add("student3InCourse1@gmail.tmt", "student3 In Course1", null, "Team 1.1");
+
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
+        for (FeedbackResponseAttributes response : responseBundle.feedbackResponses.values()) {
+            visibilityTable.put(response.getId(), true, true);
+        }
+
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(
+                responseBundle.feedbackSessions.get("session1InCourse1"),
+                new ArrayList<>(responseBundle.feedbackResponses.values()),
+                responseBundle.feedbackQuestions, participants, null, visibilityTable, null,
+                new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                        new ArrayList<>(responseBundle.instructors.values())), null);
+        List<FeedbackResponseAttributes> originalResponses = new ArrayList<>(bundle.responses);
+
+        ______TS("views are returned again on later calls");
+
+        Map<String, Map<String, List<FeedbackResponseAttributes>>> byGiver = bundle.getResponsesSortedByGiver(false);
+        assertSame(byGiver, bundle.getResponsesSortedByGiver(false));
+        assertSame(byGiver, bundle.getResponsesSortedByGiver());
+        assertSame(bundle.getQuestionResponseMap(), bundle.getQuestionResponseMap());
+        assertSame(bundle.getResponsesSortedByRecipient(true), bundle.getResponsesSortedByRecipient(true));
+
+        ______TS("views of different variants are built separately");
+
+        assertNotSame(byGiver, bundle.getResponsesSortedByGiver(true));
+        assertNotSame(byGiver, bundle.getResponsesSortedByGiverRecipientQuestion(false));
+        assertEquals(byGiver.size(), bundle.getResponsesSortedByGiverRecipientQuestion(false).size());
+
+        ______TS("views are grouped and sorted without reordering the responses of the bundle");
+
+        assertEquals(originalResponses, bundle.responses);
+        assertEquals(2, byGiver.get("Student in two courses (Team 1.1)").size());
+        assertEquals("[Student 1 in course 1 (Team 1.1), Student in two courses (Team 1.1), "
+                + "student3 In Course1 (Team 1.1)]", byGiver.keySet().toString());
+
+        Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> byQuestion = bundle.getQuestionResponseMap();
+        assertEquals(3, byQuestion.size());
+        assertEquals(3, byQuestion.get(responseBundle.feedbackQuestions.get("qn2InSession1InCourse1")).size());
+        assertTrue(byQuestion.get(responseBundle.feedbackQuestions.get("qn3InSession1InCourse1")).isEmpty());
+    }
+
+    @Test
+    public void testResponseOrder_sameAsLegacyComparators() {
+        FeedbackSessionResultsBundle bundle = createBundleForSorting(false);
+        LegacyResultsBundleComparators legacy = new LegacyResultsBundleComparators(bundle);
+
+        ______TS("responses of a question sorted by giver > recipient > question");
+
+        for (FeedbackQuestionAttributes question : bundle.questions.values()) {
+            List<FeedbackResponseAttributes> sortedResponses = bundle.getActualResponsesSortedByGqr(question);
+            List<FeedbackResponseAttributes> expectedResponses = bundle.getActualUnsortedResponses(question);
+            expectedResponses.sort(legacy.getCompareByGiverRecipientQuestion());
+            assertEquals(expectedResponses, sortedResponses);
+        }
+
+        ______TS("grouped views sorted in the same order as before");
+
+        verifySortedLikeLegacy(bundle.getQuestionResponseMap(), legacy.getCompareByGiverRecipient(), false);
+        verifySortedLikeLegacy(bundle.getQuestionResponseMapSortedByRecipient(),
+                legacy.getCompareByRecipientNameEmailGiverNameEmail(), false);
+        verifySortedLikeLegacy(bundle.getQuestionResponseMapByRecipientTeam(),
+                legacy.getCompareByTeamQuestionRecipientTeamGiver(), true);
+        verifySortedLikeLegacy(bundle.getQuestionResponseMapByGiverTeam(),
+                legacy.getCompareByTeamQuestionGiverTeamRecipient(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipientQuestionGiver(true),
+                legacy.getCompareByTeamRecipientQuestionTeamGiver(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipientQuestionGiver(false),
+                legacy.getCompareByRecipientQuestionTeamGiver(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipient(true),
+                legacy.getCompareByTeamRecipientGiverQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipient(false),
+                legacy.getCompareByRecipientGiverQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipientGiverQuestion(true),
+                legacy.getCompareByTeamRecipientGiverQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByRecipientGiverQuestion(false),
+                legacy.getCompareByRecipientGiverQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiverQuestionRecipient(true),
+                legacy.getCompareByTeamGiverQuestionTeamRecipient(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiverQuestionRecipient(false),
+                legacy.getCompareByGiverQuestionTeamRecipient(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiver(true),
+                legacy.getCompareByTeamGiverRecipientQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiver(false),
+                legacy.getCompareByGiverRecipientQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiverRecipientQuestion(true),
+                legacy.getCompareByTeamGiverRecipientQuestion(), true);
+        verifySortedLikeLegacy(bundle.getResponsesSortedByGiverRecipientQuestion(false),
+                legacy.getCompareByGiverRecipientQuestion(), true);
+
+        ______TS("responses to a participant missing from the name table can be sorted");
+
+        bundle = createBundleForSorting(true);
+        FeedbackQuestionAttributes question = bundle.questions.get("question1");
+
+        assertTrue(bundle.getActualResponsesSortedByGqr(question).stream()
+                .anyMatch(response -> response.recipient.equals(DELETED_STUDENT_EMAIL)));
+        assertTrue(bundle.getQuestionResponseMapSortedByRecipient().get(question).stream()
+                .anyMatch(response -> response.recipient.equals(DELETED_STUDENT_EMAIL)));
+        assertTrue(bundle.getResponsesSortedByGiver(false).values().stream()
+                .flatMap(responsesByRecipient -> responsesByRecipient.values().stream())
+                .flatMap(List::stream)
+                .anyMatch(response -> response.recipient.equals(DELETED_STUDENT_EMAIL)));
+    }
+
+    /**
+     * Verifies that every list of responses in the view is sorted by {@code legacyOrder}
+     * and, if {@code isGroupOrderChecked}, that the groups are in the order in which their first responses
+     * are sorted by {@code legacyOrder}.
+     *
+     * @return the responses in the view, in the order in which they are iterated
+     */
+    private List<FeedbackResponseAttributes> verifySortedLikeLegacy(
+            Object view, Comparator<FeedbackResponseAttributes> legacyOrder, boolean isGroupOrderChecked) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        if (view instanceof List) {
+            for (Object response : (List<?>) view) {
+                responses.add((FeedbackResponseAttributes) response);
+            }
+            List<FeedbackResponseAttributes> expectedResponses = new ArrayList<>(responses);
+            expectedResponses.sort(legacyOrder);
+            assertEquals(expectedResponses, responses);
+            return responses;
+        }
+
+        FeedbackResponseAttributes previousFirstResponse = null;
+        for (Object group : ((Map<?, ?>) view).values()) {
+            List<FeedbackResponseAttributes> responsesInGroup =
+                    verifySortedLikeLegacy(group, legacyOrder, isGroupOrderChecked);
+            if (responsesInGroup.isEmpty()) {
+                continue;
+            }
+            if (isGroupOrderChecked && previousFirstResponse != null) {
+                assertTrue(legacyOrder.compare(previousFirstResponse, responsesInGroup.get(0)) < 0);
+            }
+            previousFirstResponse = responsesInGroup.get(0);
+            responses.addAll(responsesInGroup);
+        }
+        return responses;
+    }
+
+    /**
+     * Creates a bundle with responses from and to students sharing names, instructors, teams and nobody,
+     * with some givers and recipients hidden, so that every rule of the response order is needed to sort them.
+     *
+     * @param hasResponseToDeletedStudent true if a response to a student who is not in the course is added last
+     */
+    private FeedbackSessionResultsBundle createBundleForSorting(boolean hasResponseToDeletedStudent) {
+        String courseId = "FSRBT.course";
+        String sessionName = "FSRBT session";
+        int numberOfStudents = 12;
+
+        ParticipantIndex participants = new ParticipantIndex();
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < numberOfStudents; i++) {
+            StudentAttributes student = StudentAttributes
+                    .builder(courseId, "Student " + i % 6, "student" + i + "@fsrbt.tmt")
+                    .withTeam("Team " + i / 3)
+                    .withSection("Section " + i / 6)
+                    .build();
+            students.add(student);
+            participants.add(student.email, student.name, student.name, student.team);
+            participants.add(student.team, student.team, student.team, "");
+        }
+        InstructorAttributes instructor = InstructorAttributes
+                .builder(null, courseId, "Instructor", "instructor@fsrbt.tmt")
+                .build();
+        participants.add(instructor.email, instructor.name, instructor.name, Const.USER_TEAM_FOR_INSTRUCTOR);
+        participants.add(Const.GENERAL_QUESTION, Const.USER_IS_NOBODY, Const.USER_IS_NOBODY, "");
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (int questionNumber = 1; questionNumber <= 3; questionNumber++) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(sessionName)
+                    .withCourseId(courseId)
+                    .withQuestionNumber(questionNumber)
+                    .withQuestionType(FeedbackQuestionType.TEXT)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.STUDENTS)
+                    .withShowResponseTo(new ArrayList<>())
+                    .withShowGiverNameTo(new ArrayList<>())
+                    .withShowRecipientNameTo(new ArrayList<>())
+                    .withFeedbackQuestionId("question" + questionNumber)
+                    .build();
+            questions.put(question.getId(), question);
+        }
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        ResponseVisibilityTable visibilityTable = new ResponseVisibilityTable();
+        for (FeedbackQuestionAttributes question : questions.values()) {
+            for (int i = 0; i <= numberOfStudents; i++) {
+                boolean isFromInstructor = i == numberOfStudents;
+                StudentAttributes student = students.get(i % numberOfStudents);
+                String giver = isFromInstructor ? instructor.email : student.email;
+                String giverSection = isFromInstructor ? Const.DEFAULT_SECTION : student.section;
+                StudentAttributes recipientStudent = students.get((i * 5 + question.questionNumber) % numberOfStudents);
+                String recipient = question.questionNumber == 1 ? recipientStudent.email
+                        : question.questionNumber == 2 ? recipientStudent.team
+                        : Const.GENERAL_QUESTION;
+                String recipientSection = question.questionNumber == 3 ? Const.DEFAULT_SECTION : recipientStudent.section;
+
+                FeedbackResponseAttributes response = new FeedbackResponseAttributes(sessionName, courseId,
+                        question.getId(), FeedbackQuestionType.TEXT, giver, giverSection, recipient, recipientSection,
+                        new Text("Answer " + i % 3));
+                response.setId(question.getId() + "%" + i);
+                responses.add(response);
+                visibilityTable.put(response.getId(), i % 4 != 0, i % 5 != 0);
+            }
+        }
+        if (hasResponseToDeletedStudent) {
+            StudentAttributes giver = students.get(0);
+            FeedbackResponseAttributes response = new FeedbackResponseAttributes(sessionName, courseId,
+                    "question1", FeedbackQuestionType.TEXT, giver.email, giver.section,
+                    DELETED_STUDENT_EMAIL, giver.section, new Text("Answer to deleted student"));
+            response.setId("question1%deleted");
+            responses.add(response);
+            visibilityTable.put(response.getId(), true, true);
+        }
+
+        FeedbackSessionAttributes session = FeedbackSessionAttributes
+                .builder(sessionName, courseId, instructor.email)
+                .build();
+        return new FeedbackSessionResultsBundle(session, responses, questions, participants, new HashMap<>(),
+                visibilityTable, null, new CourseRoster(students, Arrays.asList(instructor)), new HashMap<>());
+    }
+
 }
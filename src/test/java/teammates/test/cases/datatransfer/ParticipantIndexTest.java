@@ -0,0 +1,88 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ParticipantIndex;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link ParticipantIndex}.
+ */
+public class ParticipantIndexTest extends BaseTestCase {
+
+    @Test
+    public void testAdd() {
+        ParticipantIndex participants = new ParticipantIndex();
+
+        ______TS("participants are interned in the order they are added");
+
+        int id1 = participants.add("s1@gmail.tmt", "Student 1", "1", "Team 1");
+        int id2 = participants.add("Team 1", "Team 1", "Team 1", "");
+        assertEquals(0, id1);
+        assertEquals(1, id2);
+        assertEquals(2, participants.size());
+        assertEquals("s1@gmail.tmt", participants.getIdentifier(id1));
+        assertEquals("Student 1", participants.getName(id1));
+        assertEquals("1", participants.getLastName(id1));
+        assertEquals("Team 1", participants.getTeamName(id1));
+
+        ______TS("adding an indexed participant again keeps the original details");
+
+        assertEquals(id1, participants.add("s1@gmail.tmt", "Another name", "name", "Team 2"));
+        assertEquals("Student 1", participants.getName(id1));
+        assertEquals(2, participants.size());
+
+        ______TS("participant not in index");
+
+        assertFalse(participants.contains("s2@gmail.tmt"));
+        assertEquals(-1, participants.getId("s2@gmail.tmt"));
+
+        ______TS("index grows beyond its initial capacity");
+
+        for (int i = 0; i < 100; i++) {
+            participants.add("student" + i + "@gmail.tmt", "Student " + i, String.valueOf(i), "Team " + i / 5);
+        }
+        assertEquals(102, participants.size());
+        int id = participants.getId("student57@gmail.tmt");
+        assertEquals("Student 57", participants.getName(id));
+        assertEquals("Team 11", participants.getTeamName(id));
+        assertEquals("Student 1", participants.getName(id1));
+    }
+
+    @Test
+    public void testDetailTables() {
+        ParticipantIndex participants = new ParticipantIndex();
+        participants.add("s1@gmail.tmt", "Student 1", null, "Team 1");
+        participants.add("s2@gmail.tmt", "Student 2", "2", "Team 1");
+
+        Map<String, String> nameTable = participants.getNameTable();
+        Map<String, String> lastNameTable = participants.getLastNameTable();
+        Map<String, String> teamNameTable = participants.getTeamNameTable();
+
+        ______TS("views contain the participants for which the detail is set");
+
+        assertEquals(2, nameTable.size());
+        assertEquals("Student 2", nameTable.get("s2@gmail.tmt"));
+        assertEquals(1, lastNameTable.size());
+        assertFalse(lastNameTable.containsKey("s1@gmail.tmt"));
+        assertNull(lastNameTable.get("s1@gmail.tmt"));
+        assertNull(nameTable.get("non-existent@gmail.tmt"));
+        assertEquals("{s1@gmail.tmt=Student 1, s2@gmail.tmt=Student 2}", nameTable.toString());
+        assertEquals(2, new ArrayList<>(teamNameTable.values()).size());
+
+        ______TS("putting into a view updates the index");
+
+        assertEquals("Team 1", teamNameTable.put("s1@gmail.tmt", "Team 2"));
+        assertEquals("Team 2", participants.getTeamName(participants.getId("s1@gmail.tmt")));
+
+        assertNull(nameTable.put("anonymous@gmail.tmt", "Anonymous student"));
+        assertEquals(3, participants.size());
+        assertEquals(3, nameTable.size());
+        assertEquals(2, teamNameTable.size());
+        assertFalse(teamNameTable.containsKey("anonymous@gmail.tmt"));
+    }
+
+}
@@ -0,0 +1,234 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResponseVisibilityEvaluator;
+import teammates.common.datatransfer.ResponseVisibilityTable;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link ResponseVisibilityEvaluator}, {@link ResponseVisibilityTable}.
+ */
+public class ResponseVisibilityEvaluatorTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "RVETest.course";
+    private static final String SESSION_NAME = "RVETest session";
+
+    private static final List<FeedbackParticipantType> NAME_VISIBILITY_TYPES = Arrays.asList(
+            FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+            FeedbackParticipantType.RECEIVER, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS,
+            FeedbackParticipantType.STUDENTS);
+
+    private final StudentAttributes student1 = createStudent("s1@rvetest.tmt", "Team 1", "Section 1");
+    private final StudentAttributes student2 = createStudent("s2@rvetest.tmt", "Team 1", "Section 1");
+    private final StudentAttributes student3 = createStudent("s3@rvetest.tmt", "Team 2", "Section 2");
+    private final InstructorAttributes instructor = InstructorAttributes
+            .builder(null, COURSE_ID, "Instructor", "ins@rvetest.tmt")
+            .build();
+    private final CourseRoster roster = new CourseRoster(
+            Arrays.asList(student1, student2, student3), Arrays.asList(instructor));
+
+    @Test
+    public void testIsNameVisible_sameAsPerResponseEvaluation() {
+        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+        List<String> users = Arrays.asList(student1.email, student3.email, instructor.email, "outsider@rvetest.tmt");
+        List<FeedbackParticipantType> giverTypes =
+                Arrays.asList(FeedbackParticipantType.STUDENTS, FeedbackParticipantType.TEAMS);
+        List<FeedbackParticipantType> recipientTypes = Arrays.asList(
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.TEAMS, FeedbackParticipantType.NONE,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS);
+
+        int numberOfComparisons = 0;
+        for (UserRole role : Arrays.asList(UserRole.STUDENT, UserRole.INSTRUCTOR)) {
+            for (String user : users) {
+                ResponseVisibilityEvaluator evaluator =
+                        new ResponseVisibilityEvaluator(user, role, null, null, roster);
+                for (FeedbackParticipantType giverType : giverTypes) {
+                    for (FeedbackParticipantType recipientType : recipientTypes) {
+                        for (int subset = 0; subset < 1 << NAME_VISIBILITY_TYPES.size(); subset++) {
+                            FeedbackQuestionAttributes question =
+                                    createQuestion(giverType, recipientType, getNameVisibilityTypes(subset));
+                            for (FeedbackResponseAttributes response : createResponses(question)) {
+                                for (boolean isGiverName : new boolean[] {true, false}) {
+                                    assertEquals(
+                                            frLogic.isNameVisibleToUser(
+                                                    question, response, user, role, isGiverName, roster),
+                                            evaluator.isNameVisible(question, response, isGiverName));
+                                    numberOfComparisons++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertTrue(numberOfComparisons > 0);
+
+        ______TS("null question");
+
+        ResponseVisibilityEvaluator evaluator =
+                new ResponseVisibilityEvaluator(student1.email, UserRole.STUDENT, null, null, roster);
+        assertFalse(evaluator.isNameVisible(null, createResponse(student1.email, student3.email), true));
+    }
+
+    @Test
+    public void testIsResponseVisible() {
+        FeedbackQuestionAttributes question = createQuestion(FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS, new ArrayList<>());
+        FeedbackResponseAttributes response = createResponse(student3.email, student2.email);
+
+        ______TS("visible to the giver only");
+
+        assertTrue(new ResponseVisibilityEvaluator(student3.email, UserRole.STUDENT, student3, null, roster)
+                .isResponseVisible(question, response));
+        assertFalse(new ResponseVisibilityEvaluator(student2.email, UserRole.STUDENT, student2, null, roster)
+                .isResponseVisible(question, response));
+        assertFalse(new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR, null, instructor, roster)
+                .isResponseVisible(question, response));
+
+        ______TS("visible to the receiver and instructors");
+
+        question.showResponsesTo.add(FeedbackParticipantType.RECEIVER);
+        question.showResponsesTo.add(FeedbackParticipantType.INSTRUCTORS);
+        assertTrue(new ResponseVisibilityEvaluator(student2.email, UserRole.STUDENT, student2, null, roster)
+                .isResponseVisible(question, response));
+        assertFalse(new ResponseVisibilityEvaluator(student1.email, UserRole.STUDENT, student1, null, roster)
+                .isResponseVisible(question, response));
+        assertTrue(new ResponseVisibilityEvaluator(instructor.email, UserRole.INSTRUCTOR, null, instructor, roster)
+                .isResponseVisible(question, response));
+
+        ______TS("visible to the team members of the receiver, only if the viewing student is given");
+
+        question.showResponsesTo.add(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+        assertTrue(new ResponseVisibilityEvaluator(student1.email, UserRole.STUDENT, student1, null, roster)
+                .isResponseVisible(question, response));
+        assertFalse(new ResponseVisibilityEvaluator(student1.email, UserRole.STUDENT, null, null, roster)
+                .isResponseVisible(question, response));
+
+        ______TS("response to a team visible to the members of the team");
+
+        FeedbackQuestionAttributes teamQuestion = createQuestion(FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.TEAMS, new ArrayList<>());
+        teamQuestion.showResponsesTo.add(FeedbackParticipantType.RECEIVER);
+        FeedbackResponseAttributes teamResponse = createResponse(student3.email, student1.team);
+        assertTrue(new ResponseVisibilityEvaluator(student2.email, UserRole.STUDENT, student2, null, roster)
+                .isResponseVisible(teamQuestion, teamResponse));
+        assertFalse(new ResponseVisibilityEvaluator(student3.email, UserRole.STUDENT, student3, null, roster)
+                .isResponseVisible(teamQuestion, createResponse(student1.email, student1.team)));
+
+        ______TS("instructor restricted from the section of the giver");
+
+        InstructorAttributes restrictedInstructor = InstructorAttributes
+                .builder(null, COURSE_ID, "Restricted Instructor", "restricted@rvetest.tmt")
+                .build();
+        restrictedInstructor.privileges.updatePrivilege(student3.section, SESSION_NAME,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        restrictedInstructor.privileges.updatePrivilege(student2.section, SESSION_NAME,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        ResponseVisibilityEvaluator restrictedEvaluator = new ResponseVisibilityEvaluator(
+                restrictedInstructor.email, UserRole.INSTRUCTOR, null, restrictedInstructor, roster);
+        assertFalse(restrictedEvaluator.isResponseVisible(question, response));
+        assertTrue(restrictedEvaluator.isResponseVisible(question, createResponse(student2.email, student1.email)));
+    }
+
+    @Test
+    public void testAddToTable() {
+        FeedbackQuestionAttributes question = createQuestion(FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS, Arrays.asList(FeedbackParticipantType.RECEIVER));
+        question.showGiverNameTo = new ArrayList<>();
+        FeedbackResponseAttributes response = createResponse(student3.email, student2.email);
+        response.setId("response1");
+
+        ResponseVisibilityTable table = new ResponseVisibilityTable();
+        new ResponseVisibilityEvaluator(student2.email, UserRole.STUDENT, student2, null, roster)
+                .addToTable(table, question, response);
+
+        assertEquals(1, table.size());
+        assertTrue(table.contains("response1"));
+        assertFalse(table.isGiverNameVisible("response1"));
+        assertTrue(table.isRecipientNameVisible("response1"));
+
+        ______TS("response not in table");
+
+        assertFalse(table.contains("response2"));
+        assertFalse(table.isGiverNameVisible("response2"));
+        assertFalse(table.isRecipientNameVisible("response2"));
+    }
+
+    private List<FeedbackParticipantType> getNameVisibilityTypes(int subset) {
+        List<FeedbackParticipantType> types = new ArrayList<>();
+        for (int i = 0; i < NAME_VISIBILITY_TYPES.size(); i++) {
+            if ((subset & 1 << i) != 0) {
+                types.add(NAME_VISIBILITY_TYPES.get(i));
+            }
+        }
+        return types;
+    }
+
+    private List<FeedbackResponseAttributes> createResponses(FeedbackQuestionAttributes question) {
+        List<String> recipients = new ArrayList<>();
+        if (question.recipientType == FeedbackParticipantType.NONE) {
+            recipients.add(Const.GENERAL_QUESTION);
+        } else if (question.recipientType.isTeam()) {
+            recipients.add(student1.team);
+            recipients.add(student3.team);
+        } else {
+            recipients.add(student1.email);
+            recipients.add(student2.email);
+            recipients.add(student3.email);
+        }
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (String giver : Arrays.asList(student1.email, student3.email)) {
+            for (String recipient : recipients) {
+                responses.add(createResponse(giver, recipient));
+            }
+        }
+        return responses;
+    }
+
+    private FeedbackResponseAttributes createResponse(String giver, String recipient) {
+        StudentAttributes giverStudent = roster.getStudentForEmail(giver);
+        StudentAttributes recipientStudent = roster.getStudentForEmail(recipient);
+        String recipientSection = recipientStudent == null ? giverStudent.section : recipientStudent.section;
+        return new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID, "question", FeedbackQuestionType.TEXT,
+                giver, giverStudent.section, recipient, recipientSection, null);
+    }
+
+    private FeedbackQuestionAttributes createQuestion(FeedbackParticipantType giverType,
+            FeedbackParticipantType recipientType, List<FeedbackParticipantType> showNameTo) {
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(SESSION_NAME)
+                .withCourseId(COURSE_ID)
+                .withQuestionNumber(1)
+                .withQuestionType(FeedbackQuestionType.TEXT)
+                .withGiverType(giverType)
+                .withRecipientType(recipientType)
+                .withShowResponseTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>(showNameTo))
+                .withShowRecipientNameTo(new ArrayList<>(showNameTo))
+                .build();
+    }
+
+    private static StudentAttributes createStudent(String email, String team, String section) {
+        return StudentAttributes.builder(COURSE_ID, email, email)
+                .withTeam(team)
+                .withSection(section)
+                .build();
+    }
+
+}
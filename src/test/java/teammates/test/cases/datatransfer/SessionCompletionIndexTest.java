@@ -0,0 +1,146 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionCompletionIndex;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link SessionCompletionIndex}.
+ */
+public class SessionCompletionIndexTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "SCITest.course";
+    private static final String SESSION_NAME = "SCITest session";
+
+    private final StudentAttributes student1 = createStudent("s1@scitest.tmt", "Team 1");
+    private final StudentAttributes student2 = createStudent("s2@scitest.tmt", "Team 1");
+    private final StudentAttributes student3 = createStudent("s3@scitest.tmt", "Team 2");
+    private final InstructorAttributes creator = createInstructor("creator@scitest.tmt");
+    private final InstructorAttributes instructor = createInstructor("ins@scitest.tmt");
+    private final CourseRoster roster = new CourseRoster(
+            Arrays.asList(student1, student2, student3), Arrays.asList(creator, instructor));
+    private final FeedbackSessionAttributes session =
+            FeedbackSessionAttributes.builder(SESSION_NAME, COURSE_ID, creator.email).build();
+
+    @Test
+    public void testIsFullyCompletedByStudent() {
+        FeedbackQuestionAttributes toOneStudent = createQuestion("q1", FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS, 1);
+        FeedbackQuestionAttributes toTeamMembers = createQuestion("q2", FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS, Const.MAX_POSSIBLE_RECIPIENTS);
+        FeedbackQuestionAttributes toAllTeams = createQuestion("q3", FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.TEAMS, Const.MAX_POSSIBLE_RECIPIENTS);
+        FeedbackQuestionAttributes forInstructors = createQuestion("q4", FeedbackParticipantType.INSTRUCTORS,
+                FeedbackParticipantType.NONE, Const.MAX_POSSIBLE_RECIPIENTS);
+        List<FeedbackQuestionAttributes> questions =
+                Arrays.asList(toOneStudent, toTeamMembers, toAllTeams, forInstructors);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        // student 1 answers all questions, needing one team member and one other team
+        responses.add(createResponse(toOneStudent, student1.email, student3.email));
+        responses.add(createResponse(toTeamMembers, student1.email, student2.email));
+        responses.add(createResponse(toAllTeams, student1.email, student3.team));
+        // student 2 does not answer the question to all teams
+        responses.add(createResponse(toOneStudent, student2.email, student1.email));
+        responses.add(createResponse(toTeamMembers, student2.email, student1.email));
+        // student 3 has no team members, and answers the question to one student twice but not the one to teams
+        responses.add(createResponse(toOneStudent, student3.email, student1.email));
+        responses.add(createResponse(toOneStudent, student3.email, student2.email));
+        // responses to questions not in the session are ignored
+        responses.add(createResponse(createQuestion("other", FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.TEAMS, 1), student3.email, student1.team));
+
+        SessionCompletionIndex index = new SessionCompletionIndex(session, questions, responses, roster);
+
+        // the question for instructors does not apply to students
+        assertTrue(index.isFullyCompletedByStudent(student1.email));
+        assertFalse(index.isFullyCompletedByStudent(student2.email));
+        assertFalse(index.isFullyCompletedByStudent(student3.email));
+
+        ______TS("student answers the remaining question");
+
+        responses.add(createResponse(toAllTeams, student3.email, student1.team));
+        index = new SessionCompletionIndex(session, questions, responses, roster);
+        assertTrue(index.isFullyCompletedByStudent(student3.email));
+
+        ______TS("no questions for students");
+
+        index = new SessionCompletionIndex(session, Arrays.asList(forInstructors), responses, roster);
+        assertTrue(index.isFullyCompletedByStudent(student2.email));
+    }
+
+    @Test
+    public void testIsFullyCompletedByInstructor() {
+        FeedbackQuestionAttributes toAllStudents = createQuestion("q1", FeedbackParticipantType.INSTRUCTORS,
+                FeedbackParticipantType.STUDENTS, Const.MAX_POSSIBLE_RECIPIENTS);
+        FeedbackQuestionAttributes forCreator = createQuestion("q2", FeedbackParticipantType.SELF,
+                FeedbackParticipantType.INSTRUCTORS, Const.MAX_POSSIBLE_RECIPIENTS);
+        List<FeedbackQuestionAttributes> questions = Arrays.asList(toAllStudents, forCreator);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (StudentAttributes student : Arrays.asList(student1, student2, student3)) {
+            responses.add(createResponse(toAllStudents, creator.email, student.email));
+            responses.add(createResponse(toAllStudents, instructor.email, student.email));
+        }
+
+        SessionCompletionIndex index = new SessionCompletionIndex(session, questions, responses, roster);
+
+        ______TS("questions for the creator apply to the creator only");
+
+        assertFalse(index.isFullyCompletedByInstructor(creator.email));
+        assertTrue(index.isFullyCompletedByInstructor(instructor.email));
+
+        // the creator gives feedback to all instructors other than the creator
+        responses.add(createResponse(forCreator, creator.email, instructor.email));
+        index = new SessionCompletionIndex(session, questions, responses, roster);
+        assertTrue(index.isFullyCompletedByInstructor(creator.email));
+
+        ______TS("questions for instructors do not apply to users not in the course");
+
+        assertTrue(index.isFullyCompletedByInstructor("outsider@scitest.tmt"));
+    }
+
+    private FeedbackQuestionAttributes createQuestion(String questionId, FeedbackParticipantType giverType,
+            FeedbackParticipantType recipientType, int numberOfEntitiesToGiveFeedbackTo) {
+        return FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(SESSION_NAME)
+                .withCourseId(COURSE_ID)
+                .withQuestionType(FeedbackQuestionType.TEXT)
+                .withGiverType(giverType)
+                .withRecipientType(recipientType)
+                .withNumOfEntitiesToGiveFeedbackTo(numberOfEntitiesToGiveFeedbackTo)
+                .withFeedbackQuestionId(questionId)
+                .build();
+    }
+
+    private static FeedbackResponseAttributes createResponse(FeedbackQuestionAttributes question, String giver,
+            String recipient) {
+        return new FeedbackResponseAttributes(SESSION_NAME, COURSE_ID, question.getId(), FeedbackQuestionType.TEXT,
+                giver, "None", recipient, "None", null);
+    }
+
+    private static StudentAttributes createStudent(String email, String team) {
+        return StudentAttributes.builder(COURSE_ID, email, email)
+                .withTeam(team)
+                .build();
+    }
+
+    private static InstructorAttributes createInstructor(String email) {
+        return InstructorAttributes.builder(null, COURSE_ID, email, email).build();
+    }
+
+}
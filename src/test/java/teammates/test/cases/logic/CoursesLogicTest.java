@@ -642,6 +642,14 @@ public class CoursesLogicTest extends BaseLogicTest {
         for (CourseDetailsBundle cdd : courseList.values()) {
             // check if course belongs to this instructor
             assertTrue(InstructorsLogic.inst().isGoogleIdOfInstructorOfCourse(instructor.googleId, cdd.course.getId()));
+
+            // the statistics kept agree with those computed from the students, but the sections are not read
+            CourseDetailsBundle courseSummary = coursesLogic.getCourseSummary(cdd.course.getId());
+            assertEquals(courseSummary.stats.studentsTotal, cdd.stats.studentsTotal);
+            assertEquals(courseSummary.stats.unregisteredTotal, cdd.stats.unregisteredTotal);
+            assertEquals(courseSummary.stats.teamsTotal, cdd.stats.teamsTotal);
+            assertEquals(courseSummary.stats.sectionsTotal, cdd.stats.sectionsTotal);
+            assertTrue(cdd.sections.isEmpty());
         }
 
         ______TS("Instructor with 1 archived, 1 unarchived course");
@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -20,6 +21,8 @@ import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 
 /**
  * SUT: {@link FeedbackQuestionsLogic}.
@@ -112,6 +115,30 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         assertEquals(recipients.get(email), Const.USER_NAME_FOR_SELF);
         assertEquals(recipients.size(), 1);
 
+        ______TS("recipients resolved from the course roster are the same as those loaded per question");
+
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        CourseRoster roster = new CourseRoster(StudentsLogic.inst().getStudentsForCourse(courseId),
+                InstructorsLogic.inst().getInstructorsForCourse(courseId));
+        String[] questionKeys = {"qn2InSession1InCourse1", "team.members.feedback",
+                "graceperiod.session.feedbackFromTeamToSelf", "team.feedback", "qn3InSession1InCourse1"};
+        String[] givers = {dataBundle.students.get("student1InCourse1").email,
+                dataBundle.students.get("student5InCourse1").email,
+                dataBundle.instructors.get("instructor1OfCourse1").email};
+        for (String questionKey : questionKeys) {
+            question = getQuestionFromDatastore(questionKey);
+            for (String giver : givers) {
+                if (question.recipientType == FeedbackParticipantType.SELF
+                        && question.giverType == FeedbackParticipantType.TEAMS
+                        && roster.getStudentForEmail(giver) == null) {
+                    // only students can give responses as a team
+                    continue;
+                }
+                assertEquals(fqLogic.getRecipientsForQuestion(question, giver),
+                        fqLogic.getRecipientsForQuestion(question, giver, roster));
+            }
+        }
+
     }
 
     private void testUpdateQuestionNumber() throws Exception {
@@ -588,9 +615,24 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         ______TS("test question is fully answered by user");
 
         question = getQuestionFromDatastore("qn1InSession1InCourse1");
-        assertTrue(fqLogic.isQuestionFullyAnsweredByUser(question, "student1InCourse1@gmail.tmt"));
+        CourseRoster roster = new CourseRoster(
+                StudentsLogic.inst().getStudentsForCourse(question.courseId),
+                InstructorsLogic.inst().getInstructorsForCourse(question.courseId));
+        assertTrue(fqLogic.isQuestionFullyAnsweredByUser(question, "student1InCourse1@gmail.tmt", roster));
+
+        assertFalse(fqLogic.isQuestionFullyAnsweredByUser(question, "studentWithNoResponses@gmail.tmt", roster));
+
+        ______TS("roster is not read for a question with a fixed number of recipients");
 
-        assertFalse(fqLogic.isQuestionFullyAnsweredByUser(question, "studentWithNoResponses@gmail.tmt"));
+        assertFalse(fqLogic.isRosterNeededForRecipients(question));
+        assertTrue(fqLogic.isQuestionFullyAnsweredByUser(question, "student1InCourse1@gmail.tmt", () -> {
+            throw new AssertionError("roster should not be read");
+        }));
+
+        ______TS("roster is read for a question to all students");
+
+        question = getQuestionFromDatastore("qn2InSession1InCourse1");
+        assertTrue(fqLogic.isRosterNeededForRecipients(question));
     }
 
     private void testAddQuestionNoIntegrityCheck() throws InvalidParametersException, EntityDoesNotExistException {
@@ -1,7 +1,11 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -55,8 +59,10 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     @Test
     public void allTests() throws Exception {
         testIsNameVisibleTo();
+        testGetViewableResponsesForStudentInSession();
         testGetViewableResponsesForQuestionInSection();
         testUpdateFeedbackResponse();
+        testUpdateFeedbackResponses();
         testUpdateFeedbackResponsesForChangingTeam();
         testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
         testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
@@ -109,6 +115,56 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     }
 
+    private void testUpdateFeedbackResponses() throws Exception {
+
+        ______TS("success: answers updated in place and recipient changed in one batch");
+
+        FeedbackResponseAttributes inPlaceResponse = getResponseFromDatastore("response2ForQ2S2C1");
+        FeedbackResponseAttributes recreatedResponse = getResponseFromDatastore("response1ForQ2S2C1");
+        String originalRecipient = recreatedResponse.recipient;
+
+        inPlaceResponse.responseMetaData = new Text("Batch updated response");
+        recreatedResponse.responseMetaData = new Text("Batch recreated response");
+        recreatedResponse.recipient = "student3InCourse1@gmail.tmt";
+
+        frLogic.updateFeedbackResponses(Arrays.asList(inPlaceResponse, recreatedResponse));
+
+        assertEquals("Batch updated response", frLogic.getFeedbackResponse(inPlaceResponse.getId())
+                .responseMetaData.getValue());
+        FeedbackResponseAttributes actualRecreatedResponse = frLogic.getFeedbackResponse(
+                recreatedResponse.feedbackQuestionId, recreatedResponse.giver, "student3InCourse1@gmail.tmt");
+        assertEquals("Batch recreated response", actualRecreatedResponse.responseMetaData.getValue());
+        assertNull(frLogic.getFeedbackResponse(recreatedResponse.getId()));
+
+        ______TS("failure: recipient changed to one that already has a response");
+
+        FeedbackResponseAttributes clashingResponse = new FeedbackResponseAttributes(actualRecreatedResponse);
+        clashingResponse.recipient = inPlaceResponse.recipient;
+        clashingResponse.giver = inPlaceResponse.giver;
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(clashingResponse));
+            signalFailureToDetectException("Should have detected that same giver->recipient response alr exists");
+        } catch (EntityAlreadyExistsException e) {
+            AssertHelper.assertContains("already exists", e.getMessage());
+        }
+        assertNotNull(frLogic.getFeedbackResponse(actualRecreatedResponse.getId()));
+
+        ______TS("failure: non-existent response");
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(recreatedResponse));
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to update a feedback response that does not exist.", e.getMessage());
+        }
+
+        // restore the original recipient
+        actualRecreatedResponse.recipient = originalRecipient;
+        frLogic.updateFeedbackResponses(Arrays.asList(actualRecreatedResponse));
+        assertNotNull(frLogic.getFeedbackResponse(recreatedResponse.getId()));
+    }
+
     private void testUpdateFeedbackResponse() throws Exception {
 
         ______TS("success: standard update with carried params ");
@@ -355,7 +411,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
     private int getResponseRate(String sessionName, String courseId) {
-        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
+        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
         return sessionFromDataStore.getRespondingInstructorList().size()
                 + sessionFromDataStore.getRespondingStudentList().size();
     }
@@ -424,6 +480,44 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 studentToUpdate.course, "new@email.tmt", studentToUpdate.email);
     }
 
+    private void testGetViewableResponsesForStudentInSession() throws Exception {
+
+        ______TS("success: same responses as GetViewableResponsesForQuestionInSection for every student");
+
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            String courseId = session.getCourseId();
+            List<FeedbackQuestionAttributes> questions =
+                    fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), courseId);
+            List<StudentAttributes> students = new StudentsDb().getStudentsForCourse(courseId);
+            CourseRoster roster = new CourseRoster(students, new InstructorsDb().getInstructorsForCourse(courseId));
+
+            for (StudentAttributes student : students) {
+                for (String section : Arrays.asList(null, student.section)) {
+                    Map<String, List<FeedbackResponseAttributes>> viewableResponses =
+                            frLogic.getViewableFeedbackResponsesForStudentInSession(
+                                    session.getFeedbackSessionName(), courseId, questions, student.email, section, roster);
+
+                    for (FeedbackQuestionAttributes question : questions) {
+                        List<FeedbackResponseAttributes> expected =
+                                frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                                        question, student.email, UserRole.STUDENT, section);
+                        List<FeedbackResponseAttributes> actual =
+                                viewableResponses.getOrDefault(question.getId(), new ArrayList<>());
+                        assertEquals(getResponseIds(expected), getResponseIds(actual));
+                    }
+                }
+            }
+        }
+    }
+
+    private Set<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        Set<String> responseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseIds.add(response.getId());
+        }
+        return responseIds;
+    }
+
     private void testGetViewableResponsesForQuestionInSection() throws Exception {
 
         ______TS("success: GetViewableResponsesForQuestion - instructor");
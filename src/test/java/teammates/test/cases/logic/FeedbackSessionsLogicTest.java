@@ -1,13 +1,16 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
@@ -20,6 +23,7 @@ import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionStats;
+import teammates.common.datatransfer.ResponseVisibilityTable;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -83,6 +87,61 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testDeleteFeedbackSessionsForCourse();
     }
 
+    @Test
+    public void testUpdateRespondentsForGivers() throws Exception {
+        // testAll modifies and deletes sessions
+        DataBundle freshDataBundle = loadDataBundle("/FeedbackSessionsLogicTest.json");
+        removeAndRestoreDataBundle(freshDataBundle);
+
+        FeedbackSessionAttributes session = freshDataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        // the respondents rebuilt from all the responses in the session are the expected ones
+        fsLogic.updateRespondentsForSession(sessionName, courseId);
+        FeedbackSessionAttributes sessionBeforeUpdate = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        Set<String> expectedStudents = sessionBeforeUpdate.getRespondingStudentList();
+        Set<String> expectedInstructors = sessionBeforeUpdate.getRespondingInstructorList();
+        assertFalse(expectedStudents.isEmpty());
+        assertFalse(expectedInstructors.isEmpty());
+
+        ______TS("respondents of the givers are recomputed from their own responses");
+
+        String nonRespondent = freshDataBundle.students.get("student5InCourse1").email;
+        fsLogic.clearStudentRespondents(sessionName, courseId);
+        fsLogic.clearInstructorRespondents(sessionName, courseId);
+        fsLogic.addStudentRespondents(Collections.singletonList(nonRespondent), sessionName, courseId);
+        fsLogic.addInstructorRespondents(Collections.singletonList(nonRespondent), sessionName, courseId);
+
+        Set<String> givers = new HashSet<>(expectedStudents);
+        givers.addAll(expectedInstructors);
+        givers.add(nonRespondent);
+        fsLogic.updateRespondentsForGivers(sessionName, courseId, givers);
+
+        FeedbackSessionAttributes sessionAfterUpdate = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        assertEquals(expectedStudents, sessionAfterUpdate.getRespondingStudentList());
+        assertEquals(expectedInstructors, sessionAfterUpdate.getRespondingInstructorList());
+
+        ______TS("respondents of other users are left as they are");
+
+        fsLogic.addStudentRespondents(Collections.singletonList(nonRespondent), sessionName, courseId);
+        fsLogic.updateRespondentsForGivers(sessionName, courseId, expectedStudents);
+
+        sessionAfterUpdate = fsLogic.getFeedbackSessionWithRespondents(sessionName, courseId);
+        assertTrue(sessionAfterUpdate.getRespondingStudentList().contains(nonRespondent));
+
+        ______TS("failure case: non-existent session");
+
+        try {
+            fsLogic.updateRespondentsForGivers("non-existent session", courseId, givers);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to update a non-existent feedback session: "
+                         + courseId + "/" + "non-existent session",
+                         edne.getMessage());
+        }
+    }
+
     private void testGetFeedbackSessionsListForInstructor() {
         List<FeedbackSessionAttributes> finalFsa = new ArrayList<>();
         Collection<FeedbackSessionAttributes> allFsa = dataBundle.feedbackSessions.values();
@@ -1738,6 +1797,39 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                          + "no course" + "/" + "non.existent",
                          e.getMessage());
         }
+
+        ______TS("streamed export: same content as the export built in memory");
+
+        session = dataBundle.feedbackSessions.get("session1InCourse1");
+        instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true, writer);
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, null, true, true),
+                writer.toString());
+
+        writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1", false, true,
+                writer);
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, "Section 1", null,
+                false, true),
+                writer.toString());
+
+        ______TS("streamed export: non-existent Course/Session");
+
+        try {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv("non.existent", "no course",
+                    instructor.email, null, true, true, new StringWriter());
+            signalFailureToDetectException("Failed to detect non-existent feedback session.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback session: "
+                         + "no course" + "/" + "non.existent",
+                         e.getMessage());
+        }
     }
 
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
@@ -1957,9 +2049,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     }
 
     // Stringifies the visibility table for easy testing/comparison.
-    private String tableToString(Map<String, boolean[]> table) {
+    private String tableToString(ResponseVisibilityTable table) {
         StringBuilder tableStringBuilder = new StringBuilder();
-        table.forEach((key, value) -> tableStringBuilder.append('{' + key + "={" + value[0] + ',' + value[1] + "}},"));
+        table.getResponseIds().forEach(key -> tableStringBuilder.append('{' + key + "={" + table.isGiverNameVisible(key)
+                + ',' + table.isRecipientNameVisible(key) + "}},"));
         String tableString = tableStringBuilder.toString();
         if (!tableString.isEmpty()) {
             tableString = tableString.substring(0, tableString.length() - 1);
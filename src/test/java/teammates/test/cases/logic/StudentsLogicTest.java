@@ -3,8 +3,12 @@ package teammates.test.cases.logic;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
@@ -13,12 +17,14 @@ import com.google.appengine.api.datastore.Text;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -38,6 +44,7 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.CourseStatisticsDb;
 import teammates.storage.api.StudentsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.StringHelperExtension;
@@ -384,7 +391,7 @@ public class StudentsLogicTest extends BaseLogicTest {
                                             feedbackResponse1InBundle.giver,
                                             feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionInDb.getId());
 
         FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
@@ -407,12 +414,60 @@ public class StudentsLogicTest extends BaseLogicTest {
         responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionInDb.getId());
 
         responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
         assertEquals(responseBefore.getId(), responseAfter.getId());
 
+        ______TS("adjust feedback response: change of section of giver");
+
+        StudentAttributes student4InCourse1 = dataBundle.students.get("student4InCourse1");
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                                                    student4InCourse1.email, null, student4InCourse1.team,
+                                                    student4InCourse1.section, "Section 2"));
+
+        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
+        assertEquals(student4InCourse1.email, responseBefore.giver);
+
+        // the student is moved before the adjustment is done, as in an enrollment
+        new StudentsDb().updateStudentWithoutSearchability(course1Id, student4InCourse1.email, student4InCourse1.name,
+                student4InCourse1.team, "Section 2", student4InCourse1.email, student4InCourse1.googleId,
+                student4InCourse1.comments);
+
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionInDb.getId());
+
+        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
+        assertEquals(responseBefore.getId(), responseAfter.getId());
+        assertEquals("Section 2", responseAfter.giverSection);
+        assertEquals(responseBefore.recipientSection, responseAfter.recipientSection);
+
+        // adjusting again, e.g. when a task is retried, leaves the response unchanged
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionInDb.getId());
+
+        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
+        assertEquals("Section 2", responseAfter.giverSection);
+
+        // an outdated adjustment, e.g. one done after a later one, moves the response to the current section
+        List<StudentEnrollDetails> outdatedEnrollmentList = new ArrayList<>();
+        outdatedEnrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                                                            student4InCourse1.email, null, student4InCourse1.team,
+                                                            student4InCourse1.section, "Section 3"));
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(
+                outdatedEnrollmentList, feedbackQuestionInDb.getId());
+
+        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
+                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
+        assertEquals("Section 2", responseAfter.giverSection);
+
+        new StudentsDb().updateStudentWithoutSearchability(course1Id, student4InCourse1.email, student4InCourse1.name,
+                student4InCourse1.team, student4InCourse1.section, student4InCourse1.email, student4InCourse1.googleId,
+                student4InCourse1.comments);
+
         // the code below will cause the feedback to be deleted because
         // recipient's e-mail is the same as the one in studentEnrollDetails
         // and the question's recipient's type is own team members
@@ -431,7 +486,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        studentsLogic.adjustFeedbackResponsesOfQuestionForEnrollments(enrollmentList, feedbackQuestionInDb.getId());
 
         responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
@@ -1171,10 +1226,107 @@ public class StudentsLogicTest extends BaseLogicTest {
         }
     }
 
+    @Test
+    public void testCourseStatistics() throws Exception {
+        String courseId = "SLT.tCS.course";
+        coursesLogic.createCourse(courseId, "Course for Statistics Testing", "UTC");
+
+        ______TS("statistics are computed from the students when first read");
+
+        verifyCourseStats(courseId, 0, 0, 0, 0);
+
+        ______TS("student created");
+
+        StudentAttributes alice = StudentAttributes.builder(courseId, "Alice", "alice@slt.tmt")
+                .withSection("Section 1")
+                .withTeam("Team 1")
+                .withComments("")
+                .build();
+        studentsLogic.createStudentCascadeWithoutDocument(alice);
+        verifyCourseStats(courseId, 1, 1, 1, 1);
+
+        ______TS("students enrolled: one new, one moved to a new team and section");
+
+        String lines = "Section|Team|Name|Email" + System.lineSeparator()
+                + "Section 1|Team 1|Bob|bob@slt.tmt" + System.lineSeparator()
+                + "Section 2|Team 2|Alice|alice@slt.tmt";
+        studentsLogic.enrollStudentsWithoutDocument(lines, courseId);
+        verifyCourseStats(courseId, 2, 2, 2, 2);
+
+        ______TS("student joins the course");
+
+        StudentAttributes bob = studentsLogic.getStudentForEmail(courseId, "bob@slt.tmt");
+        bob.googleId = "SLT.tCS.bob";
+        studentsLogic.updateStudentCascadeWithoutDocument(bob.email, bob);
+        verifyCourseStats(courseId, 2, 1, 2, 2);
+
+        ______TS("student moved to the team of another student");
+
+        bob = studentsLogic.getStudentForEmail(courseId, "bob@slt.tmt");
+        bob.section = "Section 2";
+        bob.team = "Team 2";
+        studentsLogic.updateStudentCascadeWithoutDocument(bob.email, bob);
+        verifyCourseStats(courseId, 2, 1, 1, 1);
+
+        ______TS("Google ID of student reset");
+
+        studentsLogic.resetStudentGoogleId(bob.email, courseId, false);
+        verifyCourseStats(courseId, 2, 2, 1, 1);
+
+        ______TS("student deleted");
+
+        studentsLogic.deleteStudentCascadeWithoutDocument(courseId, "alice@slt.tmt");
+        verifyCourseStats(courseId, 1, 1, 1, 1);
+
+        ______TS("statistics that have drifted are repaired");
+
+        CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+        courseStatisticsDb.replaceCourseStatistics(new CourseStatisticsAttributes(courseId, Collections.emptyList()),
+                courseStatisticsDb.getCourseStatistics(courseId).getUpdatedAt());
+        assertEquals(0, studentsLogic.getCourseStats(courseId).studentsTotal);
+
+        studentsLogic.repairCourseStatistics(courseId);
+        verifyCourseStats(courseId, 1, 1, 1, 1);
+
+        ______TS("statistics of several courses read together");
+
+        Map<String, CourseStats> statsByCourseId =
+                studentsLogic.getCourseStatsForCourses(Arrays.asList(courseId, "idOfTypicalCourse1"));
+        assertEquals(1, statsByCourseId.get(courseId).studentsTotal);
+        assertEquals(studentsLogic.getStudentsForCourse("idOfTypicalCourse1").size(),
+                statsByCourseId.get("idOfTypicalCourse1").studentsTotal);
+
+        ______TS("all students of the course deleted");
+
+        studentsLogic.deleteStudentsForCourseWithoutDocument(courseId);
+        verifyCourseStats(courseId, 0, 0, 0, 0);
+
+        coursesLogic.deleteCourseCascade(courseId);
+    }
+
+    private static void verifyCourseStats(String courseId, int expectedStudents, int expectedUnregistered,
+            int expectedTeams, int expectedSections) {
+        CourseStats stats = studentsLogic.getCourseStats(courseId);
+        assertEquals(expectedStudents, stats.studentsTotal);
+        assertEquals(expectedUnregistered, stats.unregisteredTotal);
+        assertEquals(expectedTeams, stats.teamsTotal);
+        assertEquals(expectedSections, stats.sectionsTotal);
+
+        // the statistics kept agree with those computed from the students
+        assertEquals(JsonUtils.toJson(studentsLogic.getCourseStructure(courseId).getStats()), JsonUtils.toJson(stats));
+    }
+
+    @SuppressWarnings("unchecked")
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class, Boolean.class },
-                                                   StudentsLogic.inst(), new Object[] { student, false });
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        StudentAttributes originalStudent = studentsLogic.getStudentForEmail(student.course, student.email);
+        if (originalStudent != null) {
+            studentsInCourseByEmail.put(originalStudent.email, originalStudent);
+        }
+        List<StudentEnrollDetails> enrollmentList = (List<StudentEnrollDetails>) invokeMethod(StudentsLogic.class,
+                "enrollStudents", new Class<?>[] { List.class, Map.class, boolean.class }, StudentsLogic.inst(),
+                new Object[] { Collections.singletonList(student), studentsInCourseByEmail, false });
+        return enrollmentList.get(0);
     }
 
     @AfterClass
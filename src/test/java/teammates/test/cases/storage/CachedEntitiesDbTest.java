@@ -0,0 +1,275 @@
+package teammates.test.cases.storage;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.storage.api.CachedEntitiesDb;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.EntitiesDb;
+import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.api.StudentsDb;
+import teammates.storage.cache.EntityCache;
+import teammates.storage.cache.EntityCacheStatistics;
+import teammates.storage.cache.LruEntityCache;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link CachedEntitiesDb}.
+ */
+public class CachedEntitiesDbTest extends BaseComponentTestCase {
+
+    private static final CoursesDb coursesDb = new CoursesDb();
+    private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    private final LruEntityCache entityCache = new LruEntityCache(100);
+    private EntityCache originalEntityCache;
+
+    @BeforeClass
+    public void classSetup() {
+        originalEntityCache = CachedEntitiesDb.getEntityCache();
+        CachedEntitiesDb.setEntityCache(entityCache);
+        EntityCacheStatistics.reset();
+    }
+
+    @AfterClass
+    public void classTearDown() {
+        CachedEntitiesDb.setEntityCache(originalEntityCache);
+        EntityCacheStatistics.reset();
+    }
+
+    @Test
+    public void testGetEntityThroughCache() throws Exception {
+        CourseAttributes course = CourseAttributes
+                .builder("CachedEntitiesDbTest.course", "Cached Course", ZoneId.of("UTC"))
+                .build();
+        coursesDb.createEntity(course);
+        // the creation prevents the course from being cached for a while
+        entityCache.clear();
+        EntityCacheStatistics.reset();
+
+        ______TS("typical case: first read misses the cache, later reads hit it");
+
+        assertEquals(course.getName(), coursesDb.getCourse(course.getId()).getName());
+        assertEquals(1, EntityCacheStatistics.getMissCount("Course"));
+        assertEquals(0, EntityCacheStatistics.getHitCount("Course"));
+
+        assertEquals(course.getName(), coursesDb.getCourse(course.getId()).getName());
+        assertEquals(course.getName(), coursesDb.getCourse(course.getId()).getName());
+        assertEquals(1, EntityCacheStatistics.getMissCount("Course"));
+        assertEquals(2, EntityCacheStatistics.getHitCount("Course"));
+        assertEquals(2.0 / 3, EntityCacheStatistics.getHitRatio("Course"), 0.001);
+
+        ______TS("typical case: update invalidates the cached entity");
+
+        course.setName("Renamed Cached Course");
+        coursesDb.updateCourse(course);
+
+        assertEquals("Renamed Cached Course", coursesDb.getCourse(course.getId()).getName());
+        assertEquals(2, EntityCacheStatistics.getMissCount("Course"));
+
+        ______TS("typical case: delete invalidates the cached entity");
+
+        coursesDb.deleteCourse(course.getId());
+
+        assertNull(coursesDb.getCourse(course.getId()));
+    }
+
+    @Test
+    public void testGetEntitiesThroughCache() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession("CachedEntitiesDbTest session 1");
+        fsDb.createEntity(session);
+        entityCache.clear();
+        EntityCacheStatistics.reset();
+        String listKind = "FeedbackSessionsForCourse";
+
+        ______TS("typical case: list cached after the first read");
+
+        assertEquals(1, fsDb.getFeedbackSessionsForCourse(session.getCourseId()).size());
+        List<FeedbackSessionAttributes> sessions = fsDb.getFeedbackSessionsForCourse(session.getCourseId());
+
+        assertEquals(1, sessions.size());
+        assertEquals(session.getFeedbackSessionName(), sessions.get(0).getFeedbackSessionName());
+        assertEquals(1, EntityCacheStatistics.getMissCount(listKind));
+        assertEquals(1, EntityCacheStatistics.getHitCount(listKind));
+
+        ______TS("typical case: creating an entity invalidates the cached list");
+
+        FeedbackSessionAttributes otherSession = getNewFeedbackSession("CachedEntitiesDbTest session 2");
+        fsDb.createEntity(otherSession);
+
+        assertEquals(2, fsDb.getFeedbackSessionsForCourse(session.getCourseId()).size());
+
+        ______TS("typical case: updating an entity invalidates the cached entity and list");
+
+        fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        session.setInstructions(new Text("Updated instructions"));
+        fsDb.updateFeedbackSession(session);
+
+        assertEquals("Updated instructions", fsDb.getFeedbackSession(
+                session.getCourseId(), session.getFeedbackSessionName()).getInstructions().getValue());
+        for (FeedbackSessionAttributes cachedSession : fsDb.getFeedbackSessionsForCourse(session.getCourseId())) {
+            if (cachedSession.getFeedbackSessionName().equals(session.getFeedbackSessionName())) {
+                assertEquals("Updated instructions", cachedSession.getInstructions().getValue());
+            }
+        }
+
+        ______TS("typical case: bulk delete invalidates the cached entity and list");
+
+        fsDb.deleteFeedbackSessionsForCourse(session.getCourseId());
+
+        assertNull(fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName()));
+        assertTrue(fsDb.getFeedbackSessionsForCourse(session.getCourseId()).isEmpty());
+    }
+
+    @Test
+    public void testGetCourseStructureThroughCache() throws Exception {
+        String courseId = "CachedEntitiesDbTest.structure";
+        StudentAttributes student1 = getNewStudent(courseId, "student1@cached.tmt", "Section 1", "Team 1");
+        StudentAttributes student2 = getNewStudent(courseId, "student2@cached.tmt", "Section 2", "Team 2");
+        studentsDb.createStudentWithoutDocument(student1);
+        studentsDb.createStudentWithoutDocument(student2);
+        entityCache.clear();
+        EntityCacheStatistics.reset();
+        String listKind = "StudentsForCourse";
+
+        ______TS("typical case: roster read once for all readers of the structure");
+
+        assertEquals(Arrays.asList("Section 1", "Section 2"), studentsDb.getCourseStructure(courseId).getSectionNames());
+        assertEquals(2, studentsDb.getCourseStructure(courseId).getTeams().size());
+        assertEquals("Section 2", studentsDb.getCourseStructure(courseId).getSectionForTeam("Team 2"));
+        assertEquals(1, EntityCacheStatistics.getMissCount(listKind));
+        assertEquals(2, EntityCacheStatistics.getHitCount(listKind));
+
+        ______TS("typical case: updating a student invalidates the cached roster");
+
+        studentsDb.updateStudentWithoutSearchability(courseId, student2.email, student2.name, "Team 1", "Section 1",
+                student2.email, student2.googleId, student2.comments);
+
+        CourseStructure structure = studentsDb.getCourseStructure(courseId);
+        assertEquals(Arrays.asList("Section 1"), structure.getSectionNames());
+        assertEquals(1, structure.getTeams().size());
+        assertEquals(2, structure.getTeams().get(0).students.size());
+
+        ______TS("typical case: deleting a student without going through the entities invalidates the cached roster");
+
+        studentsDb.deleteStudentWithoutDocument(courseId, student2.email);
+
+        assertEquals(1, studentsDb.getCourseStructure(courseId).getStats().studentsTotal);
+
+        ______TS("typical case: deleting students by Google ID invalidates the cached rosters of their courses");
+
+        studentsDb.updateStudentWithoutSearchability(courseId, student1.email, student1.name, student1.team,
+                student1.section, student1.email, "cachedGoogleId", student1.comments);
+        assertEquals(0, studentsDb.getCourseStructure(courseId).getStats().unregisteredTotal);
+
+        studentsDb.deleteStudentsForGoogleIdWithoutDocument("cachedGoogleId");
+
+        assertTrue(studentsDb.getCourseStructure(courseId).getSections().isEmpty());
+    }
+
+    @Test
+    public void testInvalidationAfterTransaction() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession("CachedEntitiesDbTest session 3");
+        fsDb.createEntity(session);
+        List<Collection<String>> invalidations = new ArrayList<>();
+        CachedEntitiesDb.setEntityCache(new LruEntityCache(100) {
+            @Override
+            public synchronized void invalidate(Collection<String> keys) {
+                invalidations.add(new ArrayList<>(keys));
+                super.invalidate(keys);
+            }
+        });
+
+        ______TS("typical case: entity written in a transaction is invalidated again after the commit");
+
+        try {
+            fsDb.updateFeedbackSessionsTimeZoneForCourse(session.getCourseId(), ZoneId.of("Asia/Singapore"));
+        } finally {
+            CachedEntitiesDb.setEntityCache(entityCache);
+        }
+
+        assertEquals(2, invalidations.size());
+        assertEquals(invalidations.get(0), invalidations.get(1));
+        assertEquals("Asia/Singapore",
+                fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName()).getTimeZone().getId());
+
+        fsDb.deleteFeedbackSessionsForCourse(session.getCourseId());
+    }
+
+    @Test
+    public void testInvalidationAfterFlush() throws Exception {
+        CourseAttributes course = CourseAttributes
+                .builder("CachedEntitiesDbTest.deferred", "Deferred Course", ZoneId.of("UTC"))
+                .build();
+        List<Collection<String>> invalidations = new ArrayList<>();
+        CachedEntitiesDb.setEntityCache(new LruEntityCache(100) {
+            @Override
+            public synchronized void invalidate(Collection<String> keys) {
+                invalidations.add(new ArrayList<>(keys));
+                super.invalidate(keys);
+            }
+        });
+
+        ______TS("typical case: entity saved with a deferred write is invalidated again after the flush");
+
+        try {
+            coursesDb.createEntitiesDeferred(Arrays.asList(course));
+            assertEquals(1, invalidations.size());
+
+            EntitiesDb.flush();
+        } finally {
+            CachedEntitiesDb.setEntityCache(entityCache);
+        }
+
+        assertEquals(2, invalidations.size());
+        assertEquals(invalidations.get(0), invalidations.get(1));
+        assertEquals("Deferred Course", coursesDb.getCourse(course.getId()).getName());
+
+        ______TS("typical case: flushing again does not invalidate the entity again");
+
+        invalidations.clear();
+        EntitiesDb.flush();
+
+        assertTrue(invalidations.isEmpty());
+
+        coursesDb.deleteCourse(course.getId());
+    }
+
+    private StudentAttributes getNewStudent(String courseId, String email, String section, String team) {
+        return StudentAttributes.builder(courseId, email, email)
+                .withComments("")
+                .withSection(section)
+                .withTeam(team)
+                .withGoogleId("")
+                .build();
+    }
+
+    private FeedbackSessionAttributes getNewFeedbackSession(String feedbackSessionName) {
+        Instant now = Instant.now();
+        return FeedbackSessionAttributes.builder(feedbackSessionName, "CachedEntitiesDbTest.course", "valid@email.com")
+                .withCreatedTime(now)
+                .withStartTime(now)
+                .withEndTime(now)
+                .withSessionVisibleFromTime(now)
+                .withResultsVisibleFromTime(now)
+                .withGracePeriodMinutes(5)
+                .withInstructions(new Text("Give feedback."))
+                .build();
+    }
+
+}
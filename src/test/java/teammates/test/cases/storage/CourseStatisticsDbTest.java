@@ -0,0 +1,161 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.ThreadHelper;
+import teammates.storage.api.CourseStatisticsDb;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.test.driver.AssertHelper;
+
+/**
+ * SUT: {@link CourseStatisticsDb}.
+ */
+public class CourseStatisticsDbTest extends BaseComponentTestCase {
+
+    private CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+
+    @Test
+    public void testCreateAndGetCourseStatistics() throws Exception {
+        String courseId = "CSDbT.tPAGCS.course";
+
+        ______TS("Success: get statistics not kept");
+
+        assertNull(courseStatisticsDb.getCourseStatistics(courseId));
+
+        ______TS("Success: typical case");
+
+        courseStatisticsDb.createCourseStatisticsIfAbsent(new CourseStatisticsAttributes(courseId, Arrays.asList(
+                createStudent(courseId, "Section 1", "Team 1", "alice", "googleId.alice"),
+                createStudent(courseId, "Section 1", "Team 1", "bob", ""),
+                createStudent(courseId, Const.DEFAULT_SECTION, "Team.2", "carl", ""))));
+
+        CourseStatisticsAttributes retrieved = courseStatisticsDb.getCourseStatistics(courseId);
+        assertNotNull(retrieved.getUpdatedAt());
+        verifyStats(retrieved.toCourseStats(), 3, 2, 2, 1);
+
+        ______TS("Success: statistics created again do not replace the statistics kept");
+
+        CourseStatisticsAttributes kept = courseStatisticsDb.createCourseStatisticsIfAbsent(
+                new CourseStatisticsAttributes(courseId, Collections.emptyList()));
+        verifyStats(kept.toCourseStats(), 3, 2, 2, 1);
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 3, 2, 2, 1);
+
+        ______TS("Success: statistics updated since they were read are not replaced");
+
+        ThreadHelper.waitBriefly(); // the update is detected by the last update time, which is kept in milliseconds
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.emptyList(), Collections.singletonList(
+                createStudent(courseId, "Section 1", "Team 1", "dan", "")));
+        assertFalse(courseStatisticsDb.replaceCourseStatistics(
+                new CourseStatisticsAttributes(courseId, Collections.emptyList()), retrieved.getUpdatedAt()));
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 4, 3, 2, 1);
+
+        ______TS("Success: statistics not updated since they were read are replaced");
+
+        retrieved = courseStatisticsDb.getCourseStatistics(courseId);
+        assertTrue(courseStatisticsDb.replaceCourseStatistics(
+                new CourseStatisticsAttributes(courseId, Collections.emptyList()), retrieved.getUpdatedAt()));
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 0, 0, 0, 0);
+
+        ______TS("Success: statistics of several courses are read together");
+
+        String otherCourseId = "CSDbT.tPAGCS.otherCourse";
+        courseStatisticsDb.createCourseStatisticsIfAbsent(new CourseStatisticsAttributes(otherCourseId,
+                Collections.singletonList(createStudent(otherCourseId, Const.DEFAULT_SECTION, "Team 1", "dan", ""))));
+
+        Map<String, CourseStatisticsAttributes> statisticsByCourseId = courseStatisticsDb.getCourseStatisticsForCourses(
+                Arrays.asList(courseId, otherCourseId, "CSDbT.tPAGCS.courseWithoutStatistics"));
+        assertEquals(2, statisticsByCourseId.size());
+        verifyStats(statisticsByCourseId.get(courseId).toCourseStats(), 0, 0, 0, 0);
+        verifyStats(statisticsByCourseId.get(otherCourseId).toCourseStats(), 1, 1, 1, 0);
+
+        ______TS("Failure: create statistics with invalid course ID");
+
+        try {
+            courseStatisticsDb.createCourseStatisticsIfAbsent(
+                    new CourseStatisticsAttributes("Invalid id", Collections.emptyList()));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("not acceptable to TEAMMATES as a/an course ID", e.getMessage());
+        }
+
+        ______TS("Success: delete statistics");
+
+        courseStatisticsDb.deleteCourseStatisticsForCourses(Arrays.asList(courseId, otherCourseId));
+        assertNull(courseStatisticsDb.getCourseStatistics(courseId));
+        assertNull(courseStatisticsDb.getCourseStatistics(otherCourseId));
+    }
+
+    @Test
+    public void testUpdateCourseStatistics() throws Exception {
+        String courseId = "CSDbT.tUCS.course";
+        StudentAttributes alice = createStudent(courseId, "Section 1", "Team 1", "alice", "");
+        StudentAttributes bob = createStudent(courseId, "Section 1", "Team 1", "bob", "googleId.bob");
+
+        ______TS("Success: statistics not kept are not created by an update");
+
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.emptyList(), Collections.singletonList(alice));
+        assertNull(courseStatisticsDb.getCourseStatistics(courseId));
+
+        courseStatisticsDb.createCourseStatisticsIfAbsent(new CourseStatisticsAttributes(courseId, Collections.emptyList()));
+
+        ______TS("Success: students added are counted");
+
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.emptyList(), Arrays.asList(alice, bob));
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 2, 1, 1, 1);
+
+        ______TS("Success: student moved to a new team in a new section");
+
+        StudentAttributes movedAlice = createStudent(courseId, "Section 2", "Team 2", "alice", "");
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.singletonList(alice),
+                Collections.singletonList(movedAlice));
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 2, 1, 2, 2);
+
+        ______TS("Success: student joins the course");
+
+        StudentAttributes joinedAlice = createStudent(courseId, "Section 2", "Team 2", "alice", "googleId.alice");
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.singletonList(movedAlice),
+                Collections.singletonList(joinedAlice));
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 2, 0, 2, 2);
+
+        ______TS("Success: the last student of a team and section is removed");
+
+        courseStatisticsDb.updateCourseStatistics(courseId, Collections.singletonList(joinedAlice),
+                Collections.emptyList());
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 1, 0, 1, 1);
+
+        ______TS("Success: counts do not go below zero");
+
+        courseStatisticsDb.updateCourseStatistics(courseId, Arrays.asList(bob, alice), Collections.emptyList());
+        verifyStats(courseStatisticsDb.getCourseStatistics(courseId).toCourseStats(), 0, 0, 0, 0);
+
+        courseStatisticsDb.deleteCourseStatistics(courseId);
+        assertNull(courseStatisticsDb.getCourseStatistics(courseId));
+    }
+
+    private static void verifyStats(CourseStats stats, int expectedStudents, int expectedUnregistered,
+            int expectedTeams, int expectedSections) {
+        assertEquals(expectedStudents, stats.studentsTotal);
+        assertEquals(expectedUnregistered, stats.unregisteredTotal);
+        assertEquals(expectedTeams, stats.teamsTotal);
+        assertEquals(expectedSections, stats.sectionsTotal);
+    }
+
+    private static StudentAttributes createStudent(String courseId, String section, String team, String name,
+            String googleId) {
+        return StudentAttributes.builder(courseId, name, name + "@csdbt.tmt")
+                .withSection(section)
+                .withTeam(team)
+                .withGoogleId(googleId)
+                .build();
+    }
+
+}
@@ -0,0 +1,136 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DeletionJobScope;
+import teammates.common.datatransfer.DeletionJobStage;
+import teammates.common.datatransfer.DeletionJobStatus;
+import teammates.common.datatransfer.attributes.DeletionJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.api.DeletionJobsDb;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.test.driver.AssertHelper;
+
+/**
+ * SUT: {@link DeletionJobsDb}.
+ */
+public class DeletionJobsDbTest extends BaseComponentTestCase {
+
+    private DeletionJobsDb deletionJobsDb = new DeletionJobsDb();
+
+    @Test
+    public void testCreateAndGetDeletionJob() throws Exception {
+
+        ______TS("Success: typical case");
+
+        DeletionJobAttributes job =
+                new DeletionJobAttributes(DeletionJobScope.FEEDBACK_SESSION, "DJDbT.tCAGDJ.course", "Session 1");
+        deletionJobsDb.createDeletionJob(job);
+
+        DeletionJobAttributes retrieved = deletionJobsDb.getDeletionJob(job.getId());
+        assertEquals(job.getCourseId(), retrieved.getCourseId());
+        assertEquals("Session 1", retrieved.getFeedbackSessionName());
+        assertEquals(DeletionJobScope.FEEDBACK_SESSION, retrieved.getScope());
+        assertEquals(DeletionJobStage.FEEDBACK_RESPONSE_COMMENTS, retrieved.getStage());
+        assertEquals(DeletionJobStatus.IN_PROGRESS, retrieved.getStatus());
+        assertNull(retrieved.getCursor());
+        assertEquals(0, retrieved.getNumberOfEntitiesDeleted());
+        assertEquals(job.getCreatedAt().toEpochMilli(), retrieved.getCreatedAt().toEpochMilli());
+
+        ______TS("Failure: create a job with invalid course ID");
+
+        try {
+            deletionJobsDb.createDeletionJob(new DeletionJobAttributes(DeletionJobScope.COURSE, "Invalid id", null));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("not acceptable to TEAMMATES as a/an course ID", e.getMessage());
+        }
+
+        ______TS("Success: get non-existent job");
+
+        assertNull(deletionJobsDb.getDeletionJob("non-existent-job"));
+    }
+
+    @Test
+    public void testGetDeletionJobsForCourse() throws Exception {
+        DeletionJobAttributes sessionJob =
+                new DeletionJobAttributes(DeletionJobScope.FEEDBACK_SESSION, "DJDbT.tGDJFC.course", "Session 1");
+        deletionJobsDb.createDeletionJob(sessionJob);
+        DeletionJobAttributes studentsJob =
+                new DeletionJobAttributes(DeletionJobScope.STUDENTS_IN_COURSE, "DJDbT.tGDJFC.course", null);
+        deletionJobsDb.createDeletionJob(studentsJob);
+        deletionJobsDb.createDeletionJob(
+                new DeletionJobAttributes(DeletionJobScope.COURSE, "DJDbT.tGDJFC.otherCourse", null));
+
+        ______TS("Success: only the jobs of the course are returned");
+
+        List<String> jobIds = new ArrayList<>();
+        for (DeletionJobAttributes job : deletionJobsDb.getDeletionJobsForCourse("DJDbT.tGDJFC.course")) {
+            jobIds.add(job.getId());
+        }
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(sessionJob.getId(), studentsJob.getId()), jobIds);
+
+        ______TS("Success: course without jobs");
+
+        assertTrue(deletionJobsDb.getDeletionJobsForCourse("DJDbT.tGDJFC.noJobs").isEmpty());
+    }
+
+    @Test
+    public void testUpdateDeletionJob() throws Exception {
+        DeletionJobAttributes job = new DeletionJobAttributes(DeletionJobScope.COURSE, "DJDbT.tUDJ.course", null);
+        deletionJobsDb.createDeletionJob(job);
+
+        ______TS("Success: progress of the job is recorded");
+
+        job.setStage(DeletionJobStage.FEEDBACK_RESPONSES);
+        job.setCursor("cursor");
+        job.setNumberOfEntitiesDeleted(500);
+        deletionJobsDb.updateDeletionJob(job);
+
+        DeletionJobAttributes updated = deletionJobsDb.getDeletionJob(job.getId());
+        assertEquals(DeletionJobStage.FEEDBACK_RESPONSES, updated.getStage());
+        assertEquals("cursor", updated.getCursor());
+        assertEquals(500, updated.getNumberOfEntitiesDeleted());
+        assertTrue(updated.isInProgress());
+
+        ______TS("Success: job is failed");
+
+        job.setStatus(DeletionJobStatus.FAILED);
+        deletionJobsDb.updateDeletionJob(job);
+
+        updated = deletionJobsDb.getDeletionJob(job.getId());
+        assertTrue(updated.isFailed());
+        assertFalse(updated.isInProgress());
+        assertEquals(500, updated.getNumberOfEntitiesDeleted());
+
+        ______TS("Success: job is completed");
+
+        job.setStage(DeletionJobStage.COURSE);
+        job.setCursor(null);
+        job.setStatus(DeletionJobStatus.COMPLETED);
+        deletionJobsDb.updateDeletionJob(job);
+
+        updated = deletionJobsDb.getDeletionJob(job.getId());
+        assertEquals(DeletionJobStage.COURSE, updated.getStage());
+        assertNull(updated.getCursor());
+        assertFalse(updated.isInProgress());
+
+        ______TS("Failure: update non-existent job");
+
+        DeletionJobAttributes nonExistentJob =
+                new DeletionJobAttributes(DeletionJobScope.COURSE, "DJDbT.tUDJ.course", null);
+        try {
+            deletionJobsDb.updateDeletionJob(nonExistentJob);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            assertEquals(DeletionJobsDb.ERROR_UPDATE_NON_EXISTENT_DELETION_JOB + nonExistentJob.getId(),
+                    e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.EnrollmentJobsDb;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.test.driver.AssertHelper;
+
+/**
+ * SUT: {@link EnrollmentJobsDb}.
+ */
+public class EnrollmentJobsDbTest extends BaseComponentTestCase {
+
+    private static final String ENROLL_LINES = "Team|Name|Email" + System.lineSeparator() + "Team 1|Alice|alice@ejdbt.tmt";
+
+    private EnrollmentJobsDb enrollmentJobsDb = new EnrollmentJobsDb();
+
+    @Test
+    public void testCreateAndGetEnrollmentJob() throws Exception {
+
+        ______TS("Success: typical case");
+
+        EnrollmentJobAttributes job = new EnrollmentJobAttributes("EJDbT.tCAGEJ.course", ENROLL_LINES, 1);
+        enrollmentJobsDb.createEnrollmentJob(job);
+
+        EnrollmentJobAttributes retrieved = enrollmentJobsDb.getEnrollmentJob(job.getId());
+        assertEquals(job.getCourseId(), retrieved.getCourseId());
+        assertEquals(ENROLL_LINES, retrieved.getEnrollLines());
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, retrieved.getStatus());
+        assertEquals(1, retrieved.getNumberOfStudents());
+        assertEquals(0, retrieved.getNumberOfStudentsProcessed());
+        assertEquals(job.getCreatedAt().toEpochMilli(), retrieved.getCreatedAt().toEpochMilli());
+
+        ______TS("Failure: create a job with invalid course ID");
+
+        try {
+            enrollmentJobsDb.createEnrollmentJob(new EnrollmentJobAttributes("Invalid id", ENROLL_LINES, 1));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("not acceptable to TEAMMATES as a/an course ID", e.getMessage());
+        }
+
+        ______TS("Success: get non-existent job");
+
+        assertNull(enrollmentJobsDb.getEnrollmentJob("non-existent-job"));
+
+        enrollmentJobsDb.deleteEnrollmentJobsForCourse(job.getCourseId());
+    }
+
+    @Test
+    public void testUpdateEnrollmentJob() throws Exception {
+        EnrollmentJobAttributes job = new EnrollmentJobAttributes("EJDbT.tUEJ.course", ENROLL_LINES, 1);
+        enrollmentJobsDb.createEnrollmentJob(job);
+
+        ______TS("Success: progress of the job is recorded");
+
+        job.setNumberOfStudentsProcessed(1);
+        job.setNumberOfNewStudents(1);
+        job.setStatus(EnrollmentJobStatus.COMPLETED);
+        enrollmentJobsDb.updateEnrollmentJob(job);
+
+        EnrollmentJobAttributes updated = enrollmentJobsDb.getEnrollmentJob(job.getId());
+        assertEquals(EnrollmentJobStatus.COMPLETED, updated.getStatus());
+        assertEquals(1, updated.getNumberOfStudentsProcessed());
+        assertEquals(1, updated.getNumberOfNewStudents());
+        assertEquals(0, updated.getNumberOfModifiedStudents());
+        assertEquals(ENROLL_LINES, updated.getEnrollLines());
+        assertNull(updated.getChunkEnrollments());
+        assertTrue(updated.getEnrollmentsToAdjust().isEmpty());
+
+        ______TS("Success: enrollment details of the chunk and of the students to adjust are recorded");
+
+        StudentEnrollDetails enrollment = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, job.getCourseId(),
+                "alice@ejdbt.tmt", "Team 0", "Team 1", "None", "None");
+        List<StudentEnrollDetails> enrollments = new ArrayList<>();
+        enrollments.add(enrollment);
+        job.setChunkEnrollments(enrollments);
+        job.setEnrollmentsToAdjust(enrollments);
+        enrollmentJobsDb.updateEnrollmentJob(job);
+
+        updated = enrollmentJobsDb.getEnrollmentJob(job.getId());
+        assertEquals(1, updated.getChunkEnrollments().size());
+        assertEquals(StudentUpdateStatus.MODIFIED, updated.getChunkEnrollments().get(0).updateStatus);
+        assertEquals("Team 0", updated.getChunkEnrollments().get(0).oldTeam);
+        assertEquals(1, updated.getEnrollmentsToAdjust().size());
+        assertEquals("alice@ejdbt.tmt", updated.getEnrollmentsToAdjust().get(0).email);
+
+        job.setChunkEnrollments(null);
+        job.setEnrollmentsToAdjust(new ArrayList<>());
+        enrollmentJobsDb.updateEnrollmentJob(job);
+
+        updated = enrollmentJobsDb.getEnrollmentJob(job.getId());
+        assertNull(updated.getChunkEnrollments());
+        assertTrue(updated.getEnrollmentsToAdjust().isEmpty());
+
+        ______TS("Failure: update non-existent job");
+
+        enrollmentJobsDb.deleteEnrollmentJobsForCourse(job.getCourseId());
+        assertNull(enrollmentJobsDb.getEnrollmentJob(job.getId()));
+
+        try {
+            enrollmentJobsDb.updateEnrollmentJob(job);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            assertEquals(EnrollmentJobsDb.ERROR_UPDATE_NON_EXISTENT_ENROLLMENT_JOB + job.getId(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteEnrollmentJobsUpdatedBefore() throws Exception {
+        EnrollmentJobAttributes job = new EnrollmentJobAttributes("EJDbT.tDEJUB.course", ENROLL_LINES, 1);
+        enrollmentJobsDb.createEnrollmentJob(job);
+
+        ______TS("Success: jobs updated since the given time are kept");
+
+        enrollmentJobsDb.deleteEnrollmentJobsUpdatedBefore(TimeHelper.getInstantDaysOffsetFromNow(-1));
+        assertNotNull(enrollmentJobsDb.getEnrollmentJob(job.getId()));
+
+        ______TS("Success: jobs not updated since the given time are deleted");
+
+        enrollmentJobsDb.deleteEnrollmentJobsUpdatedBefore(TimeHelper.getInstantDaysOffsetFromNow(1));
+        assertNull(enrollmentJobsDb.getEnrollmentJob(job.getId()));
+    }
+
+}
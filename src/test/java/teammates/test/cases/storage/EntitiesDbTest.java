@@ -4,15 +4,20 @@ import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.InstructorsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -77,4 +82,110 @@ public class EntitiesDbTest extends BaseComponentTestCase {
         }
     }
 
+    @Test
+    public void testCreateEntities() throws Exception {
+        // CoursesDb checks existence by batch get, while InstructorsDb checks existence by querying
+        CoursesDb coursesDb = new CoursesDb();
+        InstructorsDb instructorsDb = new InstructorsDb();
+
+        ______TS("success: entities with derivable keys, some already existing");
+        CourseAttributes existingCourse = CourseAttributes
+                .builder("Computing101-existing", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        CourseAttributes newCourse = CourseAttributes
+                .builder("Computing101-new", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        coursesDb.deleteCourse(newCourse.getId());
+        coursesDb.createEntity(existingCourse);
+
+        List<CourseAttributes> existingCourses = coursesDb.createEntities(Arrays.asList(existingCourse, newCourse));
+
+        assertEquals(1, existingCourses.size());
+        assertEquals(existingCourse.getId(), existingCourses.get(0).getId());
+        verifyPresentInDatastore(newCourse);
+        coursesDb.deleteEntities(Arrays.asList(existingCourse, newCourse));
+
+        ______TS("success: entities with queried keys, some already existing");
+        InstructorAttributes existingInstructor = InstructorAttributes
+                .builder(null, existingCourse.getId(), "Existing Instructor", "existing.instructor@entitiesdb.tmt")
+                .build();
+        InstructorAttributes newInstructor = InstructorAttributes
+                .builder(null, existingCourse.getId(), "New Instructor", "new.instructor@entitiesdb.tmt")
+                .build();
+        instructorsDb.deleteInstructor(newInstructor.courseId, newInstructor.email);
+        instructorsDb.createEntity(existingInstructor);
+
+        List<InstructorAttributes> existingInstructors =
+                instructorsDb.createEntities(Arrays.asList(existingInstructor, newInstructor));
+
+        assertEquals(1, existingInstructors.size());
+        assertEquals(existingInstructor.email, existingInstructors.get(0).email);
+        assertNotNull(instructorsDb.getInstructorForEmail(newInstructor.courseId, newInstructor.email));
+        instructorsDb.deleteInstructorsForCourse(existingCourse.getId());
+
+        ______TS("fails: invalid parameters, nothing created");
+        CourseAttributes invalidCourse = CourseAttributes
+                .builder("invalid id spaces", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        try {
+            coursesDb.createEntities(Arrays.asList(newCourse, invalidCourse));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            verifyAbsentInDatastore(newCourse);
+        }
+
+        ______TS("fails: null parameter");
+        try {
+            coursesDb.createEntities(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteEntities() throws Exception {
+        // CoursesDb deletes by derived keys, while InstructorsDb finds the keys to delete by querying
+        CoursesDb coursesDb = new CoursesDb();
+        InstructorsDb instructorsDb = new InstructorsDb();
+
+        ______TS("success: entities with derivable keys, some non-existent");
+        CourseAttributes existingCourse = CourseAttributes
+                .builder("Computing101-delete", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        CourseAttributes nonExistentCourse = CourseAttributes
+                .builder("Computing101-non-existent", "Basic Computing", ZoneId.of("UTC"))
+                .build();
+        coursesDb.createEntity(existingCourse);
+
+        coursesDb.deleteEntities(Arrays.asList(existingCourse, nonExistentCourse));
+
+        verifyAbsentInDatastore(existingCourse);
+        verifyAbsentInDatastore(nonExistentCourse);
+
+        ______TS("success: entities with queried keys, some non-existent");
+        InstructorAttributes existingInstructor = InstructorAttributes
+                .builder(null, existingCourse.getId(), "Existing Instructor", "existing.instructor@entitiesdb.tmt")
+                .build();
+        InstructorAttributes nonExistentInstructor = InstructorAttributes
+                .builder(null, existingCourse.getId(), "Non-existent Instructor", "non.existent@entitiesdb.tmt")
+                .build();
+        instructorsDb.createEntity(existingInstructor);
+
+        instructorsDb.deleteEntities(Arrays.asList(existingInstructor, nonExistentInstructor));
+
+        assertNull(instructorsDb.getInstructorForEmail(existingInstructor.courseId, existingInstructor.email));
+
+        ______TS("success: no entities");
+        coursesDb.deleteEntities(new ArrayList<>());
+
+        ______TS("fails: null parameter");
+        try {
+            coursesDb.deleteEntities(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package teammates.test.cases.storage;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
@@ -69,6 +70,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testDeleteFeedbackResponseCommentsForResponse();
 
+        testDeleteFeedbackResponseCommentsForResponses();
+
     }
 
     private void testEntityCreationAndDeletion() throws Exception {
@@ -389,6 +392,42 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         }
     }
 
+    private void testDeleteFeedbackResponseCommentsForResponses()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+
+        ______TS("typical success case");
+
+        FeedbackResponseCommentAttributes tempFrcaData =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q2S1C1");
+        String responseId = "1%student1InCourse1@gmail.com%student1InCourse1@gmail.com";
+        String otherResponseId = "1%student2InCourse1@gmail.com%student2InCourse1@gmail.com";
+        for (String id : Arrays.asList(responseId, responseId, otherResponseId)) {
+            tempFrcaData.createdAt = Instant.now();
+            tempFrcaData.commentText = new Text("comment for " + id);
+            tempFrcaData.setId(null);
+            tempFrcaData.feedbackResponseId = id;
+            frcDb.createEntity(tempFrcaData);
+        }
+        assertEquals(2, frcDb.getFeedbackResponseCommentsForResponse(responseId).size());
+
+        frcDb.deleteFeedbackResponseCommentsForResponses(Arrays.asList(responseId, otherResponseId));
+        assertEquals(0, frcDb.getFeedbackResponseCommentsForResponse(responseId).size());
+        assertEquals(0, frcDb.getFeedbackResponseCommentsForResponse(otherResponseId).size());
+
+        ______TS("no responses");
+
+        frcDb.deleteFeedbackResponseCommentsForResponses(new ArrayList<>());
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.deleteFeedbackResponseCommentsForResponses(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
     private void verifyListsContainSameResponseCommentAttributes(
             List<FeedbackResponseCommentAttributes> expectedFrcas,
             List<FeedbackResponseCommentAttributes> actualFrcas) {
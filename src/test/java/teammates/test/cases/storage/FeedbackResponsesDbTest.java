@@ -1,6 +1,9 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -9,6 +12,7 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.AttributesPage;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
@@ -309,6 +313,76 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testStreamFeedbackResponsesForSession() {
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        Set<String> expectedIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId)) {
+            expectedIds.add(response.getId());
+        }
+
+        ______TS("pages: last page partially filled");
+
+        AttributesPage<FeedbackResponseAttributes> page =
+                frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, null, 4);
+        assertEquals(4, page.getAttributes().size());
+        assertTrue(page.hasNextPage());
+
+        Set<String> pagedIds = new HashSet<>();
+        page.getAttributes().forEach(response -> pagedIds.add(response.getId()));
+
+        page = frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, page.getNextCursor(), 4);
+        assertEquals(2, page.getAttributes().size());
+        assertFalse(page.hasNextPage());
+        page.getAttributes().forEach(response -> pagedIds.add(response.getId()));
+
+        assertEquals(expectedIds, pagedIds);
+
+        ______TS("pages: last page exactly filled");
+
+        page = frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, null, 6);
+        assertEquals(6, page.getAttributes().size());
+        assertTrue(page.hasNextPage());
+
+        page = frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, page.getNextCursor(), 6);
+        assertTrue(page.getAttributes().isEmpty());
+        assertFalse(page.hasNextPage());
+
+        ______TS("stream: all responses returned once across pages");
+
+        List<String> streamedIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response
+                : frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId, 4)) {
+            streamedIds.add(response.getId());
+        }
+        assertEquals(expectedIds.size(), streamedIds.size());
+        assertEquals(expectedIds, new HashSet<>(streamedIds));
+
+        ______TS("stream: non-existent feedback session");
+
+        assertFalse(frDb.streamFeedbackResponsesForSession("non-existent feedback session", courseId, 4)
+                .iterator().hasNext());
+
+        ______TS("null params");
+
+        try {
+            frDb.streamFeedbackResponsesForSession(null, courseId, 4);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, null, null, 4);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForQuestion() {
 
@@ -624,7 +698,7 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
     }
 
     @Test
-    public void testGetFeedbackResponsesForSessionInSection() {
+    public void testGetFeedbackResponsesForSessionInSection() throws Exception {
 
         ______TS("standard success case");
 
@@ -636,6 +710,21 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
         assertEquals(5, responses.size());
 
+        ______TS("response found in the sections of both its giver and its recipient");
+
+        FeedbackResponseAttributes crossSectionResponse = new FeedbackResponseAttributes(fras.get("response1ForQ1S1C1"));
+        crossSectionResponse.setId(null);
+        crossSectionResponse.recipient = "cross.section.recipient@email.tmt";
+        crossSectionResponse.giverSection = "Section 1";
+        crossSectionResponse.recipientSection = "Section 2";
+        frDb.createEntity(crossSectionResponse);
+
+        assertEquals(6, frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, "Section 1").size());
+        assertTrue(frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, "Section 2").stream()
+                .anyMatch(response -> response.recipient.equals(crossSectionResponse.recipient)));
+
+        frDb.deleteEntity(crossSectionResponse);
+
         ______TS("null params");
 
         try {
@@ -708,6 +797,45 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 "Empty feedback session", "idOfTypicalCourse1", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionFromOrToUsers() {
+
+        ______TS("standard success case");
+
+        FeedbackResponseAttributes typicalResponse = fras.get("response1ForQ1S1C1");
+        String courseId = typicalResponse.courseId;
+        String feedbackSessionName = typicalResponse.feedbackSessionName;
+        List<String> users = Arrays.asList(typicalResponse.giver, typicalResponse.recipient, "non-existent@email.tmt");
+
+        Set<String> expectedIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId)) {
+            if (users.contains(response.giver) || users.contains(response.recipient)) {
+                expectedIds.add(response.getId());
+            }
+        }
+        Set<String> actualIds = new HashSet<>();
+        for (FeedbackResponseAttributes response
+                : frDb.getFeedbackResponsesForSessionFromOrToUsers(feedbackSessionName, courseId, users)) {
+            assertTrue(actualIds.add(response.getId()));
+        }
+        assertFalse(expectedIds.isEmpty());
+        assertEquals(expectedIds, actualIds);
+
+        ______TS("no users");
+
+        assertTrue(frDb.getFeedbackResponsesForSessionFromOrToUsers(
+                feedbackSessionName, courseId, new ArrayList<String>()).isEmpty());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesForSessionFromOrToUsers(null, courseId, users);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionToSection() {
 
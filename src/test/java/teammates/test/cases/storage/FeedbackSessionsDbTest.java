@@ -1,11 +1,14 @@
 package teammates.test.cases.storage;
 
+import static com.googlecode.objectify.ObjectifyService.ofy;
 import static teammates.common.util.FieldValidator.SESSION_END_TIME_FIELD_NAME;
 import static teammates.common.util.FieldValidator.SESSION_START_TIME_FIELD_NAME;
 import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -22,6 +25,8 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.storage.api.FeedbackSessionsDb;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -281,6 +286,113 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testRespondents() throws Exception {
+        Instant now = Instant.now();
+        FeedbackSessionAttributes fsa = FeedbackSessionAttributes
+                .builder("fsRespondentsTest", "testCourse", "valid@email.com")
+                .withCreatedTime(now)
+                .withStartTime(now)
+                .withEndTime(now)
+                .withSessionVisibleFromTime(now)
+                .withResultsVisibleFromTime(now)
+                .build();
+
+        ______TS("respondents recorded in the session entity by older versions are included");
+
+        FeedbackSession legacySession = fsa.toEntity();
+        legacySession.setRespondingStudentList(new HashSet<>(Arrays.asList("legacy@email.com")));
+        ofy().save().entity(legacySession).now();
+
+        FeedbackSessionAttributes actual =
+                fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.com")), actual.getRespondingStudentList());
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+
+        ______TS("add respondents: recorded without writing the session");
+
+        fsDb.addInstructorRespondent("instructor@email.com", fsa);
+        fsDb.addStudentRespondents(Arrays.asList("student1@email.com", "student2@email.com"), fsa);
+
+        actual = fsDb.getFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.com")), actual.getRespondingStudentList());
+
+        actual = fsDb.withRespondents(fsDb.getFeedbackSessionsForCourse(fsa.getCourseId()).get(0));
+        assertEquals(new HashSet<>(Arrays.asList("instructor@email.com")), actual.getRespondingInstructorList());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.com", "student1@email.com", "student2@email.com")),
+                actual.getRespondingStudentList());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.com")),
+                getSessionEntity(fsa).getRespondingStudentList());
+
+        ______TS("update and delete respondents recorded in either place");
+
+        fsDb.updateStudentRespondent("legacy@email.com", "legacy.new@email.com", fsa);
+        fsDb.updateStudentRespondent("student1@email.com", "student1.new@email.com", fsa);
+        actual = fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(
+                new HashSet<>(Arrays.asList("legacy.new@email.com", "student1.new@email.com", "student2@email.com")),
+                actual.getRespondingStudentList());
+
+        fsDb.deleteStudentRespondent("legacy.new@email.com", fsa);
+        fsDb.deleteStudentRespondent("student2@email.com", fsa);
+        actual = fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("student1.new@email.com")), actual.getRespondingStudentList());
+        assertTrue(getSessionEntity(fsa).getRespondingStudentList().isEmpty());
+
+        ______TS("clear respondents");
+
+        fsDb.clearStudentRespondents(fsa);
+        actual = fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertTrue(actual.getRespondingStudentList().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("instructor@email.com")), actual.getRespondingInstructorList());
+
+        ______TS("respondent checks look up both places");
+
+        assertTrue(fsDb.isRespondent(fsa, "instructor@email.com", true));
+        assertFalse(fsDb.isRespondent(fsa, "student1.new@email.com", false));
+        fsDb.addStudentRespondent("student1.new@email.com", fsa);
+        assertTrue(fsDb.isRespondent(fsa, "student1.new@email.com", false));
+        assertFalse(fsDb.isRespondent(fsa, "student1.new@email.com", true));
+
+        ______TS("re-adding a respondent keeps its original record");
+
+        Instant firstRecordedAt = getRespondentEntity(fsa, "student1.new@email.com").getCreatedAt();
+        fsDb.addStudentRespondents(Arrays.asList("student1.new@email.com", "student3@email.com"), fsa);
+        assertEquals(firstRecordedAt, getRespondentEntity(fsa, "student1.new@email.com").getCreatedAt());
+        fsDb.clearStudentRespondents(fsa);
+
+        ______TS("legacy respondents are moved out of the session entity");
+
+        legacySession = getSessionEntity(fsa);
+        legacySession.setRespondingStudentList(new HashSet<>(Arrays.asList("legacy@email.com")));
+        ofy().save().entity(legacySession).now();
+
+        fsDb.moveLegacyRespondents(fsDb.getFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName()));
+        assertTrue(getSessionEntity(fsa).getRespondingStudentList().isEmpty());
+        actual = fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.com")), actual.getRespondingStudentList());
+
+        ______TS("respondents deleted together with the session");
+
+        fsDb.deleteEntity(fsa);
+        fsDb.createEntity(fsa);
+        actual = fsDb.getFeedbackSessionWithRespondents(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+        assertTrue(actual.getRespondingStudentList().isEmpty());
+
+        fsDb.deleteEntity(fsa);
+    }
+
+    private FeedbackSession getSessionEntity(FeedbackSessionAttributes fsa) {
+        return ofy().load().type(FeedbackSession.class).id(fsa.getFeedbackSessionName() + "%" + fsa.getCourseId()).now();
+    }
+
+    private FeedbackSessionRespondent getRespondentEntity(FeedbackSessionAttributes fsa, String email) {
+        return ofy().load().type(FeedbackSessionRespondent.class)
+                .id(FeedbackSessionRespondent.makeId(fsa.getFeedbackSessionName(), fsa.getCourseId(), email, false)).now();
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
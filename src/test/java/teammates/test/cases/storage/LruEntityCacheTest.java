@@ -0,0 +1,94 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.storage.cache.LruEntityCache;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link LruEntityCache}.
+ */
+public class LruEntityCacheTest extends BaseTestCase {
+
+    @Test
+    public void testPut() {
+        LruEntityCache cache = new LruEntityCache(10);
+
+        ______TS("typical case: value cached");
+
+        assertNull(cache.get("key"));
+        cache.put("key", "value", cache.getVersion("key"));
+        assertEquals("value", cache.get("key"));
+
+        ______TS("typical case: cached value replaced");
+
+        cache.put("key", "other value", cache.getVersion("key"));
+        assertEquals("other value", cache.get("key"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        LruEntityCache cache = new LruEntityCache(10);
+        cache.put("key1", "value1", cache.getVersion("key1"));
+        cache.put("key2", "value2", cache.getVersion("key2"));
+        cache.put("key3", "value3", cache.getVersion("key3"));
+
+        ______TS("typical case: invalidated values removed");
+
+        cache.invalidate(Arrays.asList("key1", "key2", "non-existent key"));
+
+        assertNull(cache.get("key1"));
+        assertNull(cache.get("key2"));
+        assertNull(cache.get("non-existent key"));
+        assertEquals("value3", cache.get("key3"));
+
+        ______TS("typical case: values read before the invalidation never returned, however late they are cached");
+
+        long versionBeforeInvalidation = cache.getVersion("key3");
+        cache.invalidate(Arrays.asList("key3"));
+        cache.put("key3", "outdated value", versionBeforeInvalidation);
+
+        assertNull(cache.get("key3"));
+
+        ______TS("typical case: values read after the invalidation cached immediately");
+
+        cache.put("key1", "new value", cache.getVersion("key1"));
+        assertEquals("new value", cache.get("key1"));
+
+        ______TS("typical case: cleared cache keeps rejecting values read before");
+
+        long versionBeforeClearing = cache.getVersion("key1");
+        cache.clear();
+        assertNull(cache.get("key1"));
+        cache.put("key1", "outdated value", versionBeforeClearing);
+        assertNull(cache.get("key1"));
+    }
+
+    @Test
+    public void testEviction() {
+        LruEntityCache cache = new LruEntityCache(2);
+        cache.put("key1", "value1", cache.getVersion("key1"));
+        cache.put("key2", "value2", cache.getVersion("key2"));
+
+        ______TS("typical case: least recently used value evicted when full");
+
+        cache.get("key1");
+        cache.put("key3", "value3", cache.getVersion("key3"));
+
+        assertEquals("value1", cache.get("key1"));
+        assertNull(cache.get("key2"));
+        assertEquals("value3", cache.get("key3"));
+
+        ______TS("typical case: version evicted when full created again later than before");
+
+        long evictedVersion = cache.getVersion("key2");
+        cache.getVersion("key1");
+        cache.getVersion("key3");
+        cache.put("key2", "outdated value", evictedVersion);
+
+        assertNull(cache.get("key2"));
+    }
+
+}
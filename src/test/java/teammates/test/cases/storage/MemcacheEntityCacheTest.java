@@ -0,0 +1,68 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.storage.cache.MemcacheEntityCache;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link MemcacheEntityCache}.
+ */
+public class MemcacheEntityCacheTest extends BaseComponentTestCase {
+
+    private final MemcacheEntityCache cache = new MemcacheEntityCache();
+
+    @Test
+    public void testPut() {
+        cache.clear();
+
+        ______TS("typical case: value cached");
+
+        assertNull(cache.get("key"));
+        cache.put("key", "value", cache.getVersion("key"));
+        assertEquals("value", cache.get("key"));
+
+        ______TS("typical case: cached value replaced");
+
+        cache.put("key", "other value", cache.getVersion("key"));
+        assertEquals("other value", cache.get("key"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.clear();
+        cache.put("key1", "value1", cache.getVersion("key1"));
+        cache.put("key2", "value2", cache.getVersion("key2"));
+
+        ______TS("typical case: invalidated values no longer returned");
+
+        cache.invalidate(Arrays.asList("key1", "non-existent key"));
+
+        assertNull(cache.get("key1"));
+        assertNull(cache.get("non-existent key"));
+        assertEquals("value2", cache.get("key2"));
+
+        ______TS("typical case: values read before the invalidation never returned, however late they are cached");
+
+        long versionBeforeInvalidation = cache.getVersion("key2");
+        cache.invalidate(Arrays.asList("key2"));
+        cache.put("key2", "outdated value", versionBeforeInvalidation);
+
+        assertNull(cache.get("key2"));
+
+        ______TS("typical case: values read after the invalidation cached immediately");
+
+        cache.put("key1", "new value", cache.getVersion("key1"));
+        assertEquals("new value", cache.get("key1"));
+
+        ______TS("typical case: values cached with versions lost from Memcache not returned");
+
+        long versionBeforeClearing = cache.getVersion("key1");
+        cache.clear();
+        cache.put("key1", "outdated value", versionBeforeClearing);
+        assertNull(cache.get("key1"));
+    }
+
+}
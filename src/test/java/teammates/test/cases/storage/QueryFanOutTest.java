@@ -0,0 +1,81 @@
+package teammates.test.cases.storage;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.LoadResult;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.QueryFanOut;
+import teammates.storage.entity.Course;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link QueryFanOut}.
+ */
+public class QueryFanOutTest extends BaseComponentTestCase {
+
+    private static final CoursesDb coursesDb = new CoursesDb();
+    private static final String CALL_SITE = "QueryFanOutTest";
+
+    private final CourseAttributes course1 = CourseAttributes
+            .builder("QueryFanOutTest.course1", "Fan-out Course 1", ZoneId.of("UTC"))
+            .build();
+    private final CourseAttributes course2 = CourseAttributes
+            .builder("QueryFanOutTest.course2", "Fan-out Course 2", ZoneId.of("UTC"))
+            .build();
+
+    @BeforeClass
+    public void classSetup() throws Exception {
+        coursesDb.createEntity(course1);
+        coursesDb.createEntity(course2);
+        QueryFanOut.resetTimings();
+    }
+
+    @AfterClass
+    public void classTearDown() {
+        coursesDb.deleteEntity(course1);
+        coursesDb.deleteEntity(course2);
+        QueryFanOut.resetTimings();
+    }
+
+    @Test
+    public void testJoin() {
+
+        ______TS("typical case: results of all queries available after join");
+
+        QueryFanOut fanOut = new QueryFanOut(CALL_SITE);
+        List<Course> courses1 = fanOut.list(ofy().load().type(Course.class).filter("name =", course1.getName()));
+        List<Key<Course>> courseKeys2 =
+                fanOut.list(ofy().load().type(Course.class).filter("name =", course2.getName()).keys());
+        LoadResult<Course> nonExistentCourse =
+                fanOut.first(ofy().load().type(Course.class).filter("name =", "Non-existent Course"));
+        fanOut.join();
+
+        assertEquals(1, courses1.size());
+        assertEquals(course1.getId(), courses1.get(0).getUniqueId());
+        assertEquals(1, courseKeys2.size());
+        assertEquals(course2.getId(), courseKeys2.get(0).getName());
+        assertNull(nonExistentCourse.now());
+
+        ______TS("timings recorded per call site");
+
+        assertEquals(1, QueryFanOut.getNumberOfFanOuts(CALL_SITE));
+        assertTrue(QueryFanOut.getAverageMillis(CALL_SITE) >= 0);
+        assertTrue(QueryFanOut.getMaxMillis(CALL_SITE) >= 0);
+
+        new QueryFanOut(CALL_SITE).join();
+        assertEquals(2, QueryFanOut.getNumberOfFanOuts(CALL_SITE));
+        assertEquals(0, QueryFanOut.getNumberOfFanOuts("Non-existent call site"));
+        assertEquals(0.0, QueryFanOut.getAverageMillis("Non-existent call site"));
+    }
+
+}
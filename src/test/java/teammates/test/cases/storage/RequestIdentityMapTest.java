@@ -0,0 +1,85 @@
+package teammates.test.cases.storage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.storage.cache.RequestIdentityMap;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link RequestIdentityMap}.
+ */
+public class RequestIdentityMapTest extends BaseTestCase {
+
+    @AfterMethod
+    public void closeIdentityMap() {
+        RequestIdentityMap.close();
+    }
+
+    @Test
+    public void testRead() {
+        AtomicInteger numberOfReads = new AtomicInteger();
+        Supplier<String> reader = () -> "result " + numberOfReads.incrementAndGet();
+
+        ______TS("identity map not open: every read done");
+
+        assertFalse(RequestIdentityMap.isOpen());
+        assertEquals("result 1", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals("result 2", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals(0, RequestIdentityMap.close());
+
+        ______TS("typical case: repeated reads served from memory");
+
+        RequestIdentityMap.open();
+        assertTrue(RequestIdentityMap.isOpen());
+
+        assertEquals("result 3", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals("result 3", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals("result 3", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals("result 4", RequestIdentityMap.read("namespace", "other key", reader));
+        assertEquals("result 5", RequestIdentityMap.read("other namespace", "key", reader));
+
+        ______TS("typical case: null results served from memory");
+
+        AtomicInteger numberOfNullReads = new AtomicInteger();
+        Supplier<String> nullReader = () -> {
+            numberOfNullReads.incrementAndGet();
+            return null;
+        };
+        assertNull(RequestIdentityMap.read("namespace", "non-existent key", nullReader));
+        assertNull(RequestIdentityMap.read("namespace", "non-existent key", nullReader));
+        assertEquals(1, numberOfNullReads.get());
+
+        ______TS("typical case: number of duplicate reads reported when closed");
+
+        assertEquals(3, RequestIdentityMap.close());
+        assertFalse(RequestIdentityMap.isOpen());
+        assertEquals("result 6", RequestIdentityMap.read("namespace", "key", reader));
+    }
+
+    @Test
+    public void testInvalidate() {
+        AtomicInteger numberOfReads = new AtomicInteger();
+        Supplier<String> reader = () -> "result " + numberOfReads.incrementAndGet();
+
+        RequestIdentityMap.open();
+        RequestIdentityMap.read("namespace", "key", reader);
+        RequestIdentityMap.read("other namespace", "key", reader);
+
+        ______TS("typical case: only results in the invalidated namespace read again");
+
+        RequestIdentityMap.invalidate("namespace");
+
+        assertEquals("result 3", RequestIdentityMap.read("namespace", "key", reader));
+        assertEquals("result 2", RequestIdentityMap.read("other namespace", "key", reader));
+        assertEquals(1, RequestIdentityMap.close());
+
+        ______TS("identity map not open: invalidation ignored");
+
+        RequestIdentityMap.invalidate("namespace");
+    }
+
+}
@@ -3,6 +3,9 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.time.Instant;
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -121,6 +124,86 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testCreateAndUpdateStudents() throws Exception {
+        String courseId = "batch-course";
+        StudentAttributes s1 = StudentAttributes.builder(courseId, "student one", "batch1@email.com")
+                .withComments("")
+                .withTeam("team 1")
+                .withSection("section 1")
+                .withGoogleId("")
+                .build();
+        StudentAttributes s2 = StudentAttributes.builder(courseId, "student two", "batch2@email.com")
+                .withComments("")
+                .withTeam("team 1")
+                .withSection("section 1")
+                .withGoogleId("")
+                .build();
+
+        // remove possibly conflicting entities from the database
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+
+        ______TS("success : create students in a batch");
+
+        studentsDb.createStudents(Arrays.asList(s1, s2), false);
+        verifyPresentInDatastore(s1);
+        verifyPresentInDatastore(s2);
+        assertNotNull(studentsDb.getStudentForEmail(courseId, s1.email).key);
+
+        ______TS("fail : one of the students already exists");
+
+        StudentAttributes s3 = StudentAttributes.builder(courseId, "student three", "batch3@email.com")
+                .withComments("")
+                .withTeam("team 2")
+                .withSection("section 2")
+                .withGoogleId("")
+                .build();
+        try {
+            studentsDb.createStudents(Arrays.asList(s3, s1), false);
+            signalFailureToDetectException();
+        } catch (EntityAlreadyExistsException e) {
+            assertEquals(String.format(StudentsDb.ERROR_CREATE_ENTITY_ALREADY_EXISTS, s1.getEntityTypeAsString())
+                    + s1.getIdentificationString(), e.getMessage());
+        }
+        verifyAbsentInDatastore(s3);
+
+        ______TS("success : update students in a batch");
+
+        s1.name = "student one renamed";
+        s1.team = "team 2";
+        s2.section = "section 2";
+        s2.comments = "new comment";
+        studentsDb.updateStudents(Arrays.asList(s1, s2), false, false);
+
+        StudentAttributes updatedStudent1 = studentsDb.getStudentForEmail(courseId, s1.email);
+        assertTrue(updatedStudent1.isEnrollInfoSameAs(s1));
+        assertEquals("renamed", updatedStudent1.lastName);
+        assertTrue(studentsDb.getStudentForEmail(courseId, s2.email).isEnrollInfoSameAs(s2));
+
+        ______TS("success : update students in a batch keeping the update timestamp");
+
+        Instant updatedAtBeforeUpdate = studentsDb.getStudentForEmail(courseId, s2.email).getUpdatedAt();
+        s2.comments = "newer comment";
+        studentsDb.updateStudents(Arrays.asList(s2), false, true);
+
+        StudentAttributes updatedStudent2 = studentsDb.getStudentForEmail(courseId, s2.email);
+        assertEquals("newer comment", updatedStudent2.comments);
+        assertEquals(updatedAtBeforeUpdate, updatedStudent2.getUpdatedAt());
+
+        ______TS("fail : one of the students does not exist");
+
+        s1.name = "student one renamed again";
+        try {
+            studentsDb.updateStudents(Arrays.asList(s1, s3), false, false);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            assertEquals(StudentsDb.ERROR_UPDATE_NON_EXISTENT_STUDENT + courseId + "/" + s3.email, e.getMessage());
+        }
+        assertEquals("student one renamed", studentsDb.getStudentForEmail(courseId, s1.email).name);
+
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+    }
+
     @Test
     public void testGetStudent() throws InvalidParametersException, EntityDoesNotExistException {
 
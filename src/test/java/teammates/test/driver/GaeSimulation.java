@@ -5,6 +5,7 @@ import static org.testng.AssertJUnit.assertTrue;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -16,6 +17,7 @@ import com.google.appengine.api.log.dev.LocalLogService;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -29,6 +31,7 @@ import com.meterware.servletunit.ServletUnitClient;
 
 import teammates.common.util.Const;
 import teammates.common.util.CryptoHelper;
+import teammates.logic.api.FileStorage;
 import teammates.logic.api.GateKeeper;
 import teammates.ui.automated.AutomatedAction;
 import teammates.ui.automated.AutomatedActionFactory;
@@ -47,6 +50,10 @@ public class GaeSimulation {
 
     private static final String QUEUE_XML_PATH = "src/main/webapp/WEB-INF/queue.xml";
 
+    /** Files stored by the simulated actions are kept in the local file system instead of Google Cloud Storage. */
+    private static final FileStorage FILE_STORAGE =
+            new FileStorage(Paths.get(System.getProperty("java.io.tmpdir"), "teammates-file-storage"));
+
     private static GaeSimulation instance = new GaeSimulation();
 
     /** This is used only to generate an HttpServletRequest for given parameters. */
@@ -79,8 +86,9 @@ public class GaeSimulation {
         localSearch.setPersistent(false);
         LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
         LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
+        LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
         helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
-                                            localTasks, localSearch, localModules, localLog);
+                                            localTasks, localSearch, localModules, localLog, localMemcache);
 
         helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
         helper.setUp();
@@ -173,6 +181,7 @@ public class GaeSimulation {
         Action action = new ActionFactory().getAction(req);
         action.setTaskQueuer(new MockTaskQueuer());
         action.setEmailSender(new MockEmailSender());
+        action.setFileStorage(FILE_STORAGE);
         return action;
     }
 
@@ -186,6 +195,7 @@ public class GaeSimulation {
         AutomatedAction action = new AutomatedActionFactory().getAction(req, null);
         action.setTaskQueuer(new MockTaskQueuer());
         action.setEmailSender(new MockEmailSender());
+        action.setFileStorage(FILE_STORAGE);
         return action;
     }
 
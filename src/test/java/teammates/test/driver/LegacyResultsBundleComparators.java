@@ -0,0 +1,289 @@
+package teammates.test.driver;
+
+import java.util.Comparator;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Const;
+
+/**
+ * The response comparators of {@link FeedbackSessionResultsBundle} as they were before the bundle sorted
+ * the responses by precomputed sort keys, which look up the names, teams and questions on every comparison.
+ *
+ * <p>Used to check that the sort keys give the same order, and to compare the time taken by both.
+ */
+public final class LegacyResultsBundleComparators {
+
+    private FeedbackSessionResultsBundle bundle;
+
+    private final Comparator<FeedbackResponseAttributes> compareByGiverSection =
+            Comparator.comparing(fra -> fra.giverSection);
+
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientSection =
+            Comparator.comparing(fra -> fra.recipientSection);
+
+    private final Comparator<FeedbackResponseAttributes> compareByGiverName =
+            (fra1, fra2) ->
+                    compareByNames(bundle.emailNameTable.get(fra1.giver), bundle.emailNameTable.get(fra2.giver),
+                            bundle.isGiverVisible(fra1), bundle.isGiverVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientName =
+            (fra1, fra2) ->
+                    compareByNames(bundle.emailNameTable.get(fra1.recipient),
+                            bundle.emailNameTable.get(fra2.recipient),
+                            bundle.isRecipientVisible(fra1), bundle.isRecipientVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByGiverEmail =
+            (fra1, fra2) ->
+                    compareByNames(fra1.giver, fra2.giver, bundle.isGiverVisible(fra1), bundle.isGiverVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientEmail =
+            (fra1, fra2) ->
+                    compareByNames(fra1.recipient, fra2.recipient,
+                            bundle.isRecipientVisible(fra1), bundle.isRecipientVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByGiverDisplayName =
+            (fra1, fra2) ->
+                    compareByNames(bundle.getNameForEmail(fra1.giver), bundle.getNameForEmail(fra2.giver),
+                            bundle.isGiverVisible(fra1), bundle.isGiverVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientDisplayName =
+            (fra1, fra2) ->
+                    compareByNames(bundle.getNameForEmail(fra1.recipient), bundle.getNameForEmail(fra2.recipient),
+                            bundle.isRecipientVisible(fra1), bundle.isRecipientVisible(fra2));
+
+    private final Comparator<FeedbackResponseAttributes> compareByQuestionNumber = (r1, r2) -> {
+        FeedbackQuestionAttributes q1 = bundle.questions.get(r1.feedbackQuestionId);
+        FeedbackQuestionAttributes q2 = bundle.questions.get(r2.feedbackQuestionId);
+        if (q1 == null || q2 == null) {
+            return 0;
+        }
+        return q1.compareTo(q2);
+    };
+
+    private final Comparator<FeedbackResponseAttributes> compareByGiverTeam = (o1, o2) -> {
+
+        boolean isGiverVisible1 = bundle.isGiverVisible(o1);
+        boolean isGiverVisible2 = bundle.isGiverVisible(o2);
+
+        String t1 = bundle.getTeamNameForEmail(o1.giver).isEmpty() ? bundle.getNameForEmail(o1.giver)
+                : bundle.getTeamNameForEmail(o1.giver);
+        String t2 = bundle.getTeamNameForEmail(o2.giver).isEmpty() ? bundle.getNameForEmail(o2.giver)
+                : bundle.getTeamNameForEmail(o2.giver);
+        return compareByNames(t1, t2, isGiverVisible1, isGiverVisible2);
+    };
+
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientTeam = (o1, o2) -> {
+
+        boolean isRecipientVisible1 = bundle.isRecipientVisible(o1);
+        boolean isRecipientVisible2 = bundle.isRecipientVisible(o2);
+
+        String t1 = bundle.getTeamNameForEmail(o1.recipient).isEmpty() ? bundle.getNameForEmail(o1.recipient)
+                : bundle.getTeamNameForEmail(o1.recipient);
+        String t2 = bundle.getTeamNameForEmail(o2.recipient).isEmpty() ? bundle.getNameForEmail(o2.recipient)
+                : bundle.getTeamNameForEmail(o2.recipient);
+        return compareByNames(t1, t2, isRecipientVisible1, isRecipientVisible2);
+
+    };
+
+    private final Comparator<FeedbackResponseAttributes> compareByResponseString =
+            Comparator.comparing(fra -> fra.getResponseDetails().getAnswerString());
+
+    private final Comparator<FeedbackResponseAttributes> compareByFeedbackResponseAttributeId =
+            Comparator.comparing(fra -> fra.getId());
+
+    // Sorts by giverName > recipientName > qnNumber
+    // General questions and team questions at the bottom.
+    private final Comparator<FeedbackResponseAttributes> compareByGiverRecipientQuestion = compareByGiverSection
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by giverName > recipientName
+    private final Comparator<FeedbackResponseAttributes> compareByGiverRecipient = compareByGiverName
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by teamName > giverName > recipientName > qnNumber
+    private final Comparator<FeedbackResponseAttributes> compareByTeamGiverRecipientQuestion = compareByGiverSection
+            .thenComparing(compareByGiverTeam)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by recipientName > giverName > qnNumber
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientGiverQuestion = compareByRecipientSection
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by teamName > recipientName > giverName > qnNumber
+    private final Comparator<FeedbackResponseAttributes> compareByTeamRecipientGiverQuestion = compareByRecipientSection
+            .thenComparing(compareByRecipientTeam)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by giverName > question > recipientTeam > recipientName
+    private final Comparator<FeedbackResponseAttributes> compareByGiverQuestionTeamRecipient = compareByGiverSection
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByRecipientTeam)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by giverTeam > giverName > question > recipientTeam > recipientName
+    private final Comparator<FeedbackResponseAttributes> compareByTeamGiverQuestionTeamRecipient = compareByGiverSection
+            .thenComparing(compareByGiverTeam)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByRecipientTeam)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by recipientName > question > giverTeam > giverName
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientQuestionTeamGiver = compareByRecipientSection
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByGiverTeam)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by recipientTeam > recipientName > question > giverTeam > giverName
+    private final Comparator<FeedbackResponseAttributes> compareByTeamRecipientQuestionTeamGiver = compareByRecipientSection
+            .thenComparing(compareByRecipientTeam)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByGiverTeam)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by recipientTeam > question > recipientName > giverTeam > giverName
+    private final Comparator<FeedbackResponseAttributes> compareByTeamQuestionRecipientTeamGiver = compareByRecipientTeam
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByGiverTeam)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by giverTeam > question > giverName > recipientTeam > recipientName
+    private final Comparator<FeedbackResponseAttributes> compareByTeamQuestionGiverTeamRecipient = compareByGiverTeam
+            .thenComparing(compareByQuestionNumber)
+            .thenComparing(compareByGiverName)
+            .thenComparing(compareByRecipientTeam)
+            .thenComparing(compareByRecipientName)
+            .thenComparing(compareByResponseString)
+            .thenComparing(compareByFeedbackResponseAttributeId);
+
+    // Sorts by recipientName > recipientEmail > giverName > giverEmail
+    private final Comparator<FeedbackResponseAttributes> compareByRecipientNameEmailGiverNameEmail =
+            compareByRecipientDisplayName.thenComparing(compareByRecipientEmail)
+                    .thenComparing(compareByGiverDisplayName)
+                    .thenComparing(compareByGiverEmail)
+                    .thenComparing(compareByResponseString)
+                    .thenComparing(compareByFeedbackResponseAttributeId);
+
+    public LegacyResultsBundleComparators(FeedbackSessionResultsBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByGiverRecipientQuestion() {
+        return compareByGiverRecipientQuestion;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByGiverRecipient() {
+        return compareByGiverRecipient;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamGiverRecipientQuestion() {
+        return compareByTeamGiverRecipientQuestion;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByRecipientGiverQuestion() {
+        return compareByRecipientGiverQuestion;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamRecipientGiverQuestion() {
+        return compareByTeamRecipientGiverQuestion;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByGiverQuestionTeamRecipient() {
+        return compareByGiverQuestionTeamRecipient;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamGiverQuestionTeamRecipient() {
+        return compareByTeamGiverQuestionTeamRecipient;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByRecipientQuestionTeamGiver() {
+        return compareByRecipientQuestionTeamGiver;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamRecipientQuestionTeamGiver() {
+        return compareByTeamRecipientQuestionTeamGiver;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamQuestionRecipientTeamGiver() {
+        return compareByTeamQuestionRecipientTeamGiver;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByTeamQuestionGiverTeamRecipient() {
+        return compareByTeamQuestionGiverTeamRecipient;
+    }
+
+    public Comparator<FeedbackResponseAttributes> getCompareByRecipientNameEmailGiverNameEmail() {
+        return compareByRecipientNameEmailGiverNameEmail;
+    }
+
+    /**
+     * Compares the values of {@code name1} and {@code name2}.
+     * Anonymous names are ordered later than non-anonymous names.
+     * @param isFirstNameVisible  true if the first name should be visible to the user
+     * @param isSecondNameVisible true if the second name should be visible to the user
+     */
+    private static int compareByNames(String name1, String name2,
+                                      boolean isFirstNameVisible, boolean isSecondNameVisible) {
+        if (!isFirstNameVisible && !isSecondNameVisible) {
+            return 0;
+        }
+        if (!isFirstNameVisible && isSecondNameVisible) {
+            return 1;
+        } else if (isFirstNameVisible && !isSecondNameVisible) {
+            return -1;
+        }
+
+        // Make class feedback always appear on top, and team responses at bottom.
+        int n1Priority = 0;
+        int n2Priority = 0;
+
+        if (name1.equals(Const.USER_IS_NOBODY)) {
+            n1Priority = -1;
+        } else if (name1.equals(Const.USER_IS_TEAM)) {
+            n1Priority = 1;
+        }
+        if (name2.equals(Const.USER_IS_NOBODY)) {
+            n2Priority = -1;
+        } else if (name2.equals(Const.USER_IS_TEAM)) {
+            n2Priority = 1;
+        }
+
+        int order = Integer.compare(n1Priority, n2Priority);
+        return order == 0 ? name1.compareTo(name2) : order;
+    }
+
+}